@@ -0,0 +1,16 @@
+package fajarcode.serverappinitializr.configurations;
+
+import fajarcode.serverappinitializr.utils.ProjectLocks;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProjectLockConfiguration {
+    private static final int PROJECT_LOCK_STRIPES = 64;
+
+    // Shared by downloads, regenerates and expiry, which must all agree on the stripe guarding a project
+    @Bean
+    public ProjectLocks projectLocks() {
+        return new ProjectLocks(PROJECT_LOCK_STRIPES);
+    }
+}
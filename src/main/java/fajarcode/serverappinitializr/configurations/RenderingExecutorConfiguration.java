@@ -0,0 +1,18 @@
+package fajarcode.serverappinitializr.configurations;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class RenderingExecutorConfiguration {
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService renderingExecutor(@Value("${generator.rendering.parallelism:0}") int parallelism) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("source-renderer-", 0).daemon().factory());
+    }
+}
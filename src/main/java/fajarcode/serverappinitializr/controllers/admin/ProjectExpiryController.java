@@ -0,0 +1,31 @@
+package fajarcode.serverappinitializr.controllers.admin;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectExpiryJobResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.services.interfaces.ProjectExpiryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("admin/projects/expiry")
+public class ProjectExpiryController {
+
+    private final ProjectExpiryService projectExpiryService;
+
+    @PostMapping()
+    public ResponseEntity<BaseResponse<ProjectExpiryJobResponse>> startExpiry(@Valid @RequestBody ProjectExpiryRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(projectExpiryService.startExpiry(request));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BaseResponse<ProjectExpiryJobResponse>> getExpiryJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(projectExpiryService.getExpiryJob(jobId));
+    }
+}
@@ -0,0 +1,27 @@
+package fajarcode.serverappinitializr.controllers.admin;
+
+import fajarcode.serverappinitializr.models.dto.responses.WarmUpReportResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.enums.WarmUpStatus;
+import fajarcode.serverappinitializr.services.interfaces.WarmUpService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("admin/warm-up")
+public class WarmUpController {
+
+    private final WarmUpService warmUpService;
+
+    @GetMapping()
+    public ResponseEntity<BaseResponse<WarmUpReportResponse>> getReport() {
+        BaseResponse<WarmUpReportResponse> report = warmUpService.getReport();
+        HttpStatus status = report.getData().getStatus() == WarmUpStatus.RUNNING ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
+        return ResponseEntity.status(status).body(report);
+    }
+}
@@ -1,17 +1,24 @@
 package fajarcode.serverappinitializr.controllers.generate;
 
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
 import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
 import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
 import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.services.interfaces.GenerationStreamService;
 import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
+import java.io.InputStream;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,6 +26,7 @@ import java.io.IOException;
 public class SpringBootGeneratorController {
 
     private final SpringBootGeneratorService springBootGeneratorService;
+    private final GenerationStreamService generationStreamService;
 
     @PostMapping()
     public ResponseEntity<BaseResponse<GenerateProjectResponse>> generateSpringBootProject(@Valid @RequestBody GenerateProjectRequest request) throws IOException {
@@ -26,6 +34,23 @@ public class SpringBootGeneratorController {
         return ResponseEntity.status(HttpStatus.CREATED).body(responseBody);
     }
 
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter generateWithProgress(@Valid @RequestBody GenerateProjectRequest request) {
+        return generationStreamService.streamGeneration(request);
+    }
+
+    @PostMapping(value = "/openapi", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<BaseResponse<GenerateProjectResponse>> generateFromOpenApi(@Valid @RequestPart("request") GenerateProjectRequest request,
+                                                                                      @RequestPart("spec") MultipartFile spec) throws IOException {
+        if (spec.isEmpty()) {
+            throw new BadRequestException("OpenAPI Specification Must Not Be Empty");
+        }
+        try (InputStream openApiSpec = spec.getInputStream()) {
+            BaseResponse<GenerateProjectResponse> responseBody = springBootGeneratorService.generateProjectFromOpenApi(request, openApiSpec);
+            return ResponseEntity.status(HttpStatus.CREATED).body(responseBody);
+        }
+    }
+
     @GetMapping("/download")
     public void download(@RequestParam String applicationName, HttpServletResponse response) throws IOException {
 
@@ -37,5 +62,17 @@ public class SpringBootGeneratorController {
         springBootGeneratorService.getProjectZip(applicationName, response.getOutputStream());
     }
 
+    @PostMapping("/{applicationName}/regenerate")
+    public void regenerate(@PathVariable String applicationName, @Valid @RequestBody RegenerateProjectRequest request,
+                           HttpServletResponse response) throws IOException {
+
+        response.setContentType("application/octet-stream");
+        response.setHeader(
+                "Content-Disposition",
+                "attachment; filename=" + applicationName + "-delta.zip"
+        );
+        springBootGeneratorService.regenerateProject(applicationName, request, response.getOutputStream());
+    }
+
 
 }
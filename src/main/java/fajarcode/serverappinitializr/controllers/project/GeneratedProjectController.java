@@ -0,0 +1,24 @@
+package fajarcode.serverappinitializr.controllers.project;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.CursorPageResponse;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.services.interfaces.GeneratedProjectService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("projects")
+public class GeneratedProjectController {
+
+    private final GeneratedProjectService generatedProjectService;
+
+    @GetMapping()
+    public ResponseEntity<BaseResponse<CursorPageResponse<GeneratedProjectSummaryResponse>>> searchProjects(@Valid @ModelAttribute ProjectSearchRequest request) {
+        return ResponseEntity.ok(generatedProjectService.searchProjects(request));
+    }
+}
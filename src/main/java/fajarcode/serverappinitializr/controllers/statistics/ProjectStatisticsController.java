@@ -0,0 +1,23 @@
+package fajarcode.serverappinitializr.controllers.statistics;
+
+import fajarcode.serverappinitializr.models.dto.responses.ProjectStatisticsResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("statistics")
+public class ProjectStatisticsController {
+
+    private final ProjectStatisticsService projectStatisticsService;
+
+    @GetMapping()
+    public ResponseEntity<BaseResponse<ProjectStatisticsResponse>> getStatistics() {
+        return ResponseEntity.ok(projectStatisticsService.getStatistics());
+    }
+}
@@ -0,0 +1,31 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class EntityDefinitionRequest {
+    @NotBlank(message = "Entity name is required")
+    @Pattern(regexp = "^[A-Z][a-zA-Z0-9]*$", message = "Entity name must be PascalCase and contain only alphanumeric characters")
+    private String name;
+
+    @Pattern(regexp = "^[a-z][a-z0-9_]*$", message = "Table name must be snake_case")
+    private String tableName;
+
+    @Valid
+    @NotEmpty(message = "Entity must define at least one field")
+    private List<FieldDefinitionRequest> fields = new ArrayList<>();
+
+    @Valid
+    private List<RelationDefinitionRequest> relations = new ArrayList<>();
+}
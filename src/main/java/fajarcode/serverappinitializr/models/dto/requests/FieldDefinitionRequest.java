@@ -0,0 +1,31 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import fajarcode.serverappinitializr.models.enums.FieldType;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class FieldDefinitionRequest {
+    @NotBlank(message = "Field name is required")
+    @Pattern(regexp = "^[a-z][a-zA-Z0-9]*$", message = "Field name must be camelCase and contain only alphanumeric characters")
+    private String name;
+
+    @NotNull(message = "Field type is required")
+    private FieldType type;
+
+    private Boolean nullable = true;
+
+    private Boolean unique = false;
+
+    @Min(value = 1, message = "Field length must be at least 1")
+    @Max(value = 10000, message = "Field length must not exceed 10000")
+    private Integer length;
+}
@@ -1,18 +1,26 @@
 package fajarcode.serverappinitializr.models.dto.requests;
 
+import fajarcode.serverappinitializr.models.enums.BuildTool;
 import fajarcode.serverappinitializr.models.enums.DatabaseType;
 import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.models.projections.ProjectOptions;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
-public class GenerateProjectRequest {
+public class GenerateProjectRequest implements ProjectOptions {
     @NotBlank(message = "Application name is required")
     @Pattern(regexp = "^[a-zA-Z][a-zA-Z0-9]*$", message = "Application name must start with letter and contain only alphanumeric characters")
     private String applicationName;
@@ -23,6 +31,12 @@ public class GenerateProjectRequest {
     @NotNull(message = "Database type is required")
     private DatabaseType databaseType;
 
+    @NotNull(message = "Build tool is required")
+    private BuildTool buildTool = BuildTool.MAVEN;
+
+    @NotNull(message = "Stack is required")
+    private StackType stack = StackType.SERVLET;
+
     @NotNull(message = "JWT auth enabled is required")
     private Boolean jwtAuthEnabled = false;
 
@@ -32,6 +46,24 @@ public class GenerateProjectRequest {
     @NotNull(message = "Base response enabled is required")
     private Boolean baseResponseEnabled = false;
 
+    @NotNull(message = "JMH enabled is required")
+    private Boolean jmhEnabled = false;
+
+    @NotNull(message = "Docker enabled is required")
+    private Boolean dockerEnabled = false;
+
+    @NotNull(message = "Cache enabled is required")
+    private Boolean cacheEnabled = false;
+
+    @NotNull(message = "Performance profile enabled is required")
+    private Boolean performanceProfileEnabled = false;
+
+    @NotNull(message = "Observability enabled is required")
+    private Boolean observabilityEnabled = false;
+
+    @NotNull(message = "Native image enabled is required")
+    private Boolean nativeImageEnabled = false;
+
     private String packageName;
 
     private String projectPath;
@@ -45,4 +77,8 @@ public class GenerateProjectRequest {
     private String version;
 
     private String javaVersion;
+
+    @Valid
+    @Size(max = 2000, message = "At most 2000 entities can be generated per project")
+    private List<EntityDefinitionRequest> entities = new ArrayList<>();
 }
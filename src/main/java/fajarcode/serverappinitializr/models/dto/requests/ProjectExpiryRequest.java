@@ -0,0 +1,30 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectExpiryRequest {
+    private LocalDateTime createdBefore;
+
+    @Min(value = 0, message = "Age in days must not be negative")
+    private Integer olderThanDays;
+
+    @Size(max = 255, message = "Application name pattern must not exceed 255 characters")
+    private String applicationNamePattern;
+
+    @Min(value = 0, message = "Download count threshold must not be negative")
+    private Integer maxDownloadCount;
+
+    @Min(value = 1, message = "Batch size must be at least 1")
+    @Max(value = 5000, message = "Batch size must not exceed 5000")
+    private Integer batchSize = 500;
+}
@@ -0,0 +1,33 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.ProjectSortField;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectSearchRequest {
+    private FrameworkType frameworkType;
+
+    private DatabaseType databaseType;
+
+    private Boolean jwtAuthEnabled;
+
+    private Boolean baseEntityEnabled;
+
+    private Boolean baseResponseEnabled;
+
+    private ProjectSortField sortBy = ProjectSortField.CREATED_AT;
+
+    private String cursor;
+
+    @Min(value = 1, message = "Page size must be at least 1")
+    @Max(value = 100, message = "Page size must not exceed 100")
+    private Integer size = 20;
+}
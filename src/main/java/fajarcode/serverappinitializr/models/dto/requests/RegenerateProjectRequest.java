@@ -0,0 +1,47 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RegenerateProjectRequest {
+    private DatabaseType databaseType;
+
+    private BuildTool buildTool;
+
+    private StackType stack;
+
+    private Boolean jwtAuthEnabled;
+
+    private Boolean baseEntityEnabled;
+
+    private Boolean baseResponseEnabled;
+
+    private Boolean jmhEnabled;
+
+    private Boolean dockerEnabled;
+
+    private Boolean cacheEnabled;
+
+    private Boolean performanceProfileEnabled;
+
+    private Boolean observabilityEnabled;
+
+    private Boolean nativeImageEnabled;
+
+    private String javaVersion;
+
+    @Valid
+    @Size(max = 2000, message = "At most 2000 entities can be generated per project")
+    private List<EntityDefinitionRequest> entities;
+}
@@ -0,0 +1,26 @@
+package fajarcode.serverappinitializr.models.dto.requests;
+
+import fajarcode.serverappinitializr.models.enums.RelationType;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class RelationDefinitionRequest {
+    @NotBlank(message = "Relation name is required")
+    @Pattern(regexp = "^[a-z][a-zA-Z0-9]*$", message = "Relation name must be camelCase and contain only alphanumeric characters")
+    private String name;
+
+    @NotNull(message = "Relation type is required")
+    private RelationType type;
+
+    @NotBlank(message = "Relation target entity is required")
+    private String targetEntity;
+
+    private String mappedBy;
+}
@@ -0,0 +1,19 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityCountResponse {
+    private Long generations;
+    private Long downloads;
+    private Map<String, Long> recentGenerations;
+    private Map<String, Long> recentDownloads;
+}
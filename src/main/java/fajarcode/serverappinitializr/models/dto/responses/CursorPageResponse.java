@@ -0,0 +1,19 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+    private List<T> items;
+    private Integer size;
+    private Boolean hasNext;
+    private String nextCursor;
+}
@@ -1,7 +1,10 @@
 package fajarcode.serverappinitializr.models.dto.responses;
 
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
 import fajarcode.serverappinitializr.models.enums.DatabaseType;
 import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -16,15 +19,26 @@ public class GenerateProjectResponse {
     private String projectName;
     private FrameworkType frameworkType;
     private DatabaseType databaseType;
+    private BuildTool buildTool;
+    private StackType stack;
     private Boolean jwtAuthEnabled;
     private Boolean baseEntityEnabled;
     private Boolean baseResponseEnabled;
+    private Boolean jmhEnabled;
+    private Boolean dockerEnabled;
+    private Boolean cacheEnabled;
+    private Boolean performanceProfileEnabled;
+    private Boolean observabilityEnabled;
+    private Boolean nativeImageEnabled;
     private String packageName;
     private String projectPath;
     private Long fileSizeBytes;
+    private ArchiveStorageType storageType;
+    private Long archiveSizeBytes;
     private Integer downloadCount;
     private String groupId;
     private String artifactId;
     private String version;
+    private String javaVersion;
     private LocalDateTime createdAt;
 }
@@ -0,0 +1,27 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeneratedProjectSummaryResponse {
+    private Long id;
+    private String projectName;
+    private FrameworkType frameworkType;
+    private DatabaseType databaseType;
+    private Boolean jwtAuthEnabled;
+    private Boolean baseEntityEnabled;
+    private Boolean baseResponseEnabled;
+    private Integer downloadCount;
+    private Long fileSizeBytes;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,21 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GenerationProgressResponse {
+    private GenerationStage stage;
+    private String detail;
+    private int filesRendered;
+    private Instant timestamp;
+    private GenerateProjectResponse project;
+}
@@ -0,0 +1,25 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import fajarcode.serverappinitializr.models.enums.ExpiryJobStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectExpiryJobResponse {
+    private UUID jobId;
+    private ExpiryJobStatus status;
+    private long deletedProjects;
+    private long skippedProjects;
+    private long deletedDirectories;
+    private long failedDirectories;
+    private int completedBatches;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String errorMessage;
+}
@@ -0,0 +1,21 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class ProjectStatisticsResponse {
+    private ActivityCountResponse total;
+    private Map<String, ActivityCountResponse> byFramework;
+    private Map<String, ActivityCountResponse> byDatabase;
+    private Map<String, ActivityCountResponse> byStack;
+    private Map<String, ActivityCountResponse> byBuildTool;
+    private Map<String, ActivityCountResponse> byFeatureCombination;
+    private Instant rebuiltAt;
+}
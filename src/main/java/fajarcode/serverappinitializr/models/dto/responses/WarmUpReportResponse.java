@@ -0,0 +1,31 @@
+package fajarcode.serverappinitializr.models.dto.responses;
+
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.WarmUpStatus;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.availability.ReadinessState;
+
+import java.time.Instant;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class WarmUpReportResponse {
+    private WarmUpStatus status;
+    private ReadinessState readinessState;
+    private int plannedCycles;
+    private int completedCycles;
+    private int failedCycles;
+    private int downloadCycles;
+    private Map<FrameworkType, Integer> cyclesByFramework;
+    private long durationMillis;
+    private double coldCycleMillis;
+    private double warmCycleMillis;
+    private double speedup;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private String errorMessage;
+}
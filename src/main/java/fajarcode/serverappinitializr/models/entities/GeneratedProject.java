@@ -1,7 +1,11 @@
 package fajarcode.serverappinitializr.models.entities;
 
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
 import fajarcode.serverappinitializr.models.enums.DatabaseType;
 import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.models.projections.ProjectOptions;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,13 +15,21 @@ import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
-@Table(name = "generated_projects")
+@Table(
+        name = "generated_projects",
+        indexes = {
+                @Index(name = "idx_generated_projects_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_generated_projects_download_count_id", columnList = "download_count, id"),
+                @Index(name = "idx_generated_projects_framework_database_created_at",
+                        columnList = "framework_type, database_type, created_at, id")
+        }
+)
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor
 @Getter
 @Setter
-public class GeneratedProject {
+public class GeneratedProject implements ProjectOptions {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -33,6 +45,14 @@ public class GeneratedProject {
     @Column(name = "database_type", nullable = false)
     private DatabaseType databaseType;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "build_tool")
+    private BuildTool buildTool = BuildTool.MAVEN;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stack")
+    private StackType stack = StackType.SERVLET;
+
     @Column(name = "jwt_auth_enabled")
     private Boolean jwtAuthEnabled;
 
@@ -42,6 +62,24 @@ public class GeneratedProject {
     @Column(name = "base_response_enabled")
     private Boolean baseResponseEnabled;
 
+    @Column(name = "jmh_enabled")
+    private Boolean jmhEnabled = false;
+
+    @Column(name = "docker_enabled")
+    private Boolean dockerEnabled = false;
+
+    @Column(name = "cache_enabled")
+    private Boolean cacheEnabled = false;
+
+    @Column(name = "performance_profile_enabled")
+    private Boolean performanceProfileEnabled = false;
+
+    @Column(name = "observability_enabled")
+    private Boolean observabilityEnabled = false;
+
+    @Column(name = "native_image_enabled")
+    private Boolean nativeImageEnabled = false;
+
     @Column(name = "package_name")
     private String packageName;
 
@@ -51,6 +89,13 @@ public class GeneratedProject {
     @Column(name = "file_size_bytes")
     private Long fileSizeBytes;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "storage_type")
+    private ArchiveStorageType storageType = ArchiveStorageType.FILESYSTEM;
+
+    @Column(name = "archive_size_bytes")
+    private Long archiveSizeBytes;
+
     @Column(name = "download_count")
     private Integer downloadCount = 0;
 
@@ -63,6 +108,9 @@ public class GeneratedProject {
     @Column(name = "version")
     private String version;
 
+    @Column(name = "java_version")
+    private String javaVersion;
+
     @Column(name = "created_at", updatable = false)
     @CreationTimestamp
     private LocalDateTime createdAt;
@@ -0,0 +1,36 @@
+package fajarcode.serverappinitializr.models.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Table(
+        name = "generated_project_archive_chunks",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_archive_chunks_project_chunk",
+                columnNames = {"project_id", "chunk_index"}
+        )
+)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class GeneratedProjectArchiveChunk {
+    public static final int MAX_CHUNK_SIZE = 256 * 1024;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "chunk_index", nullable = false)
+    private Integer chunkIndex;
+
+    @Column(name = "data", nullable = false, length = MAX_CHUNK_SIZE)
+    private byte[] data;
+}
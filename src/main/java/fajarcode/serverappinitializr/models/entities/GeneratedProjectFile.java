@@ -0,0 +1,39 @@
+package fajarcode.serverappinitializr.models.entities;
+
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Table(
+        name = "generated_project_files",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_project_files_project_path",
+                columnNames = {"project_id", "file_path"}
+        )
+)
+@Entity
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class GeneratedProjectFile {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "file_path", nullable = false, length = 1024)
+    private String filePath;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "generation_step", nullable = false)
+    private GenerationStep generationStep;
+}
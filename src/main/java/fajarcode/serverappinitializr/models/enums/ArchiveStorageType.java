@@ -0,0 +1,5 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum ArchiveStorageType {
+    FILESYSTEM, DATABASE
+}
@@ -6,12 +6,73 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public enum DatabaseType {
-    MYSQL("com.mysql.cj.jdbc.Driver", "jdbc:mysql://localhost:3306/", "mysql-connector-j"),
-    POSTGRESQL("org.postgresql.Driver", "jdbc:postgresql://localhost:5432/", "postgresql"),
-    SQLSERVER("com.microsoft.sqlserver.jdbc.SQLServerDriver", "jdbc:sqlserver://localhost:1433;databaseName=", "mssql-jdbc"),
-    ORACLE("oracle.jdbc.driver.OracleDriver", "jdbc:oracle:thin:@localhost:1521:", "ojdbc8");
+    MYSQL("com.mysql.cj.jdbc.Driver", "jdbc:mysql://localhost:3306/", "mysql-connector-j",
+            false, "?rewriteBatchedStatements=true", "r2dbc:mysql://localhost:3306/"),
+    POSTGRESQL("org.postgresql.Driver", "jdbc:postgresql://localhost:5432/", "postgresql",
+            true, "?reWriteBatchedInserts=true", "r2dbc:postgresql://localhost:5432/"),
+    SQLSERVER("com.microsoft.sqlserver.jdbc.SQLServerDriver", "jdbc:sqlserver://localhost:1433;databaseName=", "mssql-jdbc",
+            true, ";useBulkCopyForBatchInsert=true", "r2dbc:mssql://localhost:1433/"),
+    ORACLE("oracle.jdbc.driver.OracleDriver", "jdbc:oracle:thin:@localhost:1521:", "ojdbc8",
+            true, "", "r2dbc:oracle://localhost:1521/");
+
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     private final String driverClassName;
     private final String urlPrefix;
     private final String dependencyArtifact;
+    private final boolean sequenceSupported;
+    private final String batchUrlParameters;
+    private final String r2dbcUrlPrefix;
+
+    public String idGeneration(String sequenceName) {
+        // MySQL has no sequences, and IDENTITY makes Hibernate give up insert batching there
+        if (!sequenceSupported) {
+            return "    @GeneratedValue(strategy = GenerationType.IDENTITY)\n";
+        }
+        if (sequenceName == null) {
+            return "    @GeneratedValue(strategy = GenerationType.SEQUENCE)\n";
+        }
+        return "    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = \"" + sequenceName + "\")\n"
+                + "    @SequenceGenerator(name = \"" + sequenceName + "\", sequenceName = \"" + sequenceName
+                + "\", allocationSize = " + ID_ALLOCATION_SIZE + ")\n";
+    }
+
+    public String sampleTableSchema() {
+        return switch (this) {
+            case MYSQL -> """
+                    CREATE TABLE IF NOT EXISTS sample_entity (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(255),
+                        INDEX idx_sample_entity_name_id (name, id)
+                    );
+                    """;
+            case POSTGRESQL -> """
+                    CREATE TABLE IF NOT EXISTS sample_entity (
+                        id BIGSERIAL PRIMARY KEY,
+                        name VARCHAR(255) NOT NULL,
+                        description VARCHAR(255)
+                    );
+                    CREATE INDEX IF NOT EXISTS idx_sample_entity_name_id ON sample_entity (name, id);
+                    """;
+            case SQLSERVER -> """
+                    IF OBJECT_ID('sample_entity', 'U') IS NULL
+                    CREATE TABLE sample_entity (
+                        id BIGINT IDENTITY(1,1) PRIMARY KEY,
+                        name NVARCHAR(255) NOT NULL,
+                        description NVARCHAR(255),
+                        INDEX idx_sample_entity_name_id (name, id)
+                    );
+                    """;
+            // Oracle has no IF NOT EXISTS before 23c, so re-running this must tolerate "name is already used"
+            case ORACLE -> """
+                    CREATE TABLE sample_entity (
+                        id NUMBER(19) GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        name VARCHAR2(255) NOT NULL,
+                        description VARCHAR2(255)
+                    );
+                    CREATE INDEX idx_sample_entity_name_id ON sample_entity (name, id);
+                    """;
+        };
+    }
 }
@@ -0,0 +1,7 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum ExpiryJobStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,396 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import fajarcode.serverappinitializr.utils.CompiledTemplate;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public enum FiberTemplate {
+
+    GO_MOD("go.mod", """
+            module {{module}}
+
+            go 1.21
+
+            // go.sum is not shipped; run `go mod tidy` once before building outside Docker
+            require (
+                github.com/gofiber/fiber/v2 v2.51.0
+            {{requires}})
+            """),
+
+    MAIN("main.go", """
+            package main
+
+            import (
+                "log"
+                "os"
+                "os/signal"
+                "syscall"
+                "time"
+
+                "github.com/gofiber/fiber/v2"
+                "github.com/gofiber/fiber/v2/middleware/recover"
+
+                "{{module}}/internal/config"
+                "{{module}}/internal/database"
+                "{{module}}/internal/handlers"
+                "{{module}}/internal/middleware"
+            )
+
+            func main() {
+                cfg := config.Load()
+
+                db, err := database.Open(cfg)
+                if err != nil {
+                    log.Fatalf("database: %v", err)
+                }
+                defer db.Close()
+
+                app := fiber.New(fiber.Config{
+                    AppName:      "{{appName}}",
+                    ReadTimeout:  cfg.ReadTimeout,
+                    WriteTimeout: cfg.WriteTimeout,
+                    IdleTimeout:  cfg.IdleTimeout,
+                })
+                app.Use(recover.New())
+
+                sample := handlers.NewSampleHandler(database.NewSampleRepository(db))
+                api := app.Group("/api/sample")
+                api.Get("/", sample.GetSample)
+                entities := api.Group("/entities", middleware.Auth(cfg))
+                entities.Get("/", sample.ListEntities)
+                entities.Get("/:id", sample.GetEntity)
+
+                go func() {
+                    if err := app.Listen(":" + cfg.Port); err != nil {
+                        log.Fatalf("server: %v", err)
+                    }
+                }()
+
+                quit := make(chan os.Signal, 1)
+                signal.Notify(quit, os.Interrupt, syscall.SIGTERM)
+                <-quit
+                if err := app.ShutdownWithTimeout(30 * time.Second); err != nil {
+                    log.Printf("shutdown: %v", err)
+                }
+            }
+            """),
+
+    CONFIG("internal/config/config.go", """
+            package config
+
+            import (
+                "os"
+                "strconv"
+                "time"
+            )
+
+            type Config struct {
+                Port            string
+                DatabaseDSN     string
+                MaxOpenConns    int
+                MaxIdleConns    int
+                ConnMaxLifetime time.Duration
+                ConnMaxIdleTime time.Duration
+                ReadTimeout     time.Duration
+                WriteTimeout    time.Duration
+                IdleTimeout     time.Duration
+                JWTSecret       string
+            }
+
+            func Load() Config {
+                return Config{
+                    Port:            env("APP_PORT", "8080"),
+                    DatabaseDSN:     env("DB_DSN", ""),
+                    MaxOpenConns:    envInt("DB_MAX_OPEN_CONNS", 10),
+                    MaxIdleConns:    envInt("DB_MAX_IDLE_CONNS", 10),
+                    ConnMaxLifetime: envDuration("DB_CONN_MAX_LIFETIME", 30*time.Minute),
+                    ConnMaxIdleTime: envDuration("DB_CONN_MAX_IDLE_TIME", 10*time.Minute),
+                    ReadTimeout:     envDuration("HTTP_READ_TIMEOUT", 10*time.Second),
+                    WriteTimeout:    envDuration("HTTP_WRITE_TIMEOUT", 10*time.Second),
+                    IdleTimeout:     envDuration("HTTP_IDLE_TIMEOUT", 60*time.Second),
+                    JWTSecret:       env("JWT_SECRET", ""),
+                }
+            }
+
+            func env(key, fallback string) string {
+                if value, ok := os.LookupEnv(key); ok {
+                    return value
+                }
+                return fallback
+            }
+
+            func envInt(key string, fallback int) int {
+                if value, err := strconv.Atoi(os.Getenv(key)); err == nil {
+                    return value
+                }
+                return fallback
+            }
+
+            func envDuration(key string, fallback time.Duration) time.Duration {
+                if value, err := time.ParseDuration(os.Getenv(key)); err == nil {
+                    return value
+                }
+                return fallback
+            }
+            """),
+
+    DATABASE("internal/database/database.go", """
+            package database
+
+            import (
+                "context"
+                "database/sql"
+                "errors"
+                "time"
+
+                _ "{{driverImport}}"
+
+                "{{module}}/internal/config"
+            )
+
+            const driverName = "{{driverName}}"
+
+            // Open returns one pooled handle for the whole process; idle connections stay open so requests skip the connect handshake
+            func Open(cfg config.Config) (*sql.DB, error) {
+                if cfg.DatabaseDSN == "" {
+                    return nil, errors.New("DB_DSN is not set")
+                }
+                db, err := sql.Open(driverName, cfg.DatabaseDSN)
+                if err != nil {
+                    return nil, err
+                }
+                db.SetMaxOpenConns(cfg.MaxOpenConns)
+                db.SetMaxIdleConns(cfg.MaxIdleConns)
+                db.SetConnMaxLifetime(cfg.ConnMaxLifetime)
+                db.SetConnMaxIdleTime(cfg.ConnMaxIdleTime)
+
+                ctx, cancel := context.WithTimeout(context.Background(), 5*time.Second)
+                defer cancel()
+                if err := db.PingContext(ctx); err != nil {
+                    db.Close()
+                    return nil, err
+                }
+                return db, nil
+            }
+            """),
+
+    SAMPLE_REPOSITORY("internal/database/sample_repository.go", """
+            package database
+
+            import (
+                "context"
+                "database/sql"
+            )
+
+            type Sample struct {
+                ID          int64   `json:"id"`
+                Name        string  `json:"name"`
+                Description *string `json:"description,omitempty"`
+            }
+
+            type SampleRepository struct {
+                db *sql.DB
+            }
+
+            func NewSampleRepository(db *sql.DB) *SampleRepository {
+                return &SampleRepository{db: db}
+            }
+
+            func (r *SampleRepository) FindAll(ctx context.Context) ([]Sample, error) {
+                rows, err := r.db.QueryContext(ctx, `{{listQuery}}`)
+                if err != nil {
+                    return nil, err
+                }
+                defer rows.Close()
+
+                samples := make([]Sample, 0, 100)
+                for rows.Next() {
+                    var sample Sample
+                    if err := rows.Scan(&sample.ID, &sample.Name, &sample.Description); err != nil {
+                        return nil, err
+                    }
+                    samples = append(samples, sample)
+                }
+                return samples, rows.Err()
+            }
+
+            func (r *SampleRepository) FindByID(ctx context.Context, id int64) (Sample, error) {
+                var sample Sample
+                err := r.db.QueryRowContext(ctx, `{{findByIdQuery}}`, id).
+                    Scan(&sample.ID, &sample.Name, &sample.Description)
+                return sample, err
+            }
+            """),
+
+    SAMPLE_HANDLER("internal/handlers/sample_handler.go", """
+            package handlers
+
+            import (
+                "database/sql"
+                "errors"
+                "strconv"
+
+                "github.com/gofiber/fiber/v2"
+
+                "{{module}}/internal/database"
+            {{responseImport}})
+
+            type SampleHandler struct {
+                repository *database.SampleRepository
+            }
+
+            func NewSampleHandler(repository *database.SampleRepository) *SampleHandler {
+                return &SampleHandler{repository: repository}
+            }
+
+            func (h *SampleHandler) GetSample(c *fiber.Ctx) error {
+                return {{helloResponse}}
+            }
+
+            func (h *SampleHandler) ListEntities(c *fiber.Ctx) error {
+                samples, err := h.repository.FindAll(c.UserContext())
+                if err != nil {
+                    return err
+                }
+                return {{listResponse}}
+            }
+
+            func (h *SampleHandler) GetEntity(c *fiber.Ctx) error {
+                id, err := strconv.ParseInt(c.Params("id"), 10, 64)
+                if err != nil {
+                    return fiber.NewError(fiber.StatusBadRequest, "invalid id")
+                }
+                sample, err := h.repository.FindByID(c.UserContext(), id)
+                if errors.Is(err, sql.ErrNoRows) {
+                    return fiber.ErrNotFound
+                }
+                if err != nil {
+                    return err
+                }
+                return {{entityResponse}}
+            }
+            """),
+
+    RESPONSE("internal/response/response.go", """
+            package response
+
+            import "time"
+
+            type SuccessResponse struct {
+                Success   bool      `json:"success"`
+                Message   string    `json:"message,omitempty"`
+                Data      any       `json:"data,omitempty"`
+                Timestamp time.Time `json:"timestamp"`
+            }
+
+            func Success(message string, data any) SuccessResponse {
+                return SuccessResponse{Success: true, Message: message, Data: data, Timestamp: time.Now()}
+            }
+            """),
+
+    JWT_AUTH("internal/middleware/auth.go", """
+            package middleware
+
+            import (
+                "log"
+                "strings"
+
+                "github.com/gofiber/fiber/v2"
+                "github.com/golang-jwt/jwt/v5"
+
+                "{{module}}/internal/config"
+            )
+
+            // minSecretLength matches the HS256 output size; a shorter or empty key lets anyone forge tokens
+            const minSecretLength = 32
+
+            // Auth verifies HS256 bearer tokens; the key and parser are built once, not on every request
+            func Auth(cfg config.Config) fiber.Handler {
+                if len(cfg.JWTSecret) < minSecretLength {
+                    log.Fatalf("JWT_SECRET must be set to at least %d bytes", minSecretLength)
+                }
+                key := []byte(cfg.JWTSecret)
+                parser := jwt.NewParser(jwt.WithValidMethods([]string{"HS256"}), jwt.WithExpirationRequired())
+                keyFunc := func(*jwt.Token) (any, error) { return key, nil }
+
+                return func(c *fiber.Ctx) error {
+                    tokenString, found := strings.CutPrefix(c.Get(fiber.HeaderAuthorization), "Bearer ")
+                    if !found {
+                        return fiber.ErrUnauthorized
+                    }
+                    token, err := parser.Parse(tokenString, keyFunc)
+                    if err != nil || !token.Valid {
+                        return fiber.ErrUnauthorized
+                    }
+                    c.Locals("claims", token.Claims)
+                    return c.Next()
+                }
+            }
+            """),
+
+    NO_AUTH("internal/middleware/auth.go", """
+            package middleware
+
+            import (
+                "github.com/gofiber/fiber/v2"
+
+                "{{module}}/internal/config"
+            )
+
+            // Auth lets every request through until JWT auth is enabled for this project
+            func Auth(config.Config) fiber.Handler {
+                return func(c *fiber.Ctx) error {
+                    return c.Next()
+                }
+            }
+            """),
+
+    DOCKERFILE("Dockerfile", """
+            # syntax=docker/dockerfile:1
+
+            FROM golang:1.21-alpine AS build
+            WORKDIR /src
+            # Modules resolve into a cache mount keyed only on go.mod, so source edits never fetch them again
+            COPY go.mod ./
+            RUN --mount=type=cache,target=/go/pkg/mod go mod download
+            COPY . .
+            # -mod=mod records the missing go.sum entries from the warm module cache, so no tidy step runs here
+            RUN --mount=type=cache,target=/go/pkg/mod \\
+                --mount=type=cache,target=/root/.cache/go-build \\
+                CGO_ENABLED=0 go build -mod=mod -trimpath -ldflags="-s -w" -o /out/application .
+
+            # A static binary needs no libc, so the runtime image carries nothing else
+            FROM gcr.io/distroless/static-debian12:nonroot
+            COPY --from=build /out/application /application
+            EXPOSE 8080
+            ENTRYPOINT ["/application"]
+            """);
+
+    private final String path;
+    private final CompiledTemplate template;
+
+    FiberTemplate(String path, String source) {
+        this.path = path;
+        // Parsed once when the enum loads, so rendering is only literal copies and map lookups
+        this.template = CompiledTemplate.compile(path.endsWith(".go") || path.equals("go.mod") ? tabIndent(source) : source);
+    }
+
+    public String render(Map<String, String> values) {
+        return template.render(values);
+    }
+
+    private static String tabIndent(String source) {
+        StringBuilder indented = new StringBuilder(source.length());
+        for (String line : source.split("\n", -1)) {
+            int spaces = 0;
+            while (spaces < line.length() && line.charAt(spaces) == ' ') {
+                spaces++;
+            }
+            indented.append("\t".repeat(spaces / 4)).append(line, spaces - spaces % 4, line.length()).append('\n');
+        }
+        indented.setLength(indented.length() - 1);
+        return indented.toString();
+    }
+}
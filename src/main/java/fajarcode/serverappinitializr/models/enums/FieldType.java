@@ -0,0 +1,22 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FieldType {
+    STRING("String", null),
+    TEXT("String", null),
+    INTEGER("Integer", null),
+    LONG("Long", null),
+    DOUBLE("Double", null),
+    DECIMAL("BigDecimal", "java.math.BigDecimal"),
+    BOOLEAN("Boolean", null),
+    DATE("LocalDate", "java.time.LocalDate"),
+    DATE_TIME("LocalDateTime", "java.time.LocalDateTime"),
+    UUID("UUID", "java.util.UUID");
+
+    private final String javaType;
+    private final String importName;
+}
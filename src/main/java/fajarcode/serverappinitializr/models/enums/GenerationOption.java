@@ -0,0 +1,18 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum GenerationOption {
+    DATABASE_TYPE,
+    BUILD_TOOL,
+    STACK,
+    JWT_AUTH,
+    BASE_ENTITY,
+    BASE_RESPONSE,
+    JMH,
+    DOCKER,
+    CACHE,
+    PERFORMANCE_PROFILE,
+    OBSERVABILITY,
+    NATIVE_IMAGE,
+    JAVA_VERSION,
+    ENTITIES
+}
@@ -0,0 +1,11 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum GenerationStage {
+    STARTED,
+    STRUCTURE_CREATED,
+    FILE_RENDERED,
+    ARCHIVE_READY,
+    PERSISTED,
+    COMPLETED,
+    FAILED
+}
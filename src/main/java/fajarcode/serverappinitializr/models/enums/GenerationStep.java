@@ -0,0 +1,49 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static fajarcode.serverappinitializr.models.enums.GenerationOption.*;
+
+@Getter
+public enum GenerationStep {
+    POM_XML(EnumSet.of(DATABASE_TYPE, BUILD_TOOL, JWT_AUTH, JAVA_VERSION, GenerationOption.JMH, CACHE, OBSERVABILITY, NATIVE_IMAGE, STACK)),
+    GRADLE_BUILD(EnumSet.of(DATABASE_TYPE, BUILD_TOOL, JWT_AUTH, JAVA_VERSION, GenerationOption.JMH, CACHE, OBSERVABILITY, NATIVE_IMAGE, STACK)),
+    APPLICATION_PROPERTIES(EnumSet.of(DATABASE_TYPE, JWT_AUTH, CACHE, PERFORMANCE_PROFILE, OBSERVABILITY, NATIVE_IMAGE, JAVA_VERSION, STACK)),
+    MAIN_CLASS(EnumSet.noneOf(GenerationOption.class)),
+    BASE_ENTITY(EnumSet.of(GenerationOption.BASE_ENTITY, DATABASE_TYPE)),
+    BASE_RESPONSES(EnumSet.of(BASE_RESPONSE)),
+    JWT_COMPONENTS(EnumSet.of(JWT_AUTH)),
+    SAMPLE_CONTROLLER(EnumSet.of(BASE_RESPONSE, OBSERVABILITY, STACK)),
+    SAMPLE_SERVICE(EnumSet.of(CACHE, OBSERVABILITY, STACK)),
+    SAMPLE_ENTITY(EnumSet.of(GenerationOption.BASE_ENTITY, DATABASE_TYPE, STACK)),
+    // Re-rendered with every sample source that imports the DTOs, so projects generated before they existed gain them
+    SAMPLE_PAGINATION(EnumSet.of(GenerationOption.BASE_ENTITY, BASE_RESPONSE, CACHE, DATABASE_TYPE, OBSERVABILITY, STACK)),
+    REACTIVE_SOURCES(EnumSet.of(BASE_RESPONSE, DATABASE_TYPE, OBSERVABILITY, STACK)),
+    CRUD_SOURCES(EnumSet.of(GenerationOption.BASE_ENTITY, BASE_RESPONSE, DATABASE_TYPE, ENTITIES)),
+    OPENAPI_SOURCES(EnumSet.noneOf(GenerationOption.class)),
+    ENUMS(EnumSet.noneOf(GenerationOption.class)),
+    CONFIGURATION(EnumSet.of(STACK)),
+    JMH_BENCHMARKS(EnumSet.of(GenerationOption.JMH, OBSERVABILITY, STACK)),
+    DOCKERFILE(EnumSet.of(DOCKER, BUILD_TOOL, JAVA_VERSION, NATIVE_IMAGE)),
+    CACHE_COMPONENTS(EnumSet.of(CACHE)),
+    OBSERVABILITY_COMPONENTS(EnumSet.of(OBSERVABILITY)),
+    NATIVE_HINTS(EnumSet.of(NATIVE_IMAGE, JWT_AUTH, STACK));
+
+    private final Set<GenerationOption> inputs;
+
+    GenerationStep(Set<GenerationOption> inputs) {
+        this.inputs = inputs;
+    }
+
+    public boolean dependsOnAny(Set<GenerationOption> changedOptions) {
+        for (GenerationOption option : changedOptions) {
+            if (inputs.contains(option)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum GradleSection {
+
+    PLUGINS_OPEN("""
+            plugins {
+            """),
+
+    JMH_PLUGIN("""
+                id("me.champeau.jmh") version "0.7.2"
+            """),
+
+    // Gradle 9 no longer puts the launcher on the test runtime classpath implicitly
+    JUNIT_PLATFORM_LAUNCHER("""
+                // JUnit Platform Launcher
+                testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+            """),
+
+    BLOCK_CLOSE("""
+            }
+            """),
+
+    REPOSITORIES("""
+            
+            repositories {
+                mavenCentral()
+            }
+            """),
+
+    DEPENDENCIES_OPEN("""
+            
+            dependencies {
+            """),
+
+    TASKS("""
+            
+            tasks.withType<Test> {
+                useJUnitPlatform()
+            }
+            
+            // Only the Boot jar is needed, which also keeps build/libs to a single archive for the Dockerfile
+            tasks.named<Jar>("jar") {
+                enabled = false
+            }
+            """),
+
+    // Caching lets CI reuse task outputs across runs; the configuration cache skips script evaluation entirely
+    PROPERTIES("""
+            org.gradle.caching=true
+            org.gradle.configuration-cache=true
+            org.gradle.parallel=true
+            org.gradle.daemon=true
+            org.gradle.jvmargs=-Xmx2g -XX:+UseParallelGC -Dfile.encoding=UTF-8
+            """);
+
+    private final String template;
+
+    // The toolchain only downloads a missing JDK when a resolver is configured
+    public static String settings(String artifactId) {
+        return """
+                plugins {
+                    id("org.gradle.toolchains.foojay-resolver-convention") version "1.0.0"
+                }
+                
+                rootProject.name = "%s"
+                """.formatted(artifactId);
+    }
+
+    public static String projectInfo(String groupId, String version, String name) {
+        return """
+                
+                group = "%s"
+                version = "%s"
+                description = "Generated Spring Boot Application (%s)"
+                """.formatted(groupId, version, name);
+    }
+
+    public static String toolchain(String javaVersion) {
+        return """
+                
+                java {
+                    toolchain {
+                        languageVersion.set(JavaLanguageVersion.of(%s))
+                    }
+                }
+                """.formatted(javaVersion);
+    }
+}
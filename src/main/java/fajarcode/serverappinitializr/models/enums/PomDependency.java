@@ -7,57 +7,109 @@ public enum PomDependency {
 
     SPRING_WEB(
             "org.springframework.boot", "spring-boot-starter-web",
-            null, null, "Spring Boot Starter Web", false
+            null, null, "Spring Boot Starter Web", PomFeature.SERVLET
     ),
     SPRING_DATA_JPA(
             "org.springframework.boot", "spring-boot-starter-data-jpa",
-            null, null, "Spring Boot Starter Data JPA", false
+            null, null, "Spring Boot Starter Data JPA", PomFeature.SERVLET
+    ),
+    SPRING_WEBFLUX(
+            "org.springframework.boot", "spring-boot-starter-webflux",
+            null, null, "Spring Boot Starter WebFlux", PomFeature.REACTIVE
+    ),
+    SPRING_DATA_R2DBC(
+            "org.springframework.boot", "spring-boot-starter-data-r2dbc",
+            null, null, "Spring Boot Starter Data R2DBC", PomFeature.REACTIVE
     ),
     SPRING_VALIDATION(
             "org.springframework.boot", "spring-boot-starter-validation",
-            null, null, "Spring Boot Starter Validation", false
+            null, null, "Spring Boot Starter Validation", PomFeature.CORE
     ),
 
     // Database drivers
     MYSQL_DRIVER(
             "com.mysql", "mysql-connector-j",
-            null, "runtime", "MySQL Driver", false
+            null, "runtime", "MySQL Driver", PomFeature.CORE
     ),
     POSTGRESQL_DRIVER(
             "org.postgresql", "postgresql",
-            null, "runtime", "PostgreSQL Driver", false
+            null, "runtime", "PostgreSQL Driver", PomFeature.CORE
     ),
     SQLSERVER_DRIVER(
             "com.microsoft.sqlserver", "mssql-jdbc",
-            null, "runtime", "SQL Server Driver", false
+            null, "runtime", "SQL Server Driver", PomFeature.CORE
     ),
     ORACLE_DRIVER(
             "com.oracle.database.jdbc", "ojdbc8",
-            null, "runtime", "Oracle Driver", false
+            null, "runtime", "Oracle Driver", PomFeature.CORE
+    ),
+    MYSQL_R2DBC_DRIVER(
+            "io.asyncer", "r2dbc-mysql",
+            null, "runtime", "MySQL R2DBC Driver", PomFeature.REACTIVE
+    ),
+    POSTGRESQL_R2DBC_DRIVER(
+            "org.postgresql", "r2dbc-postgresql",
+            null, "runtime", "PostgreSQL R2DBC Driver", PomFeature.REACTIVE
+    ),
+    SQLSERVER_R2DBC_DRIVER(
+            "io.r2dbc", "r2dbc-mssql",
+            null, "runtime", "SQL Server R2DBC Driver", PomFeature.REACTIVE
+    ),
+    ORACLE_R2DBC_DRIVER(
+            "com.oracle.database.r2dbc", "oracle-r2dbc",
+            null, "runtime", "Oracle R2DBC Driver", PomFeature.REACTIVE
     ),
 
     // Security & JWT
     SPRING_SECURITY(
             "org.springframework.boot", "spring-boot-starter-security",
-            null, null, "Spring Security", true
+            null, null, "Spring Security", PomFeature.JWT_AUTH
     ),
     JJWT_API(
             "io.jsonwebtoken", "jjwt-api",
-            "0.11.5", null, "JWT API", true
+            "0.11.5", null, "JWT API", PomFeature.JWT_AUTH
     ),
     JJWT_IMPL(
             "io.jsonwebtoken", "jjwt-impl",
-            "0.11.5", "runtime", "JWT Implementation", true
+            "0.11.5", "runtime", "JWT Implementation", PomFeature.JWT_AUTH
     ),
     JJWT_JACKSON(
             "io.jsonwebtoken", "jjwt-jackson",
-            "0.11.5", "runtime", "JWT Jackson", true
+            "0.11.5", "runtime", "JWT Jackson", PomFeature.JWT_AUTH
+    ),
+
+    // Caching
+    SPRING_CACHE(
+            "org.springframework.boot", "spring-boot-starter-cache",
+            null, null, "Spring Boot Starter Cache", PomFeature.CACHE
+    ),
+    CAFFEINE(
+            "com.github.ben-manes.caffeine", "caffeine",
+            null, null, "Caffeine Cache", PomFeature.CACHE
+    ),
+
+    // Observability
+    SPRING_ACTUATOR(
+            "org.springframework.boot", "spring-boot-starter-actuator",
+            null, null, "Spring Boot Starter Actuator", PomFeature.OBSERVABILITY
+    ),
+    SPRING_AOP(
+            "org.springframework.boot", "spring-boot-starter-aop",
+            null, null, "Spring Boot Starter AOP", PomFeature.OBSERVABILITY
+    ),
+    MICROMETER_PROMETHEUS(
+            "io.micrometer", "micrometer-registry-prometheus",
+            null, "runtime", "Micrometer Prometheus Registry", PomFeature.OBSERVABILITY
+    ),
+    REACTOR_MICROMETER(
+            "io.projectreactor", "reactor-core-micrometer",
+            null, null, "Reactor Micrometer Metrics", PomFeature.REACTIVE_OBSERVABILITY
     ),
 
     // Utility
     LOMBOK(
             "org.projectlombok", "lombok",
-            null, null, "Lombok", false
+            null, null, "Lombok", PomFeature.CORE
     ) {
         @Override
         public String toXml() {
@@ -70,12 +122,28 @@ public enum PomDependency {
                         </dependency>
                     """.formatted(getComment(), getGroupId(), getArtifactId());
         }
+
+        @Override
+        public String toGradle() {
+            String coordinates = getGroupId() + ":" + getArtifactId();
+            return """
+                        // %s
+                        compileOnly("%s")
+                        annotationProcessor("%s")
+                        testCompileOnly("%s")
+                        testAnnotationProcessor("%s")
+                    """.formatted(getComment(), coordinates, coordinates, coordinates, coordinates);
+        }
     },
 
     // Test
     SPRING_BOOT_TEST(
             "org.springframework.boot", "spring-boot-starter-test",
-            null, "test", "Spring Boot Starter Test", false
+            null, "test", "Spring Boot Starter Test", PomFeature.CORE
+    ),
+    REACTOR_TEST(
+            "io.projectreactor", "reactor-test",
+            null, "test", "Reactor Test", PomFeature.REACTIVE
     );
 
     private final String groupId;
@@ -83,15 +151,15 @@ public enum PomDependency {
     private final String version;
     private final String scope;
     private final String comment;
-    private final boolean jwtOnly;
+    private final PomFeature feature;
 
-    PomDependency(String groupId, String artifactId, String version, String scope, String comment, boolean jwtOnly) {
+    PomDependency(String groupId, String artifactId, String version, String scope, String comment, PomFeature feature) {
         this.groupId = groupId;
         this.artifactId = artifactId;
         this.version = version;
         this.scope = scope;
         this.comment = comment;
-        this.jwtOnly = jwtOnly;
+        this.feature = feature;
     }
 
     public String toXml() {
@@ -110,6 +178,29 @@ public enum PomDependency {
         return sb.toString();
     }
 
+    public String toGradle() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("    // ").append(comment).append("\n");
+        sb.append("    ").append(gradleConfiguration()).append("(\"").append(groupId).append(":").append(artifactId);
+        if (version != null) {
+            sb.append(":").append(version);
+        }
+        sb.append("\")\n");
+        return sb.toString();
+    }
+
+    private String gradleConfiguration() {
+        if (scope == null) {
+            return "implementation";
+        }
+        return switch (scope) {
+            case "runtime" -> "runtimeOnly";
+            case "test" -> "testImplementation";
+            case "provided" -> "compileOnly";
+            default -> "implementation";
+        };
+    }
+
     public static PomDependency driverFor(DatabaseType databaseType) {
         return switch (databaseType) {
             case MYSQL -> MYSQL_DRIVER;
@@ -118,4 +209,13 @@ public enum PomDependency {
             case ORACLE -> ORACLE_DRIVER;
         };
     }
+
+    public static PomDependency r2dbcDriverFor(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> MYSQL_R2DBC_DRIVER;
+            case POSTGRESQL -> POSTGRESQL_R2DBC_DRIVER;
+            case SQLSERVER -> SQLSERVER_R2DBC_DRIVER;
+            case ORACLE -> ORACLE_R2DBC_DRIVER;
+        };
+    }
 }
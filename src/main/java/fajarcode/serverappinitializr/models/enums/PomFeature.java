@@ -0,0 +1,11 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum PomFeature {
+    CORE,
+    SERVLET,
+    REACTIVE,
+    JWT_AUTH,
+    CACHE,
+    OBSERVABILITY,
+    REACTIVE_OBSERVABILITY
+}
@@ -21,6 +21,8 @@ public enum PomPlugin {
                                 </annotationProcessorPaths>
                             </configuration>
                         </plugin>
+            """, """
+                java
             """),
 
     SPRING_BOOT_MAVEN("""
@@ -28,6 +30,9 @@ public enum PomPlugin {
                             <groupId>org.springframework.boot</groupId>
                             <artifactId>spring-boot-maven-plugin</artifactId>
                             <configuration>
+                                <layers>
+                                    <enabled>true</enabled>
+                                </layers>
                                 <excludes>
                                     <exclude>
                                         <groupId>org.projectlombok</groupId>
@@ -36,7 +41,21 @@ public enum PomPlugin {
                                 </excludes>
                             </configuration>
                         </plugin>
+            """, """
+                id("org.springframework.boot") version "3.3.5"
+                id("io.spring.dependency-management") version "1.1.6"
+            """),
+
+    // Version and the process-aot/compile-no-fork executions come from the parent's native profile: mvn -Pnative native:compile
+    NATIVE_MAVEN("""
+                        <plugin>
+                            <groupId>org.graalvm.buildtools</groupId>
+                            <artifactId>native-maven-plugin</artifactId>
+                        </plugin>
+            """, """
+                id("org.graalvm.buildtools.native") version "0.9.28"
             """);
 
     private final String template;
+    private final String gradleTemplate;
 }
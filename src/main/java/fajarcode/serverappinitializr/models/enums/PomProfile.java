@@ -0,0 +1,103 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum PomProfile {
+
+    JMH("""
+                    <!-- JMH benchmarks: mvn -Pjmh package && java -jar target/*-benchmarks.jar -->
+                    <profile>
+                        <id>jmh</id>
+                        <properties>
+                            <jmh.version>1.37</jmh.version>
+                            <spring-boot.repackage.skip>true</spring-boot.repackage.skip>
+                        </properties>
+                        <dependencies>
+                            <dependency>
+                                <groupId>org.openjdk.jmh</groupId>
+                                <artifactId>jmh-core</artifactId>
+                                <version>${jmh.version}</version>
+                            </dependency>
+                            <dependency>
+                                <groupId>org.openjdk.jmh</groupId>
+                                <artifactId>jmh-generator-annprocess</artifactId>
+                                <version>${jmh.version}</version>
+                                <scope>provided</scope>
+                            </dependency>
+                        </dependencies>
+                        <build>
+                            <plugins>
+                                <plugin>
+                                    <groupId>org.codehaus.mojo</groupId>
+                                    <artifactId>build-helper-maven-plugin</artifactId>
+                                    <version>3.6.0</version>
+                                    <executions>
+                                        <execution>
+                                            <id>add-jmh-sources</id>
+                                            <phase>generate-sources</phase>
+                                            <goals>
+                                                <goal>add-source</goal>
+                                            </goals>
+                                            <configuration>
+                                                <sources>
+                                                    <source>src/jmh/java</source>
+                                                </sources>
+                                            </configuration>
+                                        </execution>
+                                    </executions>
+                                </plugin>
+                                <plugin>
+                                    <groupId>org.apache.maven.plugins</groupId>
+                                    <artifactId>maven-compiler-plugin</artifactId>
+                                    <configuration>
+                                        <annotationProcessorPaths combine.children="append">
+                                            <path>
+                                                <groupId>org.openjdk.jmh</groupId>
+                                                <artifactId>jmh-generator-annprocess</artifactId>
+                                                <version>${jmh.version}</version>
+                                            </path>
+                                        </annotationProcessorPaths>
+                                    </configuration>
+                                </plugin>
+                                <plugin>
+                                    <groupId>org.apache.maven.plugins</groupId>
+                                    <artifactId>maven-shade-plugin</artifactId>
+                                    <executions>
+                                        <execution>
+                                            <phase>package</phase>
+                                            <goals>
+                                                <goal>shade</goal>
+                                            </goals>
+                                            <configuration>
+                                                <shadedArtifactAttached>true</shadedArtifactAttached>
+                                                <shadedClassifierName>benchmarks</shadedClassifierName>
+                                                <transformers>
+                                                    <transformer implementation="org.apache.maven.plugins.shade.resource.ManifestResourceTransformer">
+                                                        <mainClass>org.openjdk.jmh.Main</mainClass>
+                                                    </transformer>
+                                                    <transformer implementation="org.apache.maven.plugins.shade.resource.ServicesResourceTransformer"/>
+                                                </transformers>
+                                                <filters>
+                                                    <filter>
+                                                        <artifact>*:*</artifact>
+                                                        <excludes>
+                                                            <exclude>META-INF/*.SF</exclude>
+                                                            <exclude>META-INF/*.DSA</exclude>
+                                                            <exclude>META-INF/*.RSA</exclude>
+                                                        </excludes>
+                                                    </filter>
+                                                </filters>
+                                            </configuration>
+                                        </execution>
+                                    </executions>
+                                </plugin>
+                            </plugins>
+                        </build>
+                    </profile>
+            """);
+
+    private final String template;
+}
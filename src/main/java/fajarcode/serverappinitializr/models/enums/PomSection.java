@@ -3,6 +3,8 @@ package fajarcode.serverappinitializr.models.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.util.Set;
+
 @Getter
 @AllArgsConstructor
 public enum PomSection {
@@ -20,7 +22,7 @@ public enum PomSection {
                 <parent>
                     <groupId>org.springframework.boot</groupId>
                     <artifactId>spring-boot-starter-parent</artifactId>
-                    <version>3.2.0</version>
+                    <version>3.3.5</version>
                     <relativePath/>
                 </parent>
             """),
@@ -60,15 +62,28 @@ public enum PomSection {
                 """.formatted(javaVersion);
     }
 
-    public static String buildSection() {
+    public static String buildSection(Set<PomPlugin> plugins) {
         StringBuilder build = new StringBuilder();
         build.append("\n    <build>\n");
         build.append("        <plugins>\n");
-        for (PomPlugin plugin : PomPlugin.values()) {
+        for (PomPlugin plugin : plugins) {
             build.append(plugin.getTemplate());
         }
         build.append("        </plugins>\n");
         build.append("    </build>\n");
         return build.toString();
     }
+
+    public static String profilesSection(Set<PomProfile> profiles) {
+        if (profiles.isEmpty()) {
+            return "";
+        }
+        StringBuilder section = new StringBuilder();
+        section.append("\n    <profiles>\n");
+        for (PomProfile profile : profiles) {
+            section.append(profile.getTemplate());
+        }
+        section.append("    </profiles>\n");
+        return section.toString();
+    }
 }
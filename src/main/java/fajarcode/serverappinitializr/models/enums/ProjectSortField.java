@@ -0,0 +1,5 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum ProjectSortField {
+    CREATED_AT, DOWNLOAD_COUNT
+}
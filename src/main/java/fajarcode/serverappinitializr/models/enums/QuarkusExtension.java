@@ -0,0 +1,84 @@
+package fajarcode.serverappinitializr.models.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum QuarkusExtension {
+
+    REST_JACKSON("io.quarkus", "quarkus-resteasy-reactive-jackson", null, null, "Quarkus RESTEasy Reactive Jackson", PomFeature.CORE),
+    HIBERNATE_ORM_PANACHE("io.quarkus", "quarkus-hibernate-orm-panache", null, null, "Quarkus Hibernate ORM with Panache", PomFeature.CORE),
+    HIBERNATE_VALIDATOR("io.quarkus", "quarkus-hibernate-validator", null, null, "Quarkus Hibernate Validator", PomFeature.CORE),
+    ARC("io.quarkus", "quarkus-arc", null, null, "Quarkus ArC (CDI)", PomFeature.CORE),
+
+    // JDBC drivers
+    JDBC_MYSQL("io.quarkus", "quarkus-jdbc-mysql", null, null, "Quarkus MySQL JDBC", PomFeature.CORE),
+    JDBC_POSTGRESQL("io.quarkus", "quarkus-jdbc-postgresql", null, null, "Quarkus PostgreSQL JDBC", PomFeature.CORE),
+    JDBC_SQLSERVER("io.quarkus", "quarkus-jdbc-mssql", null, null, "Quarkus SQL Server JDBC", PomFeature.CORE),
+    JDBC_ORACLE("io.quarkus", "quarkus-jdbc-oracle", null, null, "Quarkus Oracle JDBC", PomFeature.CORE),
+
+    // Security & JWT
+    SMALLRYE_JWT("io.quarkus", "quarkus-smallrye-jwt", null, null, "Quarkus SmallRye JWT", PomFeature.JWT_AUTH),
+    SMALLRYE_JWT_BUILD("io.quarkus", "quarkus-smallrye-jwt-build", null, null, "Quarkus SmallRye JWT Build", PomFeature.JWT_AUTH),
+
+    // Caching
+    CACHE("io.quarkus", "quarkus-cache", null, null, "Quarkus Cache", PomFeature.CACHE),
+
+    // Observability
+    MICROMETER_PROMETHEUS("io.quarkus", "quarkus-micrometer-registry-prometheus", null, null, "Quarkus Micrometer Prometheus Registry", PomFeature.OBSERVABILITY),
+    SMALLRYE_HEALTH("io.quarkus", "quarkus-smallrye-health", null, null, "Quarkus SmallRye Health", PomFeature.OBSERVABILITY),
+
+    // Utility
+    // The Quarkus BOM does not manage Lombok, so its version comes from the generated pom's properties
+    LOMBOK("org.projectlombok", "lombok", "${lombok.version}", "provided", "Lombok", PomFeature.CORE),
+
+    // Test
+    JUNIT5("io.quarkus", "quarkus-junit5", null, "test", "Quarkus JUnit 5", PomFeature.CORE),
+    REST_ASSURED("io.rest-assured", "rest-assured", null, "test", "REST Assured", PomFeature.CORE);
+
+    private final String groupId;
+    private final String artifactId;
+    private final String version;
+    private final String scope;
+    private final String comment;
+    private final PomFeature feature;
+
+    public String toXml() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("        <!-- ").append(comment).append(" -->\n");
+        sb.append("        <dependency>\n");
+        sb.append("            <groupId>").append(groupId).append("</groupId>\n");
+        sb.append("            <artifactId>").append(artifactId).append("</artifactId>\n");
+        if (version != null) {
+            sb.append("            <version>").append(version).append("</version>\n");
+        }
+        if (scope != null) {
+            sb.append("            <scope>").append(scope).append("</scope>\n");
+        }
+        sb.append("        </dependency>\n");
+        return sb.toString();
+    }
+
+    public boolean isJdbcDriver() {
+        return this == JDBC_MYSQL || this == JDBC_POSTGRESQL || this == JDBC_SQLSERVER || this == JDBC_ORACLE;
+    }
+
+    public static QuarkusExtension jdbcDriverFor(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> JDBC_MYSQL;
+            case POSTGRESQL -> JDBC_POSTGRESQL;
+            case SQLSERVER -> JDBC_SQLSERVER;
+            case ORACLE -> JDBC_ORACLE;
+        };
+    }
+
+    public static String dbKindFor(DatabaseType databaseType) {
+        return switch (databaseType) {
+            case MYSQL -> "mysql";
+            case POSTGRESQL -> "postgresql";
+            case SQLSERVER -> "mssql";
+            case ORACLE -> "oracle";
+        };
+    }
+}
@@ -0,0 +1,5 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum RelationType {
+    MANY_TO_ONE, ONE_TO_ONE, ONE_TO_MANY, MANY_TO_MANY
+}
@@ -0,0 +1,6 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum StackType {
+    SERVLET,
+    REACTIVE
+}
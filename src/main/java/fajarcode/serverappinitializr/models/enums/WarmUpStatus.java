@@ -0,0 +1,8 @@
+package fajarcode.serverappinitializr.models.enums;
+
+public enum WarmUpStatus {
+    DISABLED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
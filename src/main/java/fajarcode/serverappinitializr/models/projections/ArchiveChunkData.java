@@ -0,0 +1,5 @@
+package fajarcode.serverappinitializr.models.projections;
+
+public interface ArchiveChunkData {
+    byte[] getData();
+}
@@ -0,0 +1,12 @@
+package fajarcode.serverappinitializr.models.projections;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ExpiryCandidate {
+    private Long id;
+    private String applicationName;
+    private String projectPath;
+}
@@ -0,0 +1,7 @@
+package fajarcode.serverappinitializr.models.projections;
+
+public interface ProjectActivityAggregate extends ProjectOptions {
+    Long getGenerations();
+
+    Long getDownloads();
+}
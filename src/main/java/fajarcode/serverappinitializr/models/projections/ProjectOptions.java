@@ -0,0 +1,34 @@
+package fajarcode.serverappinitializr.models.projections;
+
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+
+public interface ProjectOptions {
+    FrameworkType getFrameworkType();
+
+    DatabaseType getDatabaseType();
+
+    BuildTool getBuildTool();
+
+    StackType getStack();
+
+    Boolean getJwtAuthEnabled();
+
+    Boolean getBaseEntityEnabled();
+
+    Boolean getBaseResponseEnabled();
+
+    Boolean getDockerEnabled();
+
+    Boolean getCacheEnabled();
+
+    Boolean getObservabilityEnabled();
+
+    Boolean getJmhEnabled();
+
+    Boolean getNativeImageEnabled();
+
+    Boolean getPerformanceProfileEnabled();
+}
@@ -0,0 +1,7 @@
+package fajarcode.serverappinitializr.models.projections;
+
+import java.time.LocalDateTime;
+
+public interface RecentProjectActivity extends ProjectOptions {
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,29 @@
+package fajarcode.serverappinitializr.repositories;
+
+import fajarcode.serverappinitializr.models.entities.GeneratedProjectArchiveChunk;
+import fajarcode.serverappinitializr.models.projections.ArchiveChunkData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface GeneratedProjectArchiveChunkRepository extends JpaRepository<GeneratedProjectArchiveChunk, Long> {
+    @Query("SELECT c.data AS data FROM GeneratedProjectArchiveChunk c " +
+            "WHERE c.projectId = :projectId AND c.chunkIndex = :chunkIndex")
+    Optional<ArchiveChunkData> findChunkData(@Param("projectId") Long projectId, @Param("chunkIndex") Integer chunkIndex);
+
+    long countByProjectId(Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM GeneratedProjectArchiveChunk c WHERE c.projectId = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM GeneratedProjectArchiveChunk c WHERE c.projectId IN :projectIds")
+    int deleteByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+}
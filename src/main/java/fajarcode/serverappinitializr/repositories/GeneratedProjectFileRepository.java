@@ -0,0 +1,24 @@
+package fajarcode.serverappinitializr.repositories;
+
+import fajarcode.serverappinitializr.models.entities.GeneratedProjectFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface GeneratedProjectFileRepository extends JpaRepository<GeneratedProjectFile, Long> {
+    List<GeneratedProjectFile> findByProjectId(Long projectId);
+
+    @Modifying
+    @Query("DELETE FROM GeneratedProjectFile f WHERE f.projectId = :projectId AND f.filePath IN :filePaths")
+    int deleteByProjectIdAndFilePathIn(@Param("projectId") Long projectId, @Param("filePaths") Collection<String> filePaths);
+
+    @Modifying
+    @Query("DELETE FROM GeneratedProjectFile f WHERE f.projectId IN :projectIds")
+    int deleteByProjectIdIn(@Param("projectIds") Collection<Long> projectIds);
+}
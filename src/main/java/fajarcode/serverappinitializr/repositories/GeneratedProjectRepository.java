@@ -1,16 +1,28 @@
 package fajarcode.serverappinitializr.repositories;
 
 import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.projections.ProjectActivityAggregate;
+import fajarcode.serverappinitializr.models.projections.RecentProjectActivity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface GeneratedProjectRepository extends JpaRepository<GeneratedProject, Long> {
+public interface GeneratedProjectRepository extends JpaRepository<GeneratedProject, Long>, GeneratedProjectRepositoryCustom {
+    String PROJECT_OPTIONS = "g.frameworkType AS frameworkType, g.databaseType AS databaseType, " +
+            "g.buildTool AS buildTool, g.stack AS stack, " +
+            "g.jwtAuthEnabled AS jwtAuthEnabled, g.baseEntityEnabled AS baseEntityEnabled, " +
+            "g.baseResponseEnabled AS baseResponseEnabled, g.dockerEnabled AS dockerEnabled, " +
+            "g.cacheEnabled AS cacheEnabled, g.observabilityEnabled AS observabilityEnabled, " +
+            "g.jmhEnabled AS jmhEnabled, g.nativeImageEnabled AS nativeImageEnabled, " +
+            "g.performanceProfileEnabled AS performanceProfileEnabled";
+
     @Modifying
     @Query(" UPDATE GeneratedProject g " +
             "SET g.downloadCount = g.downloadCount + 1 " +
@@ -19,4 +31,19 @@ public interface GeneratedProjectRepository extends JpaRepository<GeneratedProje
 
     Optional<GeneratedProject> getProjectByApplicationName(String applicationName);
 
+    @Query("SELECT " + PROJECT_OPTIONS + ", " +
+            "COUNT(g) AS generations, COALESCE(SUM(g.downloadCount), 0L) AS downloads " +
+            "FROM GeneratedProject g " +
+            "GROUP BY g.frameworkType, g.databaseType, g.buildTool, g.stack, g.jwtAuthEnabled, g.baseEntityEnabled, " +
+            "g.baseResponseEnabled, g.dockerEnabled, g.cacheEnabled, g.observabilityEnabled, g.jmhEnabled, " +
+            "g.nativeImageEnabled, g.performanceProfileEnabled")
+    List<ProjectActivityAggregate> aggregateActivity();
+
+    @Query("SELECT " + PROJECT_OPTIONS + ", g.createdAt AS createdAt " +
+            "FROM GeneratedProject g WHERE g.createdAt >= :since")
+    List<RecentProjectActivity> findActivityCreatedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MAX(g.id) FROM GeneratedProject g")
+    Optional<Long> findMaxId();
+
 }
@@ -0,0 +1,17 @@
+package fajarcode.serverappinitializr.repositories;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.projections.ExpiryCandidate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface GeneratedProjectRepositoryCustom {
+    List<GeneratedProjectSummaryResponse> findSummariesByCreatedAt(ProjectSearchRequest filter, LocalDateTime afterCreatedAt, Long afterId, int limit);
+
+    List<GeneratedProjectSummaryResponse> findSummariesByDownloadCount(ProjectSearchRequest filter, Integer afterDownloadCount, Long afterId, int limit);
+
+    List<ExpiryCandidate> findExpiryCandidates(ProjectExpiryRequest criteria, LocalDateTime createdBefore, Long afterId, Long maxId, int limit);
+}
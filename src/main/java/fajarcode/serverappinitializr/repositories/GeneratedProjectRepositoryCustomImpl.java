@@ -0,0 +1,147 @@
+package fajarcode.serverappinitializr.repositories;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.projections.ExpiryCandidate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class GeneratedProjectRepositoryCustomImpl implements GeneratedProjectRepositoryCustom {
+    private static final String ID = "id";
+    private static final String CREATED_AT = "createdAt";
+    private static final String DOWNLOAD_COUNT = "downloadCount";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GeneratedProjectSummaryResponse> findSummariesByCreatedAt(ProjectSearchRequest filter, LocalDateTime afterCreatedAt, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GeneratedProjectSummaryResponse> query = cb.createQuery(GeneratedProjectSummaryResponse.class);
+        Root<GeneratedProject> project = query.from(GeneratedProject.class);
+
+        List<Predicate> predicates = filterPredicates(cb, project, filter);
+        Path<LocalDateTime> createdAt = project.get(CREATED_AT);
+        Path<Long> id = project.get(ID);
+        if (afterCreatedAt != null && afterId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, afterCreatedAt),
+                    cb.and(cb.equal(createdAt, afterCreatedAt), cb.lessThan(id, afterId))
+            ));
+        }
+
+        query.select(summaryOf(cb, project))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<GeneratedProjectSummaryResponse> findSummariesByDownloadCount(ProjectSearchRequest filter, Integer afterDownloadCount, Long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<GeneratedProjectSummaryResponse> query = cb.createQuery(GeneratedProjectSummaryResponse.class);
+        Root<GeneratedProject> project = query.from(GeneratedProject.class);
+
+        List<Predicate> predicates = filterPredicates(cb, project, filter);
+        Path<Integer> downloadCount = project.get(DOWNLOAD_COUNT);
+        Path<Long> id = project.get(ID);
+        if (afterDownloadCount != null && afterId != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(downloadCount, afterDownloadCount),
+                    cb.and(cb.equal(downloadCount, afterDownloadCount), cb.lessThan(id, afterId))
+            ));
+        }
+
+        query.select(summaryOf(cb, project))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(downloadCount), cb.desc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public List<ExpiryCandidate> findExpiryCandidates(ProjectExpiryRequest criteria, LocalDateTime createdBefore, Long afterId, Long maxId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ExpiryCandidate> query = cb.createQuery(ExpiryCandidate.class);
+        Root<GeneratedProject> project = query.from(GeneratedProject.class);
+
+        Path<Long> id = project.get(ID);
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.lessThanOrEqualTo(id, maxId));
+        if (afterId != null) {
+            predicates.add(cb.greaterThan(id, afterId));
+        }
+        if (createdBefore != null) {
+            predicates.add(cb.lessThan(project.get(CREATED_AT), createdBefore));
+        }
+        if (criteria.getApplicationNamePattern() != null) {
+            predicates.add(cb.like(project.get("applicationName"), toLikePattern(criteria.getApplicationNamePattern()), '\\'));
+        }
+        if (criteria.getMaxDownloadCount() != null) {
+            predicates.add(cb.lessThanOrEqualTo(project.get(DOWNLOAD_COUNT), criteria.getMaxDownloadCount()));
+        }
+
+        query.select(cb.construct(ExpiryCandidate.class, id, project.get("applicationName"), project.get("projectPath")))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private String toLikePattern(String globPattern) {
+        StringBuilder pattern = new StringBuilder();
+        for (char c : globPattern.toCharArray()) {
+            switch (c) {
+                case '*' -> pattern.append('%');
+                case '?' -> pattern.append('_');
+                case '%', '_', '\\' -> pattern.append('\\').append(c);
+                default -> pattern.append(c);
+            }
+        }
+        return pattern.toString();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<GeneratedProject> project, ProjectSearchRequest filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.getFrameworkType() != null) {
+            predicates.add(cb.equal(project.get("frameworkType"), filter.getFrameworkType()));
+        }
+        if (filter.getDatabaseType() != null) {
+            predicates.add(cb.equal(project.get("databaseType"), filter.getDatabaseType()));
+        }
+        if (filter.getJwtAuthEnabled() != null) {
+            predicates.add(cb.equal(project.get("jwtAuthEnabled"), filter.getJwtAuthEnabled()));
+        }
+        if (filter.getBaseEntityEnabled() != null) {
+            predicates.add(cb.equal(project.get("baseEntityEnabled"), filter.getBaseEntityEnabled()));
+        }
+        if (filter.getBaseResponseEnabled() != null) {
+            predicates.add(cb.equal(project.get("baseResponseEnabled"), filter.getBaseResponseEnabled()));
+        }
+        return predicates;
+    }
+
+    private CompoundSelection<GeneratedProjectSummaryResponse> summaryOf(CriteriaBuilder cb, Root<GeneratedProject> project) {
+        return cb.construct(
+                GeneratedProjectSummaryResponse.class,
+                project.get(ID),
+                project.get("applicationName"),
+                project.get("frameworkType"),
+                project.get("databaseType"),
+                project.get("jwtAuthEnabled"),
+                project.get("baseEntityEnabled"),
+                project.get("baseResponseEnabled"),
+                project.get(DOWNLOAD_COUNT),
+                project.get("fileSizeBytes"),
+                project.get(CREATED_AT)
+        );
+    }
+}
@@ -0,0 +1,619 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.exceptions.InternalServerErrorException;
+import fajarcode.serverappinitializr.models.dto.requests.EntityDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.FieldDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RelationDefinitionRequest;
+import fajarcode.serverappinitializr.models.enums.FieldType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.RelationType;
+import fajarcode.serverappinitializr.services.interfaces.CrudSourceGeneratorService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import javax.lang.model.SourceVersion;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CrudSourceGeneratorServiceImplementation implements CrudSourceGeneratorService {
+    private final ExecutorService renderingExecutor;
+
+    private static final String SOURCE_MAIN_JAVA = "/src/main/java/";
+    private static final String ADD_GENERATED_FILES_SOURCE = "src/main/java/";
+    private static final String PACKAGE = "package ";
+    private static final String IMPORT = "import ";
+    private static final String DELIMITER_PATH = "/";
+    private static final String INDENT = "    ";
+    private static final String BLOCK_CLOSE = INDENT + "}\n";
+    private static final String BLOCK_CLOSE_WITH_NEWLINE = INDENT + "}\n\n";
+    private static final String RELATION_EXCLUDES = "    @JsonIgnore\n    @ToString.Exclude\n    @EqualsAndHashCode.Exclude\n";
+    // Types the generated sources refer to by simple name; an entity of the same name would shadow the import and break compilation
+    private static final Set<String> RESERVED_ENTITY_NAMES = Set.of(
+            "Sample", "SampleEntity", "BaseEntity", "SuccessResponse", "Status",
+            "Object", "Class", "String", "Long", "Integer", "Double", "Boolean", "Math", "Override",
+            "BigDecimal", "LocalDate", "LocalDateTime", "UUID", "List", "ArrayList", "Optional",
+            "Entity", "Table", "Column", "Id", "Lob", "GeneratedValue", "GenerationType", "SequenceGenerator", "FetchType",
+            "ManyToOne", "OneToMany", "OneToOne", "ManyToMany", "JoinColumn", "JoinTable",
+            "Data", "AllArgsConstructor", "NoArgsConstructor", "RequiredArgsConstructor", "EqualsAndHashCode", "ToString",
+            "JsonIgnore", "JsonIgnoreProperties",
+            "Page", "Pageable", "JpaRepository", "Repository", "Service", "Transactional", "HttpStatus", "ResponseEntity",
+            "ResponseStatusException", "RestController", "RequestMapping", "GetMapping", "PostMapping", "PutMapping", "DeleteMapping",
+            "PathVariable", "RequestBody", "RequestParam",
+            "PanacheRepository", "Sort", "ApplicationScoped", "NotFoundException", "Response", "MediaType", "Path",
+            "GET", "POST", "PUT", "DELETE", "QueryParam", "PathParam", "DefaultValue", "Produces", "Consumes");
+    // The sample table plus SQL keywords that at least one supported database refuses as an unquoted table name
+    private static final Set<String> RESERVED_TABLE_NAMES = Set.of("sample_entity", "user", "order", "group", "table", "select", "from", "where",
+            "index", "key", "column", "check", "limit", "offset", "references", "session", "transaction", "value", "values");
+    private static final Set<String> BASE_ENTITY_MEMBERS = Set.of("id", "createdAt", "updatedAt", "createdBy", "updatedBy", "isDeleted", "deletedAt", "deletedBy");
+
+    @Override
+    public void generateEntities(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        List<EntityDefinitionRequest> entities = request.getEntities();
+        if (entities == null || entities.isEmpty()) {
+            return;
+        }
+
+        Map<String, EntityDefinitionRequest> entitiesByName = validateEntities(entities, request.getBaseEntityEnabled());
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        String sourceRoot = projectPath + SOURCE_MAIN_JAVA + packagePath;
+
+        // Each entity is rendered and written to disk by its own task, so only the files in flight are held in memory
+        List<Future<List<String>>> renderedEntities = new ArrayList<>(entities.size());
+        for (EntityDefinitionRequest entity : entities) {
+            renderedEntities.add(renderingExecutor.submit(() -> renderEntitySources(sourceRoot, packagePath, packageName, entity, entitiesByName, request)));
+        }
+
+        try {
+            for (Future<List<String>> renderedEntity : renderedEntities) {
+                generatedFiles.addAll(renderedEntity.get());
+            }
+        } catch (InterruptedException e) {
+            renderedEntities.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new InternalServerErrorException("Entity Generation Was Interrupted");
+        } catch (ExecutionException e) {
+            renderedEntities.forEach(future -> future.cancel(true));
+            if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                throw uncheckedIOException.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalServerErrorException(e.getCause().getMessage());
+        }
+
+        log.info("Generated CRUD sources for {} entities", entities.size());
+    }
+
+    private Map<String, EntityDefinitionRequest> validateEntities(List<EntityDefinitionRequest> entities, boolean baseEntity) {
+        Map<String, EntityDefinitionRequest> entitiesByName = new HashMap<>();
+        Set<String> tableNames = new HashSet<>();
+        for (EntityDefinitionRequest entity : entities) {
+            if (RESERVED_ENTITY_NAMES.contains(entity.getName()) || entitiesByName.putIfAbsent(entity.getName(), entity) != null) {
+                throw new BadRequestException("Entity Name '" + entity.getName() + "' Is Reserved Or Duplicated");
+            }
+            String tableName = tableNameOf(entity);
+            if (RESERVED_TABLE_NAMES.contains(tableName) || !tableNames.add(tableName)) {
+                throw new BadRequestException("Table Name '" + tableName + "' Of Entity '" + entity.getName() + "' Is Reserved Or Duplicated");
+            }
+        }
+
+        for (EntityDefinitionRequest entity : entities) {
+            // Inherited BaseEntity members would otherwise be shadowed by a field of the same name
+            Set<String> memberNames = new HashSet<>(baseEntity ? BASE_ENTITY_MEMBERS : Set.of("id"));
+            for (FieldDefinitionRequest field : entity.getFields()) {
+                validateMemberName(entity, field.getName(), memberNames);
+            }
+            for (RelationDefinitionRequest relation : relationsOf(entity)) {
+                validateMemberName(entity, relation.getName(), memberNames);
+                EntityDefinitionRequest target = entitiesByName.get(relation.getTargetEntity());
+                if (target == null) {
+                    throw new BadRequestException("Relation '" + entity.getName() + "." + relation.getName() + "' Targets Unknown Entity '" + relation.getTargetEntity() + "'");
+                }
+                if (relation.getType() == RelationType.ONE_TO_MANY && !hasOwningRelation(target, relation.getMappedBy(), entity.getName())) {
+                    throw new BadRequestException("Relation '" + entity.getName() + "." + relation.getName() + "' Must Be Mapped By A Many-To-One Relation On '" + target.getName() + "'");
+                }
+            }
+        }
+        return entitiesByName;
+    }
+
+    private void validateMemberName(EntityDefinitionRequest entity, String name, Set<String> memberNames) {
+        if (!SourceVersion.isName(name) || !memberNames.add(name)) {
+            throw new BadRequestException("Member '" + entity.getName() + "." + name + "' Is A Reserved Word Or Duplicated");
+        }
+    }
+
+    private boolean hasOwningRelation(EntityDefinitionRequest target, String mappedBy, String ownerName) {
+        if (mappedBy == null) {
+            return false;
+        }
+        return relationsOf(target).stream().anyMatch(relation -> relation.getName().equals(mappedBy)
+                && relation.getType() == RelationType.MANY_TO_ONE
+                && relation.getTargetEntity().equals(ownerName));
+    }
+
+    private List<String> renderEntitySources(String sourceRoot, String packagePath, String packageName, EntityDefinitionRequest entity,
+                                             Map<String, EntityDefinitionRequest> entitiesByName, GenerateProjectRequest request) {
+        String name = entity.getName();
+        List<String> files = new ArrayList<>(5);
+        try {
+            write(sourceRoot + "/models/entities/" + name + ".java", renderEntity(packageName, entity, entitiesByName, request));
+            files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/entities/" + name + ".java");
+
+            if (request.getFrameworkType() == FrameworkType.QUARKUS) {
+                renderQuarkusSources(sourceRoot, packagePath, packageName, name, request, files);
+                return files;
+            }
+
+            write(sourceRoot + "/repository/" + name + "Repository.java", renderRepository(packageName, name));
+            files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/repository/" + name + "Repository.java");
+
+            write(sourceRoot + "/services/interfaces/" + name + "Service.java", renderServiceInterface(packageName, name));
+            files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/interfaces/" + name + "Service.java");
+
+            write(sourceRoot + "/services/implementations/" + name + "ServiceImpl.java", renderServiceImplementation(packageName, name));
+            files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/implementations/" + name + "ServiceImpl.java");
+
+            write(sourceRoot + "/controller/" + name + "Controller.java", renderController(packageName, name, request));
+            files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/" + name + "Controller.java");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return files;
+    }
+
+    // Quarkus shares the JPA entities but serves them through a Panache repository and a JAX-RS resource
+    private void renderQuarkusSources(String sourceRoot, String packagePath, String packageName, String name, GenerateProjectRequest request,
+                                      List<String> files) throws IOException {
+        write(sourceRoot + "/repository/" + name + "Repository.java", renderPanacheRepository(packageName, name));
+        files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/repository/" + name + "Repository.java");
+
+        write(sourceRoot + "/services/interfaces/" + name + "Service.java", renderQuarkusServiceInterface(packageName, name));
+        files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/interfaces/" + name + "Service.java");
+
+        write(sourceRoot + "/services/implementations/" + name + "ServiceImpl.java", renderQuarkusServiceImplementation(packageName, name, request));
+        files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/implementations/" + name + "ServiceImpl.java");
+
+        write(sourceRoot + "/controller/" + name + "Resource.java", renderQuarkusResource(packageName, name, request));
+        files.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/" + name + "Resource.java");
+    }
+
+    private void write(String filePath, CharSequence content) throws IOException {
+        Files.writeString(Paths.get(filePath), content);
+    }
+
+    private String renderEntity(String packageName, EntityDefinitionRequest entity, Map<String, EntityDefinitionRequest> entitiesByName,
+                                GenerateProjectRequest request) {
+        boolean baseEntity = request.getBaseEntityEnabled();
+        List<RelationDefinitionRequest> relations = relationsOf(entity);
+        boolean collections = relations.stream().anyMatch(relation -> isCollection(relation.getType()));
+
+        Set<String> typeImports = new TreeSet<>();
+        for (FieldDefinitionRequest field : entity.getFields()) {
+            if (field.getType().getImportName() != null) {
+                typeImports.add(field.getType().getImportName());
+            }
+        }
+        if (collections) {
+            typeImports.add("java.util.ArrayList");
+            typeImports.add("java.util.List");
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".models.entities;\n\n");
+        if (baseEntity) {
+            source.append(IMPORT).append(packageName).append(".models.entities.baseentity.BaseEntity;\n");
+        }
+        source.append("import com.fasterxml.jackson.annotation.JsonIgnore;\n");
+        source.append("import com.fasterxml.jackson.annotation.JsonIgnoreProperties;\n");
+        source.append("import jakarta.persistence.*;\n");
+        source.append("import lombok.AllArgsConstructor;\n");
+        source.append("import lombok.Data;\n");
+        source.append("import lombok.EqualsAndHashCode;\n");
+        source.append("import lombok.NoArgsConstructor;\n");
+        source.append("import lombok.ToString;\n");
+        if (!typeImports.isEmpty()) {
+            source.append("\n");
+            for (String typeImport : typeImports) {
+                source.append(IMPORT).append(typeImport).append(";\n");
+            }
+        }
+        source.append("\n");
+        source.append("@Entity\n");
+        source.append("@Table(name = \"").append(tableNameOf(entity)).append("\")\n");
+        source.append("@Data\n");
+        if (baseEntity) {
+            source.append("@EqualsAndHashCode(callSuper = true)\n");
+        }
+        source.append("@NoArgsConstructor\n");
+        source.append("@AllArgsConstructor\n");
+        source.append("@JsonIgnoreProperties({\"hibernateLazyInitializer\", \"handler\"})\n");
+        source.append("public class ").append(entity.getName());
+        if (baseEntity) {
+            source.append(" extends BaseEntity");
+        }
+        source.append(" {\n\n");
+
+        if (!baseEntity) {
+            source.append("    @Id\n");
+            source.append(request.getDatabaseType().idGeneration(tableNameOf(entity) + "_seq"));
+            source.append("    private Long id;\n\n");
+        }
+
+        for (FieldDefinitionRequest field : entity.getFields()) {
+            appendField(source, field);
+        }
+        for (RelationDefinitionRequest relation : relations) {
+            appendRelation(source, entity, relation, entitiesByName);
+        }
+
+        trimTrailingBlankLine(source);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private void appendField(StringBuilder source, FieldDefinitionRequest field) {
+        if (field.getType() == FieldType.TEXT) {
+            source.append("    @Lob\n");
+        }
+        source.append("    @Column(name = \"").append(toSnakeCase(field.getName())).append("\"");
+        if (Boolean.FALSE.equals(field.getNullable())) {
+            source.append(", nullable = false");
+        }
+        if (Boolean.TRUE.equals(field.getUnique())) {
+            source.append(", unique = true");
+        }
+        if (field.getLength() != null && field.getType() == FieldType.STRING) {
+            source.append(", length = ").append(field.getLength());
+        }
+        source.append(")\n");
+        source.append("    private ").append(field.getType().getJavaType()).append(" ").append(field.getName()).append(";\n\n");
+    }
+
+    private void appendRelation(StringBuilder source, EntityDefinitionRequest entity, RelationDefinitionRequest relation,
+                                Map<String, EntityDefinitionRequest> entitiesByName) {
+        String target = relation.getTargetEntity();
+        String joinColumn = toSnakeCase(relation.getName()) + "_id";
+
+        switch (relation.getType()) {
+            case MANY_TO_ONE -> {
+                source.append("    @ManyToOne(fetch = FetchType.LAZY)\n");
+                source.append("    @JoinColumn(name = \"").append(joinColumn).append("\")\n");
+                source.append("    @ToString.Exclude\n");
+                source.append("    @EqualsAndHashCode.Exclude\n");
+                source.append("    private ").append(target).append(" ").append(relation.getName()).append(";\n\n");
+            }
+            case ONE_TO_ONE -> {
+                source.append("    @OneToOne(fetch = FetchType.LAZY)\n");
+                source.append("    @JoinColumn(name = \"").append(joinColumn).append("\", unique = true)\n");
+                source.append("    @ToString.Exclude\n");
+                source.append("    @EqualsAndHashCode.Exclude\n");
+                source.append("    private ").append(target).append(" ").append(relation.getName()).append(";\n\n");
+            }
+            case ONE_TO_MANY -> {
+                source.append("    @OneToMany(mappedBy = \"").append(relation.getMappedBy()).append("\")\n");
+                source.append(RELATION_EXCLUDES);
+                source.append("    private List<").append(target).append("> ").append(relation.getName()).append(" = new ArrayList<>();\n\n");
+            }
+            case MANY_TO_MANY -> {
+                String ownerTable = tableNameOf(entity);
+                String ownerColumn = ownerTable + "_id";
+                String inverseColumn = tableNameOf(entitiesByName.get(target)) + "_id";
+                if (inverseColumn.equals(ownerColumn)) {
+                    // Self-referencing join tables need two distinct columns
+                    inverseColumn = "related_" + inverseColumn;
+                }
+                source.append("    @ManyToMany\n");
+                source.append("    @JoinTable(\n");
+                source.append("            name = \"").append(ownerTable).append("_").append(toSnakeCase(relation.getName())).append("\",\n");
+                source.append("            joinColumns = @JoinColumn(name = \"").append(ownerColumn).append("\"),\n");
+                source.append("            inverseJoinColumns = @JoinColumn(name = \"").append(inverseColumn).append("\")\n");
+                source.append("    )\n");
+                source.append(RELATION_EXCLUDES);
+                source.append("    private List<").append(target).append("> ").append(relation.getName()).append(" = new ArrayList<>();\n\n");
+            }
+        }
+    }
+
+    private String renderRepository(String packageName, String name) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".repository;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append("import org.springframework.data.jpa.repository.JpaRepository;\n");
+        source.append("import org.springframework.stereotype.Repository;\n\n");
+        source.append("@Repository\n");
+        source.append("public interface ").append(name).append("Repository extends JpaRepository<").append(name).append(", Long> {\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderServiceInterface(String packageName, String name) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.interfaces;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append("import org.springframework.data.domain.Page;\n");
+        source.append("import org.springframework.data.domain.Pageable;\n\n");
+        source.append("public interface ").append(name).append("Service {\n");
+        source.append("    Page<").append(name).append("> findAll(Pageable pageable);\n\n");
+        source.append("    ").append(name).append(" findById(Long id);\n\n");
+        source.append("    ").append(name).append(" create(").append(name).append(" request);\n\n");
+        source.append("    ").append(name).append(" update(Long id, ").append(name).append(" request);\n\n");
+        source.append("    void delete(Long id);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderServiceImplementation(String packageName, String name) {
+        String repository = lowerFirst(name) + "Repository";
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.implementations;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append(IMPORT).append(packageName).append(".repository.").append(name).append("Repository;\n");
+        source.append(IMPORT).append(packageName).append(".services.interfaces.").append(name).append("Service;\n");
+        source.append("import lombok.RequiredArgsConstructor;\n");
+        source.append("import org.springframework.data.domain.Page;\n");
+        source.append("import org.springframework.data.domain.Pageable;\n");
+        source.append("import org.springframework.http.HttpStatus;\n");
+        source.append("import org.springframework.stereotype.Service;\n");
+        source.append("import org.springframework.transaction.annotation.Transactional;\n");
+        source.append("import org.springframework.web.server.ResponseStatusException;\n\n");
+        source.append("@Service\n");
+        source.append("@RequiredArgsConstructor\n");
+        source.append("public class ").append(name).append("ServiceImpl implements ").append(name).append("Service {\n\n");
+        source.append("    private final ").append(name).append("Repository ").append(repository).append(";\n\n");
+        source.append("    @Override\n");
+        source.append("    @Transactional(readOnly = true)\n");
+        source.append("    public Page<").append(name).append("> findAll(Pageable pageable) {\n");
+        source.append("        return ").append(repository).append(".findAll(pageable);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional(readOnly = true)\n");
+        source.append("    public ").append(name).append(" findById(Long id) {\n");
+        source.append("        return ").append(repository).append(".findById(id)\n");
+        source.append("                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, \"").append(name).append(" not found\"));\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public ").append(name).append(" create(").append(name).append(" request) {\n");
+        source.append("        request.setId(null);\n");
+        source.append("        return ").append(repository).append(".save(request);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public ").append(name).append(" update(Long id, ").append(name).append(" request) {\n");
+        source.append("        findById(id);\n");
+        source.append("        request.setId(id);\n");
+        source.append("        return ").append(repository).append(".save(request);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public void delete(Long id) {\n");
+        source.append("        ").append(repository).append(".delete(findById(id));\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderController(String packageName, String name, GenerateProjectRequest request) {
+        boolean baseResponse = request.getBaseResponseEnabled();
+        String service = lowerFirst(name) + "Service";
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        if (baseResponse) {
+            source.append(IMPORT).append(packageName).append(".models.dto.response.baseresponse.SuccessResponse;\n");
+        }
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append(IMPORT).append(packageName).append(".services.interfaces.").append(name).append("Service;\n");
+        source.append("import lombok.RequiredArgsConstructor;\n");
+        source.append("import org.springframework.data.domain.Pageable;\n");
+        source.append("import org.springframework.http.HttpStatus;\n");
+        source.append("import org.springframework.http.ResponseEntity;\n");
+        source.append("import org.springframework.web.bind.annotation.*;\n\n");
+        source.append("@RestController\n");
+        source.append("@RequestMapping(\"/api/").append(toKebabCase(name)).append("s\")\n");
+        source.append("@RequiredArgsConstructor\n");
+        source.append("public class ").append(name).append("Controller {\n\n");
+        source.append("    private final ").append(name).append("Service ").append(service).append(";\n\n");
+        source.append("    @GetMapping\n");
+        source.append("    public ResponseEntity<?> findAll(Pageable pageable) {\n");
+        source.append("        return ResponseEntity.ok(").append(wrap(baseResponse, service + ".findAll(pageable)")).append(");\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GetMapping(\"/{id}\")\n");
+        source.append("    public ResponseEntity<?> findById(@PathVariable Long id) {\n");
+        source.append("        return ResponseEntity.ok(").append(wrap(baseResponse, service + ".findById(id)")).append(");\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @PostMapping\n");
+        source.append("    public ResponseEntity<?> create(@RequestBody ").append(name).append(" request) {\n");
+        source.append("        return ResponseEntity.status(HttpStatus.CREATED).body(").append(wrap(baseResponse, service + ".create(request)")).append(");\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @PutMapping(\"/{id}\")\n");
+        source.append("    public ResponseEntity<?> update(@PathVariable Long id, @RequestBody ").append(name).append(" request) {\n");
+        source.append("        return ResponseEntity.ok(").append(wrap(baseResponse, service + ".update(id, request)")).append(");\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @DeleteMapping(\"/{id}\")\n");
+        source.append("    public ResponseEntity<Void> delete(@PathVariable Long id) {\n");
+        source.append("        ").append(service).append(".delete(id);\n");
+        source.append("        return ResponseEntity.noContent().build();\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderPanacheRepository(String packageName, String name) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".repository;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append("import io.quarkus.hibernate.orm.panache.PanacheRepository;\n");
+        source.append("import jakarta.enterprise.context.ApplicationScoped;\n\n");
+        source.append("@ApplicationScoped\n");
+        source.append("public class ").append(name).append("Repository implements PanacheRepository<").append(name).append("> {\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderQuarkusServiceInterface(String packageName, String name) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.interfaces;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n\n");
+        source.append("import java.util.List;\n\n");
+        source.append("public interface ").append(name).append("Service {\n");
+        source.append("    List<").append(name).append("> findAll(Long afterId, int size);\n\n");
+        source.append("    ").append(name).append(" findById(Long id);\n\n");
+        source.append("    ").append(name).append(" create(").append(name).append(" request);\n\n");
+        source.append("    ").append(name).append(" update(Long id, ").append(name).append(" request);\n\n");
+        source.append("    void delete(Long id);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderQuarkusServiceImplementation(String packageName, String name, GenerateProjectRequest request) {
+        String repository = lowerFirst(name) + "Repository";
+        // The Quarkus BaseEntity exposes id as a public Panache field rather than through a Lombok setter
+        String assignId = request.getBaseEntityEnabled() ? "        request.id = %s;\n" : "        request.setId(%s);\n";
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.implementations;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append(IMPORT).append(packageName).append(".repository.").append(name).append("Repository;\n");
+        source.append(IMPORT).append(packageName).append(".services.interfaces.").append(name).append("Service;\n");
+        source.append("import io.quarkus.panache.common.Sort;\n");
+        source.append("import jakarta.enterprise.context.ApplicationScoped;\n");
+        source.append("import jakarta.transaction.Transactional;\n");
+        source.append("import jakarta.ws.rs.NotFoundException;\n\n");
+        source.append("import java.util.List;\n\n");
+        source.append("@ApplicationScoped\n");
+        source.append("public class ").append(name).append("ServiceImpl implements ").append(name).append("Service {\n\n");
+        source.append("    private final ").append(name).append("Repository ").append(repository).append(";\n\n");
+        source.append("    public ").append(name).append("ServiceImpl(").append(name).append("Repository ").append(repository).append(") {\n");
+        source.append("        this.").append(repository).append(" = ").append(repository).append(";\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public List<").append(name).append("> findAll(Long afterId, int size) {\n");
+        source.append("        // Seeks past the last id served, so deep pages cost the same as the first one\n");
+        source.append("        if (afterId == null) {\n");
+        source.append("            return ").append(repository).append(".findAll(Sort.by(\"id\")).page(0, size).list();\n");
+        source.append("        }\n");
+        source.append("        return ").append(repository).append(".find(\"id > ?1\", Sort.by(\"id\"), afterId).page(0, size).list();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public ").append(name).append(" findById(Long id) {\n");
+        source.append("        return ").append(repository).append(".findByIdOptional(id)\n");
+        source.append("                .orElseThrow(() -> new NotFoundException(\"").append(name).append(" not found\"));\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public ").append(name).append(" create(").append(name).append(" request) {\n");
+        source.append(assignId.formatted("null"));
+        source.append("        ").append(repository).append(".persist(request);\n");
+        source.append("        return request;\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public ").append(name).append(" update(Long id, ").append(name).append(" request) {\n");
+        source.append("        findById(id);\n");
+        source.append(assignId.formatted("id"));
+        source.append("        return ").append(repository).append(".getEntityManager().merge(request);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    @Transactional\n");
+        source.append("    public void delete(Long id) {\n");
+        source.append("        ").append(repository).append(".delete(findById(id));\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderQuarkusResource(String packageName, String name, GenerateProjectRequest request) {
+        boolean baseResponse = request.getBaseResponseEnabled();
+        String service = lowerFirst(name) + "Service";
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        if (baseResponse) {
+            source.append(IMPORT).append(packageName).append(".models.dto.response.baseresponse.SuccessResponse;\n");
+        }
+        source.append(IMPORT).append(packageName).append(".models.entities.").append(name).append(";\n");
+        source.append(IMPORT).append(packageName).append(".services.interfaces.").append(name).append("Service;\n");
+        source.append("import jakarta.ws.rs.*;\n");
+        source.append("import jakarta.ws.rs.core.MediaType;\n");
+        source.append("import jakarta.ws.rs.core.Response;\n\n");
+        source.append("@Path(\"/api/").append(toKebabCase(name)).append("s\")\n");
+        source.append("@Produces(MediaType.APPLICATION_JSON)\n");
+        source.append("@Consumes(MediaType.APPLICATION_JSON)\n");
+        source.append("public class ").append(name).append("Resource {\n\n");
+        source.append("    private static final int MAX_PAGE_SIZE = 100;\n\n");
+        source.append("    private final ").append(name).append("Service ").append(service).append(";\n\n");
+        source.append("    public ").append(name).append("Resource(").append(name).append("Service ").append(service).append(") {\n");
+        source.append("        this.").append(service).append(" = ").append(service).append(";\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GET\n");
+        source.append("    public Response findAll(@QueryParam(\"after\") Long after, @QueryParam(\"size\") @DefaultValue(\"20\") int size) {\n");
+        source.append("        return Response.ok(").append(wrap(baseResponse, service + ".findAll(after, Math.max(1, Math.min(size, MAX_PAGE_SIZE)))")).append(").build();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GET\n");
+        source.append("    @Path(\"/{id}\")\n");
+        source.append("    public Response findById(@PathParam(\"id\") Long id) {\n");
+        source.append("        return Response.ok(").append(wrap(baseResponse, service + ".findById(id)")).append(").build();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @POST\n");
+        source.append("    public Response create(").append(name).append(" request) {\n");
+        source.append("        return Response.status(Response.Status.CREATED).entity(").append(wrap(baseResponse, service + ".create(request)")).append(").build();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @PUT\n");
+        source.append("    @Path(\"/{id}\")\n");
+        source.append("    public Response update(@PathParam(\"id\") Long id, ").append(name).append(" request) {\n");
+        source.append("        return Response.ok(").append(wrap(baseResponse, service + ".update(id, request)")).append(").build();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @DELETE\n");
+        source.append("    @Path(\"/{id}\")\n");
+        source.append("    public Response delete(@PathParam(\"id\") Long id) {\n");
+        source.append("        ").append(service).append(".delete(id);\n");
+        source.append("        return Response.noContent().build();\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String wrap(boolean baseResponse, String expression) {
+        return baseResponse ? "SuccessResponse.of(" + expression + ")" : expression;
+    }
+
+    private List<RelationDefinitionRequest> relationsOf(EntityDefinitionRequest entity) {
+        return entity.getRelations() != null ? entity.getRelations() : List.of();
+    }
+
+    private boolean isCollection(RelationType type) {
+        return type == RelationType.ONE_TO_MANY || type == RelationType.MANY_TO_MANY;
+    }
+
+    private String tableNameOf(EntityDefinitionRequest entity) {
+        return entity.getTableName() != null ? entity.getTableName() : toSnakeCase(entity.getName());
+    }
+
+    private void trimTrailingBlankLine(StringBuilder source) {
+        if (source.length() >= 2 && source.charAt(source.length() - 1) == '\n' && source.charAt(source.length() - 2) == '\n') {
+            source.setLength(source.length() - 1);
+        }
+    }
+
+    private static String lowerFirst(String value) {
+        return Character.toLowerCase(value.charAt(0)) + value.substring(1);
+    }
+
+    private static String toSnakeCase(String value) {
+        return value.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String toKebabCase(String value) {
+        return value.replaceAll("([a-z0-9])([A-Z])", "$1-$2").toLowerCase(Locale.ROOT);
+    }
+}
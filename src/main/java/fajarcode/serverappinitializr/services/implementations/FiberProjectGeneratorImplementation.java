@@ -0,0 +1,200 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FiberTemplate;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+import fajarcode.serverappinitializr.models.enums.GoSqlDriver;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.GenerationProgressListener;
+import fajarcode.serverappinitializr.services.interfaces.ProjectGenerator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+public class FiberProjectGeneratorImplementation implements ProjectGenerator {
+
+    private static final String JWT_MODULE = "github.com/golang-jwt/jwt/v5";
+    private static final String JWT_VERSION = "v5.2.0";
+    private static final String SCHEMA_FILE = "migrations/001_create_sample_entity.sql";
+
+    @Override
+    public FrameworkType getFrameworkType() {
+        return FrameworkType.FIBER;
+    }
+
+    @Override
+    public void validate(GenerateProjectRequest request, boolean fromOpenApiSpec) {
+        if (fromOpenApiSpec) {
+            throw new BadRequestException("OpenAPI Generation Is Not Supported For Fiber");
+        }
+        if (request.getBuildTool() != BuildTool.MAVEN) {
+            throw new BadRequestException("Fiber Projects Are Built With Go Modules");
+        }
+        if (request.getStack() != StackType.SERVLET) {
+            throw new BadRequestException("Reactive Stack Is Not Supported For Fiber");
+        }
+        if (request.getNativeImageEnabled()) {
+            throw new BadRequestException("Fiber Projects Already Compile To A Native Binary");
+        }
+        if (request.getBaseEntityEnabled()) {
+            throw new BadRequestException("Base Entity Is Not Supported For Fiber");
+        }
+        if (request.getCacheEnabled()) {
+            throw new BadRequestException("Cache Is Not Supported For Fiber");
+        }
+        if (request.getObservabilityEnabled()) {
+            throw new BadRequestException("Observability Is Not Supported For Fiber");
+        }
+        if (request.getJmhEnabled()) {
+            throw new BadRequestException("JMH Benchmarks Are Not Supported For Fiber");
+        }
+        if (request.getEntities() != null && !request.getEntities().isEmpty()) {
+            throw new BadRequestException("Entity Definitions Are Not Supported For Fiber");
+        }
+    }
+
+    @Override
+    public Map<String, GenerationStep> render(String projectPath, String packageName, GenerateProjectRequest request, InputStream openApiSpec,
+                                              Set<GenerationStep> steps, GenerationProgressListener listener) throws IOException {
+        Map<String, String> values = templateValues(request);
+        Map<String, GenerationStep> fileSteps = new LinkedHashMap<>();
+        List<String> generatedFiles = new ArrayList<>();
+
+        for (GenerationStep step : steps) {
+            int renderedBefore = generatedFiles.size();
+            switch (step) {
+                case POM_XML -> write(projectPath, FiberTemplate.GO_MOD, values, generatedFiles);
+                case APPLICATION_PROPERTIES -> generateEnvExample(projectPath, request, generatedFiles);
+                case MAIN_CLASS -> write(projectPath, FiberTemplate.MAIN, values, generatedFiles);
+                case CONFIGURATION -> write(projectPath, FiberTemplate.CONFIG, values, generatedFiles);
+                case SAMPLE_ENTITY -> {
+                    write(projectPath, FiberTemplate.DATABASE, values, generatedFiles);
+                    write(projectPath, FiberTemplate.SAMPLE_REPOSITORY, values, generatedFiles);
+                    write(projectPath, SCHEMA_FILE, request.getDatabaseType().sampleTableSchema(), generatedFiles);
+                }
+                case SAMPLE_CONTROLLER -> write(projectPath, FiberTemplate.SAMPLE_HANDLER, values, generatedFiles);
+                case BASE_RESPONSES -> {
+                    if (request.getBaseResponseEnabled()) {
+                        write(projectPath, FiberTemplate.RESPONSE, values, generatedFiles);
+                    }
+                }
+                // The router always mounts middleware.Auth, so the pass-through variant keeps the build green without JWT
+                case JWT_COMPONENTS -> write(projectPath, request.getJwtAuthEnabled() ? FiberTemplate.JWT_AUTH : FiberTemplate.NO_AUTH,
+                        values, generatedFiles);
+                case DOCKERFILE -> {
+                    if (request.getDockerEnabled()) {
+                        write(projectPath, FiberTemplate.DOCKERFILE, values, generatedFiles);
+                        write(projectPath, ".dockerignore", ".git/\n.idea/\n.env\n", generatedFiles);
+                    }
+                }
+                default -> {
+                    // Java-only steps have no Go output
+                }
+            }
+            for (int i = renderedBefore; i < generatedFiles.size(); i++) {
+                fileSteps.put(generatedFiles.get(i), step);
+                listener.onProgress(GenerationStage.FILE_RENDERED, generatedFiles.get(i));
+            }
+        }
+        return fileSteps;
+    }
+
+    private Map<String, String> templateValues(GenerateProjectRequest request) {
+        GoSqlDriver driver = GoSqlDriver.forDatabase(request.getDatabaseType());
+        String module = request.getArtifactId() != null ? request.getArtifactId() : request.getApplicationName().toLowerCase();
+
+        StringBuilder requires = new StringBuilder();
+        requires.append('\t').append(driver.getModule()).append(' ').append(driver.getVersion()).append('\n');
+        if (request.getJwtAuthEnabled()) {
+            requires.append('\t').append(JWT_MODULE).append(' ').append(JWT_VERSION).append('\n');
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("module", module);
+        values.put("appName", request.getApplicationName());
+        values.put("requires", requires.toString());
+        values.put("driverImport", driver.getImportPath());
+        values.put("driverName", driver.getDriverName());
+        values.put("listQuery", driver.getListQuery());
+        values.put("findByIdQuery", driver.getFindByIdQuery());
+
+        String greeting = "\"Hello from " + request.getApplicationName() + "!\"";
+        if (request.getBaseResponseEnabled()) {
+            values.put("responseImport", "\t\"" + module + "/internal/response\"\n");
+            values.put("helloResponse", "c.JSON(response.Success(\"Sample endpoint\", " + greeting + "))");
+            values.put("listResponse", "c.JSON(response.Success(\"Success\", samples))");
+            values.put("entityResponse", "c.JSON(response.Success(\"Success\", sample))");
+        } else {
+            values.put("responseImport", "");
+            values.put("helloResponse", "c.SendString(" + greeting + ")");
+            values.put("listResponse", "c.JSON(samples)");
+            values.put("entityResponse", "c.JSON(sample)");
+        }
+        return values;
+    }
+
+    private void generateEnvExample(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        DatabaseType dbType = request.getDatabaseType();
+        StringBuilder env = new StringBuilder();
+
+        env.append("# Application Configuration\n");
+        env.append("APP_PORT=8080\n\n");
+
+        env.append("# Database Configuration\n");
+        env.append("DB_DSN=").append(GoSqlDriver.forDatabase(dbType).getExampleDsn()).append("\n");
+
+        if (request.getJwtAuthEnabled()) {
+            env.append("\n# JWT Configuration\n");
+            // Left empty so the service refuses to start until a real secret is set
+            env.append("# At least 32 random bytes, e.g. openssl rand -base64 48\n");
+            env.append("JWT_SECRET=\n");
+        }
+
+        if (request.getPerformanceProfileEnabled()) {
+            int poolSize = switch (dbType) {
+                case MYSQL -> 20;
+                // Every PostgreSQL connection is a backend process, so keep the pool small
+                case POSTGRESQL -> 16;
+                case SQLSERVER, ORACLE -> 30;
+            };
+            env.append("\n# Performance Profile\n");
+            env.append("# Idle connections equal to the maximum keep the pool warm instead of reconnecting under bursts\n");
+            env.append("DB_MAX_OPEN_CONNS=").append(poolSize).append("\n");
+            env.append("DB_MAX_IDLE_CONNS=").append(poolSize).append("\n");
+            env.append("DB_CONN_MAX_LIFETIME=30m\n");
+            env.append("DB_CONN_MAX_IDLE_TIME=10m\n");
+            env.append("HTTP_READ_TIMEOUT=5s\n");
+            env.append("HTTP_WRITE_TIMEOUT=10s\n");
+            env.append("HTTP_IDLE_TIMEOUT=120s\n");
+        }
+
+        write(projectPath, ".env.example", env.toString(), generatedFiles);
+    }
+
+    private void write(String projectPath, FiberTemplate template, Map<String, String> values, List<String> generatedFiles) throws IOException {
+        write(projectPath, template.getPath(), template.render(values), generatedFiles);
+    }
+
+    private void write(String projectPath, String relativePath, String content, List<String> generatedFiles) throws IOException {
+        Path target = Paths.get(projectPath, relativePath);
+        Files.createDirectories(target.getParent());
+        Files.writeString(target, content);
+        generatedFiles.add(relativePath);
+    }
+}
@@ -0,0 +1,105 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.CursorPageResponse;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.enums.ProjectSortField;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.GeneratedProjectService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class GeneratedProjectServiceImplementation implements GeneratedProjectService {
+    private final GeneratedProjectRepository generatedProjectRepository;
+
+    private static final String CURSOR_DELIMITER = "|";
+    private static final String INVALID_CURSOR = "Invalid Cursor";
+
+    @Override
+    @Transactional(readOnly = true)
+    public BaseResponse<CursorPageResponse<GeneratedProjectSummaryResponse>> searchProjects(ProjectSearchRequest request) {
+        ProjectSortField sortBy = request.getSortBy() != null ? request.getSortBy() : ProjectSortField.CREATED_AT;
+        int size = request.getSize() != null ? request.getSize() : 20;
+
+        String[] cursor = decodeCursor(request.getCursor(), sortBy);
+        Long afterId = cursor != null ? parseId(cursor[2]) : null;
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<GeneratedProjectSummaryResponse> rows = switch (sortBy) {
+            case CREATED_AT -> generatedProjectRepository.findSummariesByCreatedAt(
+                    request, cursor != null ? parseCreatedAt(cursor[1]) : null, afterId, size + 1);
+            case DOWNLOAD_COUNT -> generatedProjectRepository.findSummariesByDownloadCount(
+                    request, cursor != null ? parseDownloadCount(cursor[1]) : null, afterId, size + 1);
+        };
+
+        boolean hasNext = rows.size() > size;
+        List<GeneratedProjectSummaryResponse> items = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(items.getLast(), sortBy) : null;
+
+        return BaseResponse.success("Projects Successfully Retrieved",
+                new CursorPageResponse<>(items, items.size(), hasNext, nextCursor));
+    }
+
+    private String encodeCursor(GeneratedProjectSummaryResponse last, ProjectSortField sortBy) {
+        String sortValue = switch (sortBy) {
+            case CREATED_AT -> String.valueOf(last.getCreatedAt());
+            case DOWNLOAD_COUNT -> String.valueOf(last.getDownloadCount());
+        };
+        String raw = sortBy.name() + CURSOR_DELIMITER + sortValue + CURSOR_DELIMITER + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor, ProjectSortField sortBy) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+
+        String[] parts = raw.split("\\" + CURSOR_DELIMITER, -1);
+        if (parts.length != 3 || !parts[0].equals(sortBy.name())) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+        return parts;
+    }
+
+    private Long parseId(String value) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    private Integer parseDownloadCount(String value) {
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+
+    private LocalDateTime parseCreatedAt(String value) {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR);
+        }
+    }
+}
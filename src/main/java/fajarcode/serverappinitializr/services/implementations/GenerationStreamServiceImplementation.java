@@ -0,0 +1,129 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
+import fajarcode.serverappinitializr.models.dto.responses.GenerationProgressResponse;
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+import fajarcode.serverappinitializr.services.interfaces.GenerationStreamService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GenerationStreamServiceImplementation implements GenerationStreamService {
+    private final SpringBootGeneratorService springBootGeneratorService;
+
+    @Value("${generator.stream.timeout-ms:300000}")
+    private long streamTimeoutMs;
+
+    @Value("${generator.stream.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    private ExecutorService generationExecutor;
+    private ScheduledExecutorService heartbeatScheduler;
+
+    @PostConstruct
+    void startExecutors() {
+        generationExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        heartbeatScheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("sse-heartbeat").daemon().factory());
+    }
+
+    @PreDestroy
+    void stopExecutors() {
+        heartbeatScheduler.shutdownNow();
+        generationExecutor.shutdownNow();
+    }
+
+    @Override
+    public SseEmitter streamGeneration(GenerateProjectRequest request) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        ProgressStream stream = new ProgressStream(emitter);
+
+        // A comment line keeps proxies and clients from treating a quiet stage as a dead connection
+        ScheduledFuture<?> heartbeat = heartbeatScheduler.scheduleAtFixedRate(
+                stream::heartbeat, heartbeatIntervalMs, heartbeatIntervalMs, TimeUnit.MILLISECONDS);
+        emitter.onCompletion(() -> heartbeat.cancel(false));
+        emitter.onTimeout(() -> heartbeat.cancel(false));
+        emitter.onError(error -> heartbeat.cancel(false));
+
+        generationExecutor.execute(() -> {
+            try {
+                stream.send(GenerationStage.STARTED, request.getApplicationName(), null);
+                GenerateProjectResponse response = springBootGeneratorService
+                        .generateProject(request, (stage, detail) -> stream.send(stage, detail, null))
+                        .getData();
+                stream.send(GenerationStage.COMPLETED, response.getProjectName(), response);
+                stream.complete();
+            } catch (Exception e) {
+                log.warn("Streamed generation of project '{}' failed: {}", request.getApplicationName(), e.getMessage());
+                stream.send(GenerationStage.FAILED, e.getMessage(), null);
+                stream.complete();
+            } finally {
+                heartbeat.cancel(false);
+            }
+        });
+
+        return emitter;
+    }
+
+    private static class ProgressStream {
+        private final SseEmitter emitter;
+        private int filesRendered;
+        private boolean closed;
+
+        ProgressStream(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized void send(GenerationStage stage, String detail, GenerateProjectResponse project) {
+            if (stage == GenerationStage.FILE_RENDERED) {
+                filesRendered++;
+            }
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(stage.name().toLowerCase(Locale.ROOT))
+                        .data(new GenerationProgressResponse(stage, detail, filesRendered, Instant.now(), project)));
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; generation still finishes so the project is not left half-written
+                closed = true;
+            }
+        }
+
+        synchronized void heartbeat() {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                closed = true;
+            }
+        }
+
+        synchronized void complete() {
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,678 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.exceptions.InternalServerErrorException;
+import fajarcode.serverappinitializr.services.interfaces.OpenApiSourceGeneratorService;
+import fajarcode.serverappinitializr.utils.YamlEventReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+
+import javax.lang.model.SourceVersion;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.*;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OpenApiSourceGeneratorServiceImplementation implements OpenApiSourceGeneratorService {
+    private final ExecutorService renderingExecutor;
+
+    private static final String SOURCE_MAIN_JAVA = "/src/main/java/";
+    private static final String ADD_GENERATED_FILES_SOURCE = "src/main/java/";
+    private static final String PACKAGE = "package ";
+    private static final String IMPORT = "import ";
+    private static final String DELIMITER_PATH = "/";
+    private static final String INDENT = "    ";
+    private static final String BLOCK_CLOSE = INDENT + "}\n";
+    private static final String BLOCK_CLOSE_WITH_NEWLINE = INDENT + "}\n\n";
+    private static final String REF = "$ref";
+    private static final String SCHEMA = "schema";
+    private static final String CONTENT = "content";
+    private static final String OBJECT = "Object";
+    private static final String SCHEMAS_REF_PREFIX = "#/components/schemas/";
+    private static final String DEFINITIONS_REF_PREFIX = "#/definitions/";
+    private static final List<String> HTTP_METHODS = List.of("get", "put", "post", "delete", "options", "head", "patch", "trace");
+    private static final List<String> SUCCESS_STATUSES = List.of("200", "201", "202", "203", "206", "2XX", "default");
+    // Types the DTOs and controllers refer to by simple name; java.lang types are looked up rather than listed
+    private static final Set<String> RESERVED_CLASS_NAMES = Set.of("List", "Map", "LocalDate", "OffsetDateTime", "UUID", "BigDecimal",
+            "Data", "NoArgsConstructor", "AllArgsConstructor", "EqualsAndHashCode", "ToString",
+            "JsonProperty", "JsonCreator", "JsonValue", "NotNull", "Valid",
+            "HttpStatus", "ResponseEntity", "ResponseStatusException", "RestController", "RequestMapping", "RequestMethod",
+            "GetMapping", "PostMapping", "PutMapping", "DeleteMapping", "PatchMapping",
+            "PathVariable", "RequestParam", "RequestHeader", "CookieValue", "RequestBody");
+    private static final String RESERVED_CLASS_SUFFIX = "Dto";
+
+    @Value("${generator.openapi.max-spec-size-bytes:67108864}")
+    private int maxSpecSizeBytes;
+
+    @Value("${generator.openapi.max-pending-renders:256}")
+    private int maxPendingRenders;
+
+    @Override
+    public void generateFromSpec(String projectPath, String packageName, InputStream openApiSpec, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        SpecIndex index = new SpecIndex();
+        RenderQueue renders = new RenderQueue(maxPendingRenders);
+        List<OperationSummary> operations = new ArrayList<>();
+
+        try (Reader reader = openSpecReader(openApiSpec)) {
+            LoaderOptions loaderOptions = new LoaderOptions();
+            loaderOptions.setCodePointLimit(maxSpecSizeBytes);
+            loaderOptions.setMaxAliasesForCollections(50);
+
+            YamlEventReader events = new YamlEventReader(new Yaml(loaderOptions).parse(reader), loaderOptions.getMaxAliasesForCollections());
+            events.enterDocument();
+            events.expect(Event.ID.MappingStart);
+
+            // Schemas are rendered as soon as their own subtree has been read, so the whole spec is never held in memory
+            while (!events.peekIs(Event.ID.MappingEnd)) {
+                String key = events.readKey();
+                switch (key) {
+                    case "paths" -> readPaths(events, operations);
+                    case "components" -> readComponents(events, index, renders, projectPath, packagePath, packageName);
+                    case "definitions" -> readSchemas(events, DEFINITIONS_REF_PREFIX, index, renders, projectPath, packagePath, packageName);
+                    default -> events.skipNode();
+                }
+            }
+        } catch (YAMLException | IllegalStateException | ClassCastException e) {
+            renders.cancel();
+            throw new BadRequestException("Invalid OpenAPI Specification: " + e.getMessage());
+        }
+
+        Map<String, List<OperationSummary>> operationsByTag = new LinkedHashMap<>();
+        for (OperationSummary operation : operations) {
+            operationsByTag.computeIfAbsent(operation.tag(), tag -> new ArrayList<>()).add(operation);
+        }
+        Set<String> controllerNames = new HashSet<>();
+        for (Map.Entry<String, List<OperationSummary>> entry : operationsByTag.entrySet()) {
+            String controllerName = uniqueName(toPascalCase(entry.getKey(), "Default") + "ApiController", controllerNames);
+            List<OperationSummary> tagOperations = entry.getValue();
+            renders.submit(renderingExecutor, () -> {
+                String relativePath = ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/" + controllerName + ".java";
+                write(projectPath + DELIMITER_PATH + relativePath, renderController(packageName, controllerName, tagOperations, index));
+                return relativePath;
+            });
+        }
+
+        generatedFiles.addAll(renders.await());
+        log.info("Generated {} schema(s) and {} operation(s) from OpenAPI specification", index.schemaCount(), operations.size());
+    }
+
+    private Reader openSpecReader(InputStream openApiSpec) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(openApiSpec, StandardCharsets.UTF_8), 64 * 1024);
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+        // JSON is parsed as YAML flow style, where raw tabs are only ever insignificant whitespace
+        return new FilterReader(reader) {
+            @Override
+            public int read() throws IOException {
+                int c = super.read();
+                return c == '\t' ? ' ' : c;
+            }
+
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                int read = super.read(buffer, offset, length);
+                for (int i = offset; i < offset + read; i++) {
+                    if (buffer[i] == '\t') {
+                        buffer[i] = ' ';
+                    }
+                }
+                return read;
+            }
+        };
+    }
+
+    private void readPaths(YamlEventReader events, List<OperationSummary> operations) {
+        events.expect(Event.ID.MappingStart);
+        while (!events.peekIs(Event.ID.MappingEnd)) {
+            String path = events.readKey();
+            Map<String, Object> pathItem = asMap(events.readNode());
+            List<Object> sharedParameters = asList(pathItem.get("parameters"));
+
+            for (String method : HTTP_METHODS) {
+                Map<String, Object> operation = asMap(pathItem.get(method));
+                if (operation.isEmpty()) {
+                    continue;
+                }
+                List<Object> parameters = new ArrayList<>(sharedParameters);
+                parameters.addAll(asList(operation.get("parameters")));
+                List<Object> tags = asList(operation.get("tags"));
+
+                operations.add(new OperationSummary(
+                        method,
+                        path,
+                        (String) operation.get("operationId"),
+                        tags.isEmpty() ? "Default" : String.valueOf(tags.getFirst()),
+                        parameters,
+                        operation.get("requestBody"),
+                        successResponse(asMap(operation.get("responses")))
+                ));
+            }
+        }
+        events.next();
+    }
+
+    private void readComponents(YamlEventReader events, SpecIndex index, RenderQueue renders,
+                                String projectPath, String packagePath, String packageName) {
+        events.expect(Event.ID.MappingStart);
+        while (!events.peekIs(Event.ID.MappingEnd)) {
+            String section = events.readKey();
+            switch (section) {
+                case "schemas" -> readSchemas(events, SCHEMAS_REF_PREFIX, index, renders, projectPath, packagePath, packageName);
+                case "parameters", "requestBodies", "responses" -> {
+                    Map<String, Object> components = asMap(events.readNode());
+                    components.forEach((name, component) -> index.registerComponent("#/components/" + section + "/" + name, component));
+                }
+                default -> events.skipNode();
+            }
+        }
+        events.next();
+    }
+
+    private void readSchemas(YamlEventReader events, String refPrefix, SpecIndex index, RenderQueue renders,
+                             String projectPath, String packagePath, String packageName) {
+        events.expect(Event.ID.MappingStart);
+        while (!events.peekIs(Event.ID.MappingEnd)) {
+            String name = events.readKey();
+            Map<String, Object> schema = asMap(events.readNode());
+            String className = index.classNameFor(refPrefix + name);
+            index.countSchema();
+
+            renders.submit(renderingExecutor, () -> {
+                String relativePath = ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/" + className + ".java";
+                write(projectPath + DELIMITER_PATH + relativePath, renderSchema(packageName, className, schema, index));
+                return relativePath;
+            });
+        }
+        events.next();
+    }
+
+    private Object successResponse(Map<String, Object> responses) {
+        for (String status : SUCCESS_STATUSES) {
+            if (responses.containsKey(status)) {
+                return responses.get(status);
+            }
+        }
+        return null;
+    }
+
+    private String renderSchema(String packageName, String className, Map<String, Object> schema, SpecIndex index) {
+        if (schema.containsKey("enum")) {
+            return renderEnum(packageName, className, asList(schema.get("enum")));
+        }
+        if (isObjectSchema(schema)) {
+            return renderObject(packageName, className, schema, index);
+        }
+        return renderValueWrapper(packageName, className, schema, index);
+    }
+
+    private String renderObject(String packageName, String className, Map<String, Object> schema, SpecIndex index) {
+        Map<String, Object> properties = new LinkedHashMap<>(asMap(schema.get("properties")));
+        Set<String> required = new HashSet<>();
+        asList(schema.get("required")).forEach(name -> required.add(String.valueOf(name)));
+        String superClass = null;
+
+        for (Object part : asList(schema.get("allOf"))) {
+            Map<String, Object> partSchema = asMap(part);
+            if (partSchema.containsKey(REF) && superClass == null && isSchemaRef((String) partSchema.get(REF))) {
+                superClass = index.classNameFor((String) partSchema.get(REF));
+            } else {
+                properties.putAll(asMap(partSchema.get("properties")));
+                asList(partSchema.get("required")).forEach(name -> required.add(String.valueOf(name)));
+            }
+        }
+
+        Set<String> imports = new TreeSet<>();
+        imports.add("lombok.Data");
+        imports.add("lombok.NoArgsConstructor");
+        if (superClass != null) {
+            imports.add("lombok.EqualsAndHashCode");
+            imports.add("lombok.ToString");
+        }
+
+        StringBuilder fields = new StringBuilder();
+        Set<String> fieldNames = new HashSet<>();
+        for (Map.Entry<String, Object> property : properties.entrySet()) {
+            String fieldName = uniqueName(toCamelCase(property.getKey(), "value"), fieldNames);
+            String type = javaType(asMap(property.getValue()), index, imports);
+            if (!fieldName.equals(property.getKey())) {
+                imports.add("com.fasterxml.jackson.annotation.JsonProperty");
+                fields.append("    @JsonProperty(\"").append(escape(property.getKey())).append("\")\n");
+            }
+            if (required.contains(property.getKey())) {
+                imports.add("jakarta.validation.constraints.NotNull");
+                fields.append("    @NotNull\n");
+            }
+            fields.append("    private ").append(type).append(" ").append(fieldName).append(";\n\n");
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".models.dto;\n\n");
+        appendImports(source, imports);
+        source.append("@Data\n");
+        source.append("@NoArgsConstructor\n");
+        if (superClass != null) {
+            source.append("@ToString(callSuper = true)\n");
+            source.append("@EqualsAndHashCode(callSuper = true)\n");
+        }
+        source.append("public class ").append(className);
+        if (superClass != null) {
+            source.append(" extends ").append(superClass);
+        }
+        source.append(" {\n");
+        if (!fields.isEmpty()) {
+            source.append("\n").append(fields, 0, fields.length() - 1);
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderEnum(String packageName, String className, List<Object> values) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".models.dto;\n\n");
+        source.append("import com.fasterxml.jackson.annotation.JsonProperty;\n\n");
+        source.append("public enum ").append(className).append(" {\n");
+
+        Set<String> constants = new HashSet<>();
+        List<String> lines = new ArrayList<>();
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            String raw = String.valueOf(value);
+            String constant = uniqueName(toConstantCase(raw), constants);
+            lines.add("    @JsonProperty(\"" + escape(raw) + "\")\n    " + constant);
+        }
+        source.append(String.join(",\n", lines)).append("\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderValueWrapper(String packageName, String className, Map<String, Object> schema, SpecIndex index) {
+        Set<String> imports = new TreeSet<>();
+        imports.add("com.fasterxml.jackson.annotation.JsonCreator");
+        imports.add("com.fasterxml.jackson.annotation.JsonValue");
+        imports.add("lombok.AllArgsConstructor");
+        imports.add("lombok.Data");
+        imports.add("lombok.NoArgsConstructor");
+        String type = javaType(schema, index, imports);
+
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".models.dto;\n\n");
+        appendImports(source, imports);
+        source.append("@Data\n");
+        source.append("@NoArgsConstructor\n");
+        source.append("@AllArgsConstructor(onConstructor_ = @JsonCreator)\n");
+        source.append("public class ").append(className).append(" {\n\n");
+        source.append("    @JsonValue\n");
+        source.append("    private ").append(type).append(" value;\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderController(String packageName, String controllerName, List<OperationSummary> operations, SpecIndex index) {
+        Set<String> imports = new TreeSet<>();
+        imports.add("org.springframework.http.HttpStatus");
+        imports.add("org.springframework.http.ResponseEntity");
+        imports.add("org.springframework.web.bind.annotation.*");
+        imports.add("org.springframework.web.server.ResponseStatusException");
+        if (index.schemaCount() > 0) {
+            imports.add(packageName + ".models.dto.*");
+        }
+
+        StringBuilder methods = new StringBuilder();
+        Set<String> methodNames = new HashSet<>();
+        for (OperationSummary operation : operations) {
+            String methodName = uniqueName(operation.operationId() != null
+                    ? toCamelCase(operation.operationId(), operation.method())
+                    : toCamelCase(operation.method() + " " + operation.path(), operation.method()), methodNames);
+            String returnType = bodyType(index.resolve(operation.successResponse()), index, imports);
+
+            List<String> arguments = new ArrayList<>();
+            Set<String> argumentNames = new HashSet<>();
+            for (Object parameterNode : operation.parameters()) {
+                Map<String, Object> parameter = asMap(index.resolve(parameterNode));
+                String argument = parameterArgument(parameter, argumentNames, index, imports);
+                if (argument != null) {
+                    arguments.add(argument);
+                }
+            }
+            Map<String, Object> requestBody = asMap(index.resolve(operation.requestBody()));
+            if (!requestBody.isEmpty()) {
+                String bodyType = bodyType(requestBody, index, imports);
+                imports.add("jakarta.validation.Valid");
+                String annotation = Boolean.parseBoolean(String.valueOf(requestBody.get("required")))
+                        ? "@Valid @RequestBody " : "@Valid @RequestBody(required = false) ";
+                arguments.add(annotation + ("Void".equals(bodyType) ? OBJECT : bodyType) + " " + uniqueName("body", argumentNames));
+            }
+
+            String summary = operation.method().toUpperCase(Locale.ROOT) + " " + operation.path();
+            methods.append("    ").append(mappingAnnotation(operation.method(), operation.path())).append("\n");
+            methods.append("    public ResponseEntity<").append(returnType).append("> ").append(methodName).append("(")
+                    .append(String.join(", ", arguments)).append(") {\n");
+            methods.append("        throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, \"").append(escape(summary)).append(" is not implemented\");\n");
+            methods.append(BLOCK_CLOSE_WITH_NEWLINE);
+        }
+
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        appendImports(source, imports);
+        source.append("@RestController\n");
+        source.append("public class ").append(controllerName).append(" {\n\n");
+        if (!methods.isEmpty()) {
+            source.append(methods, 0, methods.length() - 1);
+        }
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String parameterArgument(Map<String, Object> parameter, Set<String> argumentNames, SpecIndex index, Set<String> imports) {
+        String name = (String) parameter.get("name");
+        String location = (String) parameter.get("in");
+        if (name == null || location == null) {
+            return null;
+        }
+        String type = javaType(asMap(parameter.get(SCHEMA)), index, imports);
+        String argumentName = uniqueName(toCamelCase(name, "param"), argumentNames);
+        boolean required = "path".equals(location) || Boolean.parseBoolean(String.valueOf(parameter.get("required")));
+        String escapedName = escape(name);
+
+        return switch (location) {
+            case "path" -> "@PathVariable(\"" + escapedName + "\") " + type + " " + argumentName;
+            case "query" -> "@RequestParam(name = \"" + escapedName + "\", required = " + required + ") " + type + " " + argumentName;
+            case "header" -> "@RequestHeader(name = \"" + escapedName + "\", required = " + required + ") " + type + " " + argumentName;
+            case "cookie" -> "@CookieValue(name = \"" + escapedName + "\", required = " + required + ") " + type + " " + argumentName;
+            default -> null;
+        };
+    }
+
+    private String bodyType(Object bodyNode, SpecIndex index, Set<String> imports) {
+        Map<String, Object> content = asMap(asMap(bodyNode).get(CONTENT));
+        if (content.isEmpty()) {
+            Map<String, Object> swaggerSchema = asMap(asMap(bodyNode).get(SCHEMA));
+            return swaggerSchema.isEmpty() ? "Void" : javaType(swaggerSchema, index, imports);
+        }
+        Object media = content.containsKey("application/json") ? content.get("application/json") : content.values().iterator().next();
+        Map<String, Object> schema = asMap(asMap(media).get(SCHEMA));
+        return schema.isEmpty() ? OBJECT : javaType(schema, index, imports);
+    }
+
+    private String mappingAnnotation(String method, String path) {
+        String escapedPath = escape(path);
+        return switch (method) {
+            case "get" -> "@GetMapping(\"" + escapedPath + "\")";
+            case "post" -> "@PostMapping(\"" + escapedPath + "\")";
+            case "put" -> "@PutMapping(\"" + escapedPath + "\")";
+            case "delete" -> "@DeleteMapping(\"" + escapedPath + "\")";
+            case "patch" -> "@PatchMapping(\"" + escapedPath + "\")";
+            default -> "@RequestMapping(value = \"" + escapedPath + "\", method = RequestMethod." + method.toUpperCase(Locale.ROOT) + ")";
+        };
+    }
+
+    private String javaType(Map<String, Object> schema, SpecIndex index, Set<String> imports) {
+        if (schema.containsKey(REF)) {
+            String ref = (String) schema.get(REF);
+            return isSchemaRef(ref) ? index.classNameFor(ref) : OBJECT;
+        }
+        List<Object> allOf = asList(schema.get("allOf"));
+        if (allOf.size() == 1) {
+            return javaType(asMap(allOf.getFirst()), index, imports);
+        }
+
+        String format = String.valueOf(schema.get("format"));
+        switch (typeOf(schema)) {
+            case "string" -> {
+                return switch (format) {
+                    case "date" -> imported(imports, "java.time.LocalDate");
+                    case "date-time" -> imported(imports, "java.time.OffsetDateTime");
+                    case "uuid" -> imported(imports, "java.util.UUID");
+                    case "binary", "byte" -> "byte[]";
+                    default -> "String";
+                };
+            }
+            case "integer" -> {
+                return "int64".equals(format) ? "Long" : "Integer";
+            }
+            case "number" -> {
+                return switch (format) {
+                    case "float" -> "Float";
+                    case "double" -> "Double";
+                    default -> imported(imports, "java.math.BigDecimal");
+                };
+            }
+            case "boolean" -> {
+                return "Boolean";
+            }
+            case "array" -> {
+                imports.add("java.util.List");
+                return "List<" + javaType(asMap(schema.get("items")), index, imports) + ">";
+            }
+            case "object" -> {
+                imports.add("java.util.Map");
+                Object additionalProperties = schema.get("additionalProperties");
+                if (additionalProperties instanceof Map<?, ?> && !asMap(additionalProperties).isEmpty()) {
+                    return "Map<String, " + javaType(asMap(additionalProperties), index, imports) + ">";
+                }
+                return "Map<String, Object>";
+            }
+            default -> {
+                return OBJECT;
+            }
+        }
+    }
+
+    private String typeOf(Map<String, Object> schema) {
+        Object type = schema.get("type");
+        if (type instanceof List<?> types) {
+            return types.stream().map(String::valueOf).filter(value -> !"null".equals(value)).findFirst().orElse("");
+        }
+        if (type == null && schema.containsKey("properties")) {
+            return "object";
+        }
+        return String.valueOf(type);
+    }
+
+    private boolean isObjectSchema(Map<String, Object> schema) {
+        return "object".equals(typeOf(schema)) && !schema.containsKey("additionalProperties")
+                || schema.containsKey("properties")
+                || schema.containsKey("allOf");
+    }
+
+    private boolean isSchemaRef(String ref) {
+        return ref.startsWith(SCHEMAS_REF_PREFIX) || ref.startsWith(DEFINITIONS_REF_PREFIX);
+    }
+
+    private void appendImports(StringBuilder source, Set<String> imports) {
+        for (String typeImport : imports) {
+            source.append(IMPORT).append(typeImport).append(";\n");
+        }
+        source.append("\n");
+    }
+
+    private void write(String filePath, String content) {
+        try {
+            Files.writeString(Paths.get(filePath), content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String imported(Set<String> imports, String qualifiedName) {
+        imports.add(qualifiedName);
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object node) {
+        return node instanceof Map<?, ?> map ? (Map<String, Object>) map : Map.of();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object node) {
+        return node instanceof List<?> list ? (List<Object>) list : List.of();
+    }
+
+    private static String uniqueName(String candidate, Set<String> usedNames) {
+        String name = candidate;
+        int suffix = 2;
+        while (!usedNames.add(name)) {
+            name = candidate + suffix++;
+        }
+        return name;
+    }
+
+    private static String toPascalCase(String value, String fallback) {
+        StringBuilder result = new StringBuilder();
+        for (String word : value.split("[^A-Za-z0-9]+")) {
+            if (!word.isEmpty()) {
+                result.append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+            }
+        }
+        if (result.isEmpty()) {
+            return fallback;
+        }
+        if (!Character.isJavaIdentifierStart(result.charAt(0))) {
+            result.insert(0, fallback);
+        }
+        return result.toString();
+    }
+
+    private static String toCamelCase(String value, String fallback) {
+        String pascal = toPascalCase(value, toPascalCase(fallback, "Value"));
+        String camel = Character.toLowerCase(pascal.charAt(0)) + pascal.substring(1);
+        return SourceVersion.isName(camel) ? camel : camel + "Value";
+    }
+
+    private static String toConstantCase(String value) {
+        String constant = value.replaceAll("([a-z0-9])([A-Z])", "$1_$2")
+                .replaceAll("[^A-Za-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "")
+                .toUpperCase(Locale.ROOT);
+        if (constant.isEmpty()) {
+            return "EMPTY";
+        }
+        return Character.isJavaIdentifierStart(constant.charAt(0)) ? constant : "VALUE_" + constant;
+    }
+
+    private static boolean isReservedClassName(String className) {
+        if (RESERVED_CLASS_NAMES.contains(className)) {
+            return true;
+        }
+        try {
+            // A DTO named after a java.lang type would shadow it in the whole dto package
+            Class.forName("java.lang." + className, false, null);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private record OperationSummary(String method, String path, String operationId, String tag,
+                                    List<Object> parameters, Object requestBody, Object successResponse) {
+    }
+
+    private static class SpecIndex {
+        private final Map<String, String> classNames = new HashMap<>();
+        private final Set<String> usedClassNames = new HashSet<>();
+        private final Map<String, Object> components = new ConcurrentHashMap<>();
+        private int schemaCount;
+
+        synchronized String classNameFor(String ref) {
+            return classNames.computeIfAbsent(ref, key -> {
+                String className = toPascalCase(key.substring(key.lastIndexOf('/') + 1), "Model");
+                return uniqueName(isReservedClassName(className) ? className + RESERVED_CLASS_SUFFIX : className, usedClassNames);
+            });
+        }
+
+        void registerComponent(String ref, Object component) {
+            components.put(ref, component);
+        }
+
+        synchronized void countSchema() {
+            schemaCount++;
+        }
+
+        synchronized int schemaCount() {
+            return schemaCount;
+        }
+
+        Object resolve(Object node) {
+            Object resolved = node;
+            // Follows chains of component $refs; the bound guards against reference cycles
+            for (int depth = 0; depth < 16; depth++) {
+                Map<String, Object> mapping = asMap(resolved);
+                if (!(mapping.get(REF) instanceof String ref) || !components.containsKey(ref)) {
+                    return resolved;
+                }
+                resolved = components.get(ref);
+            }
+            return resolved;
+        }
+    }
+
+    private static class RenderQueue {
+        private final Semaphore pending;
+        private final List<Future<String>> futures = new ArrayList<>();
+
+        RenderQueue(int maxPending) {
+            this.pending = new Semaphore(Math.max(1, maxPending));
+        }
+
+        void submit(ExecutorService executor, Callable<String> render) {
+            try {
+                pending.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalServerErrorException("OpenAPI Generation Was Interrupted");
+            }
+            futures.add(executor.submit(() -> {
+                try {
+                    return render.call();
+                } finally {
+                    pending.release();
+                }
+            }));
+        }
+
+        List<String> await() throws IOException {
+            List<String> files = new ArrayList<>(futures.size());
+            try {
+                for (Future<String> future : futures) {
+                    files.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new InternalServerErrorException("OpenAPI Generation Was Interrupted");
+            } catch (ExecutionException e) {
+                cancel();
+                if (e.getCause() instanceof UncheckedIOException uncheckedIOException) {
+                    throw uncheckedIOException.getCause();
+                }
+                throw new InternalServerErrorException(e.getCause().getMessage());
+            }
+            return files;
+        }
+
+        void cancel() {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+}
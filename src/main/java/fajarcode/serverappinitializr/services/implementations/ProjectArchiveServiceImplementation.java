@@ -0,0 +1,414 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.InternalServerErrorException;
+import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.entities.GeneratedProjectArchiveChunk;
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.projections.ArchiveChunkData;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectArchiveChunkRepository;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.ProjectArchiveService;
+import fajarcode.serverappinitializr.utils.HotArchiveCache;
+import fajarcode.serverappinitializr.utils.SharedArchiveBuild;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectArchiveServiceImplementation implements ProjectArchiveService {
+    private final GeneratedProjectRepository generatedProjectRepository;
+    private final GeneratedProjectArchiveChunkRepository archiveChunkRepository;
+    private final EntityManager entityManager;
+
+    private static final int HOT_TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    @Value("${generator.storage.mode:FILESYSTEM}")
+    private ArchiveStorageType storageType;
+
+    @Value("${generator.storage.chunk-size-bytes:262144}")
+    private int chunkSizeBytes;
+
+    @Value("${generator.download.coalescing-enabled:true}")
+    private boolean coalescingEnabled;
+
+    @Value("${generator.download.coalescing-dir:${java.io.tmpdir}/server-app-initializr-downloads}")
+    private String coalescingDir;
+
+    @Value("${generator.download.hot-tier.budget-bytes:67108864}")
+    private long hotTierBudgetBytes;
+
+    @Value("${generator.download.hot-tier.max-archive-bytes:8388608}")
+    private long hotTierMaxArchiveBytes;
+
+    @Value("${generator.download.hot-tier.expected-projects:10000}")
+    private int hotTierExpectedProjects;
+
+    private final ConcurrentMap<String, SharedArchiveBuild> inFlightBuilds = new ConcurrentHashMap<>();
+    private final AtomicLong evictionGeneration = new AtomicLong();
+    private ExecutorService archiveBuildExecutor;
+    private HotArchiveCache hotArchiveCache;
+
+    @PostConstruct
+    void startArchiveBuildExecutor() throws IOException {
+        Files.createDirectories(Paths.get(coalescingDir));
+        archiveBuildExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        if (hotTierBudgetBytes > 0) {
+            hotArchiveCache = new HotArchiveCache(hotTierBudgetBytes, hotTierMaxArchiveBytes, hotTierExpectedProjects);
+        }
+    }
+
+    @PreDestroy
+    void stopArchiveBuildExecutor() {
+        archiveBuildExecutor.shutdownNow();
+    }
+
+    @Override
+    public ArchiveStorageType getStorageType() {
+        return storageType;
+    }
+
+    @Override
+    @Transactional
+    public GeneratedProject storeArchive(GeneratedProject project) throws IOException {
+        if (storageType != ArchiveStorageType.DATABASE) {
+            project.setStorageType(ArchiveStorageType.FILESYSTEM);
+            return project;
+        }
+
+        // Replaces any archive stored by an earlier generation of the same project
+        archiveChunkRepository.deleteByProjectId(project.getId());
+
+        Path sourcePath = Paths.get(project.getProjectPath());
+        ChunkedArchiveOutputStream chunkStream = new ChunkedArchiveOutputStream(
+                project.getId(), Math.min(Math.max(chunkSizeBytes, 1024), GeneratedProjectArchiveChunk.MAX_CHUNK_SIZE));
+
+        try (ZipOutputStream zos = new ZipOutputStream(chunkStream)) {
+            writeDirectoryEntries(sourcePath, zos);
+        }
+
+        project.setStorageType(ArchiveStorageType.DATABASE);
+        project.setArchiveSizeBytes(chunkStream.getTotalBytes());
+
+        log.info("Archive for project '{}' stored in database as {} chunk(s), {} bytes",
+                project.getApplicationName(), chunkStream.getChunkCount(), chunkStream.getTotalBytes());
+
+        return generatedProjectRepository.save(project);
+    }
+
+    @Override
+    public void writeArchive(GeneratedProject project, OutputStream outputStream) {
+        try {
+            ByteBuffer hotArchive = hotArchiveCache != null ? hotArchiveCache.get(project.getId()) : null;
+            if (hotArchive != null) {
+                writeHotArchive(hotArchive, outputStream);
+            } else if (coalescingEnabled) {
+                writeCoalescedArchive(project, outputStream);
+            } else {
+                writeArchiveDirectly(project, outputStream);
+            }
+        } catch (IOException e) {
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void evictArchive(Long projectId) {
+        if (hotArchiveCache != null) {
+            evictionGeneration.incrementAndGet();
+            hotArchiveCache.invalidate(projectId);
+        }
+    }
+
+    @Override
+    public void extractArchive(GeneratedProject project, Path targetDirectory) throws IOException {
+        Path target = targetDirectory.toAbsolutePath().normalize();
+        Files.createDirectories(target);
+
+        try (ZipInputStream zis = new ZipInputStream(new StoredChunkInputStream(project.getId()))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                Path entryPath = target.resolve(entry.getName().replace('\\', '/')).normalize();
+                if (!entryPath.startsWith(target) || entryPath.equals(target)) {
+                    throw new InternalServerErrorException("Project Archive Contains An Invalid Entry");
+                }
+                if (entry.isDirectory()) {
+                    Files.createDirectories(entryPath);
+                    continue;
+                }
+                Files.createDirectories(entryPath.getParent());
+                Files.copy(zis, entryPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
+    private void writeHotArchive(ByteBuffer archive, OutputStream outputStream) throws IOException {
+        if (archive.hasArray()) {
+            outputStream.write(archive.array(), archive.arrayOffset() + archive.position(), archive.remaining());
+        } else {
+            // Response streams only take byte arrays, so off-heap bytes are copied once through a bounded transfer buffer
+            byte[] transfer = new byte[Math.min(archive.remaining(), HOT_TRANSFER_BUFFER_SIZE)];
+            while (archive.hasRemaining()) {
+                int length = Math.min(transfer.length, archive.remaining());
+                archive.get(transfer, 0, length);
+                outputStream.write(transfer, 0, length);
+            }
+        }
+        outputStream.flush();
+    }
+
+    private void writeArchiveDirectly(GeneratedProject project, OutputStream outputStream) throws IOException {
+        if (project.getStorageType() == ArchiveStorageType.DATABASE) {
+            writeStoredChunks(project, outputStream);
+        } else {
+            writeDirectoryZip(Paths.get(project.getProjectPath()), outputStream);
+        }
+    }
+
+    private void writeCoalescedArchive(GeneratedProject project, OutputStream outputStream) throws IOException {
+        String key = project.getApplicationName();
+        boolean[] leader = {false};
+
+        // Concurrent downloads of the same project join the build already in flight instead of starting their own
+        SharedArchiveBuild build = inFlightBuilds.compute(key, (name, existing) -> {
+            if (existing != null && existing.acquire()) {
+                return existing;
+            }
+            leader[0] = true;
+            SharedArchiveBuild created = new SharedArchiveBuild(Paths.get(coalescingDir, UUID.randomUUID() + ".zip"));
+            created.acquire();
+            return created;
+        });
+
+        if (leader[0]) {
+            long generation = evictionGeneration.get();
+            archiveBuildExecutor.execute(() -> buildSharedArchive(key, project, build, generation));
+        } else {
+            log.debug("Joined in-flight archive build for project '{}'", key);
+        }
+
+        try {
+            build.streamTo(outputStream);
+        } finally {
+            build.release();
+        }
+    }
+
+    private void buildSharedArchive(String key, GeneratedProject project, SharedArchiveBuild build, long generation) {
+        Throwable failure = null;
+        try (OutputStream archiveStream = build.openWriter()) {
+            writeArchiveDirectly(project, archiveStream);
+        } catch (Exception e) {
+            log.warn("Failed to build shared archive for project '{}'", key, e);
+            failure = e;
+        } finally {
+            inFlightBuilds.remove(key, build);
+            build.retire();
+            // Admitted before waiting readers complete, while they still hold the project read lock that evictions wait on
+            if (failure == null) {
+                admitToHotTier(project, build, generation);
+            }
+            build.complete(failure);
+            build.release();
+        }
+    }
+
+    private void admitToHotTier(GeneratedProject project, SharedArchiveBuild build, long generation) {
+        if (hotArchiveCache == null) {
+            return;
+        }
+        // The leader still holds its reference, so the finished file is readable until release
+        try {
+            if (hotArchiveCache.admit(project.getId(), build.getFile())) {
+                // An eviction since the build started may have raced the admission, so the possibly stale copy is dropped
+                if (evictionGeneration.get() != generation) {
+                    hotArchiveCache.invalidate(project.getId());
+                    return;
+                }
+                log.debug("Project '{}' admitted to hot archive tier ({} bytes in use)",
+                        project.getApplicationName(), hotArchiveCache.getUsedBytes());
+            }
+        } catch (IOException e) {
+            log.warn("Failed to admit project '{}' to hot archive tier", project.getApplicationName(), e);
+        }
+    }
+
+    private void writeStoredChunks(GeneratedProject project, OutputStream outputStream) throws IOException {
+        long chunkCount = archiveChunkRepository.countByProjectId(project.getId());
+        if (chunkCount == 0) {
+            throw new InternalServerErrorException("Project Archive Is Not Found");
+        }
+
+        for (int chunkIndex = 0; chunkIndex < chunkCount; chunkIndex++) {
+            ArchiveChunkData chunk = archiveChunkRepository
+                    .findChunkData(project.getId(), chunkIndex)
+                    .orElseThrow(() -> new InternalServerErrorException("Project Archive Is Incomplete"));
+            outputStream.write(chunk.getData());
+        }
+        outputStream.flush();
+    }
+
+    private void writeDirectoryZip(Path sourcePath, OutputStream outputStream) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(outputStream))) {
+            writeDirectoryEntries(sourcePath, zos);
+        }
+    }
+
+    private void writeDirectoryEntries(Path sourcePath, ZipOutputStream zos) throws IOException {
+        try (var fileStream = Files.walk(sourcePath)) {
+            fileStream
+                    .filter(Files::isRegularFile)
+                    .forEach(path -> {
+                        try {
+                            String entryName = sourcePath.relativize(path).toString();
+                            zos.putNextEntry(new ZipEntry(entryName));
+                            Files.copy(path, zos);
+                            zos.closeEntry();
+                        } catch (IOException e) {
+                            throw new InternalServerErrorException(e.getMessage());
+                        }
+                    });
+        }
+    }
+
+    private class StoredChunkInputStream extends InputStream {
+        private final Long projectId;
+        private final long chunkCount;
+        private int nextChunkIndex;
+        private byte[] current = new byte[0];
+        private int position;
+
+        StoredChunkInputStream(Long projectId) {
+            this.projectId = projectId;
+            this.chunkCount = archiveChunkRepository.countByProjectId(projectId);
+            if (chunkCount == 0) {
+                throw new InternalServerErrorException("Project Archive Is Not Found");
+            }
+        }
+
+        @Override
+        public int read() {
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!ensureAvailable()) {
+                return -1;
+            }
+            int copied = Math.min(length, current.length - position);
+            System.arraycopy(current, position, bytes, offset, copied);
+            position += copied;
+            return copied;
+        }
+
+        private boolean ensureAvailable() {
+            while (position == current.length) {
+                if (nextChunkIndex >= chunkCount) {
+                    return false;
+                }
+                current = archiveChunkRepository
+                        .findChunkData(projectId, nextChunkIndex++)
+                        .orElseThrow(() -> new InternalServerErrorException("Project Archive Is Incomplete"))
+                        .getData();
+                position = 0;
+            }
+            return true;
+        }
+    }
+
+    private class ChunkedArchiveOutputStream extends OutputStream {
+        private final Long projectId;
+        private final byte[] buffer;
+        private int position;
+        private int chunkCount;
+        private long totalBytes;
+
+        ChunkedArchiveOutputStream(Long projectId, int chunkSize) {
+            this.projectId = projectId;
+            this.buffer = new byte[chunkSize];
+        }
+
+        @Override
+        public void write(int b) {
+            if (position == buffer.length) {
+                persistChunk();
+            }
+            buffer[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            while (length > 0) {
+                if (position == buffer.length) {
+                    persistChunk();
+                }
+                int copied = Math.min(length, buffer.length - position);
+                System.arraycopy(bytes, offset, buffer, position, copied);
+                position += copied;
+                offset += copied;
+                length -= copied;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (position > 0) {
+                persistChunk();
+            }
+        }
+
+        int getChunkCount() {
+            return chunkCount;
+        }
+
+        long getTotalBytes() {
+            return totalBytes;
+        }
+
+        private void persistChunk() {
+            byte[] data = new byte[position];
+            System.arraycopy(buffer, 0, data, 0, position);
+
+            GeneratedProjectArchiveChunk chunk = new GeneratedProjectArchiveChunk(null, projectId, chunkCount, data);
+            entityManager.persist(chunk);
+            entityManager.flush();
+            entityManager.detach(chunk);
+
+            chunkCount++;
+            totalBytes += position;
+            position = 0;
+        }
+    }
+}
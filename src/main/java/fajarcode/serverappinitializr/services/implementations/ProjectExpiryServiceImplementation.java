@@ -0,0 +1,260 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.exceptions.NotFoundException;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectExpiryJobResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.enums.ExpiryJobStatus;
+import fajarcode.serverappinitializr.models.projections.ExpiryCandidate;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectArchiveChunkRepository;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectFileRepository;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.ProjectArchiveService;
+import fajarcode.serverappinitializr.services.interfaces.ProjectExpiryService;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import fajarcode.serverappinitializr.utils.ProjectDirectories;
+import fajarcode.serverappinitializr.utils.ProjectLocks;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectExpiryServiceImplementation implements ProjectExpiryService {
+    private final GeneratedProjectRepository generatedProjectRepository;
+    private final GeneratedProjectArchiveChunkRepository archiveChunkRepository;
+    private final GeneratedProjectFileRepository generatedProjectFileRepository;
+    private final ProjectArchiveService projectArchiveService;
+    private final ProjectStatisticsService projectStatisticsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ProjectLocks projectLocks;
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    @Value("${generator.projects-dir:generated-projects}")
+    private String generatedProjectsDir;
+
+    @Value("${generator.expiry.directory-parallelism:8}")
+    private int directoryParallelism;
+
+    private final ConcurrentMap<UUID, ExpiryJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<ExpiryJob> runningJob = new AtomicReference<>();
+    private ExecutorService expiryExecutor;
+
+    @PostConstruct
+    void startExpiryExecutor() {
+        expiryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @PreDestroy
+    void stopExpiryExecutor() {
+        expiryExecutor.shutdownNow();
+    }
+
+    @Override
+    public BaseResponse<ProjectExpiryJobResponse> startExpiry(ProjectExpiryRequest request) {
+        if (request.getCreatedBefore() == null && request.getOlderThanDays() == null
+                && request.getApplicationNamePattern() == null && request.getMaxDownloadCount() == null) {
+            throw new BadRequestException("At Least One Expiry Criterion Is Required");
+        }
+        if (request.getApplicationNamePattern() != null && request.getApplicationNamePattern().isBlank()) {
+            throw new BadRequestException("Application Name Pattern Must Not Be Blank");
+        }
+
+        pruneFinishedJobs();
+        ExpiryJob job = new ExpiryJob(UUID.randomUUID());
+        if (!runningJob.compareAndSet(null, job)) {
+            throw new BadRequestException("An Expiry Job Is Already Running");
+        }
+        jobs.put(job.id, job);
+        expiryExecutor.execute(() -> runExpiry(job, request));
+
+        return BaseResponse.success("Project Expiry Started", job.toResponse());
+    }
+
+    @Override
+    public BaseResponse<ProjectExpiryJobResponse> getExpiryJob(UUID jobId) {
+        ExpiryJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new NotFoundException("Expiry Job Not Found");
+        }
+        return BaseResponse.success("Expiry Job Successfully Retrieved", job.toResponse());
+    }
+
+    private void runExpiry(ExpiryJob job, ProjectExpiryRequest request) {
+        Path projectsRoot = Paths.get(generatedProjectsDir);
+        Semaphore directorySlots = new Semaphore(Math.max(1, directoryParallelism));
+        List<Future<?>> directoryDeletes = new ArrayList<>();
+
+        try {
+            LocalDateTime createdBefore = effectiveCreatedBefore(request);
+            // Projects generated after the job started are never considered, whatever the criteria
+            Long maxId = generatedProjectRepository.findMaxId().orElse(0L);
+            Long afterId = null;
+
+            while (true) {
+                List<ExpiryCandidate> batch = generatedProjectRepository.findExpiryCandidates(
+                        request, createdBefore, afterId, maxId, request.getBatchSize());
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.getLast().getId();
+
+                List<ExpiryCandidate> expired = deleteIdleProjects(job, batch);
+                job.completedBatches.incrementAndGet();
+
+                // Rows are already gone, so directories are removed in the background while the next batch is selected
+                for (ExpiryCandidate candidate : expired) {
+                    if (candidate.getProjectPath() == null) {
+                        continue;
+                    }
+                    directorySlots.acquire();
+                    directoryDeletes.add(expiryExecutor.submit(() -> {
+                        try {
+                            deleteDirectory(job, projectsRoot, candidate);
+                        } finally {
+                            directorySlots.release();
+                        }
+                    }));
+                }
+            }
+
+            for (Future<?> directoryDelete : directoryDeletes) {
+                directoryDelete.get();
+            }
+            job.finish(ExpiryJobStatus.COMPLETED, null);
+            log.info("Expiry job {} deleted {} project(s), skipped {} busy project(s), {} directory deletion(s) failed",
+                    job.id, job.deletedProjects.get(), job.skippedProjects.get(), job.failedDirectories.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(ExpiryJobStatus.FAILED, "Expiry Job Was Interrupted");
+        } catch (Exception e) {
+            log.error("Expiry job {} failed", job.id, e);
+            job.finish(ExpiryJobStatus.FAILED, e.getMessage());
+        } finally {
+            runningJob.compareAndSet(job, null);
+            if (job.deletedProjects.get() > 0) {
+                projectStatisticsService.rebuild();
+            }
+        }
+    }
+
+    // Projects with a download or regenerate in progress keep their stripe busy and are skipped rather than waited on
+    private List<ExpiryCandidate> deleteIdleProjects(ExpiryJob job, List<ExpiryCandidate> batch) {
+        List<Lock> heldLocks = new ArrayList<>();
+        List<ExpiryCandidate> expired = new ArrayList<>();
+        try {
+            for (ExpiryCandidate candidate : batch) {
+                Lock lock = projectLocks.forProject(candidate.getApplicationName()).writeLock();
+                if (lock.tryLock()) {
+                    heldLocks.add(lock);
+                    expired.add(candidate);
+                } else {
+                    job.skippedProjects.incrementAndGet();
+                }
+            }
+            if (expired.isEmpty()) {
+                return expired;
+            }
+
+            List<Long> ids = expired.stream().map(ExpiryCandidate::getId).toList();
+            transactionTemplate.executeWithoutResult(status -> {
+                archiveChunkRepository.deleteByProjectIdIn(ids);
+                generatedProjectFileRepository.deleteByProjectIdIn(ids);
+                generatedProjectRepository.deleteAllByIdInBatch(ids);
+            });
+            ids.forEach(projectArchiveService::evictArchive);
+            job.deletedProjects.addAndGet(ids.size());
+            return expired;
+        } finally {
+            heldLocks.forEach(Lock::unlock);
+        }
+    }
+
+    private void deleteDirectory(ExpiryJob job, Path projectsRoot, ExpiryCandidate candidate) {
+        try {
+            if (ProjectDirectories.deleteRecursively(projectsRoot, Paths.get(candidate.getProjectPath()))) {
+                job.deletedDirectories.incrementAndGet();
+            }
+        } catch (IOException e) {
+            job.failedDirectories.incrementAndGet();
+            log.warn("Failed to delete directory of expired project '{}'", candidate.getApplicationName(), e);
+        }
+    }
+
+    private LocalDateTime effectiveCreatedBefore(ProjectExpiryRequest request) {
+        LocalDateTime byAge = request.getOlderThanDays() != null
+                ? LocalDateTime.now().minusDays(request.getOlderThanDays()) : null;
+        if (byAge == null) {
+            return request.getCreatedBefore();
+        }
+        if (request.getCreatedBefore() == null) {
+            return byAge;
+        }
+        return byAge.isBefore(request.getCreatedBefore()) ? byAge : request.getCreatedBefore();
+    }
+
+    private void pruneFinishedJobs() {
+        Instant cutoff = Instant.now().minus(FINISHED_JOB_RETENTION);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private static class ExpiryJob {
+        private final UUID id;
+        private final Instant startedAt = Instant.now();
+        private final AtomicLong deletedProjects = new AtomicLong();
+        private final AtomicLong skippedProjects = new AtomicLong();
+        private final AtomicLong deletedDirectories = new AtomicLong();
+        private final AtomicLong failedDirectories = new AtomicLong();
+        private final AtomicInteger completedBatches = new AtomicInteger();
+        private volatile ExpiryJobStatus status = ExpiryJobStatus.RUNNING;
+        private volatile Instant finishedAt;
+        private volatile String errorMessage;
+
+        ExpiryJob(UUID id) {
+            this.id = id;
+        }
+
+        void finish(ExpiryJobStatus finalStatus, String message) {
+            errorMessage = message;
+            finishedAt = Instant.now();
+            status = finalStatus;
+        }
+
+        ProjectExpiryJobResponse toResponse() {
+            ProjectExpiryJobResponse response = new ProjectExpiryJobResponse();
+            response.setJobId(id);
+            response.setStatus(status);
+            response.setDeletedProjects(deletedProjects.get());
+            response.setSkippedProjects(skippedProjects.get());
+            response.setDeletedDirectories(deletedDirectories.get());
+            response.setFailedDirectories(failedDirectories.get());
+            response.setCompletedBatches(completedBatches.get());
+            response.setStartedAt(startedAt);
+            response.setFinishedAt(finishedAt);
+            response.setErrorMessage(errorMessage);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ActivityCountResponse;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectStatisticsResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.models.projections.ProjectActivityAggregate;
+import fajarcode.serverappinitializr.models.projections.ProjectOptions;
+import fajarcode.serverappinitializr.models.projections.RecentProjectActivity;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import fajarcode.serverappinitializr.utils.RollingWindowCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProjectStatisticsServiceImplementation implements ProjectStatisticsService, SmartInitializingSingleton {
+    private final GeneratedProjectRepository generatedProjectRepository;
+
+    private static final int[] WINDOW_MINUTES = {1, 5, 15, 60};
+    private static final int RETAINED_MINUTES = 60;
+    private static final String NO_FEATURES = "none";
+
+    private volatile ActivityStatistics statistics = new ActivityStatistics();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("Failed to rebuild project statistics from database, starting empty", e);
+        }
+    }
+
+    @Override
+    public void recordGeneration(GeneratedProject project) {
+        runAfterCommit(() -> statistics.record(dimensionsOf(project), 1, 0, currentEpochMinute()));
+    }
+
+    @Override
+    public void recordDownload(GeneratedProject project) {
+        runAfterCommit(() -> statistics.record(dimensionsOf(project), 0, 1, currentEpochMinute()));
+    }
+
+    @Override
+    public void recordRegeneration(GeneratedProject project, GenerateProjectRequest options) {
+        // Read before the new options are copied onto the project, the totals then move to the project's new dimensions
+        String[] before = dimensionsOf(project);
+        String[] after = dimensionsOf(options);
+        if (Arrays.equals(before, after)) {
+            return;
+        }
+        long downloads = project.getDownloadCount() != null ? project.getDownloadCount() : 0;
+        // Only the lifetime totals move, the short rolling windows keep the dimensions the activity happened under
+        runAfterCommit(() -> {
+            statistics.record(before, -1, -downloads, -1);
+            statistics.record(after, 1, downloads, -1);
+        });
+    }
+
+    @Override
+    public void rebuild() {
+        ActivityStatistics rebuilt = new ActivityStatistics();
+
+        for (ProjectActivityAggregate aggregate : generatedProjectRepository.aggregateActivity()) {
+            rebuilt.record(dimensionsOf(aggregate), aggregate.getGenerations(), aggregate.getDownloads(), -1);
+        }
+
+        // Download timestamps are not persisted, so only generations can be replayed into the rolling windows
+        LocalDateTime since = LocalDateTime.now().minusMinutes(RETAINED_MINUTES);
+        for (RecentProjectActivity activity : generatedProjectRepository.findActivityCreatedSince(since)) {
+            rebuilt.recordRecentGeneration(dimensionsOf(activity), toEpochMinute(activity.getCreatedAt()));
+        }
+
+        statistics = rebuilt;
+        log.info("Project statistics rebuilt: {} generation(s), {} download(s)",
+                rebuilt.total.generations.sum(), rebuilt.total.downloads.sum());
+    }
+
+    @Override
+    public BaseResponse<ProjectStatisticsResponse> getStatistics() {
+        ActivityStatistics current = statistics;
+        long epochMinute = currentEpochMinute();
+
+        ProjectStatisticsResponse response = new ProjectStatisticsResponse();
+        response.setTotal(toResponse(current.total, epochMinute));
+        response.setByFramework(toResponse(current.byFramework, epochMinute));
+        response.setByDatabase(toResponse(current.byDatabase, epochMinute));
+        response.setByStack(toResponse(current.byStack, epochMinute));
+        response.setByBuildTool(toResponse(current.byBuildTool, epochMinute));
+        response.setByFeatureCombination(toResponse(current.byFeatureCombination, epochMinute));
+        response.setRebuiltAt(current.rebuiltAt);
+
+        return BaseResponse.success("Statistics Successfully Retrieved", response);
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String[] dimensionsOf(ProjectOptions options) {
+        StringJoiner features = new StringJoiner("+");
+        addFeature(features, "jwtAuth", options.getJwtAuthEnabled());
+        addFeature(features, "baseEntity", options.getBaseEntityEnabled());
+        addFeature(features, "baseResponse", options.getBaseResponseEnabled());
+        addFeature(features, "docker", options.getDockerEnabled());
+        addFeature(features, "cache", options.getCacheEnabled());
+        addFeature(features, "observability", options.getObservabilityEnabled());
+        addFeature(features, "jmh", options.getJmhEnabled());
+        addFeature(features, "nativeImage", options.getNativeImageEnabled());
+        addFeature(features, "performanceProfile", options.getPerformanceProfileEnabled());
+        // Rows generated before build tools and stacks were selectable have neither column set
+        return new String[]{
+                String.valueOf(options.getFrameworkType()),
+                String.valueOf(options.getDatabaseType()),
+                String.valueOf(options.getStack() != null ? options.getStack() : StackType.SERVLET),
+                String.valueOf(options.getBuildTool() != null ? options.getBuildTool() : BuildTool.MAVEN),
+                features.length() > 0 ? features.toString() : NO_FEATURES
+        };
+    }
+
+    private void addFeature(StringJoiner features, String feature, Boolean enabled) {
+        if (Boolean.TRUE.equals(enabled)) {
+            features.add(feature);
+        }
+    }
+
+    private Map<String, ActivityCountResponse> toResponse(Map<String, ActivityCounter> counters, long epochMinute) {
+        Map<String, ActivityCountResponse> response = new TreeMap<>();
+        counters.forEach((key, counter) -> response.put(key, toResponse(counter, epochMinute)));
+        return response;
+    }
+
+    private ActivityCountResponse toResponse(ActivityCounter counter, long epochMinute) {
+        Map<String, Long> recentGenerations = new LinkedHashMap<>();
+        Map<String, Long> recentDownloads = new LinkedHashMap<>();
+        for (int window : WINDOW_MINUTES) {
+            recentGenerations.put(window + "m", counter.recentGenerations.sum(epochMinute, window));
+            recentDownloads.put(window + "m", counter.recentDownloads.sum(epochMinute, window));
+        }
+        return new ActivityCountResponse(counter.generations.sum(), counter.downloads.sum(), recentGenerations, recentDownloads);
+    }
+
+    private static long currentEpochMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private static long toEpochMinute(LocalDateTime dateTime) {
+        return TimeUnit.MILLISECONDS.toMinutes(dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static class ActivityStatistics {
+        private final ActivityCounter total = new ActivityCounter();
+        private final ConcurrentMap<String, ActivityCounter> byFramework = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActivityCounter> byDatabase = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActivityCounter> byStack = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActivityCounter> byBuildTool = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, ActivityCounter> byFeatureCombination = new ConcurrentHashMap<>();
+        // In the order dimensionsOf lays the dimensions out
+        private final List<ConcurrentMap<String, ActivityCounter>> byDimension =
+                List.of(byFramework, byDatabase, byStack, byBuildTool, byFeatureCombination);
+        private final Instant rebuiltAt = Instant.now();
+
+        void record(String[] dimensions, long generations, long downloads, long epochMinute) {
+            total.record(generations, downloads, epochMinute);
+            for (int i = 0; i < dimensions.length; i++) {
+                byDimension.get(i).computeIfAbsent(dimensions[i], key -> new ActivityCounter()).record(generations, downloads, epochMinute);
+            }
+        }
+
+        void recordRecentGeneration(String[] dimensions, long epochMinute) {
+            total.recentGenerations.add(epochMinute, 1);
+            for (int i = 0; i < dimensions.length; i++) {
+                byDimension.get(i).computeIfAbsent(dimensions[i], key -> new ActivityCounter()).recentGenerations.add(epochMinute, 1);
+            }
+        }
+    }
+
+    private static class ActivityCounter {
+        private final LongAdder generations = new LongAdder();
+        private final LongAdder downloads = new LongAdder();
+        private final RollingWindowCounter recentGenerations = new RollingWindowCounter(RETAINED_MINUTES);
+        private final RollingWindowCounter recentDownloads = new RollingWindowCounter(RETAINED_MINUTES);
+
+        void record(long generationCount, long downloadCount, long epochMinute) {
+            generations.add(generationCount);
+            downloads.add(downloadCount);
+            if (epochMinute >= 0) {
+                if (generationCount > 0) {
+                    recentGenerations.add(epochMinute, generationCount);
+                }
+                if (downloadCount > 0) {
+                    recentDownloads.add(epochMinute, downloadCount);
+                }
+            }
+        }
+    }
+}
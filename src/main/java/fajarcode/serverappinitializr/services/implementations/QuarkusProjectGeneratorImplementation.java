@@ -0,0 +1,756 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+import fajarcode.serverappinitializr.models.enums.PomFeature;
+import fajarcode.serverappinitializr.models.enums.PomSection;
+import fajarcode.serverappinitializr.models.enums.QuarkusExtension;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.CrudSourceGeneratorService;
+import fajarcode.serverappinitializr.services.interfaces.GenerationProgressListener;
+import fajarcode.serverappinitializr.services.interfaces.ProjectGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class QuarkusProjectGeneratorImplementation implements ProjectGenerator {
+    private final CrudSourceGeneratorService crudSourceGeneratorService;
+
+    private static final String QUARKUS_PLATFORM_VERSION = "3.6.4";
+    private static final String LOMBOK_VERSION = "1.18.40";
+    private static final String SOURCE_MAIN_JAVA = "/src/main/java/";
+    private static final String ADD_GENERATED_FILES_SOURCE = "src/main/java/";
+    private static final String PACKAGE = "package ";
+    private static final String IMPORT = "import ";
+    private static final String DELIMITER_PATH = "/";
+    private static final String INDENT = "    ";
+    private static final String BLOCK_CLOSE = INDENT + "}\n";
+    private static final String BLOCK_CLOSE_WITH_NEWLINE = INDENT + "}\n\n";
+
+    @Override
+    public FrameworkType getFrameworkType() {
+        return FrameworkType.QUARKUS;
+    }
+
+    @Override
+    public void validate(GenerateProjectRequest request, boolean fromOpenApiSpec) {
+        if (fromOpenApiSpec) {
+            throw new BadRequestException("OpenAPI Generation Is Not Supported For Quarkus");
+        }
+        if (request.getBuildTool() != BuildTool.MAVEN) {
+            throw new BadRequestException("Quarkus Projects Only Support Maven");
+        }
+        // RESTEasy Reactive already serves requests on the event loop, so there is no separate reactive variant
+        if (request.getStack() != StackType.SERVLET) {
+            throw new BadRequestException("Reactive Stack Is Not Supported For Quarkus");
+        }
+        if (request.getJmhEnabled()) {
+            throw new BadRequestException("JMH Benchmarks Are Not Supported For Quarkus");
+        }
+    }
+
+    @Override
+    public Map<String, GenerationStep> render(String projectPath, String packageName, GenerateProjectRequest request, InputStream openApiSpec,
+                                              Set<GenerationStep> steps, GenerationProgressListener listener) throws IOException {
+        Map<String, GenerationStep> fileSteps = new LinkedHashMap<>();
+        List<String> generatedFiles = new ArrayList<>();
+
+        for (GenerationStep step : steps) {
+            int renderedBefore = generatedFiles.size();
+            switch (step) {
+                case POM_XML -> generatePomXml(projectPath, request, generatedFiles);
+                case APPLICATION_PROPERTIES -> generateApplicationProperties(projectPath, request, generatedFiles);
+                case BASE_ENTITY -> {
+                    if (request.getBaseEntityEnabled()) {
+                        generateBaseEntity(projectPath, packageName, request.getDatabaseType(), generatedFiles);
+                    }
+                }
+                case BASE_RESPONSES -> {
+                    if (request.getBaseResponseEnabled()) {
+                        generateSuccessResponse(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case JWT_COMPONENTS -> {
+                    if (request.getJwtAuthEnabled()) {
+                        generateTokenService(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case SAMPLE_ENTITY -> generateSampleEntity(projectPath, packageName, request, generatedFiles);
+                case SAMPLE_PAGINATION -> generateSamplePagination(projectPath, packageName, generatedFiles);
+                case SAMPLE_SERVICE -> generateSampleService(projectPath, packageName, request, generatedFiles);
+                case SAMPLE_CONTROLLER -> generateSampleResource(projectPath, packageName, request, generatedFiles);
+                case CRUD_SOURCES -> crudSourceGeneratorService.generateEntities(projectPath, packageName, request, generatedFiles);
+                case DOCKERFILE -> {
+                    if (request.getDockerEnabled()) {
+                        generateDockerfile(projectPath, request, generatedFiles);
+                    }
+                }
+                default -> {
+                    // Spring-only steps (main class, OpenAPI, hints...) have no Quarkus output
+                }
+            }
+            for (int i = renderedBefore; i < generatedFiles.size(); i++) {
+                fileSteps.put(generatedFiles.get(i), step);
+                listener.onProgress(GenerationStage.FILE_RENDERED, generatedFiles.get(i));
+            }
+        }
+        return fileSteps;
+    }
+
+    private void generatePomXml(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String groupId = request.getGroupId() != null ? request.getGroupId() : "com.example";
+        String artifactId = request.getArtifactId() != null ? request.getArtifactId() : request.getApplicationName().toLowerCase();
+        String version = request.getVersion() != null ? request.getVersion() : "1.0.0";
+        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
+
+        Set<PomFeature> features = EnumSet.of(PomFeature.CORE);
+        if (request.getJwtAuthEnabled()) {
+            features.add(PomFeature.JWT_AUTH);
+        }
+        if (request.getCacheEnabled()) {
+            features.add(PomFeature.CACHE);
+        }
+        if (request.getObservabilityEnabled()) {
+            features.add(PomFeature.OBSERVABILITY);
+        }
+
+        StringBuilder pom = new StringBuilder();
+        pom.append(PomSection.HEADER.getTemplate());
+        pom.append("\n");
+        pom.append("    <groupId>").append(groupId).append("</groupId>\n");
+        pom.append("    <artifactId>").append(artifactId).append("</artifactId>\n");
+        pom.append("    <version>").append(version).append("</version>\n");
+        pom.append("    <name>").append(request.getApplicationName()).append("</name>\n");
+        pom.append("    <description>Generated Quarkus Application</description>\n\n");
+
+        pom.append("    <properties>\n");
+        pom.append("        <maven.compiler.release>").append(javaVersion).append("</maven.compiler.release>\n");
+        pom.append("        <project.build.sourceEncoding>UTF-8</project.build.sourceEncoding>\n");
+        pom.append("        <quarkus.platform.group-id>io.quarkus.platform</quarkus.platform.group-id>\n");
+        pom.append("        <quarkus.platform.artifact-id>quarkus-bom</quarkus.platform.artifact-id>\n");
+        pom.append("        <quarkus.platform.version>").append(QUARKUS_PLATFORM_VERSION).append("</quarkus.platform.version>\n");
+        pom.append("        <lombok.version>").append(LOMBOK_VERSION).append("</lombok.version>\n");
+        pom.append("        <compiler-plugin.version>3.11.0</compiler-plugin.version>\n");
+        pom.append("        <surefire-plugin.version>3.2.2</surefire-plugin.version>\n");
+        pom.append("        <skipITs>true</skipITs>\n");
+        pom.append("    </properties>\n\n");
+
+        pom.append("    <dependencyManagement>\n");
+        pom.append("        <dependencies>\n");
+        pom.append("            <dependency>\n");
+        pom.append("                <groupId>${quarkus.platform.group-id}</groupId>\n");
+        pom.append("                <artifactId>${quarkus.platform.artifact-id}</artifactId>\n");
+        pom.append("                <version>${quarkus.platform.version}</version>\n");
+        pom.append("                <type>pom</type>\n");
+        pom.append("                <scope>import</scope>\n");
+        pom.append("            </dependency>\n");
+        pom.append("        </dependencies>\n");
+        pom.append("    </dependencyManagement>\n");
+
+        pom.append(PomSection.DEPENDENCIES_OPEN.getTemplate());
+        for (QuarkusExtension extension : QuarkusExtension.values()) {
+            if (features.contains(extension.getFeature()) && !extension.isJdbcDriver()) {
+                pom.append(extension.toXml());
+            }
+        }
+        pom.append(QuarkusExtension.jdbcDriverFor(request.getDatabaseType()).toXml());
+        pom.append(PomSection.DEPENDENCIES_CLOSE.getTemplate());
+
+        pom.append("\n    <build>\n");
+        pom.append("        <plugins>\n");
+        pom.append("            <plugin>\n");
+        pom.append("                <groupId>${quarkus.platform.group-id}</groupId>\n");
+        pom.append("                <artifactId>quarkus-maven-plugin</artifactId>\n");
+        pom.append("                <version>${quarkus.platform.version}</version>\n");
+        pom.append("                <extensions>true</extensions>\n");
+        pom.append("                <executions>\n");
+        pom.append("                    <execution>\n");
+        pom.append("                        <goals>\n");
+        pom.append("                            <goal>build</goal>\n");
+        pom.append("                            <goal>generate-code</goal>\n");
+        pom.append("                            <goal>generate-code-tests</goal>\n");
+        pom.append("                        </goals>\n");
+        pom.append("                    </execution>\n");
+        pom.append("                </executions>\n");
+        pom.append("            </plugin>\n");
+        pom.append("            <plugin>\n");
+        pom.append("                <artifactId>maven-compiler-plugin</artifactId>\n");
+        pom.append("                <version>${compiler-plugin.version}</version>\n");
+        pom.append("                <configuration>\n");
+        pom.append("                    <compilerArgs>\n");
+        pom.append("                        <arg>-parameters</arg>\n");
+        pom.append("                    </compilerArgs>\n");
+        pom.append("                </configuration>\n");
+        pom.append("            </plugin>\n");
+        pom.append("            <plugin>\n");
+        pom.append("                <artifactId>maven-surefire-plugin</artifactId>\n");
+        pom.append("                <version>${surefire-plugin.version}</version>\n");
+        pom.append("                <configuration>\n");
+        pom.append("                    <systemPropertyVariables>\n");
+        pom.append("                        <java.util.logging.manager>org.jboss.logmanager.LogManager</java.util.logging.manager>\n");
+        pom.append("                        <maven.home>${maven.home}</maven.home>\n");
+        pom.append("                    </systemPropertyVariables>\n");
+        pom.append("                </configuration>\n");
+        pom.append("            </plugin>\n");
+        pom.append("            <plugin>\n");
+        pom.append("                <artifactId>maven-failsafe-plugin</artifactId>\n");
+        pom.append("                <version>${surefire-plugin.version}</version>\n");
+        pom.append("                <executions>\n");
+        pom.append("                    <execution>\n");
+        pom.append("                        <goals>\n");
+        pom.append("                            <goal>integration-test</goal>\n");
+        pom.append("                            <goal>verify</goal>\n");
+        pom.append("                        </goals>\n");
+        pom.append("                    </execution>\n");
+        pom.append("                </executions>\n");
+        pom.append("                <configuration>\n");
+        pom.append("                    <systemPropertyVariables>\n");
+        pom.append("                        <native.image.path>${project.build.directory}/${project.build.finalName}-runner</native.image.path>\n");
+        pom.append("                        <java.util.logging.manager>org.jboss.logmanager.LogManager</java.util.logging.manager>\n");
+        pom.append("                        <maven.home>${maven.home}</maven.home>\n");
+        pom.append("                    </systemPropertyVariables>\n");
+        pom.append("                </configuration>\n");
+        pom.append("            </plugin>\n");
+        pom.append("        </plugins>\n");
+        pom.append("    </build>\n");
+
+        pom.append("\n    <profiles>\n");
+        pom.append("        <!-- Native executable: mvn -Pnative package -->\n");
+        pom.append("        <profile>\n");
+        pom.append("            <id>native</id>\n");
+        pom.append("            <activation>\n");
+        pom.append("                <property>\n");
+        pom.append("                    <name>native</name>\n");
+        pom.append("                </property>\n");
+        pom.append("            </activation>\n");
+        pom.append("            <properties>\n");
+        pom.append("                <skipITs>false</skipITs>\n");
+        pom.append("                <quarkus.package.type>native</quarkus.package.type>\n");
+        pom.append("            </properties>\n");
+        pom.append("        </profile>\n");
+        pom.append("    </profiles>\n");
+        pom.append(PomSection.PROJECT_CLOSE.getTemplate());
+
+        write(projectPath + "/pom.xml", pom);
+        generatedFiles.add("pom.xml");
+    }
+
+    private void generateApplicationProperties(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        DatabaseType dbType = request.getDatabaseType();
+        StringBuilder props = new StringBuilder();
+
+        props.append("# Application Configuration\n");
+        props.append("quarkus.application.name=").append(request.getApplicationName()).append("\n");
+        props.append("quarkus.http.port=8080\n\n");
+
+        props.append("# Datasource Configuration\n");
+        props.append("quarkus.datasource.db-kind=").append(QuarkusExtension.dbKindFor(dbType)).append("\n");
+        props.append("quarkus.datasource.jdbc.url=").append(dbType.getUrlPrefix()).append("your_database_name").append(dbType.getBatchUrlParameters()).append("\n");
+        props.append("quarkus.datasource.username=your_username\n");
+        props.append("quarkus.datasource.password=your_password\n\n");
+
+        props.append("# Hibernate ORM Configuration\n");
+        props.append("quarkus.hibernate-orm.database.generation=update\n");
+        props.append("quarkus.hibernate-orm.log.sql=false\n");
+        props.append("quarkus.hibernate-orm.jdbc.statement-batch-size=").append(DatabaseType.ID_ALLOCATION_SIZE).append("\n");
+
+        if (request.getJwtAuthEnabled()) {
+            props.append("\n# JWT Configuration\n");
+            props.append("jwt.secret=yourSecretKeyHere123456789012345678901234567890\n");
+            props.append("jwt.expiration-seconds=86400\n");
+            props.append("mp.jwt.verify.issuer=").append(request.getApplicationName()).append("\n");
+            props.append("smallrye.jwt.verify.algorithm=HS256\n");
+            props.append("smallrye.jwt.verify.secretkey=${jwt.secret}\n");
+            props.append("# The greeting and the /q endpoints stay public, every other API path needs a bearer token\n");
+            props.append("quarkus.http.auth.permission.public.paths=/api/sample,/q/*\n");
+            props.append("quarkus.http.auth.permission.public.policy=permit\n");
+            props.append("quarkus.http.auth.permission.authenticated.paths=/api/*\n");
+            props.append("quarkus.http.auth.permission.authenticated.policy=authenticated\n");
+        }
+
+        if (request.getCacheEnabled()) {
+            props.append("\n# Cache Configuration\n");
+            props.append("quarkus.cache.caffeine.\"sample-data\".maximum-size=1000\n");
+            props.append("quarkus.cache.caffeine.\"sample-data\".expire-after-write=10M\n");
+            props.append("quarkus.cache.caffeine.\"sample-data\".metrics-enabled=").append(request.getObservabilityEnabled()).append("\n");
+        }
+
+        if (request.getObservabilityEnabled()) {
+            props.append("\n# Observability Configuration\n");
+            props.append("quarkus.micrometer.binder.http-server.enabled=true\n");
+            props.append("quarkus.micrometer.binder.jvm=true\n");
+            props.append("quarkus.micrometer.export.prometheus.path=/q/metrics\n");
+            props.append("quarkus.datasource.health.enabled=true\n");
+        }
+
+        if (request.getNativeImageEnabled()) {
+            props.append("\n# Native Image Configuration\n");
+            props.append("# Builds inside a Mandrel container, so no local GraalVM install is needed for mvn -Pnative package\n");
+            props.append("quarkus.native.container-build=true\n");
+        }
+
+        if (request.getPerformanceProfileEnabled()) {
+            appendPerformanceProfile(props, dbType);
+        }
+
+        write(projectPath + "/src/main/resources/application.properties", props);
+        generatedFiles.add("src/main/resources/application.properties");
+    }
+
+    private void appendPerformanceProfile(StringBuilder props, DatabaseType dbType) {
+        int poolSize = switch (dbType) {
+            case MYSQL -> 20;
+            // Every PostgreSQL connection is a backend process, so keep the pool small
+            case POSTGRESQL -> 16;
+            case SQLSERVER, ORACLE -> 30;
+        };
+        props.append("\n# Performance Profile\n");
+        props.append("quarkus.shutdown.timeout=30S\n");
+        props.append("quarkus.datasource.jdbc.min-size=").append(poolSize).append("\n");
+        props.append("quarkus.datasource.jdbc.initial-size=").append(poolSize).append("\n");
+        props.append("quarkus.datasource.jdbc.max-size=").append(poolSize).append("\n");
+        props.append("quarkus.datasource.jdbc.acquisition-timeout=3S\n");
+        props.append("quarkus.datasource.jdbc.idle-removal-interval=10M\n");
+        props.append("quarkus.datasource.jdbc.max-lifetime=30M\n");
+        props.append("quarkus.datasource.jdbc.background-validation-interval=5M\n");
+        if (dbType == DatabaseType.MYSQL) {
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.cachePrepStmts=true\n");
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.prepStmtCacheSize=250\n");
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.prepStmtCacheSqlLimit=2048\n");
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.useServerPrepStmts=true\n");
+        } else if (dbType == DatabaseType.POSTGRESQL) {
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.prepareThreshold=3\n");
+            props.append("quarkus.datasource.jdbc.additional-jdbc-properties.preparedStatementCacheQueries=256\n");
+        }
+    }
+
+    private void generateBaseEntity(String projectPath, String packageName, DatabaseType dbType, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder source = new StringBuilder();
+
+        source.append(PACKAGE).append(packageName).append(".models.entities.baseentity;\n\n");
+        source.append("import io.quarkus.hibernate.orm.panache.PanacheEntityBase;\n");
+        source.append("import jakarta.persistence.*;\n");
+        source.append("import org.hibernate.annotations.CreationTimestamp;\n");
+        source.append("import org.hibernate.annotations.UpdateTimestamp;\n\n");
+        source.append("import java.time.LocalDateTime;\n\n");
+        source.append("@MappedSuperclass\n");
+        source.append("public abstract class BaseEntity extends PanacheEntityBase {\n\n");
+        source.append("    @Id\n");
+        source.append(dbType.idGeneration(null));
+        source.append("    public Long id;\n\n");
+        source.append("    @CreationTimestamp\n");
+        source.append("    @Column(name = \"created_at\", nullable = false, updatable = false)\n");
+        source.append("    public LocalDateTime createdAt;\n\n");
+        source.append("    @UpdateTimestamp\n");
+        source.append("    @Column(name = \"updated_at\")\n");
+        source.append("    public LocalDateTime updatedAt;\n");
+        source.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/entities/baseentity/BaseEntity.java", source);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/entities/baseentity/BaseEntity.java");
+    }
+
+    private void generateSuccessResponse(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder source = new StringBuilder();
+
+        source.append(PACKAGE).append(packageName).append(".models.dto.response.baseresponse;\n\n");
+        source.append("import com.fasterxml.jackson.annotation.JsonInclude;\n");
+        source.append("import lombok.AllArgsConstructor;\n");
+        source.append("import lombok.Data;\n");
+        source.append("import lombok.NoArgsConstructor;\n\n");
+        source.append("import java.time.LocalDateTime;\n\n");
+        source.append("@Data\n");
+        source.append("@NoArgsConstructor\n");
+        source.append("@AllArgsConstructor\n");
+        source.append("@JsonInclude(JsonInclude.Include.NON_NULL)\n");
+        source.append("public class SuccessResponse<T> {\n\n");
+        source.append("    private boolean success;\n\n");
+        source.append("    private String message;\n\n");
+        source.append("    private T data;\n\n");
+        source.append("    private LocalDateTime timestamp;\n\n");
+        source.append("    public static <T> SuccessResponse<T> of(String message, T data) {\n");
+        source.append("        return new SuccessResponse<>(true, message, data, LocalDateTime.now());\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    public static <T> SuccessResponse<T> of(T data) {\n");
+        source.append("        return of(\"Success\", data);\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/response/baseresponse/SuccessResponse.java", source);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/response/baseresponse/SuccessResponse.java");
+    }
+
+    private void generateTokenService(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder source = new StringBuilder();
+
+        source.append(PACKAGE).append(packageName).append(".security;\n\n");
+        source.append("import io.smallrye.jwt.build.Jwt;\n");
+        source.append("import jakarta.enterprise.context.ApplicationScoped;\n");
+        source.append("import org.eclipse.microprofile.config.inject.ConfigProperty;\n\n");
+        source.append("// Issues HS256 tokens with the same secret and issuer smallrye-jwt verifies incoming bearer tokens against\n");
+        source.append("@ApplicationScoped\n");
+        source.append("public class TokenService {\n\n");
+        source.append("    private final String issuer;\n");
+        source.append("    private final String secret;\n");
+        source.append("    private final long expirationSeconds;\n\n");
+        source.append("    public TokenService(@ConfigProperty(name = \"mp.jwt.verify.issuer\") String issuer,\n");
+        source.append("                        @ConfigProperty(name = \"jwt.secret\") String secret,\n");
+        source.append("                        @ConfigProperty(name = \"jwt.expiration-seconds\") long expirationSeconds) {\n");
+        source.append("        this.issuer = issuer;\n");
+        source.append("        this.secret = secret;\n");
+        source.append("        this.expirationSeconds = expirationSeconds;\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    public String generateToken(String username) {\n");
+        source.append("        return Jwt.issuer(issuer)\n");
+        source.append("                .upn(username)\n");
+        source.append("                .expiresIn(expirationSeconds)\n");
+        source.append("                .signWithSecret(secret);\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/security/TokenService.java", source);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/security/TokenService.java");
+    }
+
+    private void generateSampleEntity(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder source = new StringBuilder();
+
+        source.append(PACKAGE).append(packageName).append(".models.entities;\n\n");
+        if (request.getBaseEntityEnabled()) {
+            source.append(IMPORT).append(packageName).append(".models.entities.baseentity.BaseEntity;\n");
+        } else {
+            source.append("import io.quarkus.hibernate.orm.panache.PanacheEntityBase;\n");
+        }
+        source.append("import jakarta.persistence.*;\n\n");
+        source.append("@Entity\n");
+        source.append("@Table(name = \"sample_entity\", indexes = @Index(name = \"idx_sample_entity_name_id\", columnList = \"name, id\"))\n");
+        if (request.getBaseEntityEnabled()) {
+            source.append("public class SampleEntity extends BaseEntity {\n\n");
+        } else {
+            // PanacheEntity would force a shared hibernate_sequence; the id mapping follows the database instead
+            source.append("public class SampleEntity extends PanacheEntityBase {\n\n");
+            source.append("    @Id\n");
+            source.append(request.getDatabaseType().idGeneration("sample_entity_seq"));
+            source.append("    public Long id;\n\n");
+        }
+        source.append("    @Column(name = \"name\", nullable = false)\n");
+        source.append("    public String name;\n\n");
+        source.append("    @Column(name = \"description\")\n");
+        source.append("    public String description;\n");
+        source.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/entities/SampleEntity.java", source);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/entities/SampleEntity.java");
+    }
+
+    private void generateSamplePagination(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+
+        // Panache projections bind columns to constructor parameters by name, which the -parameters compiler flag keeps
+        StringBuilder summary = new StringBuilder();
+        summary.append(PACKAGE).append(packageName).append(".models.dto.response;\n\n");
+        summary.append("import io.quarkus.runtime.annotations.RegisterForReflection;\n\n");
+        summary.append("@RegisterForReflection\n");
+        summary.append("public class SampleSummary {\n");
+        summary.append("    public final Long id;\n");
+        summary.append("    public final String name;\n\n");
+        summary.append("    public SampleSummary(Long id, String name) {\n");
+        summary.append("        this.id = id;\n");
+        summary.append("        this.name = name;\n");
+        summary.append(BLOCK_CLOSE);
+        summary.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/response/SampleSummary.java", summary);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/response/SampleSummary.java");
+
+        StringBuilder page = new StringBuilder();
+        page.append(PACKAGE).append(packageName).append(".models.dto.response;\n\n");
+        page.append(IMPORT).append(packageName).append(".models.dto.request.SampleCursor;\n\n");
+        page.append("import java.util.List;\n\n");
+        page.append("public class SamplePage {\n");
+        page.append("    public static final int MAX_SIZE = 100;\n\n");
+        page.append("    public final List<SampleSummary> items;\n");
+        page.append("    public final String nextCursor;\n\n");
+        page.append("    public SamplePage(List<SampleSummary> items, String nextCursor) {\n");
+        page.append("        this.items = items;\n");
+        page.append("        this.nextCursor = nextCursor;\n");
+        page.append(BLOCK_CLOSE_WITH_NEWLINE);
+        page.append("    // Expects up to size + 1 rows; the extra row only signals that a next page exists\n");
+        page.append("    public static SamplePage of(List<SampleSummary> rows, int size) {\n");
+        page.append("        if (rows.size() <= size) {\n");
+        page.append("            return new SamplePage(rows, null);\n");
+        page.append("        }\n");
+        page.append("        List<SampleSummary> items = rows.subList(0, size);\n");
+        page.append("        return new SamplePage(items, SampleCursor.of(items.get(size - 1)).encode());\n");
+        page.append(BLOCK_CLOSE);
+        page.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/response/SamplePage.java", page);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/response/SamplePage.java");
+
+        StringBuilder cursor = new StringBuilder();
+        cursor.append(PACKAGE).append(packageName).append(".models.dto.request;\n\n");
+        cursor.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        cursor.append("import jakarta.ws.rs.BadRequestException;\n\n");
+        cursor.append("import java.nio.charset.StandardCharsets;\n");
+        cursor.append("import java.util.Base64;\n\n");
+        cursor.append("// Opaque position of the last row served, so the next page seeks past it instead of skipping an offset\n");
+        cursor.append("public class SampleCursor {\n");
+        cursor.append("    public final String name;\n");
+        cursor.append("    public final Long id;\n\n");
+        cursor.append("    public SampleCursor(String name, Long id) {\n");
+        cursor.append("        this.name = name;\n");
+        cursor.append("        this.id = id;\n");
+        cursor.append(BLOCK_CLOSE_WITH_NEWLINE);
+        cursor.append("    public static SampleCursor of(SampleSummary last) {\n");
+        cursor.append("        return new SampleCursor(last.name, last.id);\n");
+        cursor.append(BLOCK_CLOSE_WITH_NEWLINE);
+        cursor.append("    public String encode() {\n");
+        cursor.append("        return Base64.getUrlEncoder().withoutPadding().encodeToString((id + \":\" + name).getBytes(StandardCharsets.UTF_8));\n");
+        cursor.append(BLOCK_CLOSE_WITH_NEWLINE);
+        cursor.append("    public static SampleCursor decode(String cursor) {\n");
+        cursor.append("        try {\n");
+        cursor.append("            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);\n");
+        cursor.append("            int separator = value.indexOf(':');\n");
+        cursor.append("            return new SampleCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));\n");
+        cursor.append("        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {\n");
+        cursor.append("            throw new BadRequestException(\"Invalid cursor\");\n");
+        cursor.append("        }\n");
+        cursor.append(BLOCK_CLOSE);
+        cursor.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/request/SampleCursor.java", cursor);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/request/SampleCursor.java");
+    }
+
+    private void generateSampleService(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+
+        StringBuilder serviceInterface = new StringBuilder();
+        serviceInterface.append(PACKAGE).append(packageName).append(".services.interfaces;\n\n");
+        serviceInterface.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        serviceInterface.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n\n");
+        serviceInterface.append("import java.util.Optional;\n\n");
+        serviceInterface.append("public interface SampleService {\n");
+        serviceInterface.append("    String getSampleData();\n\n");
+        serviceInterface.append("    SamplePage listSamples(String cursor, int size);\n\n");
+        serviceInterface.append("    Optional<SampleEntity> findById(Long id);\n\n");
+        serviceInterface.append("    SampleEntity create(SampleEntity entity);\n");
+        serviceInterface.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/services/interfaces/SampleService.java", serviceInterface);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/interfaces/SampleService.java");
+
+        StringBuilder serviceImpl = new StringBuilder();
+        serviceImpl.append(PACKAGE).append(packageName).append(".services.implementations;\n\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.request.SampleCursor;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            serviceImpl.append("import io.micrometer.core.annotation.Timed;\n");
+        }
+        if (request.getCacheEnabled()) {
+            serviceImpl.append("import io.quarkus.cache.CacheResult;\n");
+        }
+        serviceImpl.append("import io.quarkus.hibernate.orm.panache.PanacheQuery;\n");
+        serviceImpl.append("import io.quarkus.panache.common.Sort;\n");
+        serviceImpl.append("import jakarta.enterprise.context.ApplicationScoped;\n");
+        serviceImpl.append("import jakarta.transaction.Transactional;\n\n");
+        serviceImpl.append("import java.util.Optional;\n\n");
+        serviceImpl.append("@ApplicationScoped\n");
+        serviceImpl.append("public class SampleServiceImpl implements SampleService {\n\n");
+        serviceImpl.append("    private static final Sort KEYSET_ORDER = Sort.by(\"name\").and(\"id\");\n\n");
+        serviceImpl.append("    @Override\n");
+        if (request.getCacheEnabled()) {
+            serviceImpl.append("    @CacheResult(cacheName = \"sample-data\")\n");
+        }
+        if (request.getObservabilityEnabled()) {
+            serviceImpl.append("    @Timed(value = \"sample.service.data\", percentiles = {0.5, 0.95, 0.99})\n");
+        }
+        serviceImpl.append("    public String getSampleData() {\n");
+        serviceImpl.append("        return \"Sample data from service\";\n");
+        serviceImpl.append(BLOCK_CLOSE_WITH_NEWLINE);
+        serviceImpl.append("    @Override\n");
+        serviceImpl.append("    public SamplePage listSamples(String cursor, int size) {\n");
+        serviceImpl.append("        PanacheQuery<SampleEntity> query;\n");
+        serviceImpl.append("        if (cursor == null) {\n");
+        serviceImpl.append("            query = SampleEntity.findAll(KEYSET_ORDER);\n");
+        serviceImpl.append("        } else {\n");
+        serviceImpl.append("            SampleCursor after = SampleCursor.decode(cursor);\n");
+        serviceImpl.append("            query = SampleEntity.find(\"name > ?1 or (name = ?1 and id > ?2)\", KEYSET_ORDER, after.name, after.id);\n");
+        serviceImpl.append("        }\n");
+        serviceImpl.append("        // One extra row tells whether another page exists without a count query\n");
+        serviceImpl.append("        return SamplePage.of(query.project(SampleSummary.class).range(0, size).list(), size);\n");
+        serviceImpl.append(BLOCK_CLOSE_WITH_NEWLINE);
+        serviceImpl.append("    @Override\n");
+        serviceImpl.append("    public Optional<SampleEntity> findById(Long id) {\n");
+        serviceImpl.append("        return SampleEntity.findByIdOptional(id);\n");
+        serviceImpl.append(BLOCK_CLOSE_WITH_NEWLINE);
+        serviceImpl.append("    @Override\n");
+        serviceImpl.append("    @Transactional\n");
+        serviceImpl.append("    public SampleEntity create(SampleEntity entity) {\n");
+        serviceImpl.append("        entity.id = null;\n");
+        serviceImpl.append("        entity.persist();\n");
+        serviceImpl.append("        return entity;\n");
+        serviceImpl.append(BLOCK_CLOSE);
+        serviceImpl.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/services/implementations/SampleServiceImpl.java", serviceImpl);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/implementations/SampleServiceImpl.java");
+    }
+
+    private void generateSampleResource(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder source = new StringBuilder();
+
+        source.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        if (request.getBaseResponseEnabled()) {
+            source.append(IMPORT).append(packageName).append(".models.dto.response.baseresponse.SuccessResponse;\n");
+        }
+        source.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("import io.micrometer.core.annotation.Timed;\n");
+        }
+        source.append("import jakarta.ws.rs.*;\n");
+        source.append("import jakarta.ws.rs.core.MediaType;\n");
+        source.append("import jakarta.ws.rs.core.Response;\n\n");
+        source.append("@Path(\"/api/sample\")\n");
+        source.append("@Produces(MediaType.APPLICATION_JSON)\n");
+        source.append("@Consumes(MediaType.APPLICATION_JSON)\n");
+        source.append("public class SampleResource {\n\n");
+        source.append("    private final SampleService sampleService;\n\n");
+        source.append("    public SampleResource(SampleService sampleService) {\n");
+        source.append("        this.sampleService = sampleService;\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GET\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("    @Timed(value = \"sample.controller.get\", percentiles = {0.5, 0.95, 0.99})\n");
+        }
+        if (request.getBaseResponseEnabled()) {
+            source.append("    public SuccessResponse<String> getSample() {\n");
+            source.append("        return SuccessResponse.of(\"Sample endpoint\", \"Hello from ").append(request.getApplicationName()).append("!\");\n");
+        } else {
+            source.append("    @Produces(MediaType.TEXT_PLAIN)\n");
+            source.append("    public String getSample() {\n");
+            source.append("        return \"Hello from ").append(request.getApplicationName()).append("!\";\n");
+        }
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GET\n");
+        source.append("    @Path(\"/items\")\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("    @Timed(value = \"sample.controller.list\", percentiles = {0.5, 0.95, 0.99})\n");
+        }
+        if (request.getBaseResponseEnabled()) {
+            source.append("    public SuccessResponse<SamplePage> listSamples(@QueryParam(\"cursor\") String cursor,\n");
+            source.append("                                                   @QueryParam(\"size\") @DefaultValue(\"20\") int size) {\n");
+            source.append("        return SuccessResponse.of(sampleService.listSamples(cursor, Math.max(1, Math.min(size, SamplePage.MAX_SIZE))));\n");
+        } else {
+            source.append("    public SamplePage listSamples(@QueryParam(\"cursor\") String cursor,\n");
+            source.append("                                  @QueryParam(\"size\") @DefaultValue(\"20\") int size) {\n");
+            source.append("        return sampleService.listSamples(cursor, Math.max(1, Math.min(size, SamplePage.MAX_SIZE)));\n");
+        }
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GET\n");
+        source.append("    @Path(\"/entities/{id}\")\n");
+        source.append("    public Response findById(@PathParam(\"id\") Long id) {\n");
+        source.append("        return sampleService.findById(id)\n");
+        source.append("                .map(entity -> Response.ok(entity).build())\n");
+        source.append("                .orElseGet(() -> Response.status(Response.Status.NOT_FOUND).build());\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @POST\n");
+        source.append("    @Path(\"/entities\")\n");
+        source.append("    public Response create(SampleEntity entity) {\n");
+        source.append("        return Response.status(Response.Status.CREATED).entity(sampleService.create(entity)).build();\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+
+        write(projectPath + SOURCE_MAIN_JAVA + packagePath + "/controller/SampleResource.java", source);
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/SampleResource.java");
+    }
+
+    private void generateDockerfile(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
+        StringBuilder dockerfile = new StringBuilder();
+
+        dockerfile.append("# syntax=docker/dockerfile:1\n\n");
+        if (request.getNativeImageEnabled()) {
+            dockerfile.append("FROM quay.io/quarkus/ubi-quarkus-mandrel-builder-image:jdk-").append(javaVersion).append(" AS build\n");
+            dockerfile.append("USER root\n");
+            dockerfile.append("RUN microdnf install -y maven && microdnf clean all\n");
+            dockerfile.append("WORKDIR /workspace\n");
+            dockerfile.append("COPY pom.xml .\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q dependency:go-offline\n");
+            dockerfile.append("COPY src ./src\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q -Pnative -DskipTests -Dquarkus.native.container-build=false package\n\n");
+
+            dockerfile.append("# The native executable starts in milliseconds and needs no JVM in the runtime image\n");
+            dockerfile.append("FROM quay.io/quarkus/quarkus-micro-image:2.0\n");
+            dockerfile.append("WORKDIR /work\n");
+            dockerfile.append("COPY --from=build --chown=1001:root /workspace/target/*-runner /work/application\n");
+            dockerfile.append("USER 1001\n\n");
+            dockerfile.append("EXPOSE 8080\n");
+            dockerfile.append("ENTRYPOINT [\"./application\", \"-Dquarkus.http.host=0.0.0.0\"]\n");
+        } else {
+            dockerfile.append("FROM maven:3.9-eclipse-temurin-").append(javaVersion).append(" AS build\n");
+            dockerfile.append("WORKDIR /workspace\n");
+            dockerfile.append("COPY pom.xml .\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q dependency:go-offline\n");
+            dockerfile.append("COPY src ./src\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q -DskipTests package\n\n");
+
+            dockerfile.append("FROM eclipse-temurin:").append(javaVersion).append("-jre\n");
+            dockerfile.append("RUN groupadd --system quarkus && useradd --system --gid quarkus --home-dir /application quarkus \\\n");
+            dockerfile.append("    && mkdir -p /application && chown quarkus:quarkus /application\n");
+            dockerfile.append("WORKDIR /application\n");
+            dockerfile.append("# The fast-jar layout keeps dependencies apart from application classes, so code changes only push the last layers\n");
+            dockerfile.append("COPY --from=build --chown=quarkus:quarkus /workspace/target/quarkus-app/lib/ ./lib/\n");
+            dockerfile.append("COPY --from=build --chown=quarkus:quarkus /workspace/target/quarkus-app/*.jar ./\n");
+            dockerfile.append("COPY --from=build --chown=quarkus:quarkus /workspace/target/quarkus-app/app/ ./app/\n");
+            dockerfile.append("COPY --from=build --chown=quarkus:quarkus /workspace/target/quarkus-app/quarkus/ ./quarkus/\n");
+            dockerfile.append("USER quarkus\n\n");
+            dockerfile.append("EXPOSE 8080\n");
+            dockerfile.append("ENTRYPOINT [\"java\", \"-Dquarkus.http.host=0.0.0.0\", \"-jar\", \"quarkus-run.jar\"]\n");
+        }
+
+        write(projectPath + "/Dockerfile", dockerfile);
+        generatedFiles.add("Dockerfile");
+
+        StringBuilder dockerignore = new StringBuilder();
+        dockerignore.append("target/\n");
+        dockerignore.append(".git/\n");
+        dockerignore.append(".idea/\n");
+        dockerignore.append("*.iml\n");
+
+        write(projectPath + "/.dockerignore", dockerignore);
+        generatedFiles.add(".dockerignore");
+    }
+
+    private void write(String filePath, CharSequence content) throws IOException {
+        Files.writeString(Paths.get(filePath), content);
+    }
+}
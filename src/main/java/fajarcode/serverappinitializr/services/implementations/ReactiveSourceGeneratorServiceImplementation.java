@@ -0,0 +1,259 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.services.interfaces.ReactiveSourceGeneratorService;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+@Service
+public class ReactiveSourceGeneratorServiceImplementation implements ReactiveSourceGeneratorService {
+
+    private static final String SOURCE_MAIN_JAVA = "/src/main/java/";
+    private static final String ADD_GENERATED_FILES_SOURCE = "src/main/java/";
+    private static final String PACKAGE = "package ";
+    private static final String IMPORT = "import ";
+    private static final String DELIMITER_PATH = "/";
+    private static final String INDENT = "    ";
+    private static final String BLOCK_CLOSE = INDENT + "}\n";
+    private static final String BLOCK_CLOSE_WITH_NEWLINE = INDENT + "}\n\n";
+
+    @Override
+    public void generateSampleSources(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        String sourceRoot = projectPath + SOURCE_MAIN_JAVA + packagePath;
+
+        write(sourceRoot + "/models/entities/SampleEntity.java", renderEntity(packageName));
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/entities/SampleEntity.java");
+
+        write(sourceRoot + "/repository/SampleRepository.java", renderRepository(packageName));
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/repository/SampleRepository.java");
+
+        write(sourceRoot + "/services/interfaces/SampleService.java", renderServiceInterface(packageName));
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/interfaces/SampleService.java");
+
+        write(sourceRoot + "/services/implementations/SampleServiceImpl.java", renderServiceImplementation(packageName, request));
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/implementations/SampleServiceImpl.java");
+
+        write(sourceRoot + "/controller/SampleController.java", renderController(packageName, request));
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/SampleController.java");
+
+        // R2DBC has no ddl-auto, so the table is created by spring.sql.init on startup
+        write(projectPath + "/src/main/resources/schema.sql", request.getDatabaseType().sampleTableSchema());
+        generatedFiles.add("src/main/resources/schema.sql");
+    }
+
+    private String renderEntity(String packageName) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".models.entities;\n\n");
+        source.append("import lombok.AllArgsConstructor;\n");
+        source.append("import lombok.Data;\n");
+        source.append("import lombok.NoArgsConstructor;\n");
+        source.append("import org.springframework.data.annotation.Id;\n");
+        source.append("import org.springframework.data.relational.core.mapping.Column;\n");
+        source.append("import org.springframework.data.relational.core.mapping.Table;\n\n");
+        source.append("@Table(\"sample_entity\")\n");
+        source.append("@Data\n");
+        source.append("@NoArgsConstructor\n");
+        source.append("@AllArgsConstructor\n");
+        source.append("public class SampleEntity {\n\n");
+        source.append("    @Id\n");
+        source.append("    private Long id;\n\n");
+        source.append("    @Column(\"name\")\n");
+        source.append("    private String name;\n\n");
+        source.append("    @Column(\"description\")\n");
+        source.append("    private String description;\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderRepository(String packageName) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".repository;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        source.append("import org.springframework.data.domain.Pageable;\n");
+        source.append("import org.springframework.data.repository.reactive.ReactiveCrudRepository;\n");
+        source.append("import org.springframework.stereotype.Repository;\n");
+        source.append("import reactor.core.publisher.Flux;\n\n");
+        source.append("@Repository\n");
+        source.append("public interface SampleRepository extends ReactiveCrudRepository<SampleEntity, Long> {\n\n");
+        source.append("    Flux<SampleSummary> findAllBy(Pageable limit);\n\n");
+        source.append("    // name > :name or (name = :name and id > :id); sameName repeats name for the tie-break\n");
+        source.append("    Flux<SampleSummary> findByNameGreaterThanOrNameAndIdGreaterThan(String name, String sameName, Long id, Pageable limit);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderServiceInterface(String packageName) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.interfaces;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        source.append("import reactor.core.publisher.Flux;\n");
+        source.append("import reactor.core.publisher.Mono;\n\n");
+        source.append("public interface SampleService {\n");
+        source.append("    Mono<String> getSampleData();\n\n");
+        source.append("    Flux<SampleEntity> findAll();\n\n");
+        source.append("    Mono<SampleEntity> findById(Long id);\n\n");
+        source.append("    Mono<SampleEntity> create(SampleEntity entity);\n\n");
+        source.append("    Mono<SamplePage> listSamples(String cursor, int size);\n");
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderServiceImplementation(String packageName, GenerateProjectRequest request) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".services.implementations;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.request.SampleCursor;\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        source.append(IMPORT).append(packageName).append(".repository.SampleRepository;\n");
+        source.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("import io.micrometer.core.instrument.MeterRegistry;\n");
+        }
+        source.append("import lombok.RequiredArgsConstructor;\n");
+        source.append("import org.springframework.data.domain.PageRequest;\n");
+        source.append("import org.springframework.data.domain.Sort;\n");
+        source.append("import org.springframework.stereotype.Service;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("import reactor.core.observability.micrometer.Micrometer;\n");
+        }
+        source.append("import reactor.core.publisher.Flux;\n");
+        source.append("import reactor.core.publisher.Mono;\n\n");
+        source.append("@Service\n");
+        source.append("@RequiredArgsConstructor\n");
+        source.append("public class SampleServiceImpl implements SampleService {\n\n");
+        source.append("    private final SampleRepository sampleRepository;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("    private final MeterRegistry meterRegistry;\n");
+        }
+        source.append("\n");
+        source.append("    @Override\n");
+        source.append("    public Mono<String> getSampleData() {\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("        return Mono.just(\"Sample data from service\")\n");
+            source.append(timedPublisher("sample.service.data")).append(";\n");
+        } else {
+            source.append("        return Mono.just(\"Sample data from service\");\n");
+        }
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public Flux<SampleEntity> findAll() {\n");
+        source.append("        return sampleRepository.findAll();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public Mono<SampleEntity> findById(Long id) {\n");
+        source.append("        return sampleRepository.findById(id);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public Mono<SampleEntity> create(SampleEntity entity) {\n");
+        source.append("        // A non-null id makes Spring Data R2DBC issue an UPDATE instead of an INSERT\n");
+        source.append("        entity.setId(null);\n");
+        source.append("        return sampleRepository.save(entity);\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @Override\n");
+        source.append("    public Mono<SamplePage> listSamples(String cursor, int size) {\n");
+        source.append("        // One extra row tells whether another page exists without a count query\n");
+        source.append("        PageRequest limit = PageRequest.of(0, size + 1, Sort.by(\"name\", \"id\"));\n");
+        source.append("        Flux<SampleSummary> rows;\n");
+        source.append("        if (cursor == null) {\n");
+        source.append("            rows = sampleRepository.findAllBy(limit);\n");
+        source.append("        } else {\n");
+        source.append("            SampleCursor after = SampleCursor.decode(cursor);\n");
+        source.append("            rows = sampleRepository.findByNameGreaterThanOrNameAndIdGreaterThan(after.getName(), after.getName(), after.getId(), limit);\n");
+        source.append("        }\n");
+        source.append("        return rows.collectList().map(list -> SamplePage.of(list, size));\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    private String renderController(String packageName, GenerateProjectRequest request) {
+        StringBuilder source = new StringBuilder();
+        source.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        source.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        source.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        if (request.getBaseResponseEnabled()) {
+            source.append(IMPORT).append(packageName).append(".models.dto.response.baseresponse.SuccessResponse;\n");
+        }
+        source.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("import io.micrometer.core.instrument.MeterRegistry;\n");
+        }
+        source.append("import lombok.RequiredArgsConstructor;\n");
+        source.append("import org.springframework.http.HttpStatus;\n");
+        source.append("import org.springframework.http.ResponseEntity;\n");
+        source.append("import org.springframework.web.bind.annotation.*;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("import reactor.core.observability.micrometer.Micrometer;\n");
+        }
+        source.append("import reactor.core.publisher.Flux;\n");
+        source.append("import reactor.core.publisher.Mono;\n\n");
+        source.append("@RestController\n");
+        source.append("@RequestMapping(\"/api/sample\")\n");
+        source.append("@RequiredArgsConstructor\n");
+        source.append("public class SampleController {\n\n");
+        source.append("    private final SampleService sampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            source.append("    private final MeterRegistry meterRegistry;\n");
+        }
+        source.append("\n");
+        source.append("    @GetMapping\n");
+        source.append("    public Mono<ResponseEntity<?>> getSample() {\n");
+        String greeting = request.getBaseResponseEnabled()
+                ? "SuccessResponse.of(\"Sample endpoint\", \"Hello from " + request.getApplicationName() + "!\")"
+                : "\"Hello from " + request.getApplicationName() + "!\"";
+        if (request.getObservabilityEnabled()) {
+            source.append("        return Mono.<ResponseEntity<?>>just(ResponseEntity.ok(").append(greeting).append("))\n");
+            source.append(timedPublisher("sample.controller.get")).append(";\n");
+        } else {
+            source.append("        return Mono.just(ResponseEntity.ok(").append(greeting).append("));\n");
+        }
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GetMapping(\"/items\")\n");
+        source.append("    public Mono<ResponseEntity<?>> listSamples(@RequestParam(required = false) String cursor,\n");
+        source.append("                                               @RequestParam(defaultValue = \"20\") int size) {\n");
+        source.append("        return sampleService.listSamples(cursor, Math.max(1, Math.min(size, SamplePage.MAX_SIZE)))\n");
+        String toResponse = request.getBaseResponseEnabled() ? "page -> ResponseEntity.ok(SuccessResponse.of(page))" : "ResponseEntity::ok";
+        if (request.getObservabilityEnabled()) {
+            source.append("                .<ResponseEntity<?>>map(").append(toResponse).append(")\n");
+            source.append(timedPublisher("sample.controller.list")).append(";\n");
+        } else {
+            source.append("                .map(").append(toResponse).append(");\n");
+        }
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GetMapping(\"/entities\")\n");
+        source.append("    public Flux<SampleEntity> findAll() {\n");
+        source.append("        return sampleService.findAll();\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @GetMapping(\"/entities/{id}\")\n");
+        source.append("    public Mono<ResponseEntity<SampleEntity>> findById(@PathVariable Long id) {\n");
+        source.append("        return sampleService.findById(id)\n");
+        source.append("                .map(ResponseEntity::ok)\n");
+        source.append("                .defaultIfEmpty(ResponseEntity.notFound().build());\n");
+        source.append(BLOCK_CLOSE_WITH_NEWLINE);
+        source.append("    @PostMapping(\"/entities\")\n");
+        source.append("    @ResponseStatus(HttpStatus.CREATED)\n");
+        source.append("    public Mono<SampleEntity> create(@RequestBody SampleEntity entity) {\n");
+        source.append("        return sampleService.create(entity);\n");
+        source.append(BLOCK_CLOSE);
+        source.append("}\n");
+        return source.toString();
+    }
+
+    // @Timed would only time assembling the publisher, the tap times each subscription until it completes
+    private String timedPublisher(String metricName) {
+        return "                .name(\"" + metricName + "\")\n"
+                + "                .tap(Micrometer.metrics(meterRegistry))";
+    }
+
+    private void write(String filePath, CharSequence content) throws IOException {
+        Files.writeString(Paths.get(filePath), content);
+    }
+}
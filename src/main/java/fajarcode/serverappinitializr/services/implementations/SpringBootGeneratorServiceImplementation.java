@@ -1,30 +1,56 @@
 package fajarcode.serverappinitializr.services.implementations;
 
 import fajarcode.serverappinitializr.exceptions.BadRequestException;
-import fajarcode.serverappinitializr.exceptions.InternalServerErrorException;
 import fajarcode.serverappinitializr.exceptions.NotFoundException;
 import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
 import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
 import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
 import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.entities.GeneratedProjectFile;
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
 import fajarcode.serverappinitializr.models.enums.DatabaseType;
 import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.GenerationOption;
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+import fajarcode.serverappinitializr.models.enums.GradleSection;
 import fajarcode.serverappinitializr.models.enums.PomDependency;
+import fajarcode.serverappinitializr.models.enums.PomFeature;
+import fajarcode.serverappinitializr.models.enums.PomPlugin;
+import fajarcode.serverappinitializr.models.enums.PomProfile;
 import fajarcode.serverappinitializr.models.enums.PomSection;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectFileRepository;
 import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.CrudSourceGeneratorService;
+import fajarcode.serverappinitializr.services.interfaces.GenerationProgressListener;
+import fajarcode.serverappinitializr.services.interfaces.OpenApiSourceGeneratorService;
+import fajarcode.serverappinitializr.services.interfaces.ProjectArchiveService;
+import fajarcode.serverappinitializr.services.interfaces.ProjectGenerator;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import fajarcode.serverappinitializr.services.interfaces.ReactiveSourceGeneratorService;
 import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import fajarcode.serverappinitializr.utils.ProjectDirectories;
+import fajarcode.serverappinitializr.utils.ProjectLocks;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -33,8 +59,17 @@ import java.util.zip.ZipOutputStream;
 @RequiredArgsConstructor
 public class SpringBootGeneratorServiceImplementation implements SpringBootGeneratorService {
     private final GeneratedProjectRepository generatedProjectRepository;
+    private final ProjectArchiveService projectArchiveService;
+    private final ProjectStatisticsService projectStatisticsService;
+    private final CrudSourceGeneratorService crudSourceGeneratorService;
+    private final OpenApiSourceGeneratorService openApiSourceGeneratorService;
+    private final ReactiveSourceGeneratorService reactiveSourceGeneratorService;
+    private final GeneratedProjectFileRepository generatedProjectFileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final List<ProjectGenerator> projectGenerators;
+    private final Map<FrameworkType, ProjectGenerator> generatorsByFramework = new EnumMap<>(FrameworkType.class);
+    private final ProjectLocks projectLocks;
 
-    private static final String GENERATED_PROJECTS_DIR = "generated-projects";
     private static final String SOURCE_MAIN_JAVA = "/src/main/java/";
     private static final String ADD_GENERATED_FILES_SOURCE = "src/main/java/";
     private static final String ALL_ARGUMENTS_CONSTRUCTOR = "@AllArgsConstructor\n";
@@ -50,47 +85,63 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
     private static final String INDENT = "    ";
     private static final String BLOCK_CLOSE = INDENT + "}\n";
     private static final String BLOCK_CLOSE_WITH_NEWLINE = INDENT + "}\n\n";
+    private static final String DELETED_FILES_ENTRY = "DELETED_FILES";
+
+    @Value("${generator.projects-dir:generated-projects}")
+    private String generatedProjectsDir;
+
+    @PostConstruct
+    void registerGenerators() {
+        // Spring Boot rendering lives in this service; other frameworks plug in as ProjectGenerator beans
+        generatorsByFramework.put(FrameworkType.SPRINGBOOT, new SpringBootProjectGenerator());
+        for (ProjectGenerator generator : projectGenerators) {
+            generatorsByFramework.put(generator.getFrameworkType(), generator);
+        }
+    }
 
     @Override
     public BaseResponse<GenerateProjectResponse> generateProject(GenerateProjectRequest request) throws IOException {
-        if (request.getFrameworkType() != FrameworkType.SPRINGBOOT) {
-            throw new BadRequestException("Framework Must Be SpringBoot");
-        }
+        return generate(request, null, GenerationProgressListener.NONE, generatedProjectsDir);
+    }
+
+    @Override
+    public BaseResponse<GenerateProjectResponse> generateProject(GenerateProjectRequest request, GenerationProgressListener listener) throws IOException {
+        return generate(request, null, listener, generatedProjectsDir);
+    }
+
+    @Override
+    public BaseResponse<GenerateProjectResponse> generateProjectInto(GenerateProjectRequest request, String projectsDir) throws IOException {
+        return generate(request, null, GenerationProgressListener.NONE, projectsDir);
+    }
+
+    @Override
+    public BaseResponse<GenerateProjectResponse> generateProjectFromOpenApi(GenerateProjectRequest request, InputStream openApiSpec) throws IOException {
+        return generate(request, openApiSpec, GenerationProgressListener.NONE, generatedProjectsDir);
+    }
+
+    private BaseResponse<GenerateProjectResponse> generate(GenerateProjectRequest request, InputStream openApiSpec,
+                                                           GenerationProgressListener listener, String projectsDir) throws IOException {
+        ProjectGenerator generator = generatorFor(request.getFrameworkType());
         if (generatedProjectRepository.getProjectByApplicationName(request.getApplicationName()).isPresent()) {
             throw new BadRequestException("Project With The Same Name Already Exists");
         }
+        generator.validate(request, openApiSpec != null);
 
         String projectName = request.getApplicationName();
         String packageName = request.getPackageName() != null ? request.getPackageName() : projectName.toLowerCase();
-        String projectPath = GENERATED_PROJECTS_DIR + DELIMITER_PATH + projectName;
-        List<String> generatedFiles = new ArrayList<>();
+        String projectPath = projectsDir + DELIMITER_PATH + projectName;
+        Set<GenerationStep> steps = EnumSet.allOf(GenerationStep.class);
+        if (openApiSpec != null) {
+            steps.remove(GenerationStep.SAMPLE_CONTROLLER);
+        }
+        Map<String, GenerationStep> generatedFiles;
 
         try {
             createProjectStructure(projectPath, packageName);
-
-            generatePomXml(projectPath, request, generatedFiles);
-            generateApplicationProperties(projectPath, request, generatedFiles);
-            generateMainClass(projectPath, packageName, projectName, generatedFiles);
-
-            if (request.getBaseEntityEnabled()) {
-                generateBaseEntity(projectPath, packageName, generatedFiles);
-            }
-
-            if (request.getBaseResponseEnabled()) {
-                generateBaseResponses(projectPath, packageName, generatedFiles);
-            }
-
-            if (request.getJwtAuthEnabled()) {
-                generateJwtComponents(projectPath, packageName, generatedFiles);
-            }
-
-            generateSampleController(projectPath, packageName, request, generatedFiles);
-            generateSampleService(projectPath, packageName, generatedFiles);
-            generateSampleEntity(projectPath, packageName, request, generatedFiles);
-            generateEnums(projectPath, packageName, generatedFiles);
-            generateConfiguration(projectPath, packageName, generatedFiles);
+            listener.onProgress(GenerationStage.STRUCTURE_CREATED, projectPath);
+            generatedFiles = generator.render(projectPath, packageName, request, openApiSpec, steps, listener);
         } catch (Exception e) {
-            cleanupProjectDirectory(projectPath);
+            cleanupProjectDirectory(projectsDir, projectPath);
             throw e;
         }
 
@@ -100,55 +151,483 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedProject.setApplicationName(projectName);
         generatedProject.setFrameworkType(request.getFrameworkType());
         generatedProject.setDatabaseType(request.getDatabaseType());
+        generatedProject.setBuildTool(request.getBuildTool());
+        generatedProject.setStack(request.getStack());
         generatedProject.setJwtAuthEnabled(request.getJwtAuthEnabled());
         generatedProject.setBaseEntityEnabled(request.getBaseEntityEnabled());
         generatedProject.setBaseResponseEnabled(request.getBaseResponseEnabled());
+        generatedProject.setJmhEnabled(request.getJmhEnabled());
+        generatedProject.setDockerEnabled(request.getDockerEnabled());
+        generatedProject.setCacheEnabled(request.getCacheEnabled());
+        generatedProject.setPerformanceProfileEnabled(request.getPerformanceProfileEnabled());
+        generatedProject.setObservabilityEnabled(request.getObservabilityEnabled());
+        generatedProject.setNativeImageEnabled(request.getNativeImageEnabled());
         generatedProject.setPackageName(packageName);
         generatedProject.setProjectPath(projectPath);
         generatedProject.setFileSizeBytes(projectSize);
         generatedProject.setGroupId(request.getGroupId());
         generatedProject.setArtifactId(request.getArtifactId());
         generatedProject.setVersion(request.getVersion());
+        generatedProject.setJavaVersion(request.getJavaVersion());
         generatedProject.setDownloadCount(0);
 
         GeneratedProject savedGeneratedProject = generatedProjectRepository.save(generatedProject);
 
+        try {
+            generatedProjectFileRepository.saveAll(toManifest(savedGeneratedProject.getId(), Paths.get(projectPath), generatedFiles));
+            savedGeneratedProject = projectArchiveService.storeArchive(savedGeneratedProject);
+            listener.onProgress(GenerationStage.ARCHIVE_READY, String.valueOf(savedGeneratedProject.getStorageType()));
+        } catch (Exception e) {
+            generatedProjectFileRepository.deleteByProjectIdIn(List.of(savedGeneratedProject.getId()));
+            generatedProjectRepository.delete(savedGeneratedProject);
+            cleanupProjectDirectory(projectsDir, projectPath);
+            throw e;
+        }
+
+        if (savedGeneratedProject.getStorageType() == ArchiveStorageType.DATABASE) {
+            cleanupProjectDirectory(projectsDir, projectPath);
+        }
+
+        projectStatisticsService.recordGeneration(savedGeneratedProject);
+        listener.onProgress(GenerationStage.PERSISTED, String.valueOf(savedGeneratedProject.getId()));
+
         log.info("Project '{}' generated successfully and saved to database", projectName);
 
         return BaseResponse.success("Project Successfully Generated", mapEntityToResponse(savedGeneratedProject));
     }
 
     @Override
-    @Transactional
     public void getProjectZip(String applicationName, OutputStream outputStream) {
+        // Downloads share the read side, so they still coalesce with each other but never see a half-applied regenerate
+        Lock lock = projectLocks.forProject(applicationName).readLock();
+        lock.lock();
+        try {
+            // Counted in its own short transaction, so the row lock is released before the archive streams and
+            // concurrent downloads of the same project can join one archive build instead of queueing on the lock
+            GeneratedProject project = transactionTemplate.execute(status -> {
+                GeneratedProject found = generatedProjectRepository
+                        .getProjectByApplicationName(applicationName)
+                        .orElseThrow(() -> new NotFoundException("Project Is Not Found"));
+                generatedProjectRepository.incrementDownloadCount(applicationName);
+                projectStatisticsService.recordDownload(found);
+                return found;
+            });
+
+            projectArchiveService.writeArchive(project, outputStream);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void regenerateProject(String applicationName, RegenerateProjectRequest request, OutputStream outputStream) throws IOException {
+        Path renderPath = Files.createTempDirectory(Files.createDirectories(Paths.get(generatedProjectsDir)), ".regenerate-");
+        try {
+            ProjectDelta delta;
+            Lock lock = projectLocks.forProject(applicationName).writeLock();
+            lock.lock();
+            try {
+                delta = renderDelta(applicationName, request, renderPath);
+            } finally {
+                lock.unlock();
+            }
+            // The delta lives in the private render directory, so a slow client does not hold the project lock
+            writeDeltaArchive(renderPath, delta.changedFiles(), delta.deletedFiles(), outputStream);
+        } finally {
+            cleanupProjectDirectory(renderPath.toString());
+        }
+    }
 
+    private ProjectDelta renderDelta(String applicationName, RegenerateProjectRequest request, Path renderPath) throws IOException {
         GeneratedProject project = generatedProjectRepository
                 .getProjectByApplicationName(applicationName)
                 .orElseThrow(() -> new NotFoundException("Project Is Not Found"));
 
-        generatedProjectRepository.incrementDownloadCount(applicationName);
+        Map<String, GeneratedProjectFile> manifest = new HashMap<>();
+        for (GeneratedProjectFile file : generatedProjectFileRepository.findByProjectId(project.getId())) {
+            manifest.put(file.getFilePath(), file);
+        }
+        if (manifest.isEmpty()) {
+            throw new BadRequestException("Project Has No File Manifest To Regenerate Against");
+        }
 
-        Path sourcePath = Paths.get(project.getProjectPath());
+        ProjectGenerator generator = generatorFor(project.getFrameworkType());
+        GenerateProjectRequest effectiveRequest = mergeOptions(project, request);
+        generator.validate(effectiveRequest, false);
+        Set<GenerationOption> changedOptions = changedOptions(project, effectiveRequest, request);
+        Set<GenerationStep> steps = EnumSet.noneOf(GenerationStep.class);
+        for (GenerationStep step : GenerationStep.values()) {
+            if (step.dependsOnAny(changedOptions)) {
+                steps.add(step);
+            }
+        }
+        // Spec-driven projects never had the sample controller, and the spec itself is not kept to re-render from
+        steps.remove(GenerationStep.OPENAPI_SOURCES);
+        if (manifest.values().stream().anyMatch(file -> file.getGenerationStep() == GenerationStep.OPENAPI_SOURCES)) {
+            steps.remove(GenerationStep.SAMPLE_CONTROLLER);
+        }
+        // Entity definitions are not persisted either, so without them the CRUD sources can be neither re-rendered nor deleted
+        if (request.getEntities() == null && steps.remove(GenerationStep.CRUD_SOURCES)
+                && manifest.values().stream().anyMatch(file -> file.getGenerationStep() == GenerationStep.CRUD_SOURCES)) {
+            throw new BadRequestException("Entity Definitions Must Be Resupplied To Change Options The CRUD Sources Depend On");
+        }
 
-        try (ZipOutputStream zos = new ZipOutputStream(
-                new BufferedOutputStream(outputStream));
-             var fileStream = Files.walk(sourcePath)) {
+        createProjectStructure(renderPath.toString(), project.getPackageName());
+        Map<String, GenerationStep> rendered = generator.render(renderPath.toString(), project.getPackageName(), effectiveRequest, null, steps,
+                GenerationProgressListener.NONE);
 
-            fileStream
-                    .filter(Files::isRegularFile)
-                    .forEach(path -> {
+        List<GeneratedProjectFile> changedFiles = new ArrayList<>();
+        for (Map.Entry<String, GenerationStep> file : rendered.entrySet()) {
+            String hash = sha256(renderPath.resolve(file.getKey()));
+            GeneratedProjectFile previous = manifest.get(file.getKey());
+            if (previous == null || !previous.getContentHash().equals(hash)) {
+                changedFiles.add(new GeneratedProjectFile(null, project.getId(), file.getKey(), hash, file.getValue()));
+            }
+        }
+        List<String> deletedFiles = manifest.values().stream()
+                .filter(file -> steps.contains(file.getGenerationStep()) && !rendered.containsKey(file.getKey()))
+                .map(GeneratedProjectFile::getFilePath)
+                .sorted()
+                .toList();
+
+        if (!changedFiles.isEmpty() || !deletedFiles.isEmpty()) {
+            applyDelta(project, effectiveRequest, renderPath, changedFiles, deletedFiles);
+        }
+
+        log.info("Project '{}' regenerated: {} changed file(s), {} deleted file(s)", applicationName, changedFiles.size(), deletedFiles.size());
+        return new ProjectDelta(changedFiles, deletedFiles);
+    }
+
+    private void applyDelta(GeneratedProject project, GenerateProjectRequest effectiveRequest, Path renderPath,
+                            List<GeneratedProjectFile> changedFiles, List<String> deletedFiles) throws IOException {
+        Path projectPath = Paths.get(project.getProjectPath());
+        boolean databaseStorage = project.getStorageType() == ArchiveStorageType.DATABASE;
+        if (databaseStorage) {
+            projectArchiveService.extractArchive(project, projectPath);
+        }
+
+        List<String> replacedPaths = new ArrayList<>(deletedFiles);
+        changedFiles.forEach(file -> replacedPaths.add(file.getFilePath()));
+        // Kept next to the rendered files, so a failed commit can put the project directory back the way the manifest describes it
+        Path backupPath = renderPath.resolve(".previous");
+
+        try {
+            for (String replacedPath : replacedPaths) {
+                Path source = projectPath.resolve(replacedPath);
+                if (Files.exists(source)) {
+                    Path backup = backupPath.resolve(replacedPath);
+                    Files.createDirectories(backup.getParent());
+                    Files.copy(source, backup);
+                }
+            }
+            for (GeneratedProjectFile file : changedFiles) {
+                Path target = projectPath.resolve(file.getFilePath());
+                Files.createDirectories(target.getParent());
+                Files.copy(renderPath.resolve(file.getFilePath()), target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            for (String deletedFile : deletedFiles) {
+                Files.deleteIfExists(projectPath.resolve(deletedFile));
+            }
+            long projectSize = calculateDirectorySize(projectPath);
+
+            try {
+                // Manifest, project options and the stored archive commit together or not at all
+                transactionTemplate.executeWithoutResult(status -> {
+                    projectStatisticsService.recordRegeneration(project, effectiveRequest);
+                    applyOptions(project, effectiveRequest);
+                    project.setFileSizeBytes(projectSize);
+                    generatedProjectFileRepository.deleteByProjectIdAndFilePathIn(project.getId(), replacedPaths);
+                    generatedProjectFileRepository.saveAll(changedFiles);
+                    generatedProjectRepository.save(project);
+                    if (databaseStorage) {
                         try {
-                            String entryName = sourcePath.relativize(path).toString();
-                            zos.putNextEntry(new ZipEntry(entryName));
-                            Files.copy(path, zos);
-                            zos.closeEntry();
+                            projectArchiveService.storeArchive(project);
                         } catch (IOException e) {
-                            throw new InternalServerErrorException(e.getMessage());
+                            throw new UncheckedIOException(e);
                         }
-                    });
+                    }
+                });
+            } catch (RuntimeException e) {
+                restoreReplacedFiles(projectPath, backupPath, replacedPaths);
+                if (e instanceof UncheckedIOException uncheckedIOException) {
+                    throw uncheckedIOException.getCause();
+                }
+                throw e;
+            }
+            projectArchiveService.evictArchive(project.getId());
+        } finally {
+            if (databaseStorage) {
+                cleanupProjectDirectory(project.getProjectPath());
+            }
+        }
+    }
+
+    private void restoreReplacedFiles(Path projectPath, Path backupPath, List<String> replacedPaths) throws IOException {
+        for (String replacedPath : replacedPaths) {
+            Path target = projectPath.resolve(replacedPath);
+            Path backup = backupPath.resolve(replacedPath);
+            if (Files.exists(backup)) {
+                Files.createDirectories(target.getParent());
+                Files.copy(backup, target, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.deleteIfExists(target);
+            }
+        }
+    }
+
+    private void applyOptions(GeneratedProject project, GenerateProjectRequest effectiveRequest) {
+        project.setDatabaseType(effectiveRequest.getDatabaseType());
+        project.setBuildTool(effectiveRequest.getBuildTool());
+        project.setStack(effectiveRequest.getStack());
+        project.setJwtAuthEnabled(effectiveRequest.getJwtAuthEnabled());
+        project.setBaseEntityEnabled(effectiveRequest.getBaseEntityEnabled());
+        project.setBaseResponseEnabled(effectiveRequest.getBaseResponseEnabled());
+        project.setJmhEnabled(effectiveRequest.getJmhEnabled());
+        project.setDockerEnabled(effectiveRequest.getDockerEnabled());
+        project.setCacheEnabled(effectiveRequest.getCacheEnabled());
+        project.setPerformanceProfileEnabled(effectiveRequest.getPerformanceProfileEnabled());
+        project.setObservabilityEnabled(effectiveRequest.getObservabilityEnabled());
+        project.setNativeImageEnabled(effectiveRequest.getNativeImageEnabled());
+        project.setJavaVersion(effectiveRequest.getJavaVersion());
+    }
+
+    private void writeDeltaArchive(Path renderPath, List<GeneratedProjectFile> changedFiles, List<String> deletedFiles,
+                                   OutputStream outputStream) throws IOException {
+        try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(outputStream))) {
+            for (GeneratedProjectFile file : changedFiles) {
+                zos.putNextEntry(new ZipEntry(file.getFilePath()));
+                Files.copy(renderPath.resolve(file.getFilePath()), zos);
+                zos.closeEntry();
+            }
+            zos.putNextEntry(new ZipEntry(DELETED_FILES_ENTRY));
+            for (String deletedFile : deletedFiles) {
+                zos.write((deletedFile + "\n").getBytes(StandardCharsets.UTF_8));
+            }
+            zos.closeEntry();
+        }
+    }
+
+    private GenerateProjectRequest mergeOptions(GeneratedProject project, RegenerateProjectRequest request) {
+        GenerateProjectRequest merged = new GenerateProjectRequest();
+        merged.setApplicationName(project.getApplicationName());
+        merged.setFrameworkType(project.getFrameworkType());
+        merged.setPackageName(project.getPackageName());
+        merged.setGroupId(project.getGroupId());
+        merged.setArtifactId(project.getArtifactId());
+        merged.setVersion(project.getVersion());
+        merged.setDatabaseType(request.getDatabaseType() != null ? request.getDatabaseType() : project.getDatabaseType());
+        merged.setBuildTool(request.getBuildTool() != null ? request.getBuildTool() : buildToolOf(project));
+        merged.setStack(request.getStack() != null ? request.getStack() : stackOf(project));
+        merged.setJwtAuthEnabled(request.getJwtAuthEnabled() != null ? request.getJwtAuthEnabled() : project.getJwtAuthEnabled());
+        merged.setBaseEntityEnabled(request.getBaseEntityEnabled() != null ? request.getBaseEntityEnabled() : project.getBaseEntityEnabled());
+        merged.setBaseResponseEnabled(request.getBaseResponseEnabled() != null ? request.getBaseResponseEnabled() : project.getBaseResponseEnabled());
+        merged.setJmhEnabled(request.getJmhEnabled() != null ? request.getJmhEnabled() : Boolean.TRUE.equals(project.getJmhEnabled()));
+        merged.setDockerEnabled(request.getDockerEnabled() != null ? request.getDockerEnabled() : Boolean.TRUE.equals(project.getDockerEnabled()));
+        merged.setCacheEnabled(request.getCacheEnabled() != null ? request.getCacheEnabled() : Boolean.TRUE.equals(project.getCacheEnabled()));
+        merged.setPerformanceProfileEnabled(request.getPerformanceProfileEnabled() != null ? request.getPerformanceProfileEnabled() : Boolean.TRUE.equals(project.getPerformanceProfileEnabled()));
+        merged.setObservabilityEnabled(request.getObservabilityEnabled() != null ? request.getObservabilityEnabled() : Boolean.TRUE.equals(project.getObservabilityEnabled()));
+        merged.setNativeImageEnabled(request.getNativeImageEnabled() != null ? request.getNativeImageEnabled() : Boolean.TRUE.equals(project.getNativeImageEnabled()));
+        merged.setJavaVersion(request.getJavaVersion() != null ? request.getJavaVersion() : project.getJavaVersion());
+        if (request.getEntities() != null) {
+            merged.setEntities(request.getEntities());
+        }
+        return merged;
+    }
+
+    private BuildTool buildToolOf(GeneratedProject project) {
+        return project.getBuildTool() != null ? project.getBuildTool() : BuildTool.MAVEN;
+    }
+
+    private StackType stackOf(GeneratedProject project) {
+        return project.getStack() != null ? project.getStack() : StackType.SERVLET;
+    }
+
+    private ProjectGenerator generatorFor(FrameworkType frameworkType) {
+        ProjectGenerator generator = generatorsByFramework.get(frameworkType);
+        if (generator == null) {
+            throw new BadRequestException("Framework " + frameworkType + " Is Not Supported Yet");
+        }
+        return generator;
+    }
+
+    private void validateStack(GenerateProjectRequest request) {
+        if (request.getStack() != StackType.REACTIVE) {
+            return;
+        }
+        // These all render JPA or blocking cache code that has no R2DBC counterpart
+        if (request.getBaseEntityEnabled()) {
+            throw new BadRequestException("Base Entity Is Not Supported On The Reactive Stack");
+        }
+        if (request.getCacheEnabled()) {
+            throw new BadRequestException("Cache Is Not Supported On The Reactive Stack");
+        }
+        if (request.getEntities() != null && !request.getEntities().isEmpty()) {
+            throw new BadRequestException("Entity Definitions Are Not Supported On The Reactive Stack");
+        }
+    }
+
+    private Set<GenerationOption> changedOptions(GeneratedProject project, GenerateProjectRequest merged, RegenerateProjectRequest request) {
+        Set<GenerationOption> changed = EnumSet.noneOf(GenerationOption.class);
+        if (merged.getDatabaseType() != project.getDatabaseType()) {
+            changed.add(GenerationOption.DATABASE_TYPE);
+        }
+        if (merged.getBuildTool() != buildToolOf(project)) {
+            changed.add(GenerationOption.BUILD_TOOL);
+        }
+        if (merged.getStack() != stackOf(project)) {
+            changed.add(GenerationOption.STACK);
+        }
+        if (!Objects.equals(merged.getJwtAuthEnabled(), project.getJwtAuthEnabled())) {
+            changed.add(GenerationOption.JWT_AUTH);
+        }
+        if (!Objects.equals(merged.getBaseEntityEnabled(), project.getBaseEntityEnabled())) {
+            changed.add(GenerationOption.BASE_ENTITY);
+        }
+        if (!Objects.equals(merged.getBaseResponseEnabled(), project.getBaseResponseEnabled())) {
+            changed.add(GenerationOption.BASE_RESPONSE);
+        }
+        if (!Objects.equals(merged.getJmhEnabled(), Boolean.TRUE.equals(project.getJmhEnabled()))) {
+            changed.add(GenerationOption.JMH);
+        }
+        if (!Objects.equals(merged.getDockerEnabled(), Boolean.TRUE.equals(project.getDockerEnabled()))) {
+            changed.add(GenerationOption.DOCKER);
+        }
+        if (!Objects.equals(merged.getCacheEnabled(), Boolean.TRUE.equals(project.getCacheEnabled()))) {
+            changed.add(GenerationOption.CACHE);
+        }
+        if (!Objects.equals(merged.getPerformanceProfileEnabled(), Boolean.TRUE.equals(project.getPerformanceProfileEnabled()))) {
+            changed.add(GenerationOption.PERFORMANCE_PROFILE);
+        }
+        if (!Objects.equals(merged.getObservabilityEnabled(), Boolean.TRUE.equals(project.getObservabilityEnabled()))) {
+            changed.add(GenerationOption.OBSERVABILITY);
+        }
+        if (!Objects.equals(merged.getNativeImageEnabled(), Boolean.TRUE.equals(project.getNativeImageEnabled()))) {
+            changed.add(GenerationOption.NATIVE_IMAGE);
+        }
+        if (!Objects.equals(merged.getJavaVersion(), project.getJavaVersion())) {
+            changed.add(GenerationOption.JAVA_VERSION);
+        }
+        // Entity definitions are not persisted, so supplying them always re-renders the CRUD sources
+        if (request.getEntities() != null) {
+            changed.add(GenerationOption.ENTITIES);
+        }
+        return changed;
+    }
+
+    private Map<String, GenerationStep> renderSteps(String projectPath, String packageName, GenerateProjectRequest request,
+                                                    InputStream openApiSpec, Set<GenerationStep> steps,
+                                                    GenerationProgressListener listener) throws IOException {
+        Map<String, GenerationStep> fileSteps = new LinkedHashMap<>();
+        List<String> generatedFiles = new ArrayList<>();
+
+        for (GenerationStep step : steps) {
+            int renderedBefore = generatedFiles.size();
+            switch (step) {
+                case POM_XML -> {
+                    if (request.getBuildTool() == BuildTool.MAVEN) {
+                        generatePomXml(projectPath, request, generatedFiles);
+                    }
+                }
+                case GRADLE_BUILD -> {
+                    if (request.getBuildTool() == BuildTool.GRADLE) {
+                        generateGradleBuild(projectPath, request, generatedFiles);
+                    }
+                }
+                case APPLICATION_PROPERTIES -> generateApplicationProperties(projectPath, request, generatedFiles);
+                case MAIN_CLASS -> generateMainClass(projectPath, packageName, request.getApplicationName(), generatedFiles);
+                case BASE_ENTITY -> {
+                    if (request.getBaseEntityEnabled()) {
+                        generateBaseEntity(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+                case BASE_RESPONSES -> {
+                    if (request.getBaseResponseEnabled()) {
+                        generateBaseResponses(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case JWT_COMPONENTS -> {
+                    if (request.getJwtAuthEnabled()) {
+                        generateJwtComponents(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case SAMPLE_CONTROLLER -> {
+                    if (request.getStack() == StackType.SERVLET) {
+                        generateSampleController(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+                case SAMPLE_SERVICE -> {
+                    if (request.getStack() == StackType.SERVLET) {
+                        generateSampleService(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+                case SAMPLE_ENTITY -> {
+                    if (request.getStack() == StackType.SERVLET) {
+                        generateSampleEntity(projectPath, packageName, request, generatedFiles);
+                        generateSampleRepository(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case SAMPLE_PAGINATION -> generateSamplePagination(projectPath, packageName, generatedFiles);
+                case REACTIVE_SOURCES -> {
+                    if (request.getStack() == StackType.REACTIVE) {
+                        reactiveSourceGeneratorService.generateSampleSources(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+                case CRUD_SOURCES -> crudSourceGeneratorService.generateEntities(projectPath, packageName, request, generatedFiles);
+                case OPENAPI_SOURCES -> {
+                    if (openApiSpec != null) {
+                        openApiSourceGeneratorService.generateFromSpec(projectPath, packageName, openApiSpec, generatedFiles);
+                    }
+                }
+                case ENUMS -> generateEnums(projectPath, packageName, generatedFiles);
+                case CONFIGURATION -> generateConfiguration(projectPath, packageName, request, generatedFiles);
+                case JMH_BENCHMARKS -> {
+                    if (request.getJmhEnabled()) {
+                        generateJmhBenchmark(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+                case DOCKERFILE -> {
+                    if (request.getDockerEnabled()) {
+                        generateDockerfile(projectPath, request, generatedFiles);
+                    }
+                }
+                case CACHE_COMPONENTS -> {
+                    if (request.getCacheEnabled()) {
+                        generateCacheComponents(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case OBSERVABILITY_COMPONENTS -> {
+                    if (request.getObservabilityEnabled()) {
+                        generateObservabilityConfig(projectPath, packageName, generatedFiles);
+                    }
+                }
+                case NATIVE_HINTS -> {
+                    if (request.getNativeImageEnabled()) {
+                        generateNativeHints(projectPath, packageName, request, generatedFiles);
+                    }
+                }
+            }
+            for (int i = renderedBefore; i < generatedFiles.size(); i++) {
+                fileSteps.put(generatedFiles.get(i), step);
+                listener.onProgress(GenerationStage.FILE_RENDERED, generatedFiles.get(i));
+            }
+        }
+        return fileSteps;
+    }
 
-        } catch (IOException e) {
-            throw new InternalServerErrorException(e.getMessage());
+    private List<GeneratedProjectFile> toManifest(Long projectId, Path projectPath, Map<String, GenerationStep> generatedFiles) throws IOException {
+        List<GeneratedProjectFile> manifest = new ArrayList<>(generatedFiles.size());
+        for (Map.Entry<String, GenerationStep> file : generatedFiles.entrySet()) {
+            manifest.add(new GeneratedProjectFile(null, projectId, file.getKey(), sha256(projectPath.resolve(file.getKey())), file.getValue()));
+        }
+        return manifest;
+    }
+
+    private String sha256(Path file) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(Files.readAllBytes(file)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
@@ -159,16 +638,27 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         response.setProjectName(generatedProject.getApplicationName());
         response.setFrameworkType(generatedProject.getFrameworkType());
         response.setDatabaseType(generatedProject.getDatabaseType());
+        response.setBuildTool(generatedProject.getBuildTool());
+        response.setStack(generatedProject.getStack());
         response.setJwtAuthEnabled(generatedProject.getJwtAuthEnabled());
         response.setBaseEntityEnabled(generatedProject.getBaseEntityEnabled());
         response.setBaseResponseEnabled(generatedProject.getBaseResponseEnabled());
+        response.setJmhEnabled(generatedProject.getJmhEnabled());
+        response.setDockerEnabled(generatedProject.getDockerEnabled());
+        response.setCacheEnabled(generatedProject.getCacheEnabled());
+        response.setPerformanceProfileEnabled(generatedProject.getPerformanceProfileEnabled());
+        response.setObservabilityEnabled(generatedProject.getObservabilityEnabled());
+        response.setNativeImageEnabled(generatedProject.getNativeImageEnabled());
         response.setPackageName(generatedProject.getPackageName());
         response.setProjectPath(generatedProject.getProjectPath());
         response.setFileSizeBytes(generatedProject.getFileSizeBytes());
+        response.setStorageType(generatedProject.getStorageType());
+        response.setArchiveSizeBytes(generatedProject.getArchiveSizeBytes());
         response.setDownloadCount(generatedProject.getDownloadCount());
         response.setGroupId(generatedProject.getGroupId());
         response.setArtifactId(generatedProject.getArtifactId());
         response.setVersion(generatedProject.getVersion());
+        response.setJavaVersion(generatedProject.getJavaVersion());
         response.setCreatedAt(generatedProject.getCreatedAt());
 
         return response;
@@ -205,21 +695,12 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
     }
 
     private void cleanupProjectDirectory(String projectPath) {
+        cleanupProjectDirectory(generatedProjectsDir, projectPath);
+    }
+
+    private void cleanupProjectDirectory(String projectsDir, String projectPath) {
         try {
-            Path dir = Paths.get(projectPath);
-            if (Files.exists(dir)) {
-                try (var dirStream = Files.walk(dir)) {
-                    dirStream
-                            .sorted(Comparator.reverseOrder())
-                            .forEach(path -> {
-                                try {
-                                    Files.delete(path);
-                                } catch (IOException ex) {
-                                    log.warn("Failed to clean up file: {}", path, ex);
-                                }
-                            });
-                }
-            }
+            ProjectDirectories.deleteRecursively(Paths.get(projectsDir), Paths.get(projectPath));
         } catch (IOException ex) {
             log.warn("Failed to clean up project directory: {}", projectPath, ex);
         }
@@ -257,8 +738,9 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         // Dependencies
         pom.append(PomSection.DEPENDENCIES_OPEN.getTemplate());
 
+        Set<PomFeature> features = pomFeatures(request);
         for (PomDependency dep : PomDependency.values()) {
-            if (dep.isJwtOnly() && !request.getJwtAuthEnabled()) {
+            if (!features.contains(dep.getFeature())) {
                 continue;
             }
             if (isDriverDependency(dep)) {
@@ -267,13 +749,20 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
             pom.append(dep.toXml());
         }
 
-        // Database driver (selected by DatabaseType)
-        pom.append(PomDependency.driverFor(request.getDatabaseType()).toXml());
+        // Database driver (selected by DatabaseType and stack)
+        pom.append(driverFor(request).toXml());
 
         pom.append(PomSection.DEPENDENCIES_CLOSE.getTemplate());
 
         // Build plugins
-        pom.append(PomSection.buildSection());
+        pom.append(PomSection.buildSection(buildPlugins(request)));
+
+        // Opt-in profiles
+        Set<PomProfile> profiles = EnumSet.noneOf(PomProfile.class);
+        if (request.getJmhEnabled()) {
+            profiles.add(PomProfile.JMH);
+        }
+        pom.append(PomSection.profilesSection(profiles));
 
         pom.append(PomSection.PROJECT_CLOSE.getTemplate());
 
@@ -282,15 +771,98 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add("pom.xml");
     }
 
+    private void generateGradleBuild(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String groupId = request.getGroupId() != null ? request.getGroupId() : "com.example";
+        String artifactId = request.getArtifactId() != null ? request.getArtifactId() : request.getApplicationName().toLowerCase();
+        String version = request.getVersion() != null ? request.getVersion() : "1.0.0";
+        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
+
+        StringBuilder build = new StringBuilder();
+
+        // Plugins mirror the Maven build plugins, dependency management stands in for the Boot parent POM
+        build.append(GradleSection.PLUGINS_OPEN.getTemplate());
+        for (PomPlugin plugin : buildPlugins(request)) {
+            build.append(plugin.getGradleTemplate());
+        }
+        if (request.getJmhEnabled()) {
+            build.append(GradleSection.JMH_PLUGIN.getTemplate());
+        }
+        build.append(GradleSection.BLOCK_CLOSE.getTemplate());
+
+        build.append(GradleSection.projectInfo(groupId, version, request.getApplicationName()));
+        build.append(GradleSection.toolchain(String.valueOf(parseFeatureVersion(javaVersion))));
+        build.append(GradleSection.REPOSITORIES.getTemplate());
+
+        build.append(GradleSection.DEPENDENCIES_OPEN.getTemplate());
+        Set<PomFeature> features = pomFeatures(request);
+        for (PomDependency dep : PomDependency.values()) {
+            if (!features.contains(dep.getFeature())) {
+                continue;
+            }
+            if (isDriverDependency(dep)) {
+                continue;
+            }
+            build.append(dep.toGradle());
+        }
+        build.append(driverFor(request).toGradle());
+        build.append(GradleSection.JUNIT_PLATFORM_LAUNCHER.getTemplate());
+        build.append(GradleSection.BLOCK_CLOSE.getTemplate());
+
+        build.append(GradleSection.TASKS.getTemplate());
+
+        Files.writeString(Paths.get(projectPath + "/build.gradle.kts"), build.toString());
+        generatedFiles.add("build.gradle.kts");
+
+        Files.writeString(Paths.get(projectPath + "/settings.gradle.kts"), GradleSection.settings(artifactId));
+        generatedFiles.add("settings.gradle.kts");
+
+        Files.writeString(Paths.get(projectPath + "/gradle.properties"), GradleSection.PROPERTIES.getTemplate());
+        generatedFiles.add("gradle.properties");
+    }
+
+    private Set<PomPlugin> buildPlugins(GenerateProjectRequest request) {
+        Set<PomPlugin> plugins = EnumSet.of(PomPlugin.MAVEN_COMPILER, PomPlugin.SPRING_BOOT_MAVEN);
+        if (request.getNativeImageEnabled()) {
+            plugins.add(PomPlugin.NATIVE_MAVEN);
+        }
+        return plugins;
+    }
+
+    private Set<PomFeature> pomFeatures(GenerateProjectRequest request) {
+        Set<PomFeature> features = EnumSet.of(PomFeature.CORE);
+        features.add(request.getStack() == StackType.REACTIVE ? PomFeature.REACTIVE : PomFeature.SERVLET);
+        if (request.getJwtAuthEnabled()) {
+            features.add(PomFeature.JWT_AUTH);
+        }
+        if (request.getCacheEnabled()) {
+            features.add(PomFeature.CACHE);
+        }
+        if (request.getObservabilityEnabled()) {
+            features.add(PomFeature.OBSERVABILITY);
+            if (request.getStack() == StackType.REACTIVE) {
+                features.add(PomFeature.REACTIVE_OBSERVABILITY);
+            }
+        }
+        return features;
+    }
+
+    private PomDependency driverFor(GenerateProjectRequest request) {
+        return request.getStack() == StackType.REACTIVE
+                ? PomDependency.r2dbcDriverFor(request.getDatabaseType())
+                : PomDependency.driverFor(request.getDatabaseType());
+    }
+
     private boolean isDriverDependency(PomDependency dep) {
         return dep == PomDependency.MYSQL_DRIVER
                 || dep == PomDependency.POSTGRESQL_DRIVER
                 || dep == PomDependency.SQLSERVER_DRIVER
-                || dep == PomDependency.ORACLE_DRIVER;
+                || dep == PomDependency.ORACLE_DRIVER
+                || dep == PomDependency.MYSQL_R2DBC_DRIVER
+                || dep == PomDependency.POSTGRESQL_R2DBC_DRIVER
+                || dep == PomDependency.SQLSERVER_R2DBC_DRIVER
+                || dep == PomDependency.ORACLE_R2DBC_DRIVER;
     }
 
-
-
     private void generateApplicationProperties(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
         StringBuilder props = new StringBuilder();
 
@@ -298,17 +870,85 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         props.append("spring.application.name=").append(request.getApplicationName()).append("\n");
         props.append("server.port=8080\n\n");
 
-        props.append("# Database Configuration\n");
         DatabaseType dbType = request.getDatabaseType();
-        props.append("spring.datasource.url=").append(dbType.getUrlPrefix()).append("your_database_name\n");
+        if (request.getStack() == StackType.REACTIVE) {
+            appendR2dbcProperties(props, dbType);
+        } else {
+            appendJpaProperties(props, dbType);
+        }
+
+        if (request.getJwtAuthEnabled()) {
+            props.append("\n# JWT Configuration\n");
+            props.append("jwt.secret=yourSecretKeyHere123456789012345678901234567890\n");
+            props.append("jwt.expiration=86400000\n");
+            props.append("# Set above 0 to reuse verified tokens until they expire\n");
+            props.append("jwt.verified-token-cache-size=0\n");
+        }
+
+        if (request.getCacheEnabled()) {
+            props.append("\n# Cache Configuration\n");
+            props.append("spring.cache.type=caffeine\n");
+            props.append("spring.cache.cache-names=sampleData\n");
+            props.append("spring.cache.caffeine.spec=maximumSize=1000,expireAfterWrite=10m,recordStats\n");
+        }
+
+        if (request.getObservabilityEnabled()) {
+            props.append("\n# Observability Configuration\n");
+            props.append("management.endpoints.web.exposure.include=health,info,metrics,prometheus\n");
+            props.append("management.endpoint.health.probes.enabled=true\n");
+            props.append("management.endpoint.health.show-details=when-authorized\n");
+            props.append("management.metrics.tags.application=${spring.application.name}\n");
+            props.append("management.metrics.distribution.percentiles-histogram.http.server.requests=true\n");
+            props.append("management.metrics.distribution.slo.http.server.requests=50ms,100ms,250ms,500ms,1s\n");
+            if (request.getStack() == StackType.REACTIVE) {
+                // The sample publishers are timed through Reactor's metrics tap, which takes its distribution from here
+                props.append("management.metrics.distribution.percentiles-histogram.sample=true\n");
+                props.append("management.metrics.distribution.percentiles.sample=0.5,0.95,0.99\n");
+            }
+        }
+
+        if (request.getNativeImageEnabled()) {
+            props.append("\n# Native Image Configuration\n");
+            props.append("# @Profile and @ConditionalOnProperty are fixed when the image is built, rebuild after changing them\n");
+            props.append("spring.jmx.enabled=false\n");
+            if (request.getStack() == StackType.SERVLET) {
+                props.append("spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false\n");
+            }
+        }
+
+        if (request.getPerformanceProfileEnabled()) {
+            if (request.getStack() == StackType.REACTIVE) {
+                appendReactivePerformanceProfile(props, dbType);
+            } else {
+                appendPerformanceProfile(props, dbType, request.getJavaVersion() != null ? request.getJavaVersion() : "17");
+            }
+        }
+
+        props.append("\n# Logging Configuration\n");
+        props.append("logging.level.root=INFO\n");
+        props.append("logging.level.org.hibernate.SQL=WARN\n");
+        props.append("logging.level.").append(request.getPackageName() != null ? request.getPackageName() : "com." + request.getApplicationName().toLowerCase()).append("=INFO\n");
+
+        String filePath = projectPath + "/src/main/resources/application.properties";
+        Files.writeString(Paths.get(filePath), props.toString());
+        generatedFiles.add("src/main/resources/application.properties");
+    }
+
+    private void appendJpaProperties(StringBuilder props, DatabaseType dbType) {
+        props.append("# Database Configuration\n");
+        props.append("spring.datasource.url=").append(dbType.getUrlPrefix()).append("your_database_name").append(dbType.getBatchUrlParameters()).append("\n");
         props.append("spring.datasource.username=your_username\n");
         props.append("spring.datasource.password=your_password\n");
         props.append("spring.datasource.driver-class-name=").append(dbType.getDriverClassName()).append("\n\n");
 
         props.append("# JPA Configuration\n");
         props.append("spring.jpa.hibernate.ddl-auto=update\n");
-        props.append("spring.jpa.show-sql=true\n");
-        props.append("spring.jpa.properties.hibernate.format_sql=true\n");
+        props.append("spring.jpa.show-sql=false\n");
+        props.append("spring.jpa.open-in-view=false\n");
+        props.append("spring.jpa.properties.hibernate.jdbc.batch_size=").append(DatabaseType.ID_ALLOCATION_SIZE).append("\n");
+        props.append("spring.jpa.properties.hibernate.order_inserts=true\n");
+        props.append("spring.jpa.properties.hibernate.order_updates=true\n");
+        props.append("spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true\n");
 
         if (dbType == DatabaseType.MYSQL) {
             props.append("spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect\n");
@@ -319,20 +959,19 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         } else if (dbType == DatabaseType.ORACLE) {
             props.append("spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.OracleDialect\n");
         }
+    }
 
-        if (request.getJwtAuthEnabled()) {
-            props.append("\n# JWT Configuration\n");
-            props.append("jwt.secret=yourSecretKeyHere123456789012345678901234567890\n");
-            props.append("jwt.expiration=86400000\n");
-        }
-
-        props.append("\n# Logging Configuration\n");
-        props.append("logging.level.root=INFO\n");
-        props.append("logging.level.").append(request.getPackageName() != null ? request.getPackageName() : "com." + request.getApplicationName().toLowerCase()).append("=DEBUG\n");
+    private void appendR2dbcProperties(StringBuilder props, DatabaseType dbType) {
+        props.append("# R2DBC Configuration\n");
+        props.append("spring.r2dbc.url=").append(dbType.getR2dbcUrlPrefix()).append("your_database_name\n");
+        props.append("spring.r2dbc.username=your_username\n");
+        props.append("spring.r2dbc.password=your_password\n\n");
 
-        String filePath = projectPath + "/src/main/resources/application.properties";
-        Files.writeString(Paths.get(filePath), props.toString());
-        generatedFiles.add("src/main/resources/application.properties");
+        props.append("# Schema Initialization\n");
+        props.append("spring.sql.init.mode=always\n");
+        if (dbType == DatabaseType.ORACLE) {
+            props.append("spring.sql.init.continue-on-error=true\n");
+        }
     }
 
     private void generateMainClass(String projectPath, String packageName, String projectName, List<String> generatedFiles) throws IOException {
@@ -355,7 +994,84 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + DELIMITER_PATH + className + ".java");
     }
 
-    private void generateBaseEntity(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+    private void appendReactivePerformanceProfile(StringBuilder props, DatabaseType dbType) {
+        props.append("\n# Performance Profile\n");
+        props.append("server.shutdown=graceful\n");
+        props.append("spring.lifecycle.timeout-per-shutdown-phase=30s\n");
+
+        // Event loops never block on a connection, so the pool only needs to cover in-flight queries
+        props.append("spring.r2dbc.pool.enabled=true\n");
+        props.append("spring.r2dbc.pool.initial-size=10\n");
+        props.append("spring.r2dbc.pool.max-size=").append(dbType == DatabaseType.POSTGRESQL ? 16 : 20).append("\n");
+        props.append("spring.r2dbc.pool.max-idle-time=10m\n");
+        props.append("spring.r2dbc.pool.max-life-time=30m\n");
+        props.append("spring.r2dbc.pool.max-acquire-time=3s\n");
+        props.append("spring.r2dbc.pool.validation-query=").append(dbType == DatabaseType.ORACLE ? "SELECT 1 FROM DUAL" : "SELECT 1").append("\n");
+    }
+
+    private void appendPerformanceProfile(StringBuilder props, DatabaseType dbType, String javaVersion) {
+        props.append("\n# Performance Profile\n");
+        if (parseFeatureVersion(javaVersion) >= 21) {
+            props.append("spring.threads.virtual.enabled=true\n");
+        } else {
+            props.append("server.tomcat.threads.max=400\n");
+            props.append("server.tomcat.threads.min-spare=50\n");
+        }
+        props.append("server.tomcat.accept-count=200\n");
+        props.append("server.shutdown=graceful\n");
+        props.append("spring.lifecycle.timeout-per-shutdown-phase=30s\n");
+
+        // With virtual threads the pool, not the thread count, becomes the concurrency limit, so fail fast when it is exhausted
+        props.append("spring.datasource.hikari.connection-timeout=3000\n");
+        props.append("spring.datasource.hikari.validation-timeout=1000\n");
+        props.append("spring.datasource.hikari.idle-timeout=600000\n");
+        props.append("spring.datasource.hikari.keepalive-time=300000\n");
+        props.append("spring.datasource.hikari.pool-name=").append(dbType.name().toLowerCase()).append("-pool\n");
+
+        switch (dbType) {
+            case MYSQL -> {
+                props.append("spring.datasource.hikari.maximum-pool-size=20\n");
+                props.append("spring.datasource.hikari.minimum-idle=20\n");
+                props.append("spring.datasource.hikari.max-lifetime=1800000\n");
+                props.append("spring.datasource.hikari.data-source-properties.cachePrepStmts=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.prepStmtCacheSize=250\n");
+                props.append("spring.datasource.hikari.data-source-properties.prepStmtCacheSqlLimit=2048\n");
+                props.append("spring.datasource.hikari.data-source-properties.useServerPrepStmts=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.useLocalSessionState=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.cacheResultSetMetadata=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.cacheServerConfiguration=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.elideSetAutoCommits=true\n");
+                props.append("spring.datasource.hikari.data-source-properties.maintainTimeStats=false\n");
+            }
+            case POSTGRESQL -> {
+                // Every PostgreSQL connection is a backend process, so keep the pool small
+                props.append("spring.datasource.hikari.maximum-pool-size=16\n");
+                props.append("spring.datasource.hikari.minimum-idle=16\n");
+                props.append("spring.datasource.hikari.max-lifetime=1800000\n");
+                props.append("spring.datasource.hikari.data-source-properties.prepareThreshold=3\n");
+                props.append("spring.datasource.hikari.data-source-properties.preparedStatementCacheQueries=256\n");
+                props.append("spring.datasource.hikari.data-source-properties.preparedStatementCacheSizeMiB=5\n");
+                props.append("spring.datasource.hikari.data-source-properties.tcpKeepAlive=true\n");
+            }
+            case SQLSERVER -> {
+                // String parameters stay Unicode, sending them as VARCHAR would corrupt non-ASCII values in the NVARCHAR columns
+                props.append("spring.datasource.hikari.maximum-pool-size=30\n");
+                props.append("spring.datasource.hikari.minimum-idle=30\n");
+                props.append("spring.datasource.hikari.max-lifetime=1800000\n");
+                props.append("spring.datasource.hikari.data-source-properties.disableStatementPooling=false\n");
+                props.append("spring.datasource.hikari.data-source-properties.statementPoolingCacheSize=256\n");
+            }
+            case ORACLE -> {
+                props.append("spring.datasource.hikari.maximum-pool-size=30\n");
+                props.append("spring.datasource.hikari.minimum-idle=30\n");
+                props.append("spring.datasource.hikari.max-lifetime=1800000\n");
+                props.append("spring.datasource.hikari.data-source-properties.oracle.jdbc.implicitStatementCacheSize=256\n");
+                props.append("spring.datasource.hikari.data-source-properties.oracle.jdbc.defaultRowPrefetch=100\n");
+            }
+        }
+    }
+
+    private void generateBaseEntity(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
         StringBuilder baseEntity = new StringBuilder();
 
         baseEntity.append(PACKAGE).append(packageName).append(".models.entities.baseentity;\n\n");
@@ -369,7 +1085,8 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         baseEntity.append("@MappedSuperclass\n");
         baseEntity.append("public abstract class BaseEntity implements Serializable {\n\n");
         baseEntity.append("    @Id\n");
-        baseEntity.append("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
+        // Without a named generator Hibernate gives every subclass its own pooled <entity>_seq sequence
+        baseEntity.append(request.getDatabaseType().idGeneration(null));
         baseEntity.append("    private Long id;\n\n");
         baseEntity.append("    @CreationTimestamp\n");
         baseEntity.append("    @Column(name = \"created_at\", nullable = false, updatable = false)\n");
@@ -487,44 +1204,83 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         jwtUtil.append(PACKAGE).append(packageName).append(".security;\n\n");
         jwtUtil.append("import io.jsonwebtoken.*;\n");
         jwtUtil.append("import io.jsonwebtoken.security.Keys;\n");
+        jwtUtil.append("import jakarta.annotation.PostConstruct;\n");
         jwtUtil.append("import org.springframework.beans.factory.annotation.Value;\n");
         jwtUtil.append("import org.springframework.stereotype.Component;\n\n");
         jwtUtil.append("import javax.crypto.SecretKey;\n");
-        jwtUtil.append("import java.util.Date;\n\n");
+        jwtUtil.append("import java.nio.charset.StandardCharsets;\n");
+        jwtUtil.append("import java.util.Collections;\n");
+        jwtUtil.append("import java.util.Date;\n");
+        jwtUtil.append("import java.util.LinkedHashMap;\n");
+        jwtUtil.append("import java.util.Map;\n");
+        jwtUtil.append("import java.util.Optional;\n\n");
         jwtUtil.append("@Component\n");
         jwtUtil.append("public class JwtUtil {\n\n");
         jwtUtil.append("    @Value(\"${jwt.secret}\")\n");
         jwtUtil.append("    private String secret;\n\n");
         jwtUtil.append("    @Value(\"${jwt.expiration}\")\n");
         jwtUtil.append("    private Long expiration;\n\n");
-        jwtUtil.append("    private SecretKey getSigningKey() {\n");
-        jwtUtil.append("        return Keys.hmacShaKeyFor(secret.getBytes());\n");
+        jwtUtil.append("    @Value(\"${jwt.verified-token-cache-size:0}\")\n");
+        jwtUtil.append("    private int verifiedTokenCacheSize;\n\n");
+        jwtUtil.append("    // The key and parser are immutable and thread-safe, so they are built once instead of per request\n");
+        jwtUtil.append("    private SecretKey signingKey;\n");
+        jwtUtil.append("    private JwtParser parser;\n");
+        jwtUtil.append("    private Map<String, Claims> verifiedTokens;\n\n");
+        jwtUtil.append("    @PostConstruct\n");
+        jwtUtil.append("    void init() {\n");
+        jwtUtil.append("        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));\n");
+        jwtUtil.append("        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();\n");
+        jwtUtil.append("        if (verifiedTokenCacheSize > 0) {\n");
+        jwtUtil.append("            verifiedTokens = Collections.synchronizedMap(new LinkedHashMap<String, Claims>(16, 0.75f, true) {\n");
+        jwtUtil.append("                @Override\n");
+        jwtUtil.append("                protected boolean removeEldestEntry(Map.Entry<String, Claims> eldest) {\n");
+        jwtUtil.append("                    return size() > verifiedTokenCacheSize;\n");
+        jwtUtil.append("                }\n");
+        jwtUtil.append("            });\n");
+        jwtUtil.append("        }\n");
         jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
         jwtUtil.append("    public String generateToken(String username) {\n");
         jwtUtil.append("        return Jwts.builder()\n");
         jwtUtil.append("                .setSubject(username)\n");
         jwtUtil.append("                .setIssuedAt(new Date())\n");
         jwtUtil.append("                .setExpiration(new Date(System.currentTimeMillis() + expiration))\n");
-        jwtUtil.append("                .signWith(getSigningKey())\n");
+        jwtUtil.append("                .signWith(signingKey)\n");
         jwtUtil.append("                .compact();\n");
         jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
-        jwtUtil.append("    public String extractUsername(String token) {\n");
-        jwtUtil.append("        return extractClaims(token).getSubject();\n");
-        jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
-        jwtUtil.append("    public boolean validateToken(String token) {\n");
+        jwtUtil.append("    // Verifies the token once; filters should read the subject from the returned claims instead of parsing again\n");
+        jwtUtil.append("    public Optional<Claims> parseToken(String token) {\n");
+        jwtUtil.append("        if (token == null || token.isBlank()) {\n");
+        jwtUtil.append("            return Optional.empty();\n");
+        jwtUtil.append("        }\n");
+        jwtUtil.append("        if (verifiedTokens != null) {\n");
+        jwtUtil.append("            Claims cached = verifiedTokens.get(token);\n");
+        jwtUtil.append("            if (cached != null) {\n");
+        jwtUtil.append("                if (!isExpired(cached)) {\n");
+        jwtUtil.append("                    return Optional.of(cached);\n");
+        jwtUtil.append("                }\n");
+        jwtUtil.append("                verifiedTokens.remove(token);\n");
+        jwtUtil.append("                return Optional.empty();\n");
+        jwtUtil.append("            }\n");
+        jwtUtil.append("        }\n");
         jwtUtil.append("        try {\n");
-        jwtUtil.append("            extractClaims(token);\n");
-        jwtUtil.append("            return true;\n");
+        jwtUtil.append("            Claims claims = parser.parseClaimsJws(token).getBody();\n");
+        jwtUtil.append("            if (verifiedTokens != null) {\n");
+        jwtUtil.append("                verifiedTokens.put(token, claims);\n");
+        jwtUtil.append("            }\n");
+        jwtUtil.append("            return Optional.of(claims);\n");
         jwtUtil.append("        } catch (JwtException | IllegalArgumentException e) {\n");
-        jwtUtil.append("            return false;\n");
+        jwtUtil.append("            return Optional.empty();\n");
         jwtUtil.append("        }\n");
         jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
-        jwtUtil.append("    private Claims extractClaims(String token) {\n");
-        jwtUtil.append("        return Jwts.parserBuilder()\n");
-        jwtUtil.append("                .setSigningKey(getSigningKey())\n");
-        jwtUtil.append("                .build()\n");
-        jwtUtil.append("                .parseClaimsJws(token)\n");
-        jwtUtil.append("                .getBody();\n");
+        jwtUtil.append("    public String extractUsername(String token) {\n");
+        jwtUtil.append("        return parseToken(token).map(Claims::getSubject).orElse(null);\n");
+        jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
+        jwtUtil.append("    public boolean validateToken(String token) {\n");
+        jwtUtil.append("        return parseToken(token).isPresent();\n");
+        jwtUtil.append(BLOCK_CLOSE_WITH_NEWLINE);
+        jwtUtil.append("    private boolean isExpired(Claims claims) {\n");
+        jwtUtil.append("        Date expiresAt = claims.getExpiration();\n");
+        jwtUtil.append("        return expiresAt != null && !expiresAt.after(new Date());\n");
         jwtUtil.append(BLOCK_CLOSE);
         jwtUtil.append("}\n");
 
@@ -538,10 +1294,14 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         StringBuilder controller = new StringBuilder();
 
         controller.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        controller.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
         controller.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
         if (request.getBaseResponseEnabled()) {
             controller.append(IMPORT).append(packageName).append(".models.dto.response.baseresponse.SuccessResponse;\n");
         }
+        if (request.getObservabilityEnabled()) {
+            controller.append("import io.micrometer.core.annotation.Timed;\n");
+        }
         controller.append("import lombok.RequiredArgsConstructor;\n");
         controller.append("import org.springframework.http.ResponseEntity;\n");
         controller.append("import org.springframework.web.bind.annotation.*;\n\n");
@@ -551,12 +1311,28 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         controller.append("public class SampleController {\n\n");
         controller.append("    private final SampleService sampleService;\n\n");
         controller.append("    @GetMapping\n");
+        if (request.getObservabilityEnabled()) {
+            controller.append("    @Timed(value = \"sample.controller.get\", histogram = true, percentiles = {0.5, 0.95, 0.99})\n");
+        }
         controller.append("    public ResponseEntity<?> getSample() {\n");
         if (request.getBaseResponseEnabled()) {
             controller.append("        return ResponseEntity.ok(SuccessResponse.of(\"Sample endpoint\", \"Hello from ").append(request.getApplicationName()).append("!\"));\n");
         } else {
             controller.append("        return ResponseEntity.ok(\"Hello from ").append(request.getApplicationName()).append("!\");\n");
         }
+        controller.append(BLOCK_CLOSE_WITH_NEWLINE);
+        controller.append("    @GetMapping(\"/items\")\n");
+        if (request.getObservabilityEnabled()) {
+            controller.append("    @Timed(value = \"sample.controller.list\", histogram = true, percentiles = {0.5, 0.95, 0.99})\n");
+        }
+        controller.append("    public ResponseEntity<?> listSamples(@RequestParam(required = false) String cursor,\n");
+        controller.append("                                         @RequestParam(defaultValue = \"20\") int size) {\n");
+        controller.append("        SamplePage page = sampleService.listSamples(cursor, Math.max(1, Math.min(size, SamplePage.MAX_SIZE)));\n");
+        if (request.getBaseResponseEnabled()) {
+            controller.append("        return ResponseEntity.ok(SuccessResponse.of(page));\n");
+        } else {
+            controller.append("        return ResponseEntity.ok(page);\n");
+        }
         controller.append(BLOCK_CLOSE);
         controller.append("}\n");
 
@@ -565,13 +1341,15 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/SampleController.java");
     }
 
-    private void generateSampleService(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+    private void generateSampleService(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
         String packagePath = packageName.replace(".", DELIMITER_PATH);
 
         StringBuilder serviceInterface = new StringBuilder();
         serviceInterface.append(PACKAGE).append(packageName).append(".services.interfaces;\n\n");
+        serviceInterface.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n\n");
         serviceInterface.append("public interface SampleService {\n");
-        serviceInterface.append("    String getSampleData();\n");
+        serviceInterface.append("    String getSampleData();\n\n");
+        serviceInterface.append("    SamplePage listSamples(String cursor, int size);\n");
         serviceInterface.append("}\n");
 
         String interfacePath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/services/interfaces/SampleService.java";
@@ -580,15 +1358,52 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
 
         StringBuilder serviceImpl = new StringBuilder();
         serviceImpl.append(PACKAGE).append(packageName).append(".services.implementations;\n\n");
+        if (request.getCacheEnabled()) {
+            serviceImpl.append(IMPORT).append(packageName).append(".configuration.CacheConfig;\n");
+        }
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.request.SampleCursor;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.response.SamplePage;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        serviceImpl.append(IMPORT).append(packageName).append(".repository.SampleRepository;\n");
         serviceImpl.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (request.getObservabilityEnabled()) {
+            serviceImpl.append("import io.micrometer.core.annotation.Timed;\n");
+        }
         serviceImpl.append("import lombok.RequiredArgsConstructor;\n");
-        serviceImpl.append("import org.springframework.stereotype.Service;\n\n");
+        if (request.getCacheEnabled()) {
+            serviceImpl.append("import org.springframework.cache.annotation.Cacheable;\n");
+        }
+        serviceImpl.append("import org.springframework.data.domain.PageRequest;\n");
+        serviceImpl.append("import org.springframework.stereotype.Service;\n");
+        serviceImpl.append("import org.springframework.transaction.annotation.Transactional;\n\n");
+        serviceImpl.append("import java.util.List;\n\n");
         serviceImpl.append("@Service\n");
         serviceImpl.append("@RequiredArgsConstructor\n");
         serviceImpl.append("public class SampleServiceImpl implements SampleService {\n\n");
+        serviceImpl.append("    private final SampleRepository sampleRepository;\n\n");
         serviceImpl.append("    @Override\n");
+        if (request.getCacheEnabled()) {
+            serviceImpl.append("    @Cacheable(CacheConfig.SAMPLE_DATA_CACHE)\n");
+        }
+        if (request.getObservabilityEnabled()) {
+            serviceImpl.append("    @Timed(value = \"sample.service.data\", histogram = true, percentiles = {0.5, 0.95, 0.99})\n");
+        }
         serviceImpl.append("    public String getSampleData() {\n");
         serviceImpl.append("        return \"Sample data from service\";\n");
+        serviceImpl.append(BLOCK_CLOSE_WITH_NEWLINE);
+        serviceImpl.append("    @Override\n");
+        serviceImpl.append("    @Transactional(readOnly = true)\n");
+        serviceImpl.append("    public SamplePage listSamples(String cursor, int size) {\n");
+        serviceImpl.append("        // One extra row tells whether another page exists without a count query\n");
+        serviceImpl.append("        PageRequest limit = PageRequest.of(0, size + 1);\n");
+        serviceImpl.append("        List<SampleSummary> rows;\n");
+        serviceImpl.append("        if (cursor == null) {\n");
+        serviceImpl.append("            rows = sampleRepository.findFirstPage(limit);\n");
+        serviceImpl.append("        } else {\n");
+        serviceImpl.append("            SampleCursor after = SampleCursor.decode(cursor);\n");
+        serviceImpl.append("            rows = sampleRepository.findPageAfter(after.getName(), after.getId(), limit);\n");
+        serviceImpl.append("        }\n");
+        serviceImpl.append("        return SamplePage.of(rows, size);\n");
         serviceImpl.append(BLOCK_CLOSE);
         serviceImpl.append("}\n");
 
@@ -597,6 +1412,288 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/services/implementations/SampleServiceImpl.java");
     }
 
+    private void generateObservabilityConfig(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder config = new StringBuilder();
+
+        config.append(PACKAGE).append(packageName).append(".configuration;\n\n");
+        config.append("import io.micrometer.core.aop.TimedAspect;\n");
+        config.append("import io.micrometer.core.instrument.MeterRegistry;\n");
+        config.append("import org.springframework.context.annotation.Bean;\n");
+        config.append("import org.springframework.context.annotation.Configuration;\n\n");
+        config.append("// @Timed is only honoured on arbitrary beans when the aspect is registered\n");
+        config.append("@Configuration\n");
+        config.append("public class ObservabilityConfig {\n\n");
+        config.append("    @Bean\n");
+        config.append("    public TimedAspect timedAspect(MeterRegistry registry) {\n");
+        config.append("        return new TimedAspect(registry);\n");
+        config.append(BLOCK_CLOSE);
+        config.append("}\n");
+
+        String configPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/configuration/ObservabilityConfig.java";
+        Files.writeString(Paths.get(configPath), config.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/configuration/ObservabilityConfig.java");
+    }
+
+    private void generateNativeHints(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        StringBuilder config = new StringBuilder();
+
+        config.append(PACKAGE).append(packageName).append(".configuration;\n\n");
+        boolean reactive = request.getStack() == StackType.REACTIVE;
+        if (!reactive) {
+            config.append("import jakarta.persistence.Embeddable;\n");
+            config.append("import jakarta.persistence.Entity;\n");
+            config.append("import jakarta.persistence.MappedSuperclass;\n");
+        }
+        config.append("import org.springframework.aot.hint.MemberCategory;\n");
+        config.append("import org.springframework.aot.hint.RuntimeHints;\n");
+        config.append("import org.springframework.aot.hint.RuntimeHintsRegistrar;\n");
+        config.append("import org.springframework.aot.hint.TypeReference;\n");
+        config.append("import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;\n");
+        config.append("import org.springframework.beans.factory.config.BeanDefinition;\n");
+        config.append("import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;\n");
+        config.append("import org.springframework.context.annotation.Configuration;\n");
+        config.append("import org.springframework.context.annotation.ImportRuntimeHints;\n");
+        config.append("import org.springframework.core.type.filter.AnnotationTypeFilter;\n");
+        config.append("import org.springframework.core.type.filter.RegexPatternTypeFilter;\n");
+        if (reactive) {
+            config.append("import org.springframework.data.relational.core.mapping.Table;\n");
+        }
+        config.append("\n");
+        if (request.getJwtAuthEnabled()) {
+            config.append("import java.util.List;\n");
+        }
+        config.append("import java.util.regex.Pattern;\n\n");
+        config.append("@Configuration\n");
+        config.append("@ImportRuntimeHints(NativeHintsConfig.ApplicationRuntimeHints.class)\n");
+        config.append("public class NativeHintsConfig {\n\n");
+        config.append("    static class ApplicationRuntimeHints implements RuntimeHintsRegistrar {\n\n");
+        config.append("        private static final String BASE_PACKAGE = \"").append(packageName).append("\";\n\n");
+        config.append("        @Override\n");
+        config.append("        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {\n");
+        config.append("            // Registrars run during AOT processing on the JVM, so the classpath can still be scanned here\n");
+        config.append("            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {\n");
+        config.append("                @Override\n");
+        config.append("                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {\n");
+        config.append("                    return beanDefinition.getMetadata().isIndependent();\n");
+        config.append("                }\n");
+        config.append("            };\n");
+        if (reactive) {
+            config.append("            scanner.addIncludeFilter(new AnnotationTypeFilter(Table.class));\n");
+        } else {
+            config.append("            scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));\n");
+            config.append("            scanner.addIncludeFilter(new AnnotationTypeFilter(MappedSuperclass.class));\n");
+            config.append("            scanner.addIncludeFilter(new AnnotationTypeFilter(Embeddable.class));\n");
+        }
+        config.append("            scanner.addIncludeFilter(new RegexPatternTypeFilter(Pattern.compile(Pattern.quote(BASE_PACKAGE) + \"\\\\.models\\\\.dto\\\\..*\")));\n");
+        config.append("            for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {\n");
+        config.append("                hints.reflection().registerType(TypeReference.of(candidate.getBeanClassName()), MemberCategory.values());\n");
+        config.append("            }\n");
+        if (request.getJwtAuthEnabled()) {
+            config.append("\n");
+            config.append("            // jjwt instantiates its implementation and Jackson (de)serializer reflectively\n");
+            config.append("            for (String type : List.of(\n");
+            config.append("                    \"io.jsonwebtoken.impl.DefaultJwtBuilder\",\n");
+            config.append("                    \"io.jsonwebtoken.impl.DefaultJwtParserBuilder\",\n");
+            config.append("                    \"io.jsonwebtoken.impl.DefaultJwtParser\",\n");
+            config.append("                    \"io.jsonwebtoken.impl.DefaultClaims\",\n");
+            config.append("                    \"io.jsonwebtoken.jackson.io.JacksonSerializer\",\n");
+            config.append("                    \"io.jsonwebtoken.jackson.io.JacksonDeserializer\")) {\n");
+            config.append("                hints.reflection().registerType(TypeReference.of(type),\n");
+            config.append("                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);\n");
+            config.append("            }\n");
+            config.append("            hints.resources().registerPattern(\"META-INF/services/io.jsonwebtoken.*\");\n");
+        }
+        config.append("        }\n");
+        config.append(BLOCK_CLOSE);
+        config.append("}\n");
+
+        String configPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/configuration/NativeHintsConfig.java";
+        Files.writeString(Paths.get(configPath), config.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/configuration/NativeHintsConfig.java");
+    }
+
+    private void generateCacheComponents(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+
+        StringBuilder cacheConfig = new StringBuilder();
+        cacheConfig.append(PACKAGE).append(packageName).append(".configuration;\n\n");
+        cacheConfig.append("import org.springframework.cache.annotation.EnableCaching;\n");
+        cacheConfig.append("import org.springframework.context.annotation.Configuration;\n\n");
+        cacheConfig.append("// Sizing and TTL come from spring.cache.caffeine.spec in application.properties\n");
+        cacheConfig.append("@Configuration\n");
+        cacheConfig.append("@EnableCaching\n");
+        cacheConfig.append("public class CacheConfig {\n");
+        cacheConfig.append("    public static final String SAMPLE_DATA_CACHE = \"sampleData\";\n");
+        cacheConfig.append("}\n");
+
+        String cacheConfigPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/configuration/CacheConfig.java";
+        Files.writeString(Paths.get(cacheConfigPath), cacheConfig.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/configuration/CacheConfig.java");
+
+        StringBuilder controller = new StringBuilder();
+        controller.append(PACKAGE).append(packageName).append(".controller;\n\n");
+        controller.append("import com.github.benmanes.caffeine.cache.stats.CacheStats;\n");
+        controller.append("import lombok.RequiredArgsConstructor;\n");
+        controller.append("import org.springframework.cache.CacheManager;\n");
+        controller.append("import org.springframework.cache.caffeine.CaffeineCache;\n");
+        controller.append("import org.springframework.http.ResponseEntity;\n");
+        controller.append("import org.springframework.web.bind.annotation.GetMapping;\n");
+        controller.append("import org.springframework.web.bind.annotation.RequestMapping;\n");
+        controller.append("import org.springframework.web.bind.annotation.RestController;\n\n");
+        controller.append("import java.util.LinkedHashMap;\n");
+        controller.append("import java.util.Map;\n\n");
+        controller.append("@RestController\n");
+        controller.append("@RequestMapping(\"/api/cache\")\n");
+        controller.append("@RequiredArgsConstructor\n");
+        controller.append("public class CacheStatisticsController {\n\n");
+        controller.append("    private final CacheManager cacheManager;\n\n");
+        controller.append("    @GetMapping(\"/stats\")\n");
+        controller.append("    public ResponseEntity<Map<String, Map<String, Object>>> getCacheStatistics() {\n");
+        controller.append("        Map<String, Map<String, Object>> statistics = new LinkedHashMap<>();\n");
+        controller.append("        for (String cacheName : cacheManager.getCacheNames()) {\n");
+        controller.append("            if (cacheManager.getCache(cacheName) instanceof CaffeineCache cache) {\n");
+        controller.append("                CacheStats stats = cache.getNativeCache().stats();\n");
+        controller.append("                Map<String, Object> values = new LinkedHashMap<>();\n");
+        controller.append("                values.put(\"size\", cache.getNativeCache().estimatedSize());\n");
+        controller.append("                values.put(\"hits\", stats.hitCount());\n");
+        controller.append("                values.put(\"misses\", stats.missCount());\n");
+        controller.append("                values.put(\"hitRate\", stats.hitRate());\n");
+        controller.append("                values.put(\"evictions\", stats.evictionCount());\n");
+        controller.append("                statistics.put(cacheName, values);\n");
+        controller.append("            }\n");
+        controller.append("        }\n");
+        controller.append("        return ResponseEntity.ok(statistics);\n");
+        controller.append(BLOCK_CLOSE);
+        controller.append("}\n");
+
+        String controllerPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/controller/CacheStatisticsController.java";
+        Files.writeString(Paths.get(controllerPath), controller.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/controller/CacheStatisticsController.java");
+    }
+
+    private void generateDockerfile(String projectPath, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
+        // JDK 25 replaces the CDS archive with the AOT cache, which also keeps linked classes and method profiles
+        boolean aotCache = parseFeatureVersion(javaVersion) >= 25;
+        String trainingOption = aotCache ? "-XX:AOTCacheOutput=application.aot" : "-XX:ArchiveClassesAtExit=application.jsa";
+        String runtimeOption = aotCache ? "-XX:AOTCache=application.aot" : "-XX:SharedArchiveFile=application.jsa";
+
+        StringBuilder dockerfile = new StringBuilder();
+        dockerfile.append("# syntax=docker/dockerfile:1\n\n");
+        if (request.getBuildTool() == BuildTool.GRADLE) {
+            dockerfile.append("FROM gradle:jdk").append(javaVersion).append(" AS build\n");
+            dockerfile.append("WORKDIR /workspace\n");
+            dockerfile.append("COPY settings.gradle.kts build.gradle.kts gradle.properties ./\n");
+            dockerfile.append("RUN --mount=type=cache,target=/home/gradle/.gradle gradle --no-daemon -q dependencies\n");
+            dockerfile.append("COPY src ./src\n");
+            dockerfile.append("RUN --mount=type=cache,target=/home/gradle/.gradle gradle --no-daemon -q -x test bootJar \\\n");
+            dockerfile.append("    && cp build/libs/*.jar application.jar \\\n");
+        } else {
+            dockerfile.append("FROM maven:3.9-eclipse-temurin-").append(javaVersion).append(" AS build\n");
+            dockerfile.append("WORKDIR /workspace\n");
+            dockerfile.append("COPY pom.xml .\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q dependency:go-offline\n");
+            dockerfile.append("COPY src ./src\n");
+            dockerfile.append("RUN --mount=type=cache,target=/root/.m2 mvn -B -q -DskipTests package \\\n");
+            dockerfile.append("    && cp target/*.jar application.jar \\\n");
+        }
+        // The tools extraction keeps application.jar runnable with -jar over a plain lib/ classpath, which CDS can archive
+        dockerfile.append("    && java -Djarmode=tools -jar application.jar extract --layers --destination extracted\n\n");
+
+        dockerfile.append("FROM eclipse-temurin:").append(javaVersion).append("-jre\n");
+        dockerfile.append("RUN groupadd --system spring && useradd --system --gid spring --home-dir /application spring \\\n");
+        dockerfile.append("    && mkdir -p /application && chown spring:spring /application\n");
+        dockerfile.append("WORKDIR /application\n");
+        dockerfile.append("# Layers are copied from least to most frequently changed, so code changes only push the last one\n");
+        dockerfile.append("COPY --from=build --chown=spring:spring /workspace/extracted/dependencies/ ./\n");
+        dockerfile.append("COPY --from=build --chown=spring:spring /workspace/extracted/spring-boot-loader/ ./\n");
+        dockerfile.append("COPY --from=build --chown=spring:spring /workspace/extracted/snapshot-dependencies/ ./\n");
+        dockerfile.append("COPY --from=build --chown=spring:spring /workspace/extracted/application/ ./\n");
+        dockerfile.append("USER spring\n\n");
+
+        dockerfile.append("# Training run: start the context without touching the database, then exit and write the class cache.\n");
+        dockerfile.append("# A failed run fails the image build rather than shipping without the cache\n");
+        dockerfile.append("RUN java ").append(trainingOption).append(" \\\n");
+        dockerfile.append("    -Dspring.context.exit=onRefresh \\\n");
+        dockerfile.append("    -Dspring.jpa.hibernate.ddl-auto=none \\\n");
+        dockerfile.append("    -Dspring.sql.init.mode=never \\\n");
+        dockerfile.append("    -Dspring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false \\\n");
+        dockerfile.append("    -Dspring.datasource.hikari.initialization-fail-timeout=-1 \\\n");
+        dockerfile.append("    -jar application.jar\n\n");
+
+        dockerfile.append("EXPOSE 8080\n");
+        dockerfile.append("ENTRYPOINT [\"java\", \"").append(runtimeOption).append("\", \"-jar\", \"application.jar\"]\n");
+
+        Files.writeString(Paths.get(projectPath + "/Dockerfile"), dockerfile.toString());
+        generatedFiles.add("Dockerfile");
+
+        StringBuilder dockerignore = new StringBuilder();
+        dockerignore.append("target/\n");
+        dockerignore.append("build/\n");
+        dockerignore.append(".gradle/\n");
+        dockerignore.append(".git/\n");
+        dockerignore.append(".idea/\n");
+        dockerignore.append("*.iml\n");
+
+        Files.writeString(Paths.get(projectPath + "/.dockerignore"), dockerignore.toString());
+        generatedFiles.add(".dockerignore");
+    }
+
+    private int parseFeatureVersion(String javaVersion) {
+        try {
+            String feature = javaVersion.startsWith("1.") ? javaVersion.substring(2) : javaVersion;
+            int end = 0;
+            while (end < feature.length() && Character.isDigit(feature.charAt(end))) {
+                end++;
+            }
+            return Integer.parseInt(feature.substring(0, end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void generateJmhBenchmark(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
+        boolean reactive = request.getStack() == StackType.REACTIVE;
+        // The reactive sample service times its publishers against an injected registry
+        boolean meterRegistry = reactive && request.getObservabilityEnabled();
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+
+        StringBuilder benchmark = new StringBuilder();
+        benchmark.append(PACKAGE).append(packageName).append(".benchmark;\n\n");
+        benchmark.append(IMPORT).append(packageName).append(".services.implementations.SampleServiceImpl;\n");
+        benchmark.append(IMPORT).append(packageName).append(".services.interfaces.SampleService;\n");
+        if (meterRegistry) {
+            benchmark.append("import io.micrometer.core.instrument.simple.SimpleMeterRegistry;\n");
+        }
+        benchmark.append("import org.openjdk.jmh.annotations.*;\n\n");
+        benchmark.append("import java.util.concurrent.TimeUnit;\n\n");
+        benchmark.append("@State(Scope.Benchmark)\n");
+        benchmark.append("@BenchmarkMode(Mode.AverageTime)\n");
+        benchmark.append("@OutputTimeUnit(TimeUnit.NANOSECONDS)\n");
+        benchmark.append("@Warmup(iterations = 3, time = 1)\n");
+        benchmark.append("@Measurement(iterations = 5, time = 1)\n");
+        benchmark.append("@Fork(1)\n");
+        benchmark.append("public class SampleServiceBenchmark {\n\n");
+        benchmark.append("    private SampleService sampleService;\n\n");
+        benchmark.append("    @Setup\n");
+        benchmark.append("    public void setUp() {\n");
+        // getSampleData does not touch the repository, so the benchmark runs without a database
+        benchmark.append("        sampleService = new SampleServiceImpl(null").append(meterRegistry ? ", new SimpleMeterRegistry()" : "").append(");\n");
+        benchmark.append(BLOCK_CLOSE_WITH_NEWLINE);
+        benchmark.append("    @Benchmark\n");
+        benchmark.append("    public String getSampleData() {\n");
+        benchmark.append("        return sampleService.getSampleData()").append(reactive ? ".block()" : "").append(";\n");
+        benchmark.append(BLOCK_CLOSE);
+        benchmark.append("}\n");
+
+        String benchmarkDir = projectPath + "/src/jmh/java/" + packagePath + "/benchmark";
+        Files.createDirectories(Paths.get(benchmarkDir));
+        Files.writeString(Paths.get(benchmarkDir + "/SampleServiceBenchmark.java"), benchmark.toString());
+        generatedFiles.add("src/jmh/java/" + packagePath + "/benchmark/SampleServiceBenchmark.java");
+    }
+
     private void generateSampleEntity(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
         String packagePath = packageName.replace(".", DELIMITER_PATH);
         StringBuilder entity = new StringBuilder();
@@ -613,7 +1710,8 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         }
         entity.append(IMPORT_NO_ARGUMENTS_CONSTRUCTOR);
         entity.append("@Entity\n");
-        entity.append("@Table(name = \"sample_entity\")\n");
+        // Keyset pages seek on (name, id), so the index must cover both columns in sort order
+        entity.append("@Table(name = \"sample_entity\", indexes = @Index(name = \"idx_sample_entity_name_id\", columnList = \"name, id\"))\n");
         entity.append(DATA_ANNOTATION);
         if (request.getBaseEntityEnabled()) {
             entity.append("@EqualsAndHashCode(callSuper = true)\n");
@@ -628,11 +1726,11 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
 
         if (!request.getBaseEntityEnabled()) {
             entity.append("    @Id\n");
-            entity.append("    @GeneratedValue(strategy = GenerationType.IDENTITY)\n");
+            entity.append(request.getDatabaseType().idGeneration("sample_entity_seq"));
             entity.append("    private Long id;\n\n");
         }
 
-        entity.append("    @Column(name = \"name\")\n");
+        entity.append("    @Column(name = \"name\", nullable = false)\n");
         entity.append("    private String name;\n\n");
         entity.append("    @Column(name = \"description\")\n");
         entity.append("    private String description;\n");
@@ -643,6 +1741,117 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/entities/SampleEntity.java");
     }
 
+    private void generateSampleRepository(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+        String summaryType = packageName + ".models.dto.response.SampleSummary";
+        StringBuilder repository = new StringBuilder();
+
+        repository.append(PACKAGE).append(packageName).append(".repository;\n\n");
+        repository.append(IMPORT).append(packageName).append(".models.entities.SampleEntity;\n");
+        repository.append(IMPORT).append(summaryType).append(";\n");
+        repository.append("import org.springframework.data.domain.Pageable;\n");
+        repository.append("import org.springframework.data.jpa.repository.JpaRepository;\n");
+        repository.append("import org.springframework.data.jpa.repository.Query;\n");
+        repository.append("import org.springframework.data.repository.query.Param;\n");
+        repository.append("import org.springframework.stereotype.Repository;\n\n");
+        repository.append("import java.util.List;\n\n");
+        repository.append("@Repository\n");
+        repository.append("public interface SampleRepository extends JpaRepository<SampleEntity, Long> {\n\n");
+        repository.append("    @Query(\"select new ").append(summaryType).append("(e.id, e.name) from SampleEntity e \" +\n");
+        repository.append("            \"order by e.name asc, e.id asc\")\n");
+        repository.append("    List<SampleSummary> findFirstPage(Pageable limit);\n\n");
+        repository.append("    @Query(\"select new ").append(summaryType).append("(e.id, e.name) from SampleEntity e \" +\n");
+        repository.append("            \"where e.name > :name or (e.name = :name and e.id > :id) \" +\n");
+        repository.append("            \"order by e.name asc, e.id asc\")\n");
+        repository.append("    List<SampleSummary> findPageAfter(@Param(\"name\") String name, @Param(\"id\") Long id, Pageable limit);\n");
+        repository.append("}\n");
+
+        String filePath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/repository/SampleRepository.java";
+        Files.writeString(Paths.get(filePath), repository.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/repository/SampleRepository.java");
+    }
+
+    private void generateSamplePagination(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+        String packagePath = packageName.replace(".", DELIMITER_PATH);
+
+        StringBuilder summary = new StringBuilder();
+        summary.append(PACKAGE).append(packageName).append(".models.dto.response;\n\n");
+        summary.append("import lombok.AllArgsConstructor;\n");
+        summary.append("import lombok.Getter;\n\n");
+        summary.append("@Getter\n");
+        summary.append(ALL_ARGUMENTS_CONSTRUCTOR);
+        summary.append("public class SampleSummary {\n");
+        summary.append("    private final Long id;\n");
+        summary.append("    private final String name;\n");
+        summary.append("}\n");
+
+        String summaryPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/response/SampleSummary.java";
+        Files.writeString(Paths.get(summaryPath), summary.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/response/SampleSummary.java");
+
+        StringBuilder page = new StringBuilder();
+        page.append(PACKAGE).append(packageName).append(".models.dto.response;\n\n");
+        page.append(IMPORT).append(packageName).append(".models.dto.request.SampleCursor;\n");
+        page.append("import lombok.AllArgsConstructor;\n");
+        page.append("import lombok.Getter;\n\n");
+        page.append("import java.util.List;\n\n");
+        page.append("@Getter\n");
+        page.append(ALL_ARGUMENTS_CONSTRUCTOR);
+        page.append("public class SamplePage {\n");
+        page.append("    public static final int MAX_SIZE = 100;\n\n");
+        page.append("    private final List<SampleSummary> items;\n");
+        page.append("    private final String nextCursor;\n\n");
+        page.append("    // Expects up to size + 1 rows; the extra row only signals that a next page exists\n");
+        page.append("    public static SamplePage of(List<SampleSummary> rows, int size) {\n");
+        page.append("        if (rows.size() <= size) {\n");
+        page.append("            return new SamplePage(rows, null);\n");
+        page.append("        }\n");
+        page.append("        List<SampleSummary> items = rows.subList(0, size);\n");
+        page.append("        return new SamplePage(items, SampleCursor.of(items.get(size - 1)).encode());\n");
+        page.append(BLOCK_CLOSE);
+        page.append("}\n");
+
+        String pagePath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/response/SamplePage.java";
+        Files.writeString(Paths.get(pagePath), page.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/response/SamplePage.java");
+
+        StringBuilder cursor = new StringBuilder();
+        cursor.append(PACKAGE).append(packageName).append(".models.dto.request;\n\n");
+        cursor.append(IMPORT).append(packageName).append(".models.dto.response.SampleSummary;\n");
+        cursor.append("import lombok.AllArgsConstructor;\n");
+        cursor.append("import lombok.Getter;\n");
+        cursor.append("import org.springframework.http.HttpStatus;\n");
+        cursor.append("import org.springframework.web.server.ResponseStatusException;\n\n");
+        cursor.append("import java.nio.charset.StandardCharsets;\n");
+        cursor.append("import java.util.Base64;\n\n");
+        cursor.append("// Opaque position of the last row served, so the next page seeks past it instead of skipping an offset\n");
+        cursor.append("@Getter\n");
+        cursor.append(ALL_ARGUMENTS_CONSTRUCTOR);
+        cursor.append("public class SampleCursor {\n");
+        cursor.append("    private final String name;\n");
+        cursor.append("    private final Long id;\n\n");
+        cursor.append("    public static SampleCursor of(SampleSummary last) {\n");
+        cursor.append("        return new SampleCursor(last.getName(), last.getId());\n");
+        cursor.append(BLOCK_CLOSE_WITH_NEWLINE);
+        cursor.append("    public String encode() {\n");
+        cursor.append("        return Base64.getUrlEncoder().withoutPadding().encodeToString((id + \":\" + name).getBytes(StandardCharsets.UTF_8));\n");
+        cursor.append(BLOCK_CLOSE_WITH_NEWLINE);
+        cursor.append("    public static SampleCursor decode(String cursor) {\n");
+        cursor.append("        try {\n");
+        cursor.append("            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);\n");
+        cursor.append("            int separator = value.indexOf(':');\n");
+        cursor.append("            return new SampleCursor(value.substring(separator + 1), Long.parseLong(value.substring(0, separator)));\n");
+        cursor.append("        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {\n");
+        cursor.append("            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, \"Invalid cursor\");\n");
+        cursor.append("        }\n");
+        cursor.append(BLOCK_CLOSE);
+        cursor.append("}\n");
+
+        String cursorPath = projectPath + SOURCE_MAIN_JAVA + packagePath + "/models/dto/request/SampleCursor.java";
+        Files.writeString(Paths.get(cursorPath), cursor.toString());
+        generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/dto/request/SampleCursor.java");
+    }
+
     private void generateEnums(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
         String packagePath = packageName.replace(".", DELIMITER_PATH);
         StringBuilder statusEnum = new StringBuilder();
@@ -660,16 +1869,19 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/models/enums/Status.java");
     }
 
-    private void generateConfiguration(String projectPath, String packageName, List<String> generatedFiles) throws IOException {
+    private void generateConfiguration(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException {
         String packagePath = packageName.replace(".", DELIMITER_PATH);
+        boolean reactive = request.getStack() == StackType.REACTIVE;
+        String configPackage = reactive ? "org.springframework.web.reactive.config" : "org.springframework.web.servlet.config.annotation";
+        String configurer = reactive ? "WebFluxConfigurer" : "WebMvcConfigurer";
 
         StringBuilder webConfig = new StringBuilder();
         webConfig.append(PACKAGE).append(packageName).append(".configuration;\n\n");
         webConfig.append("import org.springframework.context.annotation.Configuration;\n");
-        webConfig.append("import org.springframework.web.servlet.config.annotation.CorsRegistry;\n");
-        webConfig.append("import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;\n\n");
+        webConfig.append(IMPORT).append(configPackage).append(".CorsRegistry;\n");
+        webConfig.append(IMPORT).append(configPackage).append(".").append(configurer).append(";\n\n");
         webConfig.append("@Configuration\n");
-        webConfig.append("public class WebConfig implements WebMvcConfigurer {\n\n");
+        webConfig.append("public class WebConfig implements ").append(configurer).append(" {\n\n");
         webConfig.append("    @Override\n");
         webConfig.append("    public void addCorsMappings(CorsRegistry registry) {\n");
         webConfig.append("        registry.addMapping(\"/**\")\n");
@@ -684,4 +1896,25 @@ public class SpringBootGeneratorServiceImplementation implements SpringBootGener
         generatedFiles.add(ADD_GENERATED_FILES_SOURCE + packagePath + "/configuration/WebConfig.java");
     }
 
+    private record ProjectDelta(List<GeneratedProjectFile> changedFiles, List<String> deletedFiles) {
+    }
+
+    private class SpringBootProjectGenerator implements ProjectGenerator {
+
+        @Override
+        public FrameworkType getFrameworkType() {
+            return FrameworkType.SPRINGBOOT;
+        }
+
+        @Override
+        public void validate(GenerateProjectRequest request, boolean fromOpenApiSpec) {
+            validateStack(request);
+        }
+
+        @Override
+        public Map<String, GenerationStep> render(String projectPath, String packageName, GenerateProjectRequest request, InputStream openApiSpec,
+                                                  Set<GenerationStep> steps, GenerationProgressListener listener) throws IOException {
+            return renderSteps(projectPath, packageName, request, openApiSpec, steps, listener);
+        }
+    }
 }
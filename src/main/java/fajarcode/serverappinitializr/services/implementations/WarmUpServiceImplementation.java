@@ -0,0 +1,280 @@
+package fajarcode.serverappinitializr.services.implementations;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.WarmUpReportResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.models.enums.WarmUpStatus;
+import fajarcode.serverappinitializr.services.interfaces.ProjectArchiveService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import fajarcode.serverappinitializr.services.interfaces.WarmUpService;
+import fajarcode.serverappinitializr.utils.ProjectDirectories;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WarmUpServiceImplementation implements WarmUpService, ApplicationRunner {
+    private final SpringBootGeneratorService springBootGeneratorService;
+    private final ProjectArchiveService projectArchiveService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationAvailability applicationAvailability;
+
+    private static final int FLAG_COUNT = 9;
+    private static final int MAX_LATENCY_SAMPLE = 20;
+    private static final FrameworkType[] FRAMEWORKS = {FrameworkType.SPRINGBOOT, FrameworkType.QUARKUS, FrameworkType.FIBER};
+
+    // Kept apart from generator.projects-dir so the expiry sweep and live projects never see half-written scratch output
+    @Value("${generator.warm-up.scratch-dir:${java.io.tmpdir}/server-app-initializr-warm-up}")
+    private String scratchDir;
+
+    @Value("${generator.warm-up.enabled:false}")
+    private boolean enabled;
+
+    @Value("${generator.warm-up.max-cycles:0}")
+    private int maxCycles;
+
+    @Value("${generator.warm-up.time-budget-ms:120000}")
+    private long timeBudgetMillis;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicInteger completedCycles = new AtomicInteger();
+    private volatile WarmUpReportResponse report = disabledReport();
+
+    // Runners finish before Boot publishes ACCEPTING_TRAFFIC, so readiness stays refused for the whole warm-up
+    @Override
+    public void run(ApplicationArguments args) {
+        if (enabled) {
+            runWarmUp();
+        }
+    }
+
+    @Override
+    public WarmUpReportResponse runWarmUp() {
+        if (!running.compareAndSet(false, true)) {
+            throw new BadRequestException("Warm-Up Is Already Running");
+        }
+        try {
+            return warmUp();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public BaseResponse<WarmUpReportResponse> getReport() {
+        return BaseResponse.success("Success", snapshot(report));
+    }
+
+    private WarmUpReportResponse warmUp() {
+        List<GenerateProjectRequest> requests = warmUpRequests();
+        // Archives only come back through the caller's transaction on the filesystem; the coalesced database read runs elsewhere
+        boolean downloads = projectArchiveService.getStorageType() == ArchiveStorageType.FILESYSTEM;
+
+        WarmUpReportResponse current = new WarmUpReportResponse();
+        current.setStatus(WarmUpStatus.RUNNING);
+        current.setPlannedCycles(requests.size());
+        current.setStartedAt(Instant.now());
+        completedCycles.set(0);
+        report = current;
+        log.info("Warm-up started: {} generation cycles, downloads {}", requests.size(), downloads ? "enabled" : "skipped");
+
+        long started = System.nanoTime();
+        long deadline = started + Duration.ofMillis(timeBudgetMillis).toNanos();
+        List<Long> cycleNanos = new ArrayList<>(requests.size());
+        Map<FrameworkType, Integer> cyclesByFramework = new EnumMap<>(FrameworkType.class);
+        int failedCycles = 0;
+        String firstError = null;
+        try {
+            for (GenerateProjectRequest request : requests) {
+                if (System.nanoTime() - deadline > 0) {
+                    log.warn("Warm-up time budget of {} ms exhausted after {} cycles", timeBudgetMillis, cycleNanos.size() + failedCycles);
+                    break;
+                }
+                try {
+                    cycleNanos.add(runCycle(request, downloads));
+                    cyclesByFramework.merge(request.getFrameworkType(), 1, Integer::sum);
+                    completedCycles.incrementAndGet();
+                } catch (RuntimeException ex) {
+                    failedCycles++;
+                    if (firstError == null) {
+                        firstError = ex.getMessage();
+                    }
+                    log.warn("Warm-up cycle failed for {} {} {} {}: {}", request.getFrameworkType(), request.getDatabaseType(),
+                            request.getBuildTool(), request.getStack(), ex.getMessage(), ex);
+                }
+            }
+        } catch (RuntimeException ex) {
+            firstError = ex.getMessage();
+            log.error("Warm-up aborted", ex);
+        }
+
+        int sample = Math.max(1, Math.min(MAX_LATENCY_SAMPLE, cycleNanos.size() / 4));
+        WarmUpReportResponse finished = snapshot(current);
+        finished.setStatus(cycleNanos.isEmpty() && firstError != null ? WarmUpStatus.FAILED : WarmUpStatus.COMPLETED);
+        finished.setCompletedCycles(cycleNanos.size());
+        finished.setFailedCycles(failedCycles);
+        finished.setDownloadCycles(downloads ? cycleNanos.size() : 0);
+        finished.setCyclesByFramework(cyclesByFramework);
+        finished.setDurationMillis(Duration.ofNanos(System.nanoTime() - started).toMillis());
+        if (!cycleNanos.isEmpty()) {
+            finished.setColdCycleMillis(meanMillis(cycleNanos.subList(0, sample)));
+            finished.setWarmCycleMillis(meanMillis(cycleNanos.subList(cycleNanos.size() - sample, cycleNanos.size())));
+            finished.setSpeedup(finished.getWarmCycleMillis() > 0 ? finished.getColdCycleMillis() / finished.getWarmCycleMillis() : 0);
+        }
+        finished.setFinishedAt(Instant.now());
+        finished.setErrorMessage(firstError);
+        report = finished;
+
+        log.info("Warm-up {} in {} ms: {} cycles, {} failed, cold {} ms, warm {} ms per cycle",
+                finished.getStatus(), finished.getDurationMillis(), finished.getCompletedCycles(), failedCycles,
+                String.format("%.2f", finished.getColdCycleMillis()), String.format("%.2f", finished.getWarmCycleMillis()));
+        return snapshot(finished);
+    }
+
+    private long runCycle(GenerateProjectRequest request, boolean downloads) {
+        long started = System.nanoTime();
+        Long[] projectId = new Long[1];
+        try {
+            // Rollback-only from the start, so nothing a cycle writes ever commits or reaches the statistics
+            transactionTemplate.executeWithoutResult(status -> {
+                status.setRollbackOnly();
+                try {
+                    projectId[0] = springBootGeneratorService.generateProjectInto(request, scratchDir).getData().getId();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (downloads) {
+                    springBootGeneratorService.getProjectZip(request.getApplicationName(), OutputStream.nullOutputStream());
+                }
+            });
+        } finally {
+            if (projectId[0] != null) {
+                projectArchiveService.evictArchive(projectId[0]);
+            }
+            deleteScratchDirectory(request.getApplicationName());
+        }
+        return System.nanoTime() - started;
+    }
+
+    private List<GenerateProjectRequest> warmUpRequests() {
+        String prefix = "WarmUp" + System.nanoTime() + "N";
+        List<GenerateProjectRequest> requests = new ArrayList<>();
+        for (int mask = 0; mask < 1 << FLAG_COUNT; mask++) {
+            for (DatabaseType databaseType : DatabaseType.values()) {
+                requests.add(warmUpRequest(prefix + requests.size(), databaseType, mask));
+            }
+        }
+        return maxCycles > 0 && maxCycles < requests.size() ? requests.subList(0, maxCycles) : requests;
+    }
+
+    private GenerateProjectRequest warmUpRequest(String applicationName, DatabaseType databaseType, int mask) {
+        // Frameworks rotate with the database, so every flag mask still renders on Spring Boot for at least one database
+        int rotation = mask + databaseType.ordinal();
+        FrameworkType frameworkType = FRAMEWORKS[rotation % FRAMEWORKS.length];
+
+        GenerateProjectRequest request = new GenerateProjectRequest();
+        request.setApplicationName(applicationName);
+        request.setFrameworkType(frameworkType);
+        request.setDatabaseType(databaseType);
+        request.setJwtAuthEnabled((mask & 1) != 0);
+        request.setBaseEntityEnabled((mask & 1 << 1) != 0);
+        request.setBaseResponseEnabled((mask & 1 << 2) != 0);
+        request.setJmhEnabled((mask & 1 << 3) != 0);
+        request.setDockerEnabled((mask & 1 << 4) != 0);
+        request.setCacheEnabled((mask & 1 << 5) != 0);
+        request.setPerformanceProfileEnabled((mask & 1 << 6) != 0);
+        request.setObservabilityEnabled((mask & 1 << 7) != 0);
+        request.setNativeImageEnabled((mask & 1 << 8) != 0);
+
+        // Build tool and stack rotate across the matrix instead of multiplying it
+        request.setBuildTool(rotation % 2 == 0 ? BuildTool.MAVEN : BuildTool.GRADLE);
+        request.setStack(StackType.SERVLET);
+        switch (frameworkType) {
+            case SPRINGBOOT -> {
+                boolean reactiveSupported = !request.getBaseEntityEnabled() && !request.getCacheEnabled();
+                request.setStack(reactiveSupported && rotation / FRAMEWORKS.length % 2 == 0 ? StackType.REACTIVE : StackType.SERVLET);
+            }
+            // Options each generator's validate rejects are switched off rather than left to fail the cycle
+            case QUARKUS -> {
+                request.setBuildTool(BuildTool.MAVEN);
+                request.setJmhEnabled(false);
+            }
+            case FIBER -> {
+                request.setBuildTool(BuildTool.MAVEN);
+                request.setJmhEnabled(false);
+                request.setBaseEntityEnabled(false);
+                request.setCacheEnabled(false);
+                request.setObservabilityEnabled(false);
+                request.setNativeImageEnabled(false);
+            }
+        }
+        return request;
+    }
+
+    private void deleteScratchDirectory(String applicationName) {
+        try {
+            ProjectDirectories.deleteRecursively(Paths.get(scratchDir), Paths.get(scratchDir, applicationName));
+        } catch (IOException ex) {
+            log.warn("Failed to clean up warm-up directory for {}", applicationName, ex);
+        }
+    }
+
+    private double meanMillis(List<Long> nanos) {
+        long total = 0;
+        for (long value : nanos) {
+            total += value;
+        }
+        return total / (double) nanos.size() / 1_000_000.0;
+    }
+
+    private WarmUpReportResponse snapshot(WarmUpReportResponse source) {
+        WarmUpReportResponse copy = new WarmUpReportResponse();
+        copy.setStatus(source.getStatus());
+        copy.setPlannedCycles(source.getPlannedCycles());
+        copy.setCompletedCycles(source.getStatus() == WarmUpStatus.RUNNING ? completedCycles.get() : source.getCompletedCycles());
+        copy.setFailedCycles(source.getFailedCycles());
+        copy.setDownloadCycles(source.getDownloadCycles());
+        copy.setCyclesByFramework(source.getCyclesByFramework() != null ? new EnumMap<>(source.getCyclesByFramework()) : null);
+        copy.setDurationMillis(source.getDurationMillis());
+        copy.setColdCycleMillis(source.getColdCycleMillis());
+        copy.setWarmCycleMillis(source.getWarmCycleMillis());
+        copy.setSpeedup(source.getSpeedup());
+        copy.setStartedAt(source.getStartedAt());
+        copy.setFinishedAt(source.getFinishedAt());
+        copy.setErrorMessage(source.getErrorMessage());
+        copy.setReadinessState(applicationAvailability.getReadinessState());
+        return copy;
+    }
+
+    private static WarmUpReportResponse disabledReport() {
+        WarmUpReportResponse disabled = new WarmUpReportResponse();
+        disabled.setStatus(WarmUpStatus.DISABLED);
+        return disabled;
+    }
+}
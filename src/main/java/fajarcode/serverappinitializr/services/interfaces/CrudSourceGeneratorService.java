@@ -0,0 +1,10 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface CrudSourceGeneratorService {
+    void generateEntities(String projectPath, String packageName, GenerateProjectRequest request, List<String> generatedFiles) throws IOException;
+}
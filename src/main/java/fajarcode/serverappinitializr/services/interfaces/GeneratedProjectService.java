@@ -0,0 +1,10 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.CursorPageResponse;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+
+public interface GeneratedProjectService {
+    BaseResponse<CursorPageResponse<GeneratedProjectSummaryResponse>> searchProjects(ProjectSearchRequest request);
+}
@@ -0,0 +1,11 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.enums.GenerationStage;
+
+@FunctionalInterface
+public interface GenerationProgressListener {
+    GenerationProgressListener NONE = (stage, detail) -> {
+    };
+
+    void onProgress(GenerationStage stage, String detail);
+}
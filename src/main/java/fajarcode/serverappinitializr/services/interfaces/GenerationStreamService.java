@@ -0,0 +1,8 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface GenerationStreamService {
+    SseEmitter streamGeneration(GenerateProjectRequest request);
+}
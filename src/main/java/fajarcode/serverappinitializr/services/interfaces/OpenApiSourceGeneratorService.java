@@ -0,0 +1,9 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+public interface OpenApiSourceGeneratorService {
+    void generateFromSpec(String projectPath, String packageName, InputStream openApiSpec, List<String> generatedFiles) throws IOException;
+}
@@ -0,0 +1,20 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+public interface ProjectArchiveService {
+    ArchiveStorageType getStorageType();
+
+    GeneratedProject storeArchive(GeneratedProject project) throws IOException;
+
+    void writeArchive(GeneratedProject project, OutputStream outputStream);
+
+    void evictArchive(Long projectId);
+
+    void extractArchive(GeneratedProject project, Path targetDirectory) throws IOException;
+}
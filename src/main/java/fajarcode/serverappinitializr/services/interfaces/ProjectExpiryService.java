@@ -0,0 +1,13 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectExpiryJobResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+
+import java.util.UUID;
+
+public interface ProjectExpiryService {
+    BaseResponse<ProjectExpiryJobResponse> startExpiry(ProjectExpiryRequest request);
+
+    BaseResponse<ProjectExpiryJobResponse> getExpiryJob(UUID jobId);
+}
@@ -0,0 +1,19 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Set;
+
+public interface ProjectGenerator {
+    FrameworkType getFrameworkType();
+
+    void validate(GenerateProjectRequest request, boolean fromOpenApiSpec);
+
+    Map<String, GenerationStep> render(String projectPath, String packageName, GenerateProjectRequest request, InputStream openApiSpec,
+                                       Set<GenerationStep> steps, GenerationProgressListener listener) throws IOException;
+}
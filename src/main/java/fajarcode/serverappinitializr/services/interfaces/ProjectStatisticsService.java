@@ -0,0 +1,18 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectStatisticsResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+import fajarcode.serverappinitializr.models.entities.GeneratedProject;
+
+public interface ProjectStatisticsService {
+    void recordGeneration(GeneratedProject project);
+
+    void recordDownload(GeneratedProject project);
+
+    void recordRegeneration(GeneratedProject project, GenerateProjectRequest options);
+
+    void rebuild();
+
+    BaseResponse<ProjectStatisticsResponse> getStatistics();
+}
@@ -1,16 +1,26 @@
 package fajarcode.serverappinitializr.services.interfaces;
 
 import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
 import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
 import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 
 public interface SpringBootGeneratorService {
     BaseResponse<GenerateProjectResponse> generateProject(GenerateProjectRequest request) throws IOException;
 
+    BaseResponse<GenerateProjectResponse> generateProject(GenerateProjectRequest request, GenerationProgressListener listener) throws IOException;
+
+    BaseResponse<GenerateProjectResponse> generateProjectInto(GenerateProjectRequest request, String projectsDir) throws IOException;
+
+    BaseResponse<GenerateProjectResponse> generateProjectFromOpenApi(GenerateProjectRequest request, InputStream openApiSpec) throws IOException;
+
 //    byte[] getProjectZip(String applicationName) throws IOException;
 
     void getProjectZip(String applicationName, OutputStream outputStream);
+
+    void regenerateProject(String applicationName, RegenerateProjectRequest request, OutputStream outputStream) throws IOException;
 }
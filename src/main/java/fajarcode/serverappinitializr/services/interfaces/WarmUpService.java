@@ -0,0 +1,10 @@
+package fajarcode.serverappinitializr.services.interfaces;
+
+import fajarcode.serverappinitializr.models.dto.responses.WarmUpReportResponse;
+import fajarcode.serverappinitializr.models.dto.responses.base.BaseResponse;
+
+public interface WarmUpService {
+    WarmUpReportResponse runWarmUp();
+
+    BaseResponse<WarmUpReportResponse> getReport();
+}
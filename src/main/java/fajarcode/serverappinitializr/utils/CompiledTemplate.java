@@ -0,0 +1,60 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class CompiledTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    // Literal text and placeholder names alternate, starting and ending with a literal
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf(OPEN, position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            placeholders.add(source.substring(open + OPEN.length(), close).trim());
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(literals.toArray(String[]::new), placeholders.toArray(String[]::new));
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder output = new StringBuilder(literalLength + placeholders.length * 32);
+        for (int i = 0; i < placeholders.length; i++) {
+            output.append(literals[i]);
+            String value = values.get(placeholders[i]);
+            if (value == null) {
+                throw new IllegalStateException("No value for template placeholder '" + placeholders[i] + "'");
+            }
+            output.append(value);
+        }
+        output.append(literals[literals.length - 1]);
+        return output.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class HotArchiveCache {
+    private static final int SKETCH_DEPTH = 4;
+    private static final int MAX_FREQUENCY = 15;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0x85EBCA77C2B2AE63L};
+
+    private final long budgetBytes;
+    private final long maxEntryBytes;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, ByteBuffer> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final byte[][] sketch;
+    private final int sketchMask;
+    private final int sampleSize;
+
+    private long usedBytes;
+    private int additions;
+    private long hits;
+    private long misses;
+
+    public HotArchiveCache(long budgetBytes, long maxEntryBytes, int expectedKeys) {
+        this.budgetBytes = budgetBytes;
+        this.maxEntryBytes = Math.min(maxEntryBytes, Integer.MAX_VALUE);
+        int width = Integer.highestOneBit(Math.max(expectedKeys, 64) * 2 - 1);
+        this.sketch = new byte[SKETCH_DEPTH][width];
+        this.sketchMask = width - 1;
+        this.sampleSize = width * 10;
+    }
+
+    public ByteBuffer get(Long key) {
+        lock.lock();
+        try {
+            increment(key);
+            ByteBuffer archive = entries.get(key);
+            if (archive == null) {
+                misses++;
+                return null;
+            }
+            hits++;
+            return archive.duplicate();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean shouldAdmit(Long key, long sizeBytes) {
+        lock.lock();
+        try {
+            return !entries.containsKey(key) && selectVictims(key, sizeBytes) != null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean admit(Long key, Path archive) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (!shouldAdmit(key, size)) {
+                return false;
+            }
+            buffer = ByteBuffer.allocateDirect((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Fill the buffer from the finished archive
+            }
+        }
+        buffer.flip();
+
+        lock.lock();
+        try {
+            if (entries.containsKey(key)) {
+                return false;
+            }
+            // Re-check under the lock, another admission may have claimed the space while the file was read
+            List<Long> victims = selectVictims(key, buffer.limit());
+            if (victims == null) {
+                return false;
+            }
+            for (Long victim : victims) {
+                usedBytes -= entries.remove(victim).capacity();
+            }
+            entries.put(key, buffer.asReadOnlyBuffer());
+            usedBytes += buffer.capacity();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(Long key) {
+        lock.lock();
+        try {
+            ByteBuffer removed = entries.remove(key);
+            if (removed != null) {
+                usedBytes -= removed.capacity();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHits() {
+        lock.lock();
+        try {
+            return hits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getMisses() {
+        lock.lock();
+        try {
+            return misses;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private List<Long> selectVictims(Long key, long sizeBytes) {
+        if (sizeBytes <= 0 || sizeBytes > maxEntryBytes || sizeBytes > budgetBytes) {
+            return null;
+        }
+        int candidateFrequency = frequency(key);
+        List<Long> victims = new ArrayList<>();
+        long freed = 0;
+
+        // TinyLFU: the candidate only displaces least-recently-used entries it is requested more often than
+        Iterator<Map.Entry<Long, ByteBuffer>> eldest = entries.entrySet().iterator();
+        while (usedBytes - freed + sizeBytes > budgetBytes) {
+            if (!eldest.hasNext()) {
+                return null;
+            }
+            Map.Entry<Long, ByteBuffer> victim = eldest.next();
+            if (frequency(victim.getKey()) >= candidateFrequency) {
+                return null;
+            }
+            victims.add(victim.getKey());
+            freed += victim.getValue().capacity();
+        }
+        return victims;
+    }
+
+    private void increment(Long key) {
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            int index = index(key, row);
+            if (sketch[row][index] < MAX_FREQUENCY) {
+                sketch[row][index]++;
+            }
+        }
+        if (++additions >= sampleSize) {
+            age();
+        }
+    }
+
+    private int frequency(Long key) {
+        int frequency = MAX_FREQUENCY;
+        for (int row = 0; row < SKETCH_DEPTH; row++) {
+            frequency = Math.min(frequency, sketch[row][index(key, row)]);
+        }
+        return frequency;
+    }
+
+    private void age() {
+        for (byte[] row : sketch) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] >>= 1;
+            }
+        }
+        additions /= 2;
+    }
+
+    private int index(Long key, int row) {
+        long hash = (key + SEEDS[row]) * SEEDS[(row + 1) % SKETCH_DEPTH];
+        hash ^= hash >>> 29;
+        return (int) hash & sketchMask;
+    }
+}
@@ -0,0 +1,57 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+
+public final class ProjectDirectories {
+
+    private ProjectDirectories() {
+    }
+
+    public static boolean deleteRecursively(Path projectsRoot, Path directory) throws IOException {
+        Path root = projectsRoot.toAbsolutePath().normalize();
+        Path target = directory.toAbsolutePath().normalize();
+        if (target.equals(root) || !target.startsWith(root)) {
+            throw new IOException("Refusing to delete outside of the projects directory: " + directory);
+        }
+        if (!Files.exists(target, LinkOption.NOFOLLOW_LINKS)) {
+            return false;
+        }
+        // A symlinked parent would let a lexically valid path resolve somewhere else entirely
+        if (Files.exists(root) && !target.getParent().toRealPath().startsWith(root.toRealPath())) {
+            throw new IOException("Refusing to delete through a symbolic link: " + directory);
+        }
+        if (!Files.isDirectory(target, LinkOption.NOFOLLOW_LINKS)) {
+            Files.deleteIfExists(target);
+            return true;
+        }
+
+        // Links are never followed, so a symlink inside a project is removed without touching its target
+        Files.walkFileTree(target, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.deleteIfExists(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                if (exc instanceof NoSuchFileException) {
+                    return FileVisitResult.CONTINUE;
+                }
+                throw exc;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+                if (exc != null && !(exc instanceof NoSuchFileException)) {
+                    throw exc;
+                }
+                Files.deleteIfExists(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return true;
+    }
+}
@@ -0,0 +1,20 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Striped by application name, so the lock table stays bounded however many projects exist
+public class ProjectLocks {
+    private final ReadWriteLock[] stripes;
+
+    public ProjectLocks(int stripeCount) {
+        stripes = new ReadWriteLock[stripeCount];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantReadWriteLock(true);
+        }
+    }
+
+    public ReadWriteLock forProject(String applicationName) {
+        return stripes[Math.floorMod(applicationName.hashCode(), stripes.length)];
+    }
+}
@@ -0,0 +1,61 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class RollingWindowCounter {
+    private static final long EMPTY = -1L;
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final int bucketCount;
+    // Minute in the high 32 bits and count in the low 32 bits, so a roll-over and an increment can never interleave
+    private final AtomicLongArray buckets;
+
+    public RollingWindowCounter(int bucketCount) {
+        this.bucketCount = bucketCount;
+        this.buckets = new AtomicLongArray(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.set(i, EMPTY);
+        }
+    }
+
+    public void add(long epochMinute, long delta) {
+        int slot = (int) Math.floorMod(epochMinute, bucketCount);
+        while (true) {
+            long packed = buckets.get(slot);
+            long seenMinute = minuteOf(packed);
+            if (seenMinute > epochMinute) {
+                // Older than the window this slot currently holds, so it has already rolled out
+                return;
+            }
+            long count = seenMinute == epochMinute ? countOf(packed) + delta : delta;
+            if (buckets.compareAndSet(slot, packed, pack(epochMinute, count))) {
+                return;
+            }
+        }
+    }
+
+    public long sum(long currentEpochMinute, int windowMinutes) {
+        int minutes = Math.min(windowMinutes, bucketCount);
+        long total = 0;
+        for (int i = 0; i < minutes; i++) {
+            long minute = currentEpochMinute - i;
+            long packed = buckets.get((int) Math.floorMod(minute, bucketCount));
+            if (minuteOf(packed) == minute) {
+                total += countOf(packed);
+            }
+        }
+        return total;
+    }
+
+    private static long pack(long epochMinute, long count) {
+        return epochMinute << 32 | Math.min(count, COUNT_MASK);
+    }
+
+    private static long minuteOf(long packed) {
+        return packed >> 32;
+    }
+
+    private static long countOf(long packed) {
+        return packed & COUNT_MASK;
+    }
+}
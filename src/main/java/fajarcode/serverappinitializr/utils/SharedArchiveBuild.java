@@ -0,0 +1,173 @@
+package fajarcode.serverappinitializr.utils;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class SharedArchiveBuild {
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition progressed = lock.newCondition();
+
+    private long writtenBytes;
+    private boolean completed;
+    private Throwable failure;
+    private int references = 1;
+    private boolean retired;
+
+    public SharedArchiveBuild(Path file) {
+        this.file = file;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public boolean acquire() {
+        lock.lock();
+        try {
+            if (retired) {
+                return false;
+            }
+            references++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void release() {
+        lock.lock();
+        try {
+            references--;
+            if (references > 0 || !retired) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            file.toFile().deleteOnExit();
+        }
+    }
+
+    public OutputStream openWriter() throws IOException {
+        OutputStream fileStream = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new BufferedOutputStream(new FilterOutputStream(fileStream) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+                published(length);
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                out.write(b);
+                published(1);
+            }
+        }, TRANSFER_BUFFER_SIZE);
+    }
+
+    public void complete(Throwable failure) {
+        lock.lock();
+        try {
+            this.completed = true;
+            this.failure = failure;
+            progressed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void retire() {
+        lock.lock();
+        try {
+            retired = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void streamTo(OutputStream outputStream) throws IOException {
+        byte[] transfer = new byte[TRANSFER_BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(transfer);
+        long position = 0;
+
+        try (FileChannel channel = openReader()) {
+            while (true) {
+                long available = awaitBytesAfter(position);
+                if (available <= position) {
+                    break;
+                }
+                while (position < available) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(transfer.length, available - position));
+                    int read = channel.read(buffer, position);
+                    if (read < 0) {
+                        throw new EOFException("Shared archive ended before " + available + " bytes");
+                    }
+                    outputStream.write(transfer, 0, read);
+                    position += read;
+                }
+            }
+        }
+        outputStream.flush();
+    }
+
+    private FileChannel openReader() throws IOException {
+        lock.lock();
+        try {
+            while (!completed && !Files.exists(file)) {
+                progressed.await();
+            }
+            rethrowFailure();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for shared archive");
+        } finally {
+            lock.unlock();
+        }
+        return FileChannel.open(file, StandardOpenOption.READ);
+    }
+
+    private long awaitBytesAfter(long position) throws IOException {
+        lock.lock();
+        try {
+            while (writtenBytes <= position && !completed) {
+                progressed.await();
+            }
+            rethrowFailure();
+            return writtenBytes;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for shared archive");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void published(int length) {
+        lock.lock();
+        try {
+            writtenBytes += length;
+            progressed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void rethrowFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Shared archive build failed: " + failure.getMessage(), failure);
+        }
+    }
+}
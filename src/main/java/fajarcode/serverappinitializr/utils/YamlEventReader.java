@@ -0,0 +1,144 @@
+package fajarcode.serverappinitializr.utils;
+
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+
+import java.util.*;
+
+public class YamlEventReader {
+    private static final String MERGE_KEY = "<<";
+
+    private final Iterator<Event> events;
+    private final int maxAliases;
+    // Anchored nodes are kept by reference, so an alias costs no copy however large the anchored subtree is
+    private final Map<String, Object> anchors = new HashMap<>();
+    private int aliasCount;
+    private Event peeked;
+
+    public YamlEventReader(Iterable<Event> events, int maxAliases) {
+        this.events = events.iterator();
+        this.maxAliases = maxAliases;
+    }
+
+    public Event peek() {
+        if (peeked == null) {
+            if (!events.hasNext()) {
+                throw new IllegalStateException("Unexpected end of document");
+            }
+            peeked = events.next();
+        }
+        return peeked;
+    }
+
+    public Event next() {
+        Event event = peek();
+        peeked = null;
+        return event;
+    }
+
+    public boolean peekIs(Event.ID id) {
+        return peek().is(id);
+    }
+
+    public void expect(Event.ID id) {
+        Event event = next();
+        if (!event.is(id)) {
+            throw new IllegalStateException("Expected " + id + " but found " + event.getEventId() + " at " + event.getStartMark());
+        }
+    }
+
+    public void enterDocument() {
+        expect(Event.ID.StreamStart);
+        expect(Event.ID.DocumentStart);
+    }
+
+    public String readKey() {
+        Event event = next();
+        if (event instanceof ScalarEvent scalar) {
+            return scalar.getValue();
+        }
+        throw new IllegalStateException("Expected a scalar key but found " + event.getEventId() + " at " + event.getStartMark());
+    }
+
+    public Object readNode() {
+        Event event = next();
+        Object node = switch (event.getEventId()) {
+            case Scalar -> ((ScalarEvent) event).getValue();
+            case Alias -> resolveAlias((AliasEvent) event);
+            case MappingStart -> readMapping();
+            case SequenceStart -> readSequence();
+            default -> throw new IllegalStateException("Unexpected " + event.getEventId() + " at " + event.getStartMark());
+        };
+        if (isAnchored(event)) {
+            anchors.put(((NodeEvent) event).getAnchor(), node);
+        }
+        return node;
+    }
+
+    private Map<String, Object> readMapping() {
+        Map<String, Object> mapping = new LinkedHashMap<>();
+        List<Object> merged = new ArrayList<>();
+        while (!peekIs(Event.ID.MappingEnd)) {
+            String key = String.valueOf(readNode());
+            Object value = readNode();
+            if (MERGE_KEY.equals(key)) {
+                merged.add(value);
+            } else {
+                mapping.put(key, value);
+            }
+        }
+        next();
+        // Keys written out explicitly take precedence over merged ones, and earlier merge sources over later ones
+        for (Object source : merged) {
+            for (Object part : source instanceof List<?> list ? list : List.of(source)) {
+                if (!(part instanceof Map<?, ?> partMapping)) {
+                    throw new IllegalStateException("Merge key '<<' must reference a mapping");
+                }
+                partMapping.forEach((key, value) -> mapping.putIfAbsent(String.valueOf(key), value));
+            }
+        }
+        return mapping;
+    }
+
+    private List<Object> readSequence() {
+        List<Object> sequence = new ArrayList<>();
+        while (!peekIs(Event.ID.SequenceEnd)) {
+            sequence.add(readNode());
+        }
+        next();
+        return sequence;
+    }
+
+    private Object resolveAlias(AliasEvent alias) {
+        if (!anchors.containsKey(alias.getAnchor())) {
+            throw new IllegalStateException("Unknown alias '" + alias.getAnchor() + "' at " + alias.getStartMark());
+        }
+        if (++aliasCount > maxAliases) {
+            throw new IllegalStateException("Number of aliases exceeds the limit of " + maxAliases);
+        }
+        return anchors.get(alias.getAnchor());
+    }
+
+    public void skipNode() {
+        int depth = 0;
+        do {
+            if (isAnchored(peek())) {
+                // A skipped section may still define anchors that are aliased from the parts that are read
+                readNode();
+                continue;
+            }
+            Event event = next();
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) {
+                depth++;
+            } else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) {
+                depth--;
+            }
+        } while (depth > 0);
+    }
+
+    private boolean isAnchored(Event event) {
+        return event instanceof NodeEvent nodeEvent && !(event instanceof AliasEvent) && nodeEvent.getAnchor() != null;
+    }
+}
@@ -0,0 +1,163 @@
+package fajarcode.serverappinitializr.benchmark;
+
+import fajarcode.serverappinitializr.models.dto.requests.EntityDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.FieldDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RelationDefinitionRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FieldType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.RelationType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+// Measures generation time and peak heap for schema-driven CRUD generation, excluded from the default build.
+// Run with: mvn test -Pbenchmark -Dbenchmark.entity-counts=10,100,1000 -Dbenchmark.iterations=3
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+        "logging.level.fajarcode.serverappinitializr.services=WARN"
+})
+@ActiveProfiles("test")
+class CrudGenerationBenchmark {
+    private static final Path PROJECTS_DIR = createProjectsDir();
+    private static final FieldType[] FIELD_TYPES = FieldType.values();
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    private int projectSequence;
+
+    @DynamicPropertySource
+    static void benchmarkProperties(DynamicPropertyRegistry registry) {
+        registry.add("generator.projects-dir", PROJECTS_DIR::toString);
+    }
+
+    @AfterAll
+    static void deleteProjectsDir() throws IOException {
+        try (var paths = Files.walk(PROJECTS_DIR)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void generationTimeAndPeakHeapByEntityCount() throws IOException {
+        int iterations = Integer.getInteger("benchmark.iterations", 3);
+        List<Integer> entityCounts = Arrays.stream(System.getProperty("benchmark.entity-counts", "10,100,1000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .toList();
+
+        // One untimed run so class loading and JIT warm-up are not attributed to the first size
+        springBootGeneratorService.generateProject(requestWithEntities(entityCounts.getFirst()));
+
+        List<String> report = new ArrayList<>();
+        report.add(String.format("%-10s %12s %12s %16s %16s", "entities", "avg ms", "min ms", "peak heap MB", "heap growth MB"));
+        for (int entityCount : entityCounts) {
+            long totalNanos = 0;
+            long minNanos = Long.MAX_VALUE;
+            long peakHeap = 0;
+            long peakGrowth = 0;
+
+            for (int i = 0; i < iterations; i++) {
+                GenerateProjectRequest request = requestWithEntities(entityCount);
+                System.gc();
+                long baseline = heapUsed();
+                resetHeapPeaks();
+
+                long started = System.nanoTime();
+                springBootGeneratorService.generateProject(request);
+                long elapsed = System.nanoTime() - started;
+
+                long peak = heapPeak();
+                totalNanos += elapsed;
+                minNanos = Math.min(minNanos, elapsed);
+                peakHeap = Math.max(peakHeap, peak);
+                peakGrowth = Math.max(peakGrowth, peak - baseline);
+            }
+
+            report.add(String.format("%-10d %12.1f %12.1f %16.1f %16.1f", entityCount,
+                    totalNanos / (double) iterations / 1_000_000, minNanos / 1_000_000.0,
+                    peakHeap / 1024.0 / 1024.0, peakGrowth / 1024.0 / 1024.0));
+        }
+
+        String output = String.join(System.lineSeparator(), report);
+        log.info("{}{}", System.lineSeparator(), output);
+        Files.createDirectories(Paths.get("target"));
+        Files.writeString(Paths.get("target", "crud-generation-benchmark.txt"), output + System.lineSeparator());
+    }
+
+    private GenerateProjectRequest requestWithEntities(int entityCount) {
+        GenerateProjectRequest request = new GenerateProjectRequest();
+        request.setApplicationName("CrudBenchmark" + (++projectSequence));
+        request.setFrameworkType(FrameworkType.SPRINGBOOT);
+        request.setDatabaseType(DatabaseType.POSTGRESQL);
+        request.setBaseEntityEnabled(true);
+        request.setBaseResponseEnabled(true);
+
+        List<EntityDefinitionRequest> entities = new ArrayList<>(entityCount);
+        for (int i = 0; i < entityCount; i++) {
+            EntityDefinitionRequest entity = new EntityDefinitionRequest();
+            entity.setName("Table" + i);
+            for (int f = 0; f < 8; f++) {
+                FieldDefinitionRequest field = new FieldDefinitionRequest();
+                field.setName("column" + f);
+                field.setType(FIELD_TYPES[(i + f) % FIELD_TYPES.length]);
+                entity.getFields().add(field);
+            }
+            if (i > 0) {
+                RelationDefinitionRequest relation = new RelationDefinitionRequest();
+                relation.setName("parent");
+                relation.setType(RelationType.MANY_TO_ONE);
+                relation.setTargetEntity("Table" + (i - 1));
+                entity.getRelations().add(relation);
+            }
+            entities.add(entity);
+        }
+        request.setEntities(entities);
+        return request;
+    }
+
+    private static long heapUsed() {
+        return heapPools().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    private static long heapPeak() {
+        return heapPools().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static void resetHeapPeaks() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static java.util.stream.Stream<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream().filter(pool -> pool.getType() == MemoryType.HEAP);
+    }
+
+    private static Path createProjectsDir() {
+        try {
+            return Files.createTempDirectory("crud-benchmark-generated-projects");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package fajarcode.serverappinitializr.loadtest;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+class GcPauseMonitor implements AutoCloseable {
+    private final List<NotificationEmitter> emitters = new ArrayList<>();
+    private final LongAdder pauses = new LongAdder();
+    private final AtomicLong totalPauseMillis = new AtomicLong();
+    private final LongAccumulator maxPauseMillis = new LongAccumulator(Math::max, 0);
+    private final NotificationListener listener = (notification, handback) -> {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info = GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        // Concurrent cycles are reported as notifications too but do not stop application threads
+        if (info.getGcName().contains("Cycles") || info.getGcName().contains("Concurrent")) {
+            return;
+        }
+        long duration = info.getGcInfo().getDuration();
+        pauses.increment();
+        totalPauseMillis.addAndGet(duration);
+        maxPauseMillis.accumulate(duration);
+    };
+
+    void start() {
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (bean instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+                emitters.add(emitter);
+            }
+        }
+    }
+
+    String summarize() {
+        return String.format("GC         pauses=%d  total=%dms  max=%dms",
+                pauses.sum(), totalPauseMillis.get(), maxPauseMillis.get());
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter emitter : emitters) {
+            try {
+                emitter.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+                // already removed
+            }
+        }
+        emitters.clear();
+    }
+}
@@ -0,0 +1,207 @@
+package fajarcode.serverappinitializr.loadtest;
+
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Open-model load test for the generator and download endpoints, excluded from the default build.
+// Run with: mvn test -Pload-test -Dloadtest.arrival-rate=100 -Dloadtest.duration-seconds=120 -Dloadtest.generate-ratio=0.1
+@Slf4j
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+        "logging.level.fajarcode.serverappinitializr.services=WARN"
+})
+@ActiveProfiles("test")
+class GeneratorLoadTest {
+    private static final Path PROJECTS_DIR = createProjectsDir();
+    private static final DatabaseType[] DATABASE_TYPES = DatabaseType.values();
+
+    @Autowired
+    private Environment environment;
+
+    private final AtomicInteger projectSequence = new AtomicInteger();
+    private final List<String> projectNames = new CopyOnWriteArrayList<>();
+
+    @DynamicPropertySource
+    static void loadTestProperties(DynamicPropertyRegistry registry) {
+        registry.add("generator.projects-dir", PROJECTS_DIR::toString);
+    }
+
+    @AfterAll
+    static void deleteProjectsDir() throws IOException {
+        try (var paths = Files.walk(PROJECTS_DIR)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    void generatorAndDownloadUnderOpenModelLoad() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        String baseUrl = "http://localhost:" + environment.getProperty("local.server.port") + "/spring-boot/generator";
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+
+            for (int i = 0; i < settings.seedProjects(); i++) {
+                generate(client, baseUrl, new LatencyRecorder("seed"), System.nanoTime());
+            }
+
+            run(client, baseUrl, executor, settings, settings.warmup(), new LatencyRecorder("generate"), new LatencyRecorder("download"));
+
+            LatencyRecorder generate = new LatencyRecorder("generate");
+            LatencyRecorder download = new LatencyRecorder("download");
+            long started = System.nanoTime();
+            try (GcPauseMonitor gcPauses = new GcPauseMonitor()) {
+                gcPauses.start();
+                run(client, baseUrl, executor, settings, settings.duration(), generate, download);
+                double elapsedSeconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+                String report = String.join(System.lineSeparator(),
+                        "Load test: arrivalRate=" + settings.arrivalRatePerSecond() + "/s duration=" + settings.duration()
+                                + " generateRatio=" + settings.generateRatio() + " projectsDir=" + PROJECTS_DIR,
+                        generate.summarize(elapsedSeconds),
+                        download.summarize(elapsedSeconds),
+                        gcPauses.summarize());
+                log.info("{}{}", System.lineSeparator(), report);
+                Files.createDirectories(Paths.get("target"));
+                Files.writeString(Paths.get("target", "load-test-report.txt"), report + System.lineSeparator());
+            }
+
+            assertTrue(generate.errorRate() <= settings.maxErrorRate(), "Generation error rate exceeded threshold");
+            assertTrue(download.errorRate() <= settings.maxErrorRate(), "Download error rate exceeded threshold");
+        }
+    }
+
+    private void run(HttpClient client, String baseUrl, ExecutorService executor, LoadTestSettings settings,
+                     Duration duration, LatencyRecorder generate, LatencyRecorder download) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        AtomicLong outstanding = new AtomicLong();
+        long meanIntervalNanos = (long) (1_000_000_000L / settings.arrivalRatePerSecond());
+        long end = System.nanoTime() + duration.toNanos();
+        long nextArrival = System.nanoTime();
+
+        while (nextArrival < end) {
+            long wait = nextArrival - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            // Latency is measured from the intended arrival time so a stalled server cannot hide its queueing delay
+            long intendedStart = nextArrival;
+            boolean generation = projectNames.isEmpty() || random.nextDouble() < settings.generateRatio();
+            LatencyRecorder recorder = generation ? generate : download;
+
+            if (inFlight.tryAcquire()) {
+                outstanding.incrementAndGet();
+                executor.execute(() -> {
+                    try {
+                        if (generation) {
+                            generate(client, baseUrl, recorder, intendedStart);
+                        } else {
+                            download(client, baseUrl, recorder, intendedStart);
+                        }
+                    } finally {
+                        inFlight.release();
+                        outstanding.decrementAndGet();
+                    }
+                });
+            } else {
+                recorder.recordDropped();
+            }
+
+            // Exponential inter-arrival times give a Poisson arrival process
+            nextArrival += (long) (-Math.log(1 - random.nextDouble()) * meanIntervalNanos);
+        }
+
+        while (outstanding.get() > 0) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void generate(HttpClient client, String baseUrl, LatencyRecorder recorder, long intendedStart) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String applicationName = "LoadTest" + projectSequence.incrementAndGet();
+        String body = """
+                {"applicationName":"%s","frameworkType":"SPRINGBOOT","databaseType":"%s",\
+                "jwtAuthEnabled":%s,"baseEntityEnabled":%s,"baseResponseEnabled":%s}"""
+                .formatted(applicationName, DATABASE_TYPES[random.nextInt(DATABASE_TYPES.length)],
+                        random.nextBoolean(), random.nextBoolean(), random.nextBoolean());
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        if (send(client, request, recorder, intendedStart)) {
+            projectNames.add(applicationName);
+        }
+    }
+
+    private void download(HttpClient client, String baseUrl, LatencyRecorder recorder, long intendedStart) {
+        String applicationName = projectNames.get(ThreadLocalRandom.current().nextInt(projectNames.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/download?applicationName=" + applicationName))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+        send(client, request, recorder, intendedStart);
+    }
+
+    private boolean send(HttpClient client, HttpRequest request, LatencyRecorder recorder, long intendedStart) {
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long latency = System.nanoTime() - intendedStart;
+            if (response.statusCode() / 100 == 2) {
+                recorder.record(latency);
+                return true;
+            }
+            recorder.recordError(latency);
+        } catch (IOException e) {
+            recorder.recordError(System.nanoTime() - intendedStart);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            recorder.recordError(System.nanoTime() - intendedStart);
+        }
+        return false;
+    }
+
+    private static Path createProjectsDir() {
+        try {
+            return Files.createTempDirectory("load-test-generated-projects");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package fajarcode.serverappinitializr.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+class LatencyRecorder {
+    private final String operation;
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private long[] latencies = new long[1024];
+    private int count;
+
+    LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    synchronized void record(long latencyNanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+    }
+
+    void recordError(long latencyNanos) {
+        errors.increment();
+        record(latencyNanos);
+    }
+
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    String summarize(double elapsedSeconds) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, count);
+        }
+        Arrays.sort(sorted);
+
+        long completed = sorted.length;
+        long attempted = completed + dropped.sum();
+        double errorRate = attempted == 0 ? 0 : (double) (errors.sum() + dropped.sum()) / attempted;
+
+        return String.format("%-10s requests=%-7d throughput=%8.1f/s  p50=%8.2fms  p95=%8.2fms  p99=%8.2fms  max=%8.2fms  errors=%d dropped=%d errorRate=%.2f%%",
+                operation, completed, completed / elapsedSeconds,
+                millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.95)),
+                millis(percentile(sorted, 0.99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]),
+                errors.sum(), dropped.sum(), errorRate * 100);
+    }
+
+    double errorRate() {
+        long attempted;
+        synchronized (this) {
+            attempted = count + dropped.sum();
+        }
+        return attempted == 0 ? 0 : (double) (errors.sum() + dropped.sum()) / attempted;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -0,0 +1,25 @@
+package fajarcode.serverappinitializr.loadtest;
+
+import java.time.Duration;
+
+record LoadTestSettings(
+        Duration warmup,
+        Duration duration,
+        double arrivalRatePerSecond,
+        double generateRatio,
+        int seedProjects,
+        int maxInFlight,
+        double maxErrorRate
+) {
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)),
+                Duration.ofSeconds(Long.getLong("loadtest.duration-seconds", 60)),
+                Double.parseDouble(System.getProperty("loadtest.arrival-rate", "50")),
+                Double.parseDouble(System.getProperty("loadtest.generate-ratio", "0.2")),
+                Integer.getInteger("loadtest.seed-projects", 20),
+                Integer.getInteger("loadtest.max-in-flight", 2000),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"))
+        );
+    }
+}
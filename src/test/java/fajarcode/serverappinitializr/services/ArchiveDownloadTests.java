@@ -0,0 +1,114 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArchiveDownloadTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void hotTierServesTheSameBytesAsTheFirstBuild() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("HotArchive", DatabaseType.POSTGRESQL);
+        springBootGeneratorService.generateProject(request);
+
+        // The first download builds the archive and offers it to the hot tier, later ones are served from memory
+        byte[] first = download(request.getApplicationName());
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(first, download(request.getApplicationName()));
+        }
+
+        Map<String, String> files = GeneratedProjects.unzip(first);
+        assertTrue(files.containsKey("pom.xml"));
+    }
+
+    @Test
+    void concurrentDownloadsOfOneProjectAllReceiveTheSameArchive() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Coalesced", DatabaseType.MYSQL);
+        request.setJwtAuthEnabled(true);
+        springBootGeneratorService.generateProject(request);
+
+        int downloads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(downloads);
+        List<byte[]> archives = new ArrayList<>();
+        try {
+            List<Future<byte[]>> futures = new ArrayList<>();
+            for (int i = 0; i < downloads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return download(request.getApplicationName());
+                }));
+            }
+            start.countDown();
+            for (Future<byte[]> future : futures) {
+                archives.add(future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (byte[] archive : archives) {
+            assertArrayEquals(archives.getFirst(), archive);
+        }
+        Map<String, String> files = GeneratedProjects.unzip(archives.getFirst());
+        assertTrue(files.containsKey(GeneratedProjects.sourceRoot(request) + "/security/JwtUtil.java"));
+    }
+
+    @Test
+    void downloadsRacingARegenerateNeverLeaveTheOldArchiveHot() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("HotRegenerate", DatabaseType.POSTGRESQL);
+        String applicationName = request.getApplicationName();
+        String jwtUtil = GeneratedProjects.sourceRoot(request) + "/security/JwtUtil.java";
+        springBootGeneratorService.generateProject(request);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 6; round++) {
+                boolean jwtEnabled = round % 2 == 0;
+                List<Future<byte[]>> downloads = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    downloads.add(executor.submit(() -> download(applicationName)));
+                }
+                RegenerateProjectRequest toggleJwt = new RegenerateProjectRequest();
+                toggleJwt.setJwtAuthEnabled(jwtEnabled);
+                GeneratedProjects.regenerate(springBootGeneratorService, applicationName, toggleJwt);
+                for (Future<byte[]> future : downloads) {
+                    future.get(30, TimeUnit.SECONDS);
+                }
+
+                // Downloads that built from the old tree must not have been admitted after the regenerate evicted it
+                assertEquals(jwtEnabled, GeneratedProjects.unzip(download(applicationName)).containsKey(jwtUtil), "round " + round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private byte[] download(String applicationName) {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        springBootGeneratorService.getProjectZip(applicationName, archive);
+        return archive.toByteArray();
+    }
+}
@@ -0,0 +1,66 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CacheGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void cachedProjectsConfigureCaffeineWithStatsAndExposeThem() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Cache", DatabaseType.POSTGRESQL);
+        request.setCacheEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        String pom = files.get("pom.xml");
+        assertTrue(pom.contains("<artifactId>spring-boot-starter-cache</artifactId>"));
+        assertTrue(pom.contains("<artifactId>caffeine</artifactId>"));
+
+        // Hit rates on the stats endpoint are only recorded when the spec asks for them
+        String properties = files.get("src/main/resources/application.properties");
+        assertTrue(properties.contains("spring.cache.type=caffeine"));
+        assertTrue(properties.contains("spring.cache.cache-names=sampleData"));
+        assertTrue(properties.contains("spring.cache.caffeine.spec=maximumSize=1000,expireAfterWrite=10m,recordStats"));
+
+        String cacheConfig = files.get(sourceRoot + "/configuration/CacheConfig.java");
+        assertTrue(cacheConfig.contains("@EnableCaching"));
+        assertTrue(cacheConfig.contains("SAMPLE_DATA_CACHE = \"sampleData\""));
+
+        String service = files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java");
+        assertTrue(service.contains("import " + request.getApplicationName().toLowerCase() + ".configuration.CacheConfig;"));
+        assertTrue(service.contains("@Cacheable(CacheConfig.SAMPLE_DATA_CACHE)"));
+
+        String statistics = files.get(sourceRoot + "/controller/CacheStatisticsController.java");
+        assertTrue(statistics.contains("@RequestMapping(\"/api/cache\")"));
+        assertTrue(statistics.contains("@GetMapping(\"/stats\")"));
+        assertTrue(statistics.contains("import com.github.benmanes.caffeine.cache.stats.CacheStats;"));
+        assertTrue(statistics.contains("values.put(\"hitRate\", stats.hitRate());"));
+    }
+
+    @Test
+    void projectsWithoutCacheHaveNoCacheComponents() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("NoCache", DatabaseType.POSTGRESQL);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        assertFalse(files.get("pom.xml").contains("caffeine"));
+        assertFalse(files.get("src/main/resources/application.properties").contains("spring.cache"));
+        assertFalse(files.containsKey(sourceRoot + "/configuration/CacheConfig.java"));
+        assertFalse(files.containsKey(sourceRoot + "/controller/CacheStatisticsController.java"));
+        assertFalse(files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java").contains("@Cacheable"));
+    }
+}
@@ -0,0 +1,118 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.EntityDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RelationDefinitionRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.RelationType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CrudSourceGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void selfReferencingManyToManyUsesDistinctJoinColumns() throws Exception {
+        EntityDefinitionRequest person = GeneratedProjects.entity("Person", "name");
+        person.getRelations().add(relation("friends", RelationType.MANY_TO_MANY, "Person"));
+        EntityDefinitionRequest course = GeneratedProjects.entity("Course", "title");
+        course.getRelations().add(relation("students", RelationType.MANY_TO_MANY, "Person"));
+
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Crud", DatabaseType.POSTGRESQL);
+        request.setEntities(new ArrayList<>(List.of(person, course)));
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        String personSource = files.get(GeneratedProjects.sourceRoot(request) + "/models/entities/Person.java");
+        assertTrue(personSource.contains("joinColumns = @JoinColumn(name = \"person_id\")"));
+        assertTrue(personSource.contains("inverseJoinColumns = @JoinColumn(name = \"related_person_id\")"));
+
+        String courseSource = files.get(GeneratedProjects.sourceRoot(request) + "/models/entities/Course.java");
+        assertTrue(courseSource.contains("joinColumns = @JoinColumn(name = \"course_id\")"));
+        assertTrue(courseSource.contains("inverseJoinColumns = @JoinColumn(name = \"person_id\")"));
+    }
+
+    @Test
+    void rejectsReservedTableNames() {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("ReservedTable", DatabaseType.MYSQL);
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Order", "total"))));
+        assertThrows(BadRequestException.class, () -> springBootGeneratorService.generateProject(request));
+
+        EntityDefinitionRequest sample = GeneratedProjects.entity("Widget", "name");
+        sample.setTableName("sample_entity");
+        request.setEntities(new ArrayList<>(List.of(sample)));
+        assertThrows(BadRequestException.class, () -> springBootGeneratorService.generateProject(request));
+    }
+
+    @Test
+    void rejectsEntityNamesThatShadowTypesTheGeneratedSourcesImport() {
+        for (String name : List.of("Page", "Repository", "Service", "Entity", "Table", "Column", "Id", "Data", "Path")) {
+            GenerateProjectRequest request = GeneratedProjects.springBoot("ReservedEntity", DatabaseType.POSTGRESQL);
+            request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity(name, "label"))));
+            assertThrows(BadRequestException.class, () -> springBootGeneratorService.generateProject(request), name);
+        }
+    }
+
+    @Test
+    void generatedCrudSourcesCompile() throws Exception {
+        EntityDefinitionRequest customer = GeneratedProjects.entity("Customer", "name");
+        EntityDefinitionRequest invoice = GeneratedProjects.entity("Invoice", "number");
+        invoice.getRelations().add(relation("customer", RelationType.MANY_TO_ONE, "Customer"));
+
+        GenerateProjectRequest request = GeneratedProjects.springBoot("CrudCompile", DatabaseType.POSTGRESQL);
+        request.setEntities(new ArrayList<>(List.of(customer, invoice)));
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        Map<String, String> crudSources = new LinkedHashMap<>();
+        files.forEach((path, content) -> {
+            if (path.endsWith(".java") && (path.contains("/Customer") || path.contains("/Invoice"))) {
+                crudSources.put(path, content);
+            }
+        });
+        assertEquals(10, crudSources.size(), crudSources.keySet().toString());
+
+        String packageName = request.getApplicationName().toLowerCase();
+        ClassLoader loader = GeneratedProjects.compile(tempDir, crudSources);
+        assertNotNull(loader.loadClass(packageName + ".models.entities.Invoice").getDeclaredField("customer"));
+        assertNotNull(loader.loadClass(packageName + ".controller.InvoiceController"));
+    }
+
+    @Test
+    void rejectsFieldsThatShadowBaseEntityMembersOnlyWhenBaseEntityIsEnabled() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("BaseEntityField", DatabaseType.POSTGRESQL);
+        request.setBaseEntityEnabled(true);
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "createdAt"))));
+        assertThrows(BadRequestException.class, () -> springBootGeneratorService.generateProject(request));
+
+        request.setBaseEntityEnabled(false);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        assertTrue(files.get(GeneratedProjects.sourceRoot(request) + "/models/entities/Invoice.java").contains("private String createdAt;"));
+    }
+
+    private RelationDefinitionRequest relation(String name, RelationType type, String targetEntity) {
+        RelationDefinitionRequest relation = new RelationDefinitionRequest();
+        relation.setName(name);
+        relation.setType(type);
+        relation.setTargetEntity(targetEntity);
+        return relation;
+    }
+}
@@ -0,0 +1,71 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
+import fajarcode.serverappinitializr.models.enums.ArchiveStorageType;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectArchiveChunkRepository;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "generator.storage.mode=DATABASE",
+        "generator.storage.chunk-size-bytes=1024"
+})
+@ActiveProfiles("test")
+class DatabaseArchiveStorageTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private GeneratedProjectArchiveChunkRepository archiveChunkRepository;
+
+    @Test
+    void storesArchiveInDatabaseAndStreamsItBack() throws Exception {
+        GenerateProjectRequest request = new GenerateProjectRequest();
+        request.setApplicationName("ArchiveStorage" + System.nanoTime());
+        request.setFrameworkType(FrameworkType.SPRINGBOOT);
+        request.setDatabaseType(DatabaseType.POSTGRESQL);
+        request.setJwtAuthEnabled(true);
+        request.setBaseEntityEnabled(true);
+        request.setBaseResponseEnabled(true);
+
+        GenerateProjectResponse response = springBootGeneratorService.generateProject(request).getData();
+
+        assertEquals(ArchiveStorageType.DATABASE, response.getStorageType());
+        assertTrue(archiveChunkRepository.countByProjectId(response.getId()) > 1);
+        assertFalse(Files.exists(Paths.get(response.getProjectPath())));
+
+        ByteArrayOutputStream download = new ByteArrayOutputStream();
+        springBootGeneratorService.getProjectZip(request.getApplicationName(), download);
+
+        assertEquals(response.getArchiveSizeBytes(), download.size());
+
+        Set<String> entries = new HashSet<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(download.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entries.add(entry.getName().replace('\\', '/'));
+            }
+        }
+
+        assertTrue(entries.contains("pom.xml"));
+        assertTrue(entries.contains("src/main/resources/application.properties"));
+    }
+}
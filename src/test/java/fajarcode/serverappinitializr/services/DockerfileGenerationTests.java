@@ -0,0 +1,73 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class DockerfileGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void javaVersionsBefore25TrainAClassDataSharingArchive() throws Exception {
+        for (String javaVersion : new String[]{"17", "21"}) {
+            String dockerfile = dockerfile(javaVersion, BuildTool.MAVEN);
+
+            assertTrue(dockerfile.contains("FROM maven:3.9-eclipse-temurin-" + javaVersion + " AS build"));
+            assertTrue(dockerfile.contains("FROM eclipse-temurin:" + javaVersion + "-jre"));
+            assertTrue(dockerfile.contains("RUN java -XX:ArchiveClassesAtExit=application.jsa"));
+            assertTrue(dockerfile.contains("ENTRYPOINT [\"java\", \"-XX:SharedArchiveFile=application.jsa\", \"-jar\", \"application.jar\"]"));
+            assertFalse(dockerfile.contains("AOTCache"));
+        }
+    }
+
+    @Test
+    void java25AndLaterTrainAnAotCache() throws Exception {
+        String dockerfile = dockerfile("25", BuildTool.GRADLE);
+
+        assertTrue(dockerfile.contains("FROM gradle:jdk25 AS build"));
+        assertTrue(dockerfile.contains("RUN java -XX:AOTCacheOutput=application.aot"));
+        assertTrue(dockerfile.contains("ENTRYPOINT [\"java\", \"-XX:AOTCache=application.aot\", \"-jar\", \"application.jar\"]"));
+        assertFalse(dockerfile.contains("application.jsa"));
+    }
+
+    @Test
+    void trainingRunNeverNeedsTheDatabaseAndLayersAreCopiedInOrder() throws Exception {
+        String dockerfile = dockerfile("21", BuildTool.MAVEN);
+
+        assertTrue(dockerfile.contains("-Dspring.context.exit=onRefresh"));
+        assertTrue(dockerfile.contains("-Dspring.jpa.hibernate.ddl-auto=none"));
+        // Classes loaded through the exploded launcher's class loader cannot be archived, so training runs the extracted jar
+        assertTrue(dockerfile.contains("java -Djarmode=tools -jar application.jar extract --layers --destination extracted"));
+        assertTrue(dockerfile.contains("    -jar application.jar\n"));
+        assertFalse(dockerfile.contains("JarLauncher"));
+        assertFalse(dockerfile.contains("layertools"));
+        assertFalse(dockerfile.contains("|| echo"));
+        int dependencies = dockerfile.indexOf("/workspace/extracted/dependencies/");
+        int application = dockerfile.indexOf("/workspace/extracted/application/");
+        assertTrue(dependencies >= 0 && dependencies < application);
+        assertTrue(dockerfile.indexOf("USER spring") < dockerfile.indexOf("RUN java "));
+    }
+
+    private String dockerfile(String javaVersion, BuildTool buildTool) throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Docker", DatabaseType.POSTGRESQL);
+        request.setDockerEnabled(true);
+        request.setJavaVersion(javaVersion);
+        request.setBuildTool(buildTool);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        assertTrue(files.containsKey(".dockerignore"));
+        return files.get("Dockerfile");
+    }
+}
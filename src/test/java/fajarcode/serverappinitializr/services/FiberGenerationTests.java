@@ -0,0 +1,117 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class FiberGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void fiberProjectsRenderGoSourcesFromPrecompiledTemplates() throws Exception {
+        GenerateProjectRequest request = request("Fiber");
+        request.setBaseResponseEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String module = request.getApplicationName().toLowerCase();
+
+        String goMod = files.get("go.mod");
+        assertTrue(goMod.startsWith("module " + module + "\n"));
+        assertTrue(goMod.contains("\tgithub.com/jackc/pgx/v5 v5.5.1\n"));
+        assertFalse(goMod.contains("golang-jwt"));
+
+        assertImports(files.get("main.go"), "github.com/gofiber/fiber/v2", module + "/internal/config", module + "/internal/database",
+                module + "/internal/handlers", module + "/internal/middleware");
+        assertImports(files.get("internal/database/database.go"), module + "/internal/config");
+        assertTrue(files.get("internal/database/database.go").contains("\t_ \"github.com/jackc/pgx/v5/stdlib\"\n"));
+        assertTrue(files.get("internal/database/database.go").contains("const driverName = \"pgx\""));
+        assertImports(files.get("internal/handlers/sample_handler.go"), module + "/internal/database", module + "/internal/response");
+        assertTrue(files.get("internal/handlers/sample_handler.go").contains("c.JSON(response.Success(\"Success\", samples))"));
+        assertTrue(files.get("internal/middleware/auth.go").contains("return c.Next()"));
+        assertTrue(files.containsKey("migrations/001_create_sample_entity.sql"));
+
+        files.forEach((path, content) -> {
+            if (path.endsWith(".go")) {
+                assertFalse(content.contains("{{"), path);
+                assertFalse(content.lines().anyMatch(line -> line.startsWith(" ")), path);
+            }
+        });
+    }
+
+    @Test
+    void jwtMiddlewareRefusesToStartWithoutAStrongSecret() throws Exception {
+        GenerateProjectRequest request = request("FiberJwt");
+        request.setJwtAuthEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertTrue(files.get("go.mod").contains("\tgithub.com/golang-jwt/jwt/v5 v5.2.0\n"));
+        String auth = files.get("internal/middleware/auth.go");
+        assertImports(auth, "log", "github.com/golang-jwt/jwt/v5", request.getApplicationName().toLowerCase() + "/internal/config");
+        assertTrue(auth.contains("if len(cfg.JWTSecret) < minSecretLength {\n\t\tlog.Fatalf("));
+        assertTrue(auth.indexOf("log.Fatalf(") < auth.indexOf("key := []byte(cfg.JWTSecret)"));
+        assertTrue(files.get(".env.example").contains("JWT_SECRET=\n"));
+    }
+
+    @Test
+    void dockerfileResolvesModulesBeforeCopyingSources() throws Exception {
+        GenerateProjectRequest request = request("FiberDocker");
+        request.setDockerEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        String dockerfile = files.get("Dockerfile");
+        int copyGoMod = dockerfile.indexOf("COPY go.mod ./");
+        int download = dockerfile.indexOf("RUN --mount=type=cache,target=/go/pkg/mod go mod download");
+        int copySources = dockerfile.indexOf("COPY . .");
+        assertTrue(copyGoMod >= 0 && copyGoMod < download && download < copySources);
+        String build = dockerfile.substring(copySources);
+        assertTrue(build.contains("--mount=type=cache,target=/go/pkg/mod"));
+        assertTrue(build.contains("go build -mod=mod"));
+        assertFalse(dockerfile.contains("go mod tidy"));
+        assertTrue(files.get(".dockerignore").contains(".env"));
+    }
+
+    @Test
+    void regenerateOnlyRewritesTheTemplatesTheOptionFeeds() throws Exception {
+        GenerateProjectRequest request = request("FiberRegenerate");
+        String applicationName = request.getApplicationName();
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest enableJwt = new RegenerateProjectRequest();
+        enableJwt.setJwtAuthEnabled(true);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, applicationName, enableJwt);
+
+        assertTrue(delta.get("go.mod").contains("github.com/golang-jwt/jwt/v5"));
+        assertTrue(delta.get("internal/middleware/auth.go").contains("jwt.NewParser"));
+        assertTrue(delta.get(".env.example").contains("JWT_SECRET="));
+        assertFalse(delta.containsKey("main.go"));
+
+        RegenerateProjectRequest enableCache = new RegenerateProjectRequest();
+        enableCache.setCacheEnabled(true);
+        assertThrows(BadRequestException.class,
+                () -> GeneratedProjects.regenerate(springBootGeneratorService, applicationName, enableCache));
+    }
+
+    private void assertImports(String source, String... importPaths) {
+        for (String importPath : importPaths) {
+            assertTrue(source.contains("\t\"" + importPath + "\"\n"), importPath);
+        }
+    }
+
+    private GenerateProjectRequest request(String namePrefix) {
+        return GeneratedProjects.request(namePrefix, FrameworkType.FIBER, DatabaseType.POSTGRESQL);
+    }
+}
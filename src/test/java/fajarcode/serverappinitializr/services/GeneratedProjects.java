@@ -0,0 +1,104 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.EntityDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.FieldDefinitionRequest;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FieldType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+
+import javax.tools.ToolProvider;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+final class GeneratedProjects {
+
+    private GeneratedProjects() {
+    }
+
+    static GenerateProjectRequest request(String namePrefix, FrameworkType frameworkType, DatabaseType databaseType) {
+        GenerateProjectRequest request = new GenerateProjectRequest();
+        request.setApplicationName(namePrefix + System.nanoTime());
+        request.setFrameworkType(frameworkType);
+        request.setDatabaseType(databaseType);
+        return request;
+    }
+
+    static GenerateProjectRequest springBoot(String namePrefix, DatabaseType databaseType) {
+        return request(namePrefix, FrameworkType.SPRINGBOOT, databaseType);
+    }
+
+    // An entity with a single string field, relations can be added to the mutable relation list
+    static EntityDefinitionRequest entity(String name, String fieldName) {
+        FieldDefinitionRequest field = new FieldDefinitionRequest();
+        field.setName(fieldName);
+        field.setType(FieldType.STRING);
+        EntityDefinitionRequest entity = new EntityDefinitionRequest();
+        entity.setName(name);
+        entity.setFields(new ArrayList<>(List.of(field)));
+        return entity;
+    }
+
+    static String sourceRoot(GenerateProjectRequest request) {
+        return "src/main/java/" + request.getApplicationName().toLowerCase();
+    }
+
+    // Generates the project and returns every file of the downloaded archive by path
+    static Map<String, String> generate(SpringBootGeneratorService service, GenerateProjectRequest request) throws IOException {
+        service.generateProject(request);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        service.getProjectZip(request.getApplicationName(), archive);
+        return unzip(archive.toByteArray());
+    }
+
+    static Map<String, String> regenerate(SpringBootGeneratorService service, String applicationName,
+                                          RegenerateProjectRequest request) throws IOException {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        service.regenerateProject(applicationName, request, archive);
+        return unzip(archive.toByteArray());
+    }
+
+    static Map<String, String> unzip(byte[] archive) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zis = new ZipInputStream(new ByteArrayInputStream(archive))) {
+            ZipEntry entry;
+            while ((entry = zis.getNextEntry()) != null) {
+                entries.put(entry.getName().replace('\\', '/'), new String(zis.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    // Compiles generated sources, keyed by archive path, against the test classpath with Lombok as the only processor, and loads them
+    static ClassLoader compile(Path workDir, Map<String, String> sources) throws IOException {
+        Path classes = Files.createDirectories(workDir.resolve("classes"));
+        String classpath = System.getProperty("java.class.path");
+        List<String> arguments = new ArrayList<>(List.of("-classpath", classpath, "-processorpath", classpath,
+                "-processor", "lombok.launch.AnnotationProcessorHider$AnnotationProcessor", "-d", classes.toString()));
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = workDir.resolve(source.getKey());
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, source.getValue());
+            arguments.add(file.toString());
+        }
+        int result = ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(String[]::new));
+        if (result != 0) {
+            throw new IllegalStateException("Generated Sources Do Not Compile: " + sources.keySet());
+        }
+        return new URLClassLoader(new URL[]{classes.toUri().toURL()}, GeneratedProjects.class.getClassLoader());
+    }
+}
@@ -0,0 +1,102 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.services.interfaces.GenerationProgressListener;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@SpringBootTest(properties = "generator.stream.heartbeat-interval-ms=20")
+@ActiveProfiles("test")
+class GenerationStreamTests {
+    private static final String HEARTBEAT = ":heartbeat\n";
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @MockitoSpyBean
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUpMockMvc() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+    }
+
+    @Test
+    void streamsEveryStageInOrderAndReportsFailures() throws Exception {
+        String applicationName = "Stream" + System.nanoTime();
+        String events = stream(applicationName);
+
+        int previous = -1;
+        for (String stage : new String[]{"started", "structure_created", "file_rendered", "archive_ready", "persisted", "completed"}) {
+            int position = events.indexOf("event:" + stage + "\n");
+            assertTrue(position > previous, "Stage " + stage + " missing or out of order in:\n" + events);
+            previous = position;
+        }
+        assertFalse(events.contains("event:failed"));
+
+        // A second project with the same name fails inside the stream instead of with an error status
+        String failed = stream(applicationName);
+        assertTrue(failed.contains("event:failed\n"));
+        assertTrue(failed.contains("Project With The Same Name Already Exists"));
+        assertFalse(failed.contains("event:completed"));
+    }
+
+    @Test
+    void heartbeatsKeepAQuietStreamAliveAndStopWhenItCompletes() throws Exception {
+        doAnswer(invocation -> {
+            // Holds the generation long enough for several heartbeat intervals to pass
+            Thread.sleep(300);
+            return invocation.callRealMethod();
+        }).when(springBootGeneratorService).generateProject(
+                argThat((GenerateProjectRequest request) -> request != null && request.getApplicationName().startsWith("QuietStream")),
+                any(GenerationProgressListener.class));
+
+        MvcResult result = start("QuietStream" + System.nanoTime());
+        result.getAsyncResult(30_000);
+        String events = result.getResponse().getContentAsString();
+
+        int heartbeat = events.indexOf(HEARTBEAT);
+        assertTrue(heartbeat >= 0, "No heartbeat in:\n" + events);
+        assertTrue(heartbeat < events.indexOf("event:completed\n"));
+
+        Thread.sleep(200);
+        assertEquals(events, result.getResponse().getContentAsString(), "Heartbeats continued after the stream completed");
+    }
+
+    private String stream(String applicationName) throws Exception {
+        MvcResult result = start(applicationName);
+        result.getAsyncResult(30_000);
+        return result.getResponse().getContentAsString();
+    }
+
+    private MvcResult start(String applicationName) throws Exception {
+        String body = """
+                {"applicationName": "%s", "frameworkType": "SPRINGBOOT", "databaseType": "POSTGRESQL"}
+                """.formatted(applicationName);
+        return mockMvc.perform(post("/spring-boot/generator/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_EVENT_STREAM)
+                        .content(body))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
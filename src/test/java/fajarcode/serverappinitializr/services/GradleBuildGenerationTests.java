@@ -0,0 +1,76 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GradleBuildGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void gradleProjectsGetKotlinBuildScriptsInsteadOfAPom() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Gradle", DatabaseType.POSTGRESQL);
+        request.setBuildTool(BuildTool.GRADLE);
+        request.setJavaVersion("21");
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertFalse(files.containsKey("pom.xml"));
+
+        String build = files.get("build.gradle.kts");
+        assertTrue(build.contains("id(\"org.springframework.boot\")"));
+        assertTrue(build.contains("languageVersion.set(JavaLanguageVersion.of(21))"));
+        assertTrue(build.contains("implementation(\"org.springframework.boot:spring-boot-starter-web\")"));
+        assertTrue(build.contains("runtimeOnly(\"org.postgresql:postgresql\")"));
+        assertTrue(build.contains("testImplementation(\"org.springframework.boot:spring-boot-starter-test\")"));
+        assertTrue(build.contains("testRuntimeOnly(\"org.junit.platform:junit-platform-launcher\")"));
+        assertTrue(build.contains("useJUnitPlatform()"));
+        assertFalse(build.contains("me.champeau.jmh"));
+
+        String settings = files.get("settings.gradle.kts");
+        assertTrue(settings.contains("id(\"org.gradle.toolchains.foojay-resolver-convention\") version \"1.0.0\""));
+        assertTrue(settings.contains("rootProject.name = \"" + request.getApplicationName().toLowerCase() + "\""));
+        assertTrue(settings.indexOf("plugins {") < settings.indexOf("rootProject.name"));
+
+        assertTrue(files.get("gradle.properties").contains("org.gradle.configuration-cache=true"));
+    }
+
+    @Test
+    void mavenProjectsHaveNoGradleScripts() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Maven", DatabaseType.POSTGRESQL);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertTrue(files.containsKey("pom.xml"));
+        assertFalse(files.containsKey("build.gradle.kts"));
+        assertFalse(files.containsKey("settings.gradle.kts"));
+        assertFalse(files.containsKey("gradle.properties"));
+    }
+
+    @Test
+    void switchingToGradleReplacesPomWithKotlinBuildScripts() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("GradleSwitch", DatabaseType.POSTGRESQL);
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest switchToGradle = new RegenerateProjectRequest();
+        switchToGradle.setBuildTool(BuildTool.GRADLE);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, request.getApplicationName(), switchToGradle);
+
+        assertTrue(delta.get("DELETED_FILES").contains("pom.xml"));
+        assertTrue(delta.get("build.gradle.kts").contains("testRuntimeOnly(\"org.junit.platform:junit-platform-launcher\")"));
+        assertTrue(delta.get("settings.gradle.kts").contains("foojay-resolver-convention"));
+        assertTrue(delta.containsKey("gradle.properties"));
+    }
+}
@@ -0,0 +1,66 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class IdGenerationTests {
+    private static final String IDENTITY = "@GeneratedValue(strategy = GenerationType.IDENTITY)";
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void databasesWithSequencesUsePooledSequencesPerTable() throws Exception {
+        for (DatabaseType databaseType : DatabaseType.values()) {
+            GenerateProjectRequest request = request(databaseType, false);
+            Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+            String sourceRoot = GeneratedProjects.sourceRoot(request);
+            String sample = files.get(sourceRoot + "/models/entities/SampleEntity.java");
+            String invoice = files.get(sourceRoot + "/models/entities/Invoice.java");
+
+            if (databaseType.isSequenceSupported()) {
+                assertTrue(sample.contains("@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = \"sample_entity_seq\")"), databaseType.name());
+                assertTrue(sample.contains("sequenceName = \"sample_entity_seq\", allocationSize = " + DatabaseType.ID_ALLOCATION_SIZE + ")"), databaseType.name());
+                assertTrue(invoice.contains("@SequenceGenerator(name = \"invoice_seq\", sequenceName = \"invoice_seq\""), databaseType.name());
+                assertFalse(sample.contains(IDENTITY), databaseType.name());
+            } else {
+                assertTrue(sample.contains(IDENTITY), databaseType.name());
+                assertTrue(invoice.contains(IDENTITY), databaseType.name());
+                assertFalse(sample.contains("@SequenceGenerator"), databaseType.name());
+            }
+        }
+    }
+
+    @Test
+    void baseEntityLeavesTheSequenceNameToEachSubclass() throws Exception {
+        GenerateProjectRequest postgresRequest = request(DatabaseType.POSTGRESQL, true);
+        Map<String, String> postgres = GeneratedProjects.generate(springBootGeneratorService, postgresRequest);
+        String entities = GeneratedProjects.sourceRoot(postgresRequest) + "/models/entities";
+        assertTrue(postgres.get(entities + "/baseentity/BaseEntity.java").contains("@GeneratedValue(strategy = GenerationType.SEQUENCE)\n    private Long id;"));
+        assertFalse(postgres.get(entities + "/Invoice.java").contains("@Id"));
+
+        GenerateProjectRequest mysqlRequest = request(DatabaseType.MYSQL, true);
+        Map<String, String> mysql = GeneratedProjects.generate(springBootGeneratorService, mysqlRequest);
+        assertTrue(mysql.get(GeneratedProjects.sourceRoot(mysqlRequest) + "/models/entities/baseentity/BaseEntity.java").contains(IDENTITY));
+    }
+
+    private GenerateProjectRequest request(DatabaseType databaseType, boolean baseEntity) {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Ids", databaseType);
+        request.setBaseEntityEnabled(baseEntity);
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "number"))));
+        return request;
+    }
+}
@@ -0,0 +1,74 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JmhGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void mavenProjectsGetABenchmarkSourceSetAndProfile() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Jmh", DatabaseType.POSTGRESQL);
+        request.setJmhEnabled(true);
+        request.setCacheEnabled(true);
+        request.setObservabilityEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String packageName = request.getApplicationName().toLowerCase();
+
+        String pom = files.get("pom.xml");
+        assertTrue(pom.contains("<id>jmh</id>"));
+        assertTrue(pom.contains("<artifactId>jmh-generator-annprocess</artifactId>"));
+        assertTrue(pom.contains("<source>src/jmh/java</source>"));
+        assertTrue(pom.contains("<mainClass>org.openjdk.jmh.Main</mainClass>"));
+
+        String benchmark = files.get("src/jmh/java/" + packageName + "/benchmark/SampleServiceBenchmark.java");
+        assertTrue(benchmark.startsWith("package " + packageName + ".benchmark;"));
+        assertTrue(benchmark.contains("import " + packageName + ".services.implementations.SampleServiceImpl;"));
+        assertTrue(benchmark.contains("import org.openjdk.jmh.annotations.*;"));
+        assertTrue(benchmark.contains("@State(Scope.Benchmark)"));
+        assertTrue(benchmark.contains("@Benchmark\n    public String getSampleData() {\n        return sampleService.getSampleData();"));
+
+        // The benchmark constructs the service by hand, so its single repository argument must still match the service
+        String service = files.get(GeneratedProjects.sourceRoot(request) + "/services/implementations/SampleServiceImpl.java");
+        assertTrue(benchmark.contains("new SampleServiceImpl(null)"));
+        assertEquals(1, service.split("private final ", -1).length - 1);
+    }
+
+    @Test
+    void reactiveGradleProjectsBlockOnTheBenchmarkedMono() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("JmhReactive", DatabaseType.MYSQL);
+        request.setJmhEnabled(true);
+        request.setStack(StackType.REACTIVE);
+        request.setBuildTool(BuildTool.GRADLE);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String packageName = request.getApplicationName().toLowerCase();
+
+        assertTrue(files.get("build.gradle.kts").contains("id(\"me.champeau.jmh\")"));
+        String benchmark = files.get("src/jmh/java/" + packageName + "/benchmark/SampleServiceBenchmark.java");
+        assertTrue(benchmark.contains("return sampleService.getSampleData().block();"));
+    }
+
+    @Test
+    void projectsWithoutJmhHaveNoBenchmarks() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("NoJmh", DatabaseType.POSTGRESQL);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertFalse(files.get("pom.xml").contains("<id>jmh</id>"));
+        assertTrue(files.keySet().stream().noneMatch(path -> path.startsWith("src/jmh/")));
+    }
+}
@@ -0,0 +1,150 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class JwtGenerationTests {
+    private static final String SECRET = "yourSecretKeyHere123456789012345678901234567890";
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @TempDir
+    Path tempDir;
+
+    private Class<?> jwtUtilClass;
+
+    @BeforeEach
+    void compileGeneratedJwtUtil() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Jwt", DatabaseType.POSTGRESQL);
+        request.setJwtAuthEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String packageName = request.getApplicationName().toLowerCase();
+
+        assertTrue(files.get("src/main/resources/application.properties").contains("jwt.verified-token-cache-size=0"));
+
+        String jwtUtilPath = GeneratedProjects.sourceRoot(request) + "/security/JwtUtil.java";
+        ClassLoader loader = GeneratedProjects.compile(tempDir, Map.of(jwtUtilPath, files.get(jwtUtilPath)));
+        jwtUtilClass = loader.loadClass(packageName + ".security.JwtUtil");
+    }
+
+    @Test
+    void keyAndParserAreBuiltOnceAndReused() throws Exception {
+        Object jwtUtil = jwtUtil(0);
+        Object parser = field(jwtUtil, "parser");
+        Object signingKey = field(jwtUtil, "signingKey");
+        assertNotNull(parser);
+        assertNull(field(jwtUtil, "verifiedTokens"));
+
+        String token = generateToken(jwtUtil, "alice");
+        assertEquals("alice", invoke(jwtUtil, "extractUsername", token));
+        assertEquals(true, invoke(jwtUtil, "validateToken", token));
+        assertSame(parser, field(jwtUtil, "parser"));
+        assertSame(signingKey, field(jwtUtil, "signingKey"));
+    }
+
+    @Test
+    void invalidAndExpiredTokensAreRejected() throws Exception {
+        Object jwtUtil = jwtUtil(0);
+        String token = generateToken(jwtUtil, "alice");
+
+        assertEquals(Optional.empty(), invoke(jwtUtil, "parseToken", token.substring(0, token.length() - 2) + "xx"));
+        assertEquals(Optional.empty(), invoke(jwtUtil, "parseToken", ""));
+        assertEquals(Optional.empty(), invoke(jwtUtil, "parseToken", (Object) null));
+
+        setField(jwtUtil, "expiration", -60_000L);
+        assertEquals(false, invoke(jwtUtil, "validateToken", generateToken(jwtUtil, "bob")));
+    }
+
+    @Test
+    void verifiedTokenCacheEvictsTheLeastRecentlyUsedToken() throws Exception {
+        Object jwtUtil = jwtUtil(2);
+        String alice = generateToken(jwtUtil, "alice");
+        String bob = generateToken(jwtUtil, "bob");
+        String carol = generateToken(jwtUtil, "carol");
+
+        invoke(jwtUtil, "parseToken", alice);
+        invoke(jwtUtil, "parseToken", bob);
+        // Touching alice leaves bob as the eldest entry
+        invoke(jwtUtil, "parseToken", alice);
+        invoke(jwtUtil, "parseToken", carol);
+
+        Map<?, ?> verifiedTokens = (Map<?, ?>) field(jwtUtil, "verifiedTokens");
+        assertEquals(2, verifiedTokens.size());
+        assertTrue(verifiedTokens.containsKey(alice));
+        assertTrue(verifiedTokens.containsKey(carol));
+        assertFalse(verifiedTokens.containsKey(bob));
+    }
+
+    @Test
+    void cachedClaimsAreDroppedOnceExpired() throws Exception {
+        Object jwtUtil = jwtUtil(4);
+        String token = generateToken(jwtUtil, "alice");
+        assertEquals("alice", invoke(jwtUtil, "extractUsername", token));
+
+        @SuppressWarnings("unchecked")
+        Map<String, Claims> verifiedTokens = (Map<String, Claims>) field(jwtUtil, "verifiedTokens");
+        Claims cached = verifiedTokens.get(token);
+        assertNotNull(cached);
+
+        // A cache hit must not outlive the exp claim even though the signature is never checked again
+        verifiedTokens.put(token, Jwts.claims().setSubject("alice").setExpiration(new Date(System.currentTimeMillis() - 1000)));
+        assertEquals(Optional.empty(), invoke(jwtUtil, "parseToken", token));
+        assertFalse(verifiedTokens.containsKey(token));
+    }
+
+    private Object jwtUtil(int verifiedTokenCacheSize) throws Exception {
+        Object jwtUtil = jwtUtilClass.getDeclaredConstructor().newInstance();
+        setField(jwtUtil, "secret", SECRET);
+        setField(jwtUtil, "expiration", 3_600_000L);
+        setField(jwtUtil, "verifiedTokenCacheSize", verifiedTokenCacheSize);
+        invoke(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    private String generateToken(Object jwtUtil, String username) throws Exception {
+        return (String) invoke(jwtUtil, "generateToken", username);
+    }
+
+    private Object invoke(Object target, String name, Object... args) throws Exception {
+        for (Method method : jwtUtilClass.getDeclaredMethods()) {
+            if (method.getName().equals(name) && method.getParameterCount() == args.length) {
+                method.setAccessible(true);
+                return method.invoke(target, args);
+            }
+        }
+        throw new NoSuchMethodException(name);
+    }
+
+    private Object field(Object target, String name) throws Exception {
+        Field field = jwtUtilClass.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private void setField(Object target, String name, Object value) throws Exception {
+        Field field = jwtUtilClass.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,96 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.entities.GeneratedProjectFile;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.GenerationStep;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectFileRepository;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class KeysetPaginationGenerationTests {
+    private static final List<String> PAGINATION_FILES = List.of(
+            "/models/dto/response/SampleSummary.java",
+            "/models/dto/response/SamplePage.java",
+            "/models/dto/request/SampleCursor.java");
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private GeneratedProjectFileRepository generatedProjectFileRepository;
+
+    @Test
+    void sampleListSeeksPastTheCursorOverASummaryProjection() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Keyset", DatabaseType.MYSQL);
+        request.setBaseResponseEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        String repository = files.get(sourceRoot + "/repository/SampleRepository.java");
+        assertTrue(repository.contains("where e.name > :name or (e.name = :name and e.id > :id)"));
+        assertTrue(repository.contains("List<SampleSummary> findFirstPage(Pageable limit)"));
+        assertTrue(files.get(sourceRoot + "/models/entities/SampleEntity.java").contains("idx_sample_entity_name_id"));
+
+        String controller = files.get(sourceRoot + "/controller/SampleController.java");
+        assertTrue(controller.contains("@GetMapping(\"/items\")"));
+        assertTrue(controller.contains("SuccessResponse.of(page)"));
+
+        assertTrue(files.get(sourceRoot + "/models/dto/response/SamplePage.java").contains("public static SamplePage of(List<SampleSummary> rows, int size)"));
+        assertTrue(files.get(sourceRoot + "/models/dto/request/SampleCursor.java").contains("Base64.getUrlEncoder().withoutPadding()"));
+    }
+
+    @Test
+    void unchangedPaginationSourcesAreLeftOutOfTheDelta() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("KeysetDelta", DatabaseType.POSTGRESQL);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest enableBaseResponse = new RegenerateProjectRequest();
+        enableBaseResponse.setBaseResponseEnabled(true);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, request.getApplicationName(), enableBaseResponse);
+
+        assertTrue(delta.get(sourceRoot + "/controller/SampleController.java").contains("SuccessResponse.of(page)"));
+        assertFalse(delta.containsKey(sourceRoot + "/repository/SampleRepository.java"));
+        for (String paginationFile : PAGINATION_FILES) {
+            assertFalse(delta.containsKey(sourceRoot + paginationFile), paginationFile);
+        }
+    }
+
+    @Test
+    void projectsGeneratedBeforePaginationGainItsSourcesOnRegenerate() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("KeysetLegacy", DatabaseType.POSTGRESQL);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        Long projectId = springBootGeneratorService.generateProject(request).getData().getId();
+
+        // Drops the pagination sources from the manifest, as for a project generated before the step existed
+        List<GeneratedProjectFile> paginationFiles = generatedProjectFileRepository.findByProjectId(projectId).stream()
+                .filter(file -> file.getGenerationStep() == GenerationStep.SAMPLE_PAGINATION)
+                .toList();
+        assertEquals(PAGINATION_FILES.size(), paginationFiles.size());
+        generatedProjectFileRepository.deleteAll(paginationFiles);
+
+        RegenerateProjectRequest enableCache = new RegenerateProjectRequest();
+        enableCache.setCacheEnabled(true);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, request.getApplicationName(), enableCache);
+
+        assertTrue(delta.get(sourceRoot + "/services/implementations/SampleServiceImpl.java").contains("SamplePage listSamples("));
+        for (String paginationFile : PAGINATION_FILES) {
+            assertTrue(delta.containsKey(sourceRoot + paginationFile), paginationFile);
+        }
+        assertEquals(PAGINATION_FILES.size(), generatedProjectFileRepository.findByProjectId(projectId).stream()
+                .filter(file -> file.getGenerationStep() == GenerationStep.SAMPLE_PAGINATION)
+                .count());
+    }
+}
@@ -0,0 +1,137 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.lang.reflect.Constructor;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NativeHintsGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void registrarRegistersEntitiesAndDtosButNotOtherClasses() throws Exception {
+        GenerateProjectRequest request = request(false);
+        String packageName = request.getApplicationName().toLowerCase();
+        RuntimeHints hints = registerHints(request);
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(packageName + ".models.entities.Invoice")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(packageName + ".models.dto.response.InvoiceSummary")).test(hints));
+        assertFalse(RuntimeHintsPredicates.reflection().onType(TypeReference.of(packageName + ".services.InvoiceFormatter")).test(hints));
+        assertFalse(RuntimeHintsPredicates.reflection().onType(TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParser")).test(hints));
+    }
+
+    @Test
+    void jwtProjectsAlsoRegisterTheReflectiveJjwtTypes() throws Exception {
+        RuntimeHints hints = registerHints(request(true));
+
+        for (String type : List.of("io.jsonwebtoken.impl.DefaultJwtBuilder", "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer")) {
+            assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(type)).test(hints), type);
+        }
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+
+    @Test
+    void nativeBuildsGetThePluginAndBuildTimeProperties() throws Exception {
+        GenerateProjectRequest request = request(false);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertTrue(files.get("pom.xml").contains("<artifactId>native-maven-plugin</artifactId>"));
+        String properties = files.get("src/main/resources/application.properties");
+        assertTrue(properties.contains("spring.jmx.enabled=false"));
+        assertTrue(properties.contains("spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"));
+    }
+
+    @Test
+    void projectsWithoutNativeImageHaveNoHints() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("NoNative", DatabaseType.POSTGRESQL);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        assertFalse(files.containsKey(GeneratedProjects.sourceRoot(request) + "/configuration/NativeHintsConfig.java"));
+        assertFalse(files.get("pom.xml").contains("native-maven-plugin"));
+    }
+
+    // Compiles the generated registrar next to an entity, a DTO and an unrelated class, then runs it as AOT processing would
+    private RuntimeHints registerHints(GenerateProjectRequest request) throws Exception {
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String packageName = request.getApplicationName().toLowerCase();
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        Map<String, String> sources = new LinkedHashMap<>();
+        String configPath = sourceRoot + "/configuration/NativeHintsConfig.java";
+        sources.put(configPath, files.get(configPath));
+        sources.put(sourceRoot + "/models/entities/Invoice.java", """
+                package %s.models.entities;
+
+                @jakarta.persistence.Entity
+                public class Invoice {
+                    @jakarta.persistence.Id
+                    private Long id;
+                }
+                """.formatted(packageName));
+        sources.put(sourceRoot + "/models/dto/response/InvoiceSummary.java", """
+                package %s.models.dto.response;
+
+                public record InvoiceSummary(Long id) {
+                }
+                """.formatted(packageName));
+        sources.put(sourceRoot + "/services/InvoiceFormatter.java", """
+                package %s.services;
+
+                public class InvoiceFormatter {
+                }
+                """.formatted(packageName));
+        ClassLoader loader = GeneratedProjects.compile(tempDir, sources);
+
+        Class<?> config = loader.loadClass(packageName + ".configuration.NativeHintsConfig");
+        Class<?> registrarType = loader.loadClass(packageName + ".configuration.NativeHintsConfig$ApplicationRuntimeHints");
+        assertArrayEquals(new Class<?>[]{registrarType}, config.getAnnotation(ImportRuntimeHints.class).value());
+
+        Constructor<?> constructor = registrarType.getDeclaredConstructor();
+        constructor.setAccessible(true);
+        RuntimeHintsRegistrar registrar = (RuntimeHintsRegistrar) constructor.newInstance();
+
+        RuntimeHints hints = new RuntimeHints();
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        // The scanner resolves the base package through the context class loader
+        thread.setContextClassLoader(loader);
+        try {
+            registrar.registerHints(hints, loader);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+        return hints;
+    }
+
+    private GenerateProjectRequest request(boolean jwt) {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Native", DatabaseType.POSTGRESQL);
+        request.setNativeImageEnabled(true);
+        request.setJwtAuthEnabled(jwt);
+        return request;
+    }
+}
@@ -0,0 +1,109 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ObservabilityGenerationTests {
+    private static final String TIMED_IMPORT = "import io.micrometer.core.annotation.Timed;";
+    private static final String TAP = "                .name(\"%s\")\n                .tap(Micrometer.metrics(meterRegistry));";
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void servletProjectsTimeTheSampleServiceAndControllerWithTheAspect() throws Exception {
+        GenerateProjectRequest request = request(StackType.SERVLET, true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        assertTrue(files.get("pom.xml").contains("<artifactId>spring-boot-starter-actuator</artifactId>"));
+        assertFalse(files.get("pom.xml").contains("reactor-core-micrometer"));
+        assertTrue(files.get(sourceRoot + "/configuration/ObservabilityConfig.java").contains("new TimedAspect(registry)"));
+
+        String service = files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java");
+        assertTrue(service.contains(TIMED_IMPORT));
+        assertTrue(service.contains("@Timed(value = \"sample.service.data\""));
+
+        String controller = files.get(sourceRoot + "/controller/SampleController.java");
+        assertTrue(controller.contains(TIMED_IMPORT));
+        assertTrue(controller.contains("@Timed(value = \"sample.controller.get\""));
+        assertTrue(controller.contains("@Timed(value = \"sample.controller.list\""));
+    }
+
+    @Test
+    void reactiveProjectsTimeEachSubscriptionThroughTheMetricsTap() throws Exception {
+        GenerateProjectRequest request = request(StackType.REACTIVE, true);
+        request.setJmhEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        assertTrue(files.get("pom.xml").contains("<artifactId>reactor-core-micrometer</artifactId>"));
+        assertTrue(files.get("src/main/resources/application.properties").contains("management.metrics.distribution.percentiles.sample=0.5,0.95,0.99"));
+
+        // @Timed on a publisher-returning method only measures assembly, so none of the reactive sources carry it
+        String service = files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java");
+        assertFalse(service.contains("@Timed"));
+        assertTrue(service.contains("import reactor.core.observability.micrometer.Micrometer;"));
+        assertTrue(service.contains("    private final MeterRegistry meterRegistry;\n"));
+        assertTrue(service.contains(TAP.formatted("sample.service.data")));
+
+        String controller = files.get(sourceRoot + "/controller/SampleController.java");
+        assertFalse(controller.contains("@Timed"));
+        assertTrue(controller.contains("return Mono.<ResponseEntity<?>>just(ResponseEntity.ok("));
+        assertTrue(controller.contains(TAP.formatted("sample.controller.get")));
+        assertTrue(controller.contains(".<ResponseEntity<?>>map(ResponseEntity::ok)\n" + TAP.formatted("sample.controller.list")));
+
+        String benchmark = files.get("src/jmh/java/" + sourceRoot.substring("src/main/java/".length()) + "/benchmark/SampleServiceBenchmark.java");
+        assertTrue(benchmark.contains("new SampleServiceImpl(null, new SimpleMeterRegistry())"));
+    }
+
+    @Test
+    void projectsWithoutObservabilityHaveNoTimers() throws Exception {
+        for (StackType stack : StackType.values()) {
+            GenerateProjectRequest request = request(stack, false);
+            Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+            String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+            assertFalse(files.containsKey(sourceRoot + "/configuration/ObservabilityConfig.java"), stack.name());
+            assertFalse(files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java").contains("@Timed"), stack.name());
+            assertFalse(files.get(sourceRoot + "/controller/SampleController.java").contains("@Timed"), stack.name());
+            assertFalse(files.get(sourceRoot + "/controller/SampleController.java").contains("MeterRegistry"), stack.name());
+            assertFalse(files.get("pom.xml").contains("reactor-core-micrometer"), stack.name());
+        }
+    }
+
+    @Test
+    void togglingObservabilityRerendersTheReactiveSources() throws Exception {
+        GenerateProjectRequest request = request(StackType.REACTIVE, false);
+        GeneratedProjects.generate(springBootGeneratorService, request);
+
+        RegenerateProjectRequest change = new RegenerateProjectRequest();
+        change.setObservabilityEnabled(true);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, request.getApplicationName(), change);
+
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        assertTrue(delta.get(sourceRoot + "/services/implementations/SampleServiceImpl.java").contains("Micrometer.metrics(meterRegistry)"));
+        assertTrue(delta.get(sourceRoot + "/controller/SampleController.java").contains("Micrometer.metrics(meterRegistry)"));
+        assertTrue(delta.get("pom.xml").contains("<artifactId>reactor-core-micrometer</artifactId>"));
+    }
+
+    private GenerateProjectRequest request(StackType stack, boolean observability) {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Observability", DatabaseType.POSTGRESQL);
+        request.setStack(stack);
+        request.setObservabilityEnabled(observability);
+        return request;
+    }
+}
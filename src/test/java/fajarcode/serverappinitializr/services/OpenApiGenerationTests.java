@@ -0,0 +1,290 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class OpenApiGenerationTests {
+
+    private static final String PET_STORE = """
+            openapi: 3.0.3
+            info:
+              title: Pet Store
+              x-audit: &audit
+                createdAt:
+                  type: string
+                  format: date-time
+            paths:
+              /pets:
+                get:
+                  tags: [pets]
+                  operationId: listPets
+                  responses:
+                    '200':
+                      description: Pets
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              $ref: '#/components/schemas/Pet'
+                post:
+                  tags: [pets]
+                  operationId: createPet
+                  requestBody:
+                    required: true
+                    content:
+                      application/json:
+                        schema:
+                          $ref: '#/components/schemas/Pet'
+                  responses:
+                    '201':
+                      description: Created
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Pet'
+            components:
+              schemas:
+                Category:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                Pet:
+                  type: object
+                  required: [name]
+                  properties:
+                    <<: *audit
+                    name:
+                      type: string
+                    category:
+                      $ref: '#/components/schemas/Category'
+            """;
+
+    // Schema names that are java.lang types or are imported unqualified by the generated DTOs and controllers
+    private static final String COLLIDING = """
+            openapi: 3.0.3
+            info:
+              title: Colliding
+            paths:
+              /records:
+                get:
+                  tags: [records]
+                  operationId: listRecords
+                  parameters:
+                    - name: process
+                      in: query
+                      schema:
+                        $ref: '#/components/schemas/Process'
+                  responses:
+                    '200':
+                      description: Records
+                      content:
+                        application/json:
+                          schema:
+                            type: array
+                            items:
+                              $ref: '#/components/schemas/Record'
+                post:
+                  tags: [records]
+                  operationId: saveData
+                  requestBody:
+                    content:
+                      application/json:
+                        schema:
+                          $ref: '#/components/schemas/Data'
+                  responses:
+                    default:
+                      description: Failure
+                      content:
+                        application/json:
+                          schema:
+                            $ref: '#/components/schemas/Error'
+            components:
+              schemas:
+                Data:
+                  type: object
+                  properties:
+                    items:
+                      type: array
+                      items:
+                        $ref: '#/components/schemas/List'
+                    lookup:
+                      $ref: '#/components/schemas/Map'
+                List:
+                  type: object
+                  properties:
+                    name:
+                      type: string
+                Map:
+                  type: object
+                  additionalProperties:
+                    type: string
+                Error:
+                  type: object
+                  properties:
+                    package:
+                      $ref: '#/components/schemas/Package'
+                    override:
+                      $ref: '#/components/schemas/Override'
+                Package:
+                  type: string
+                Override:
+                  type: string
+                  enum: [draft, final]
+                Process:
+                  type: integer
+                  format: int64
+                Record:
+                  allOf:
+                    - $ref: '#/components/schemas/Error'
+                    - type: object
+                      properties:
+                        tags:
+                          type: array
+                          items:
+                            type: string
+            """;
+    private static final int LARGE_SPEC_SCHEMAS = 2000;
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void controllersImportReferencedDtosAndRejectUnimplementedOperations() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("OpenApi", DatabaseType.POSTGRESQL);
+        Map<String, String> files = generateFromSpec(request, PET_STORE);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        String packageName = request.getApplicationName().toLowerCase();
+
+        String controller = files.get(sourceRoot + "/controller/PetsApiController.java");
+        assertTrue(controller.contains("import " + packageName + ".models.dto.*;"));
+        assertTrue(controller.contains("import org.springframework.web.server.ResponseStatusException;"));
+        assertTrue(controller.contains("public ResponseEntity<List<Pet>> listPets()"));
+        assertTrue(controller.contains("public ResponseEntity<Pet> createPet(@Valid @RequestBody Pet body)"));
+        assertTrue(controller.contains("throw new ResponseStatusException(HttpStatus.NOT_IMPLEMENTED, \"POST /pets is not implemented\");"));
+        assertFalse(controller.contains("TODO"));
+
+        String pet = files.get(sourceRoot + "/models/dto/Pet.java");
+        assertTrue(pet.contains("private Category category;"));
+        // The anchored properties from the skipped info section are merged in through the alias
+        assertTrue(pet.contains("private OffsetDateTime createdAt;"));
+        assertTrue(files.containsKey(sourceRoot + "/models/dto/Category.java"));
+    }
+
+    @Test
+    void generatedDtosAndControllersCompile() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("OpenApiCompile", DatabaseType.POSTGRESQL);
+        Map<String, String> sources = specSources(request, generateFromSpec(request, PET_STORE));
+        assertEquals(3, sources.size(), sources.keySet().toString());
+
+        ClassLoader loader = GeneratedProjects.compile(tempDir, sources);
+        String packageName = request.getApplicationName().toLowerCase();
+        assertEquals(loader.loadClass(packageName + ".models.dto.Category"),
+                loader.loadClass(packageName + ".models.dto.Pet").getDeclaredField("category").getType());
+    }
+
+    @Test
+    void schemasNamedAfterImportedOrJavaLangTypesAreSuffixed() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("OpenApiColliding", DatabaseType.POSTGRESQL);
+        Map<String, String> files = generateFromSpec(request, COLLIDING);
+        String dtoRoot = GeneratedProjects.sourceRoot(request) + "/models/dto/";
+
+        for (String name : List.of("Data", "List", "Map", "Error", "Package", "Override", "Process", "Record")) {
+            assertFalse(files.containsKey(dtoRoot + name + ".java"), name);
+            assertTrue(files.containsKey(dtoRoot + name + "Dto.java"), name);
+        }
+        assertTrue(files.get(dtoRoot + "DataDto.java").contains("private List<ListDto> items;"));
+        assertTrue(files.get(dtoRoot + "RecordDto.java").contains("public class RecordDto extends ErrorDto"));
+        String controller = files.get(GeneratedProjects.sourceRoot(request) + "/controller/RecordsApiController.java");
+        assertTrue(controller.contains("public ResponseEntity<List<RecordDto>> listRecords(@RequestParam(name = \"process\", required = false) ProcessDto process)"));
+
+        GeneratedProjects.compile(tempDir, specSources(request, files));
+    }
+
+    @Test
+    void largeSpecsRenderEverySchemaAndCompile() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("OpenApiLarge", DatabaseType.POSTGRESQL);
+        Map<String, String> files = assertTimeout(Duration.ofSeconds(30), () -> generateFromSpec(request, largeSpec(LARGE_SPEC_SCHEMAS)));
+        String dtoRoot = GeneratedProjects.sourceRoot(request) + "/models/dto/";
+
+        Map<String, String> sources = specSources(request, files);
+        assertEquals(LARGE_SPEC_SCHEMAS + 1, sources.size());
+        assertTrue(files.get(dtoRoot + "Schema1999.java").contains("private Schema1998 previous;"));
+        assertTrue(files.get(GeneratedProjects.sourceRoot(request) + "/controller/ItemsApiController.java")
+                .contains("public ResponseEntity<Schema1999> getItem1999()"));
+
+        ClassLoader loader = GeneratedProjects.compile(tempDir, sources);
+        assertNotNull(loader.loadClass(request.getApplicationName().toLowerCase() + ".models.dto.Schema0"));
+    }
+
+    @Test
+    void rejectsAliasesToUndefinedAnchors() {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("OpenApiAlias", DatabaseType.POSTGRESQL);
+        String spec = PET_STORE.replace("<<: *audit", "<<: *missing");
+        assertThrows(BadRequestException.class, () -> generateFromSpec(request, spec));
+    }
+
+    // Schemas chained through $refs, each also returned by its own operation
+    private String largeSpec(int schemaCount) {
+        StringBuilder paths = new StringBuilder("paths:\n");
+        StringBuilder schemas = new StringBuilder("components:\n  schemas:\n");
+        for (int i = 0; i < schemaCount; i++) {
+            paths.append("  /items/").append(i).append(":\n")
+                    .append("    get:\n      tags: [items]\n      operationId: getItem").append(i).append("\n")
+                    .append("      responses:\n        '200':\n          description: Item\n")
+                    .append("          content:\n            application/json:\n              schema:\n")
+                    .append("                $ref: '#/components/schemas/Schema").append(i).append("'\n");
+            schemas.append("    Schema").append(i).append(":\n      type: object\n      properties:\n")
+                    .append("        name:\n          type: string\n")
+                    .append("        amount:\n          type: number\n");
+            if (i > 0) {
+                schemas.append("        previous:\n          $ref: '#/components/schemas/Schema").append(i - 1).append("'\n");
+            }
+        }
+        return "openapi: 3.0.3\ninfo:\n  title: Large\n" + paths + schemas;
+    }
+
+    // The spec-generated DTOs and controllers, without the sample sources that are rendered alongside them
+    private Map<String, String> specSources(GenerateProjectRequest request, Map<String, String> files) {
+        String dtoRoot = GeneratedProjects.sourceRoot(request) + "/models/dto/";
+        Map<String, String> sources = new LinkedHashMap<>();
+        files.forEach((path, content) -> {
+            boolean dto = path.startsWith(dtoRoot) && path.indexOf('/', dtoRoot.length()) < 0;
+            if (dto || path.endsWith("ApiController.java")) {
+                sources.put(path, content);
+            }
+        });
+        return sources;
+    }
+
+    private Map<String, String> generateFromSpec(GenerateProjectRequest request, String spec) throws Exception {
+        springBootGeneratorService.generateProjectFromOpenApi(request, new ByteArrayInputStream(spec.getBytes(StandardCharsets.UTF_8)));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        springBootGeneratorService.getProjectZip(request.getApplicationName(), archive);
+        return GeneratedProjects.unzip(archive.toByteArray());
+    }
+}
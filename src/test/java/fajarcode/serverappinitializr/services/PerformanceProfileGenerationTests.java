@@ -0,0 +1,46 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class PerformanceProfileGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void sqlServerProfilePoolsStatementsWithoutDowngradingStringParameters() throws Exception {
+        String properties = applicationProperties(DatabaseType.SQLSERVER, "21");
+
+        assertTrue(properties.contains("spring.datasource.hikari.data-source-properties.disableStatementPooling=false"));
+        assertTrue(properties.contains("spring.datasource.hikari.data-source-properties.statementPoolingCacheSize=256"));
+        assertFalse(properties.contains("sendStringParametersAsUnicode"));
+    }
+
+    @Test
+    void virtualThreadsAreOnlyEnabledFromJava21() throws Exception {
+        String java21 = applicationProperties(DatabaseType.POSTGRESQL, "21");
+        assertTrue(java21.contains("spring.threads.virtual.enabled=true"));
+        assertTrue(java21.contains("spring.datasource.hikari.maximum-pool-size=16"));
+
+        String java17 = applicationProperties(DatabaseType.POSTGRESQL, "17");
+        assertFalse(java17.contains("spring.threads.virtual.enabled"));
+        assertTrue(java17.contains("server.tomcat.threads.max=400"));
+    }
+
+    private String applicationProperties(DatabaseType databaseType, String javaVersion) throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Performance", databaseType);
+        request.setPerformanceProfileEnabled(true);
+        request.setJavaVersion(javaVersion);
+        return GeneratedProjects.generate(springBootGeneratorService, request).get("src/main/resources/application.properties");
+    }
+}
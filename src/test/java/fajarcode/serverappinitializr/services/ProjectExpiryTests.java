@@ -0,0 +1,124 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectExpiryRequest;
+import fajarcode.serverappinitializr.models.dto.responses.GenerateProjectResponse;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectExpiryJobResponse;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.ExpiryJobStatus;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.ProjectExpiryService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import fajarcode.serverappinitializr.utils.ProjectLocks;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectExpiryTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private ProjectExpiryService projectExpiryService;
+
+    @Autowired
+    private GeneratedProjectRepository generatedProjectRepository;
+
+    @Autowired
+    private ProjectLocks projectLocks;
+
+    @Test
+    void expiresMatchingProjectsInBatchesAndRemovesTheirDirectories() throws Exception {
+        String prefix = "Expiry" + System.nanoTime();
+        List<GenerateProjectResponse> expired = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            expired.add(generate(prefix + "Old" + i));
+        }
+        GenerateProjectResponse kept = generate("Kept" + System.nanoTime());
+
+        ProjectExpiryRequest request = new ProjectExpiryRequest();
+        request.setApplicationNamePattern(prefix + "Old*");
+        request.setBatchSize(2);
+
+        ProjectExpiryJobResponse job = awaitExpiry(request);
+
+        assertEquals(ExpiryJobStatus.COMPLETED, job.getStatus());
+        assertEquals(3, job.getDeletedProjects());
+        assertEquals(0, job.getSkippedProjects());
+        assertEquals(2, job.getCompletedBatches());
+        for (GenerateProjectResponse project : expired) {
+            assertTrue(generatedProjectRepository.findById(project.getId()).isEmpty());
+            assertFalse(Files.exists(Paths.get(project.getProjectPath())));
+        }
+        assertTrue(generatedProjectRepository.findById(kept.getId()).isPresent());
+        assertTrue(Files.exists(Paths.get(kept.getProjectPath())));
+    }
+
+    @Test
+    void projectsBusyWithADownloadAreSkippedInsteadOfDeletedUnderIt() throws Exception {
+        String prefix = "ExpiryBusy" + System.nanoTime();
+        String busyName = prefix + "Downloading";
+        String idleName = prefix + "Idle";
+        // Names sharing a stripe would make the idle project look busy too
+        for (int i = 0; projectLocks.forProject(idleName) == projectLocks.forProject(busyName); i++) {
+            idleName = prefix + "Idle" + i;
+        }
+        GenerateProjectResponse busy = generate(busyName);
+        GenerateProjectResponse idle = generate(idleName);
+
+        ProjectExpiryRequest request = new ProjectExpiryRequest();
+        request.setApplicationNamePattern(prefix + "*");
+
+        // Holds the read side exactly as an in-flight download does
+        Lock download = projectLocks.forProject(busyName).readLock();
+        ProjectExpiryJobResponse job;
+        download.lock();
+        try {
+            job = awaitExpiry(request);
+        } finally {
+            download.unlock();
+        }
+
+        assertEquals(ExpiryJobStatus.COMPLETED, job.getStatus());
+        assertEquals(1, job.getDeletedProjects());
+        assertEquals(1, job.getSkippedProjects());
+        assertTrue(generatedProjectRepository.findById(busy.getId()).isPresent());
+        assertTrue(Files.exists(Paths.get(busy.getProjectPath())));
+        assertTrue(generatedProjectRepository.findById(idle.getId()).isEmpty());
+        assertFalse(Files.exists(Paths.get(idle.getProjectPath())));
+    }
+
+    private ProjectExpiryJobResponse awaitExpiry(ProjectExpiryRequest request) throws InterruptedException {
+        ProjectExpiryJobResponse job = projectExpiryService.startExpiry(request).getData();
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (job.getStatus() == ExpiryJobStatus.RUNNING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            job = projectExpiryService.getExpiryJob(job.getJobId()).getData();
+        }
+        return job;
+    }
+
+    private GenerateProjectResponse generate(String applicationName) throws Exception {
+        GenerateProjectRequest request = new GenerateProjectRequest();
+        request.setApplicationName(applicationName);
+        request.setFrameworkType(FrameworkType.SPRINGBOOT);
+        request.setDatabaseType(DatabaseType.POSTGRESQL);
+        request.setJwtAuthEnabled(false);
+        request.setBaseEntityEnabled(false);
+        request.setBaseResponseEnabled(false);
+        return springBootGeneratorService.generateProject(request).getData();
+    }
+}
@@ -0,0 +1,141 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ActivityCountResponse;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectRegenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private ProjectStatisticsService projectStatisticsService;
+
+    @Test
+    void regenerateReturnsOnlyFilesAffectedByTheChangedOption() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Regenerate", DatabaseType.POSTGRESQL);
+        String applicationName = request.getApplicationName();
+        String packagePath = GeneratedProjects.sourceRoot(request);
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest enableJwt = new RegenerateProjectRequest();
+        enableJwt.setJwtAuthEnabled(true);
+        Map<String, String> delta = regenerate(applicationName, enableJwt);
+
+        assertTrue(delta.containsKey("pom.xml"));
+        assertTrue(delta.containsKey(packagePath + "/security/JwtUtil.java"));
+        assertFalse(delta.containsKey(packagePath + "/controller/SampleController.java"));
+        assertEquals("", delta.get("DELETED_FILES"));
+
+        RegenerateProjectRequest disableJwt = new RegenerateProjectRequest();
+        disableJwt.setJwtAuthEnabled(false);
+        delta = regenerate(applicationName, disableJwt);
+
+        assertFalse(delta.containsKey(packagePath + "/security/JwtUtil.java"));
+        assertTrue(delta.get("DELETED_FILES").contains(packagePath + "/security/JwtUtil.java"));
+    }
+
+    @Test
+    void enablingPerformanceProfileOnlyRewritesApplicationProperties() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Performance", DatabaseType.MYSQL);
+        request.setJavaVersion("21");
+        String applicationName = request.getApplicationName();
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest enableProfile = new RegenerateProjectRequest();
+        enableProfile.setPerformanceProfileEnabled(true);
+        Map<String, String> delta = regenerate(applicationName, enableProfile);
+
+        String properties = delta.get("src/main/resources/application.properties");
+        assertNotNull(properties);
+        assertTrue(properties.contains("spring.threads.virtual.enabled=true"));
+        assertTrue(properties.contains("server.shutdown=graceful"));
+        assertTrue(properties.contains("spring.datasource.hikari.data-source-properties.cachePrepStmts=true"));
+        assertFalse(delta.containsKey("pom.xml"));
+    }
+
+    @Test
+    void crudSourcesAreKeptUnlessEntitiesAreResupplied() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("CrudRegenerate", DatabaseType.POSTGRESQL);
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "number"))));
+        String applicationName = request.getApplicationName();
+        String controllerPath = GeneratedProjects.sourceRoot(request) + "/controller/InvoiceController.java";
+        springBootGeneratorService.generateProject(request);
+
+        // Toggling an option the CRUD sources depend on cannot re-render them without the definitions
+        RegenerateProjectRequest enableBaseResponse = new RegenerateProjectRequest();
+        enableBaseResponse.setBaseResponseEnabled(true);
+        assertThrows(BadRequestException.class, () -> regenerate(applicationName, enableBaseResponse));
+
+        // An unrelated option leaves them alone
+        RegenerateProjectRequest enableJwt = new RegenerateProjectRequest();
+        enableJwt.setJwtAuthEnabled(true);
+        Map<String, String> delta = regenerate(applicationName, enableJwt);
+        assertFalse(delta.get("DELETED_FILES").contains("Invoice"));
+        assertTrue(download(applicationName).containsKey(controllerPath));
+
+        enableBaseResponse.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "number"))));
+        delta = regenerate(applicationName, enableBaseResponse);
+        assertTrue(delta.get(controllerPath).contains("SuccessResponse.of("));
+        assertTrue(download(applicationName).get(controllerPath).contains("SuccessResponse.of("));
+    }
+
+    @Test
+    void regenerateMovesProjectStatisticsToTheNewOptions() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("Statistics", DatabaseType.ORACLE);
+        String applicationName = request.getApplicationName();
+        springBootGeneratorService.generateProject(request);
+        download(applicationName);
+
+        ActivityCountResponse oracleBefore = byDatabase(DatabaseType.ORACLE);
+        ActivityCountResponse sqlServerBefore = byDatabase(DatabaseType.SQLSERVER);
+
+        RegenerateProjectRequest changeDatabase = new RegenerateProjectRequest();
+        changeDatabase.setDatabaseType(DatabaseType.SQLSERVER);
+        regenerate(applicationName, changeDatabase);
+
+        assertEquals(oracleBefore.getGenerations() - 1, byDatabase(DatabaseType.ORACLE).getGenerations());
+        assertEquals(oracleBefore.getDownloads() - 1, byDatabase(DatabaseType.ORACLE).getDownloads());
+        assertEquals(countOf(sqlServerBefore, true) + 1, byDatabase(DatabaseType.SQLSERVER).getGenerations());
+        assertEquals(countOf(sqlServerBefore, false) + 1, byDatabase(DatabaseType.SQLSERVER).getDownloads());
+    }
+
+    private Map<String, String> download(String applicationName) throws Exception {
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        springBootGeneratorService.getProjectZip(applicationName, archive);
+        return GeneratedProjects.unzip(archive.toByteArray());
+    }
+
+    private ActivityCountResponse byDatabase(DatabaseType databaseType) {
+        return projectStatisticsService.getStatistics().getData().getByDatabase().get(databaseType.name());
+    }
+
+    private long countOf(ActivityCountResponse counts, boolean generations) {
+        if (counts == null) {
+            return 0;
+        }
+        return generations ? counts.getGenerations() : counts.getDownloads();
+    }
+
+    private Map<String, String> regenerate(String applicationName, RegenerateProjectRequest request) throws Exception {
+        return GeneratedProjects.regenerate(springBootGeneratorService, applicationName, request);
+    }
+}
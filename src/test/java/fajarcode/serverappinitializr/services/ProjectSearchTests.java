@@ -0,0 +1,102 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.ProjectSearchRequest;
+import fajarcode.serverappinitializr.models.dto.responses.CursorPageResponse;
+import fajarcode.serverappinitializr.models.dto.responses.GeneratedProjectSummaryResponse;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.ProjectSortField;
+import fajarcode.serverappinitializr.services.interfaces.GeneratedProjectService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectSearchTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private GeneratedProjectService generatedProjectService;
+
+    @Test
+    void cursorPagesVisitEveryMatchingProjectOnceInSortOrder() throws Exception {
+        Set<String> created = new HashSet<>();
+        for (int i = 0; i < 5; i++) {
+            GenerateProjectRequest request = GeneratedProjects.springBoot("Search", DatabaseType.SQLSERVER);
+            request.setJwtAuthEnabled(true);
+            springBootGeneratorService.generateProject(request);
+            for (int download = 0; download < i % 3; download++) {
+                springBootGeneratorService.getProjectZip(request.getApplicationName(), OutputStream.nullOutputStream());
+            }
+            created.add(request.getApplicationName());
+        }
+
+        for (ProjectSortField sortBy : ProjectSortField.values()) {
+            List<GeneratedProjectSummaryResponse> visited = new ArrayList<>();
+            String cursor = null;
+            do {
+                ProjectSearchRequest search = new ProjectSearchRequest();
+                search.setFrameworkType(FrameworkType.SPRINGBOOT);
+                search.setDatabaseType(DatabaseType.SQLSERVER);
+                search.setJwtAuthEnabled(true);
+                search.setSortBy(sortBy);
+                search.setSize(2);
+                search.setCursor(cursor);
+                CursorPageResponse<GeneratedProjectSummaryResponse> page = generatedProjectService.searchProjects(search).getData();
+
+                assertTrue(page.getItems().size() <= 2);
+                assertEquals(page.getHasNext(), page.getNextCursor() != null);
+                visited.addAll(page.getItems());
+                cursor = page.getNextCursor();
+            } while (cursor != null);
+
+            Set<Long> ids = new HashSet<>();
+            for (GeneratedProjectSummaryResponse summary : visited) {
+                assertTrue(ids.add(summary.getId()), "Project listed twice: " + summary.getProjectName());
+                assertEquals(DatabaseType.SQLSERVER, summary.getDatabaseType());
+                assertTrue(summary.getJwtAuthEnabled());
+            }
+            assertTrue(visited.stream().map(GeneratedProjectSummaryResponse::getProjectName).toList().containsAll(created));
+
+            for (int i = 1; i < visited.size(); i++) {
+                GeneratedProjectSummaryResponse previous = visited.get(i - 1);
+                GeneratedProjectSummaryResponse current = visited.get(i);
+                int bySortValue = sortBy == ProjectSortField.CREATED_AT
+                        ? previous.getCreatedAt().compareTo(current.getCreatedAt())
+                        : previous.getDownloadCount().compareTo(current.getDownloadCount());
+                assertTrue(bySortValue > 0 || (bySortValue == 0 && previous.getId() > current.getId()));
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedCursorsAndCursorsFromAnotherSortOrder() {
+        ProjectSearchRequest search = new ProjectSearchRequest();
+        search.setCursor("not a cursor!");
+        assertThrows(BadRequestException.class, () -> generatedProjectService.searchProjects(search));
+
+        String downloadCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("DOWNLOAD_COUNT|0|1".getBytes(StandardCharsets.UTF_8));
+        ProjectSearchRequest mismatched = new ProjectSearchRequest();
+        mismatched.setSortBy(ProjectSortField.CREATED_AT);
+        mismatched.setCursor(downloadCursor);
+        assertThrows(BadRequestException.class, () -> generatedProjectService.searchProjects(mismatched));
+    }
+}
@@ -0,0 +1,127 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.responses.ActivityCountResponse;
+import fajarcode.serverappinitializr.models.dto.responses.ProjectStatisticsResponse;
+import fajarcode.serverappinitializr.models.enums.BuildTool;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.ProjectStatisticsService;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ProjectStatisticsTests {
+    private static final String REACTIVE_FEATURES = "jwtAuth+docker+observability+jmh+nativeImage+performanceProfile";
+    private static final String SERVLET_FEATURES = "baseResponse+cache";
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Autowired
+    private ProjectStatisticsService projectStatisticsService;
+
+    @Test
+    void generationsAndDownloadsAreCountedByStackBuildToolAndEveryFeature() throws Exception {
+        ProjectStatisticsResponse before = statistics();
+
+        GenerateProjectRequest reactive = GeneratedProjects.springBoot("StatisticsReactive", DatabaseType.POSTGRESQL);
+        reactive.setStack(StackType.REACTIVE);
+        reactive.setBuildTool(BuildTool.GRADLE);
+        reactive.setJwtAuthEnabled(true);
+        reactive.setDockerEnabled(true);
+        reactive.setObservabilityEnabled(true);
+        reactive.setJmhEnabled(true);
+        reactive.setNativeImageEnabled(true);
+        reactive.setPerformanceProfileEnabled(true);
+        springBootGeneratorService.generateProject(reactive);
+        download(reactive.getApplicationName());
+
+        GenerateProjectRequest servlet = GeneratedProjects.springBoot("StatisticsServlet", DatabaseType.POSTGRESQL);
+        servlet.setBaseResponseEnabled(true);
+        servlet.setCacheEnabled(true);
+        springBootGeneratorService.generateProject(servlet);
+
+        ProjectStatisticsResponse after = statistics();
+        assertCounted(before, after, ProjectStatisticsResponse::getByStack, StackType.REACTIVE.name(), 1, 1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByStack, StackType.SERVLET.name(), 1, 0);
+        assertCounted(before, after, ProjectStatisticsResponse::getByBuildTool, BuildTool.GRADLE.name(), 1, 1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByBuildTool, BuildTool.MAVEN.name(), 1, 0);
+        assertCounted(before, after, ProjectStatisticsResponse::getByFeatureCombination, REACTIVE_FEATURES, 1, 1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByFeatureCombination, SERVLET_FEATURES, 1, 0);
+
+        // Rebuilding from the database must land on the same lifetime totals the live counters reached
+        projectStatisticsService.rebuild();
+        ProjectStatisticsResponse rebuilt = statistics();
+        for (Function<ProjectStatisticsResponse, Map<String, ActivityCountResponse>> dimension : dimensions()) {
+            assertEquals(totals(dimension.apply(after)), totals(dimension.apply(rebuilt)));
+        }
+    }
+
+    @Test
+    void regenerateMovesTheTotalsToTheNewStackAndBuildTool() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("StatisticsMove", DatabaseType.MYSQL);
+        request.setStack(StackType.REACTIVE);
+        springBootGeneratorService.generateProject(request);
+        download(request.getApplicationName());
+        ProjectStatisticsResponse before = statistics();
+
+        RegenerateProjectRequest toServletGradle = new RegenerateProjectRequest();
+        toServletGradle.setStack(StackType.SERVLET);
+        toServletGradle.setBuildTool(BuildTool.GRADLE);
+        GeneratedProjects.regenerate(springBootGeneratorService, request.getApplicationName(), toServletGradle);
+
+        ProjectStatisticsResponse after = statistics();
+        assertCounted(before, after, ProjectStatisticsResponse::getByStack, StackType.REACTIVE.name(), -1, -1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByStack, StackType.SERVLET.name(), 1, 1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByBuildTool, BuildTool.MAVEN.name(), -1, -1);
+        assertCounted(before, after, ProjectStatisticsResponse::getByBuildTool, BuildTool.GRADLE.name(), 1, 1);
+    }
+
+    private void assertCounted(ProjectStatisticsResponse before, ProjectStatisticsResponse after,
+                               Function<ProjectStatisticsResponse, Map<String, ActivityCountResponse>> dimension,
+                               String key, long generations, long downloads) {
+        ActivityCountResponse previous = dimension.apply(before).get(key);
+        ActivityCountResponse current = dimension.apply(after).get(key);
+        assertNotNull(current, key);
+        assertEquals((previous != null ? previous.getGenerations() : 0) + generations, current.getGenerations(), key);
+        assertEquals((previous != null ? previous.getDownloads() : 0) + downloads, current.getDownloads(), key);
+    }
+
+    private Map<String, String> totals(Map<String, ActivityCountResponse> counts) {
+        Map<String, String> totals = new TreeMap<>();
+        counts.forEach((key, count) -> {
+            if (count.getGenerations() != 0 || count.getDownloads() != 0) {
+                totals.put(key, count.getGenerations() + "/" + count.getDownloads());
+            }
+        });
+        return totals;
+    }
+
+    private List<Function<ProjectStatisticsResponse, Map<String, ActivityCountResponse>>> dimensions() {
+        return List.of(ProjectStatisticsResponse::getByFramework, ProjectStatisticsResponse::getByDatabase,
+                ProjectStatisticsResponse::getByStack, ProjectStatisticsResponse::getByBuildTool,
+                ProjectStatisticsResponse::getByFeatureCombination);
+    }
+
+    private ProjectStatisticsResponse statistics() {
+        return projectStatisticsService.getStatistics().getData();
+    }
+
+    private void download(String applicationName) {
+        springBootGeneratorService.getProjectZip(applicationName, new ByteArrayOutputStream());
+    }
+}
@@ -0,0 +1,162 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class QuarkusGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void sampleListSeeksPastTheCursorInsteadOfListingEveryRow() throws Exception {
+        GenerateProjectRequest request = request("Quarkus");
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        assertTrue(files.get("pom.xml").contains("<artifactId>quarkus-jdbc-postgresql</artifactId>"));
+        assertFalse(files.get("pom.xml").contains("smallrye-jwt"));
+
+        String service = files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java");
+        assertTrue(service.contains("SampleEntity.find(\"name > ?1 or (name = ?1 and id > ?2)\", KEYSET_ORDER, after.name, after.id)"));
+        assertTrue(service.contains("query.project(SampleSummary.class).range(0, size).list()"));
+        assertFalse(service.contains("listAll"));
+
+        String resource = files.get(sourceRoot + "/controller/SampleResource.java");
+        assertTrue(resource.contains("@Path(\"/items\")"));
+        assertTrue(resource.contains("Math.min(size, SamplePage.MAX_SIZE)"));
+        assertFalse(resource.contains("List<SampleEntity>"));
+
+        assertTrue(files.get(sourceRoot + "/models/dto/response/SampleSummary.java").contains("public SampleSummary(Long id, String name)"));
+        assertTrue(files.get(sourceRoot + "/models/dto/request/SampleCursor.java").contains("import jakarta.ws.rs.BadRequestException;"));
+        assertNoSpringReferences(files);
+    }
+
+    @Test
+    void dependenciesTheQuarkusBomDoesNotManageCarryAVersion() throws Exception {
+        String pom = GeneratedProjects.generate(springBootGeneratorService, request("QuarkusPom")).get("pom.xml");
+
+        assertTrue(pom.contains("<lombok.version>"));
+        int lombok = pom.indexOf("<artifactId>lombok</artifactId>");
+        String dependency = pom.substring(lombok, pom.indexOf("</dependency>", lombok));
+        assertTrue(dependency.contains("<version>${lombok.version}</version>"));
+        assertTrue(dependency.contains("<scope>provided</scope>"));
+    }
+
+    @Test
+    void jwtProjectsVerifyAndIssueTokensThroughSmallRyeJwt() throws Exception {
+        GenerateProjectRequest request = request("QuarkusJwt");
+        request.setJwtAuthEnabled(true);
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        String pom = files.get("pom.xml");
+        assertTrue(pom.contains("<artifactId>quarkus-smallrye-jwt</artifactId>"));
+        assertTrue(pom.contains("<artifactId>quarkus-smallrye-jwt-build</artifactId>"));
+
+        String properties = files.get("src/main/resources/application.properties");
+        assertTrue(properties.contains("mp.jwt.verify.issuer=" + request.getApplicationName()));
+        assertTrue(properties.contains("smallrye.jwt.verify.algorithm=HS256"));
+        assertTrue(properties.contains("smallrye.jwt.verify.secretkey=${jwt.secret}"));
+        assertTrue(properties.contains("quarkus.http.auth.permission.authenticated.paths=/api/*"));
+        assertTrue(properties.contains("quarkus.http.auth.permission.public.paths=/api/sample,/q/*"));
+
+        String tokenService = files.get(GeneratedProjects.sourceRoot(request) + "/security/TokenService.java");
+        assertTrue(tokenService.contains("import io.smallrye.jwt.build.Jwt;"));
+        assertTrue(tokenService.contains(".signWithSecret(secret)"));
+        assertNoSpringReferences(files);
+    }
+
+    @Test
+    void entityDefinitionsRenderPanacheRepositoriesAndResources() throws Exception {
+        GenerateProjectRequest request = request("QuarkusCrud");
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "number"))));
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        String entity = files.get(sourceRoot + "/models/entities/Invoice.java");
+        assertTrue(entity.contains("@Table(name = \"invoice\")"));
+        assertTrue(entity.contains("sequenceName = \"invoice_seq\""));
+
+        assertTrue(files.get(sourceRoot + "/repository/InvoiceRepository.java").contains("public class InvoiceRepository implements PanacheRepository<Invoice>"));
+
+        String service = files.get(sourceRoot + "/services/implementations/InvoiceServiceImpl.java");
+        assertTrue(service.contains("invoiceRepository.find(\"id > ?1\", Sort.by(\"id\"), afterId).page(0, size).list()"));
+        assertTrue(service.contains("request.setId(null);"));
+        assertTrue(service.contains("import jakarta.ws.rs.NotFoundException;"));
+
+        String resource = files.get(sourceRoot + "/controller/InvoiceResource.java");
+        assertTrue(resource.contains("@Path(\"/api/invoices\")"));
+        assertTrue(resource.contains("@QueryParam(\"after\") Long after"));
+        assertFalse(files.containsKey(sourceRoot + "/controller/InvoiceController.java"));
+        assertNoSpringReferences(files);
+    }
+
+    @Test
+    void entitiesOnTheQuarkusBaseEntityAssignTheInheritedIdField() throws Exception {
+        GenerateProjectRequest request = request("QuarkusBase");
+        request.setBaseEntityEnabled(true);
+        request.setBaseResponseEnabled(true);
+        request.setEntities(new ArrayList<>(List.of(GeneratedProjects.entity("Invoice", "number"))));
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        assertTrue(files.get(sourceRoot + "/models/entities/Invoice.java").contains("public class Invoice extends BaseEntity"));
+        String service = files.get(sourceRoot + "/services/implementations/InvoiceServiceImpl.java");
+        assertTrue(service.contains("request.id = null;"));
+        assertTrue(service.contains("request.id = id;"));
+        assertTrue(files.get(sourceRoot + "/controller/InvoiceResource.java").contains("SuccessResponse.of(invoiceService.findById(id))"));
+    }
+
+    @Test
+    void quarkusProjectsRegenerateThroughTheQuarkusGenerator() throws Exception {
+        GenerateProjectRequest request = request("QuarkusRegenerate");
+        String applicationName = request.getApplicationName();
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest switchToMysql = new RegenerateProjectRequest();
+        switchToMysql.setDatabaseType(DatabaseType.MYSQL);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, applicationName, switchToMysql);
+
+        assertTrue(delta.get("pom.xml").contains("<artifactId>quarkus-jdbc-mysql</artifactId>"));
+        assertTrue(delta.get("src/main/resources/application.properties").contains("quarkus.datasource.db-kind=mysql"));
+        assertTrue(delta.get(sourceRoot + "/models/entities/SampleEntity.java").contains("extends PanacheEntityBase"));
+        assertFalse(delta.containsKey(sourceRoot + "/controller/SampleResource.java"));
+
+        RegenerateProjectRequest enableJwt = new RegenerateProjectRequest();
+        enableJwt.setJwtAuthEnabled(true);
+        delta = GeneratedProjects.regenerate(springBootGeneratorService, applicationName, enableJwt);
+        assertTrue(delta.get("pom.xml").contains("quarkus-smallrye-jwt"));
+        assertTrue(delta.containsKey(sourceRoot + "/security/TokenService.java"));
+
+        RegenerateProjectRequest switchToReactive = new RegenerateProjectRequest();
+        switchToReactive.setStack(StackType.REACTIVE);
+        assertThrows(BadRequestException.class,
+                () -> GeneratedProjects.regenerate(springBootGeneratorService, applicationName, switchToReactive));
+    }
+
+    private void assertNoSpringReferences(Map<String, String> files) {
+        files.forEach((path, content) -> assertFalse(content.contains("org.springframework"), path));
+    }
+
+    private GenerateProjectRequest request(String namePrefix) {
+        return GeneratedProjects.request(namePrefix, FrameworkType.QUARKUS, DatabaseType.POSTGRESQL);
+    }
+}
@@ -0,0 +1,119 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.exceptions.BadRequestException;
+import fajarcode.serverappinitializr.models.dto.requests.GenerateProjectRequest;
+import fajarcode.serverappinitializr.models.dto.requests.RegenerateProjectRequest;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.StackType;
+import fajarcode.serverappinitializr.services.interfaces.SpringBootGeneratorService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ReactiveGenerationTests {
+
+    @Autowired
+    private SpringBootGeneratorService springBootGeneratorService;
+
+    @Test
+    void reactiveProjectsUseWebFluxAndR2dbcInsteadOfJpa() throws Exception {
+        GenerateProjectRequest request = request("Reactive");
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+
+        String pom = files.get("pom.xml");
+        assertTrue(pom.contains("<artifactId>spring-boot-starter-webflux</artifactId>"));
+        assertTrue(pom.contains("<artifactId>spring-boot-starter-data-r2dbc</artifactId>"));
+        assertTrue(pom.contains("<artifactId>r2dbc-postgresql</artifactId>"));
+        assertFalse(pom.contains("<artifactId>spring-boot-starter-web</artifactId>"));
+        assertFalse(pom.contains("spring-boot-starter-data-jpa"));
+
+        String properties = files.get("src/main/resources/application.properties");
+        assertTrue(properties.contains("spring.r2dbc.url=r2dbc:postgresql://"));
+        assertTrue(properties.contains("spring.sql.init.mode=always"));
+        assertFalse(properties.contains("spring.jpa"));
+        assertTrue(files.get("src/main/resources/schema.sql").contains("CREATE TABLE IF NOT EXISTS sample_entity"));
+    }
+
+    @Test
+    void reactiveSourcesImportEveryTypeTheyUse() throws Exception {
+        GenerateProjectRequest request = request("ReactiveImports");
+        Map<String, String> files = GeneratedProjects.generate(springBootGeneratorService, request);
+        String packageName = request.getApplicationName().toLowerCase();
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+
+        String entity = files.get(sourceRoot + "/models/entities/SampleEntity.java");
+        assertTrue(entity.contains("import org.springframework.data.annotation.Id;"));
+        assertTrue(entity.contains("import org.springframework.data.relational.core.mapping.Table;"));
+        assertFalse(entity.contains("jakarta.persistence"));
+
+        String repository = files.get(sourceRoot + "/repository/SampleRepository.java");
+        assertImports(repository, packageName + ".models.dto.response.SampleSummary", packageName + ".models.entities.SampleEntity",
+                "org.springframework.data.domain.Pageable", "org.springframework.data.repository.reactive.ReactiveCrudRepository",
+                "reactor.core.publisher.Flux");
+        assertTrue(repository.contains("Flux<SampleSummary> findAllBy(Pageable limit)"));
+
+        String serviceInterface = files.get(sourceRoot + "/services/interfaces/SampleService.java");
+        assertImports(serviceInterface, packageName + ".models.dto.response.SamplePage", packageName + ".models.entities.SampleEntity",
+                "reactor.core.publisher.Flux", "reactor.core.publisher.Mono");
+
+        String service = files.get(sourceRoot + "/services/implementations/SampleServiceImpl.java");
+        assertImports(service, packageName + ".models.dto.request.SampleCursor", packageName + ".models.dto.response.SamplePage",
+                packageName + ".models.dto.response.SampleSummary", packageName + ".repository.SampleRepository",
+                "org.springframework.data.domain.PageRequest", "org.springframework.data.domain.Sort",
+                "reactor.core.publisher.Flux", "reactor.core.publisher.Mono");
+        assertFalse(service.contains("@Transactional"));
+
+        String controller = files.get(sourceRoot + "/controller/SampleController.java");
+        assertImports(controller, packageName + ".models.dto.response.SamplePage", packageName + ".models.entities.SampleEntity",
+                packageName + ".services.interfaces.SampleService", "org.springframework.http.HttpStatus",
+                "org.springframework.http.ResponseEntity", "reactor.core.publisher.Flux", "reactor.core.publisher.Mono");
+
+        // The pagination DTOs the reactive sources import are shared with the servlet stack
+        assertTrue(files.containsKey(sourceRoot + "/models/dto/response/SampleSummary.java"));
+        assertTrue(files.containsKey(sourceRoot + "/models/dto/response/SamplePage.java"));
+        assertTrue(files.containsKey(sourceRoot + "/models/dto/request/SampleCursor.java"));
+        assertTrue(files.get(sourceRoot + "/configuration/WebConfig.java").contains("WebFluxConfigurer"));
+    }
+
+    @Test
+    void switchingToReactiveStackReplacesSampleSourcesAndDependencies() throws Exception {
+        GenerateProjectRequest request = GeneratedProjects.springBoot("ReactiveSwitch", DatabaseType.POSTGRESQL);
+        String applicationName = request.getApplicationName();
+        String sourceRoot = GeneratedProjects.sourceRoot(request);
+        springBootGeneratorService.generateProject(request);
+
+        RegenerateProjectRequest switchToReactive = new RegenerateProjectRequest();
+        switchToReactive.setStack(StackType.REACTIVE);
+        Map<String, String> delta = GeneratedProjects.regenerate(springBootGeneratorService, applicationName, switchToReactive);
+
+        assertTrue(delta.get("pom.xml").contains("spring-boot-starter-webflux"));
+        assertFalse(delta.get("pom.xml").contains("spring-boot-starter-data-jpa"));
+        assertTrue(delta.get(sourceRoot + "/repository/SampleRepository.java").contains("ReactiveCrudRepository"));
+        assertTrue(delta.get(sourceRoot + "/controller/SampleController.java").contains("Mono<"));
+        assertTrue(delta.containsKey("src/main/resources/schema.sql"));
+
+        RegenerateProjectRequest enableBaseEntity = new RegenerateProjectRequest();
+        enableBaseEntity.setBaseEntityEnabled(true);
+        assertThrows(BadRequestException.class,
+                () -> GeneratedProjects.regenerate(springBootGeneratorService, applicationName, enableBaseEntity));
+    }
+
+    private void assertImports(String source, String... types) {
+        for (String type : types) {
+            assertTrue(source.contains("import " + type + ";"), type);
+        }
+    }
+
+    private GenerateProjectRequest request(String namePrefix) {
+        GenerateProjectRequest request = GeneratedProjects.springBoot(namePrefix, DatabaseType.POSTGRESQL);
+        request.setStack(StackType.REACTIVE);
+        return request;
+    }
+}
@@ -0,0 +1,76 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.responses.WarmUpReportResponse;
+import fajarcode.serverappinitializr.models.enums.WarmUpStatus;
+import fajarcode.serverappinitializr.services.interfaces.WarmUpService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "generator.warm-up.enabled=true",
+        "generator.warm-up.max-cycles=24",
+        "generator.warm-up.scratch-dir=${java.io.tmpdir}/warm-up-readiness-tests"
+})
+@ActiveProfiles("test")
+class WarmUpReadinessTests {
+
+    @Autowired
+    private WarmUpService warmUpService;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Autowired
+    private ReadinessRecorder readinessRecorder;
+
+    @Test
+    void readinessIsOnlyAcceptedOnceTheStartupWarmUpHasFinished() {
+        WarmUpReportResponse atReadiness = readinessRecorder.reportAtReadiness.get();
+        assertNotNull(atReadiness, "Readiness was never published");
+        assertEquals(WarmUpStatus.COMPLETED, atReadiness.getStatus());
+        assertEquals(24, atReadiness.getCompletedCycles());
+        assertEquals(0, atReadiness.getFailedCycles(), atReadiness.getErrorMessage());
+        assertEquals(3, atReadiness.getCyclesByFramework().size());
+
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, applicationAvailability.getReadinessState());
+        assertEquals(ReadinessState.ACCEPTING_TRAFFIC, warmUpService.getReport().getData().getReadinessState());
+    }
+
+    @TestConfiguration
+    static class ReadinessRecorderConfiguration {
+
+        @Bean
+        ReadinessRecorder readinessRecorder(WarmUpService warmUpService) {
+            return new ReadinessRecorder(warmUpService);
+        }
+    }
+
+    // Captures the warm-up report at the moment Boot starts accepting traffic
+    static class ReadinessRecorder {
+        private final WarmUpService warmUpService;
+        private final AtomicReference<WarmUpReportResponse> reportAtReadiness = new AtomicReference<>();
+
+        ReadinessRecorder(WarmUpService warmUpService) {
+            this.warmUpService = warmUpService;
+        }
+
+        @EventListener
+        void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+            if (event.getState() == ReadinessState.ACCEPTING_TRAFFIC) {
+                reportAtReadiness.compareAndSet(null, warmUpService.getReport().getData());
+            }
+        }
+    }
+}
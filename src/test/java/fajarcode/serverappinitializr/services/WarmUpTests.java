@@ -0,0 +1,77 @@
+package fajarcode.serverappinitializr.services;
+
+import fajarcode.serverappinitializr.models.dto.responses.WarmUpReportResponse;
+import fajarcode.serverappinitializr.models.enums.DatabaseType;
+import fajarcode.serverappinitializr.models.enums.FrameworkType;
+import fajarcode.serverappinitializr.models.enums.WarmUpStatus;
+import fajarcode.serverappinitializr.repositories.GeneratedProjectRepository;
+import fajarcode.serverappinitializr.services.interfaces.WarmUpService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "generator.warm-up.max-cycles=0",
+        "generator.warm-up.time-budget-ms=600000",
+        "generator.warm-up.scratch-dir=${java.io.tmpdir}/warm-up-tests"
+})
+@ActiveProfiles("test")
+class WarmUpTests {
+    // Every flag mask against every database
+    private static final int FULL_MATRIX = 512 * DatabaseType.values().length;
+
+    @Autowired
+    private WarmUpService warmUpService;
+
+    @Autowired
+    private GeneratedProjectRepository generatedProjectRepository;
+
+    @Value("${generator.projects-dir:generated-projects}")
+    private String generatedProjectsDir;
+
+    @Value("${generator.warm-up.scratch-dir}")
+    private String scratchDir;
+
+    @Test
+    void everyCycleOfTheMatrixPassesValidationAndRollsBack() throws IOException {
+        long projectsBefore = generatedProjectRepository.count();
+
+        WarmUpReportResponse report = warmUpService.runWarmUp();
+
+        assertEquals(WarmUpStatus.COMPLETED, report.getStatus());
+        assertEquals(FULL_MATRIX, report.getPlannedCycles());
+        assertEquals(0, report.getFailedCycles(), report.getErrorMessage());
+        assertEquals(FULL_MATRIX, report.getCompletedCycles());
+        assertTrue(report.getColdCycleMillis() > 0);
+        assertTrue(report.getWarmCycleMillis() > 0);
+        assertNotNull(report.getFinishedAt());
+
+        for (FrameworkType frameworkType : new FrameworkType[]{FrameworkType.SPRINGBOOT, FrameworkType.QUARKUS, FrameworkType.FIBER}) {
+            assertTrue(report.getCyclesByFramework().getOrDefault(frameworkType, 0) >= FULL_MATRIX / 4, frameworkType.name());
+        }
+        assertEquals(FULL_MATRIX, report.getCyclesByFramework().values().stream().mapToInt(Integer::intValue).sum());
+
+        assertEquals(projectsBefore, generatedProjectRepository.count());
+        assertNoWarmUpProjects(Paths.get(generatedProjectsDir));
+        assertNoWarmUpProjects(Paths.get(scratchDir));
+        assertEquals(WarmUpStatus.COMPLETED, warmUpService.getReport().getData().getStatus());
+    }
+
+    private void assertNoWarmUpProjects(Path directory) throws IOException {
+        if (Files.exists(directory)) {
+            try (Stream<Path> projects = Files.list(directory)) {
+                assertTrue(projects.noneMatch(path -> path.getFileName().toString().startsWith("WarmUp")), directory.toString());
+            }
+        }
+    }
+}
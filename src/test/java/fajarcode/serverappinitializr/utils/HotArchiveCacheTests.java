@@ -0,0 +1,56 @@
+package fajarcode.serverappinitializr.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotArchiveCacheTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void frequentlyRequestedArchiveDisplacesColdOneButNotTheOtherWayAround() throws Exception {
+        HotArchiveCache cache = new HotArchiveCache(1024, 1024, 100);
+        Path archive = Files.write(tempDir.resolve("archive.zip"), new byte[600]);
+
+        assertNull(cache.get(1L));
+        assertTrue(cache.admit(1L, archive));
+
+        // Project 2 is requested once, which is no more often than the resident project 1
+        assertNull(cache.get(2L));
+        assertFalse(cache.admit(2L, archive));
+
+        for (int i = 0; i < 5; i++) {
+            cache.get(3L);
+        }
+        assertTrue(cache.admit(3L, archive));
+        assertNull(cache.get(1L));
+        assertEquals(600, cache.getUsedBytes());
+
+        ByteBuffer served = cache.get(3L);
+        assertNotNull(served);
+        assertTrue(served.isDirect());
+        assertEquals(600, served.remaining());
+    }
+
+    @Test
+    void invalidateReleasesBudget() throws Exception {
+        HotArchiveCache cache = new HotArchiveCache(1024, 512, 100);
+        Path small = Files.write(tempDir.resolve("small.zip"), new byte[256]);
+        Path large = Files.write(tempDir.resolve("large.zip"), new byte[700]);
+
+        assertFalse(cache.admit(1L, large));
+        assertTrue(cache.admit(2L, small));
+
+        cache.invalidate(2L);
+
+        assertEquals(0, cache.getUsedBytes());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,64 @@
+package fajarcode.serverappinitializr.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RollingWindowCounterTests {
+
+    @Test
+    void sumsOnlyMinutesInsideTheWindow() {
+        RollingWindowCounter counter = new RollingWindowCounter(60);
+        counter.add(1_000, 2);
+        counter.add(1_030, 3);
+        counter.add(1_059, 4);
+
+        assertEquals(9, counter.sum(1_059, 60));
+        assertEquals(7, counter.sum(1_059, 30));
+
+        // Minute 1060 reuses the slot of minute 1000, which drops out of the window
+        counter.add(1_060, 1);
+        assertEquals(8, counter.sum(1_060, 60));
+
+        // A late update for a minute that already rolled out is ignored
+        counter.add(1_000, 5);
+        assertEquals(8, counter.sum(1_060, 60));
+    }
+
+    @Test
+    void concurrentIncrementsAreNotLostWhileSlotsRollOver() throws Exception {
+        int threads = 8;
+        int minutes = 2_000;
+        RollingWindowCounter counter = new RollingWindowCounter(minutes);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                workers.add(executor.submit(() -> {
+                    start.await();
+                    // Every thread races to be first into each minute, which is when the slot rolls over
+                    for (long minute = 0; minute < minutes; minute++) {
+                        counter.add(minute, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals((long) threads * minutes, counter.sum(minutes - 1, minutes));
+    }
+}
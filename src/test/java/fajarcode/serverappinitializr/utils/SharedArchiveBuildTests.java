@@ -0,0 +1,81 @@
+package fajarcode.serverappinitializr.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SharedArchiveBuildTests {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readersThatJoinMidBuildReceiveEveryByte() throws Exception {
+        byte[] content = new byte[512 * 1024];
+        new Random(42).nextBytes(content);
+        SharedArchiveBuild build = new SharedArchiveBuild(tempDir.resolve("archive.zip"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<byte[]>> readers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                assertTrue(build.acquire());
+                readers.add(executor.submit(() -> {
+                    ByteArrayOutputStream received = new ByteArrayOutputStream();
+                    try {
+                        build.streamTo(received);
+                    } finally {
+                        build.release();
+                    }
+                    return received.toByteArray();
+                }));
+            }
+
+            try (OutputStream writer = build.openWriter()) {
+                for (int offset = 0; offset < content.length; offset += 10_000) {
+                    writer.write(content, offset, Math.min(10_000, content.length - offset));
+                    writer.flush();
+                }
+            }
+            build.retire();
+            build.complete(null);
+            build.release();
+
+            for (Future<byte[]> reader : readers) {
+                assertArrayEquals(content, reader.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertFalse(build.acquire());
+        assertFalse(Files.exists(build.getFile()));
+    }
+
+    @Test
+    void readersSeeTheBuildFailure() throws Exception {
+        SharedArchiveBuild build = new SharedArchiveBuild(tempDir.resolve("failed.zip"));
+        try (OutputStream writer = build.openWriter()) {
+            writer.write(new byte[100]);
+        }
+        build.retire();
+        build.complete(new IOException("disk full"));
+
+        assertThrows(IOException.class, () -> build.streamTo(new ByteArrayOutputStream()));
+        build.release();
+        assertFalse(Files.exists(build.getFile()));
+    }
+}